@@ -15,6 +15,10 @@ repositories {
 
 val junitVersion = "5.10.2"
 
+// Vector API (módulo incubado) usada pela avaliação NNUE: precisa ser adicionada na compilação, nos
+// testes e em toda execução; sem ela a avaliação usa a implementação escalar
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
 java {
     toolchain {
         languageVersion = JavaLanguageVersion.of(21)
@@ -24,6 +28,7 @@ java {
 application {
     mainModule.set("com.seios.warofkings.warofkings")
     mainClass.set("com.seios.warofkings.warofkings.HelloApplication")
+    applicationDefaultJvmArgs = vectorModule
 }
 
 javafx {
@@ -44,10 +49,43 @@ dependencies {
 
 tasks.withType<Test> {
     useJUnitPlatform()
+    jvmArgs(vectorModule)
 }
 
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
+    options.compilerArgs.addAll(vectorModule)
+}
+
+tasks.withType<JavaExec> {
+    jvmArgs(vectorModule)
+}
+
+// perft pela linha de comando: ./gradlew perft -Pargs="5" ou -Pargs="--suite 4"
+tasks.register<JavaExec>("perft") {
+    group = "verification"
+    description = "Executa o perft (divide, nós e nós/s) ou confere as posições de referência."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.seios.warofkings.perft.Perft")
+    args = (project.findProperty("args") as String? ?: "--suite").split(" ")
+}
+
+// busca pela linha de comando: ./gradlew search -Pargs="--time 1000 <fen>"
+tasks.register<JavaExec>("search") {
+    group = "application"
+    description = "Executa a busca alfa-beta e imprime profundidade, pontuação, variação principal, nós e nós/s."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.seios.warofkings.engine.Search")
+    args = (project.findProperty("args") as String? ?: "--time 1000").split(" ")
+}
+
+// avaliações/s da NNUE contra a avaliação manual: ./gradlew nnue -Pargs="--depth 5 --weights rede.nnue"
+tasks.register<JavaExec>("nnue") {
+    group = "verification"
+    description = "Mede as avaliações por segundo da rede (incremental, escalar e vetorial) e da avaliação manual."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.seios.warofkings.engine.nnue.NnueEvaluator")
+    args = (project.findProperty("args") as String? ?: "--depth 4").split(" ")
 }
 
 jlink {
@@ -1,11 +1,17 @@
 package com.seios.warofkings.board;
 
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
 import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
 import com.seios.warofkings.pieces.types.*;
+import com.seios.warofkings.utils.BitboardUtils;
+import com.seios.warofkings.utils.PieceUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -17,20 +23,145 @@ import java.util.List;
  * e manipular o estado das casas e das peças ao longo da partida.
  * </p>
  *
+ * <p>
+ * Além da matriz de peças, o tabuleiro mantém doze bitboards de ocupação (um por {@link Type}),
+ * a ocupação por cor e a ocupação total. Essas máscaras são mantidas em sincronia pelos métodos
+ * {@link #placePiece(int, ChessPiece)} e {@link #removePiece(int)}, permitindo que consultas como
+ * "todas as peças de um tipo" sejam resolvidas com popcount/bitscan em vez de percorrer as 64 casas.
+ * </p>
+ *
+ * <p>
+ * Para simulações e buscas, {@link #makeMove(int)} e {@link #unmakeMove(int)} aplicam e desfazem
+ * um movimento codificado por {@link Move} diretamente neste tabuleiro, sem copiar a matriz.
+ * O estado que não pode ser deduzido do movimento (direitos de roque, casa de en passant, relógio de
+ * meio-lances e turno) fica em campos próprios e, a cada ply, é empilhado num único {@code int}
+ * compactado, junto da chave de Zobrist e da peça capturada; desfazer é restaurar esse registro.
+ * {@link #makeNullMove()} passa a vez sem mover peças, para a poda do lance nulo da busca.
+ * </p>
+ *
+ * <p>
+ * O tabuleiro mantém também a chave de {@link Zobrist} da posição, atualizada de forma incremental
+ * a cada peça colocada ou retirada, a cada mudança de turno e a cada alteração nos direitos de roque.
+ * {@link Zobrist#compute(Board)} recalcula a chave do zero e serve para conferir a versão incremental.
+ * Da mesma forma, as somas de meio-jogo e de final das {@link PieceSquareTables} e a fase da partida
+ * acompanham cada peça colocada ou retirada, de forma que a avaliação não precisa percorrer as peças.
+ * Uma segunda chave, só dos peões ({@link #getPawnKey()}), muda apenas quando um peão se move, é
+ * capturado ou promovido, e indexa os caches da estrutura de peões.
+ * </p>
+ *
  * <p><b>Nota:</b> O método de inicialização das peças foi implementado diretamente
- * no construtor. O uso de um método separado como {@code setupBoard} não é necessário.</p>
+ * no construtor. O uso de um método separado como {@code setupBoard} não é necessário.
+ * Alterações feitas diretamente na matriz retornada por {@link #getPieces()} só são refletidas
+ * nos bitboards após {@link #setPieces(ChessPiece[][])} ou {@link #refreshBitboards()}.</p>
  *
  * @author Raffael
- * @version 2.0
+ * @version 3.5
  * @since 2025-05-14
  */
-public class Board {
+public final class Board {
     /** Matriz que representa o estado atual do tabuleiro. */
     protected ChessPiece[][] pieces;
 
+    /** Direito de roque pequeno das brancas. */
+    public static final int WHITE_KINGSIDE = 1;
+
+    /** Direito de roque grande das brancas. */
+    public static final int WHITE_QUEENSIDE = 2;
+
+    /** Direito de roque pequeno das pretas. */
+    public static final int BLACK_KINGSIDE = 4;
+
+    /** Direito de roque grande das pretas. */
+    public static final int BLACK_QUEENSIDE = 8;
+
+    /** Valor de {@link #getEnPassantSquare()} quando não há captura en passant possível. */
+    public static final int NO_SQUARE = -1;
+
+    /**
+     * Direitos de roque preservados quando uma peça sai ou chega a cada casa: mover o rei ou uma torre
+     * de canto, ou capturar a torre no canto, remove os direitos correspondentes.
+     */
+    private static final int[] CASTLING_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_MASK, 15);
+        CASTLING_MASK[60] = ~(WHITE_KINGSIDE | WHITE_QUEENSIDE) & 15;
+        CASTLING_MASK[63] = ~WHITE_KINGSIDE & 15;
+        CASTLING_MASK[56] = ~WHITE_QUEENSIDE & 15;
+        CASTLING_MASK[4] = ~(BLACK_KINGSIDE | BLACK_QUEENSIDE) & 15;
+        CASTLING_MASK[7] = ~BLACK_KINGSIDE & 15;
+        CASTLING_MASK[0] = ~BLACK_QUEENSIDE & 15;
+    }
+
     /** Indica o turno atual do jogo. */
     protected Turn turn;
 
+    /** Bitboards de ocupação, um para cada {@link Type}, indexados por {@link Type#getValor()}. */
+    protected final long[] bitboards = new long[12];
+
+    /** Ocupação por cor: índice 0 para as peças brancas e 1 para as pretas. */
+    protected final long[] colorOccupancy = new long[2];
+
+    /** Ocupação total do tabuleiro. */
+    protected long occupancy;
+
+    /** Valor do tipo da peça em cada casa (0 a 63), ou {@link Move#NO_PIECE} se vazia. */
+    protected final int[] squares = new int[64];
+
+    /**
+     * Quantidade de movimentos aplicados por {@link #makeMove(int)} ainda não desfeitos, somada aos lances
+     * da partida registrados por {@link #completeMove(int, long)} ou herdados pelo construtor de cópia.
+     */
+    protected int ply;
+
+    /** Pilha de desfazer: peça capturada em cada ply (ou {@code null}). */
+    private ChessPiece[] capturedStack = new ChessPiece[INITIAL_STACK_SIZE];
+
+    /** Pilha de desfazer: peça que saiu da origem em cada ply (o peão, no caso de promoção). */
+    private ChessPiece[] movedStack = new ChessPiece[INITIAL_STACK_SIZE];
+
+    /**
+     * Pilha de desfazer: estado irreversível anterior a cada ply, compactado por {@link #packState()}
+     * (direitos de roque, casa de en passant, turno e relógio de meio-lances).
+     */
+    private int[] stateStack = new int[INITIAL_STACK_SIZE];
+
+    /** Pilha de desfazer: chave de Zobrist anterior a cada ply. */
+    private long[] keyStack = new long[INITIAL_STACK_SIZE];
+
+    /** Chave de Zobrist da posição atual. */
+    protected long zobristKey;
+
+    /** Chave de Zobrist apenas dos peões. */
+    protected long pawnKey;
+
+    /** Soma dos valores de meio-jogo das {@link PieceSquareTables} (vantagem das brancas). */
+    protected int midgameScore;
+
+    /** Soma dos valores de final das {@link PieceSquareTables} (vantagem das brancas). */
+    protected int endgameScore;
+
+    /** Fase da partida: soma dos pesos das peças ({@link PieceSquareTables#phase(int)}). */
+    protected int phase;
+
+    /** Direitos de roque atuais (combinação de {@link #WHITE_KINGSIDE} a {@link #BLACK_QUEENSIDE}). */
+    protected int castlingRights;
+
+    /** Casa de destino de uma captura en passant possível, ou {@link #NO_SQUARE}. */
+    protected int enPassantSquare = NO_SQUARE;
+
+    /** Meio-lances desde a última captura ou movimento de peão (regra dos 50 lances). */
+    protected int halfmoveClock;
+
+    /** Turnos indexados pelo ordinal, para restaurar o estado compactado. */
+    private static final Turn[] TURNS = Turn.values();
+
+    /** Tipos indexados pelo valor, evitando a cópia feita por {@link Type#values()} a cada promoção. */
+    private static final Type[] TYPES = Type.values();
+
+    /** Capacidade inicial das pilhas de desfazer (crescem sob demanda). */
+    private static final int INITIAL_STACK_SIZE = 256;
+
     /**
      * Construtor da classe Board. Inicializa a matriz de peças como nula e
      * posiciona todas as peças na sua posição inicial conforme o padrão do xadrez clássico.
@@ -72,6 +203,48 @@ public class Board {
         for (int j = 0; j < 8; j++) {
             pieces[6][j] = Pawn.createPawn(6*10 + j, Type.PAWN_WHITE);
         }
+
+        refreshBitboards();
+    }
+
+    /**
+     * Construtor de cópia. Cria um tabuleiro independente com novas instâncias de todas as peças
+     * (mesmo tipo, posição e contador de movimentos) e o mesmo turno.
+     * <p>
+     * Usado para distribuir a busca entre threads: cada uma trabalha com make/unmake no seu próprio
+     * tabuleiro. O estado irreversível atual é copiado, mas a pilha de desfazer não: a cópia não desfaz
+     * os movimentos da origem. Só as chaves de Zobrist desde o último movimento irreversível (as
+     * {@link #getHalfmoveClock()} últimas conhecidas) são copiadas, para que {@link #isRepetition()}
+     * continue vendo o histórico da partida.
+     * </p>
+     *
+     * @param other tabuleiro de origem.
+     */
+    public Board(Board other) {
+        this.pieces = new ChessPiece[8][8];
+        this.turn = other.turn;
+
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 8; j++) {
+                ChessPiece piece = other.pieces[i][j];
+                if (piece != null) {
+                    pieces[i][j] = PieceUtils.createPiece(piece.getType(), piece.getPosition(), piece.getN_moves());
+                }
+            }
+        }
+
+        refreshBitboards();
+        this.castlingRights = other.castlingRights;
+        this.enPassantSquare = other.enPassantSquare;
+        this.halfmoveClock = other.halfmoveClock;
+        this.zobristKey = other.zobristKey;
+
+        int history = Math.min(other.halfmoveClock, other.ply);
+        while (keyStack.length < history) {
+            growStacks();
+        }
+        System.arraycopy(other.keyStack, other.ply - history, keyStack, 0, history);
+        this.ply = history;
     }
 
     /**
@@ -90,6 +263,7 @@ public class Board {
      */
     public void setPieces(ChessPiece[][] pieces) {
         this.pieces = pieces;
+        refreshBitboards();
     }
 
     /**
@@ -102,11 +276,699 @@ public class Board {
     }
 
     /**
-     * Define o turno atual do jogo.
+     * Define o turno atual do jogo, atualizando o lado a jogar na chave de Zobrist.
      *
      * @param turn novo turno a ser atribuído
      */
     public void setTurn(Turn turn) {
+        if ((this.turn == Turn.BLACK) != (turn == Turn.BLACK)) {
+            zobristKey ^= Zobrist.side();
+        }
         this.turn = turn;
     }
+
+    /**
+     * Recalcula todos os bitboards a partir da matriz de peças.
+     * <p>
+     * Deve ser chamado sempre que a matriz for alterada diretamente, sem passar por
+     * {@link #placePiece(int, ChessPiece)} ou {@link #removePiece(int)}. Os direitos de roque são
+     * deduzidos do contador de movimentos do rei e das torres de canto, e o en passant é descartado.
+     * </p>
+     */
+    public void refreshBitboards() {
+        Arrays.fill(bitboards, 0L);
+        Arrays.fill(squares, Move.NO_PIECE);
+        colorOccupancy[0] = 0L;
+        colorOccupancy[1] = 0L;
+        occupancy = 0L;
+        midgameScore = 0;
+        endgameScore = 0;
+        phase = 0;
+        pawnKey = 0L;
+
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                ChessPiece piece = pieces[x][y];
+                if (piece != null) {
+                    setBit(piece.getType().getValor(), x * 8 + y);
+                }
+            }
+        }
+
+        castlingRights = deriveCastlingRights();
+        enPassantSquare = NO_SQUARE;
+        zobristKey = Zobrist.compute(this);
+    }
+
+    /**
+     * Retorna a peça na posição informada.
+     *
+     * @param position posição no formato XY.
+     * @return peça na posição ou {@code null} se a casa estiver vazia.
+     */
+    public ChessPiece getPieceAt(int position) {
+        int square = Mailbox.toSquare(position);
+        return pieces[square >>> 3][square & 7];
+    }
+
+    /**
+     * Coloca uma peça na posição informada, atualizando a matriz, os bitboards e a posição da peça.
+     * Se a casa estiver ocupada, a peça anterior é removida (captura). Ocupar o canto de uma torre
+     * remove o direito de roque correspondente.
+     *
+     * @param position posição de destino no formato XY.
+     * @param piece    peça a ser colocada.
+     * @return peça que ocupava a casa anteriormente, ou {@code null} se estava vazia.
+     */
+    public ChessPiece placePiece(int position, ChessPiece piece) {
+        int square = BitboardUtils.toSquare(position);
+        ChessPiece previous = take(square);
+        put(square, piece);
+        setCastlingRights(castlingRights & CASTLING_MASK[square]);
+        return previous;
+    }
+
+    /**
+     * Remove a peça da posição informada, atualizando a matriz e os bitboards. Retirar o rei ou uma
+     * torre da casa de origem remove os direitos de roque correspondentes.
+     *
+     * @param position posição no formato XY.
+     * @return peça removida, ou {@code null} se a casa estava vazia.
+     */
+    public ChessPiece removePiece(int position) {
+        int square = BitboardUtils.toSquare(position);
+        setCastlingRights(castlingRights & CASTLING_MASK[square]);
+        return take(square);
+    }
+
+    /**
+     * Completa o estado irreversível de um lance aplicado peça a peça pela interface, por
+     * {@link #removePiece(int)} e {@link #placePiece(int, ChessPiece)}, sem {@link #makeMove(int)}:
+     * retira o peão capturado en passant e atualiza a casa de en passant e o relógio de meio-lances.
+     * <p>Os direitos de roque já são atualizados pelas próprias peças colocadas e retiradas, e o
+     * turno por {@link #setTurn(Turn)}. A chave anterior ao lance é empilhada como em
+     * {@link #makeMove(int)}, para que {@link #isRepetition()} veja as posições da partida; o lance não
+     * pode ser desfeito por {@link #unmakeMove(int)}.</p>
+     *
+     * @param move        movimento que acabou de ser aplicado.
+     * @param previousKey chave de Zobrist da posição antes do lance.
+     */
+    public void completeMove(int move, long previousKey) {
+        if (ply == movedStack.length) {
+            growStacks();
+        }
+        keyStack[ply++] = previousKey;
+
+        boolean capture = Move.isCapture(move);
+        if (Move.isEnPassant(move)) {
+            take(Move.to(move) ^ 8);
+        }
+        updateEnPassant(move);
+        halfmoveClock = capture || Move.piece(move) % 6 == 0 ? 0 : halfmoveClock + 1;
+    }
+
+    /**
+     * Aplica um movimento codificado diretamente neste tabuleiro, sem copiar a matriz.
+     * <p>
+     * Atualiza a matriz, os bitboards, a posição e o contador de movimentos das peças envolvidas,
+     * move a torre no roque, retira o peão capturado en passant, substitui o peão pela peça promovida,
+     * atualiza direitos de roque, en passant e relógio de meio-lances e alterna o turno. O estado
+     * necessário para reverter a jogada é empilhado e restaurado por {@link #unmakeMove(int)}.
+     * </p>
+     *
+     * <p><b>Nota:</b> o movimento não é validado; ele deve ter sido gerado para a posição atual.</p>
+     *
+     * @param move movimento codificado por {@link Move}.
+     */
+    public void makeMove(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+
+        if (ply == movedStack.length) {
+            growStacks();
+        }
+
+        stateStack[ply] = packState();
+        keyStack[ply] = zobristKey;
+
+        ChessPiece piece = take(from);
+        // no en passant o peão capturado está atrás da casa de destino, na linha de origem
+        ChessPiece captured = take(Move.isEnPassant(move) ? to ^ 8 : to);
+        capturedStack[ply] = captured;
+        movedStack[ply] = piece;
+
+        if (Move.isCastling(move)) {
+            // com o direito de roque a torre ainda está no canto da linha do rei
+            ChessPiece rook = take(to > from ? from | 7 : from & ~7);
+            put((from + to) >>> 1, rook);
+            rook.setN_moves(rook.getN_moves() + 1);
+        }
+
+        if (Move.isPromotion(move)) {
+            Type promotion = TYPES[Move.promotion(move)];
+            put(to, PieceUtils.createPiece(promotion, BitboardUtils.toPosition(to), piece.getN_moves() + 1));
+        } else {
+            put(to, piece);
+            piece.setN_moves(piece.getN_moves() + 1);
+        }
+
+        setCastlingRights(castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to]);
+        updateEnPassant(move);
+        halfmoveClock = captured != null || Move.piece(move) % 6 == 0 ? 0 : halfmoveClock + 1;
+
+        ply++;
+        turn = turn.next();
+        zobristKey ^= Zobrist.side();
+    }
+
+    /**
+     * Desfaz o último movimento aplicado por {@link #makeMove(int)}, restaurando peças capturadas,
+     * a torre do roque, o peão promovido, os contadores de movimento e o estado irreversível empilhado.
+     *
+     * @param move o mesmo movimento passado ao {@link #makeMove(int)} correspondente.
+     */
+    public void unmakeMove(int move) {
+        ply--;
+        int from = Move.from(move);
+        int to = Move.to(move);
+
+        ChessPiece piece = movedStack[ply];
+        ChessPiece captured = capturedStack[ply];
+        capturedStack[ply] = null;
+        movedStack[ply] = null;
+
+        take(to);
+        put(from, piece);
+        if (!Move.isPromotion(move)) {
+            piece.setN_moves(piece.getN_moves() - 1);
+        }
+
+        if (Move.isCastling(move)) {
+            ChessPiece rook = take((from + to) >>> 1);
+            put(to > from ? from | 7 : from & ~7, rook);
+            rook.setN_moves(rook.getN_moves() - 1);
+        }
+
+        if (captured != null) {
+            put(Move.isEnPassant(move) ? to ^ 8 : to, captured);
+        }
+
+        unpackState(stateStack[ply]);
+        zobristKey = keyStack[ply];
+    }
+
+    /**
+     * Passa a vez sem mover nenhuma peça (lance nulo), para a poda do lance nulo da busca.
+     * <p>
+     * A casa de en passant é descartada e o relógio de meio-lances é zerado enquanto o lance nulo
+     * estiver aplicado, para que {@link #isRepetition()} não compare posições de antes dele: uma
+     * repetição que atravessa um lance nulo não aconteceria na partida. O estado anterior é empilhado
+     * como num movimento comum e restaurado por {@link #unmakeNullMove()}.
+     * </p>
+     */
+    public void makeNullMove() {
+        if (ply == movedStack.length) {
+            growStacks();
+        }
+
+        stateStack[ply] = packState();
+        keyStack[ply] = zobristKey;
+        if (enPassantSquare != NO_SQUARE) {
+            setEnPassantSquare(NO_SQUARE);
+        }
+        halfmoveClock = 0;
+
+        ply++;
+        turn = turn.next();
+        zobristKey ^= Zobrist.side();
+    }
+
+    /**
+     * Desfaz o último lance nulo aplicado por {@link #makeNullMove()}.
+     */
+    public void unmakeNullMove() {
+        ply--;
+        unpackState(stateStack[ply]);
+        zobristKey = keyStack[ply];
+    }
+
+    /**
+     * Retorna o valor do tipo da peça em uma casa, consultando o vetor de casas (mailbox).
+     *
+     * @param square casa (0 a 63).
+     * @return valor de {@link Type#getValor()} ou {@link Move#NO_PIECE} se vazia.
+     */
+    public int getPieceCode(int square) {
+        return squares[square];
+    }
+
+    /**
+     * Retorna os direitos de roque da posição.
+     *
+     * @return combinação de {@link #WHITE_KINGSIDE}, {@link #WHITE_QUEENSIDE},
+     *         {@link #BLACK_KINGSIDE} e {@link #BLACK_QUEENSIDE}.
+     */
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    /**
+     * Retorna a casa de destino de uma captura en passant possível para o lado que tem a vez.
+     * <p>
+     * A casa só é registrada após um avanço duplo com um peão adversário ao lado da casa de chegada,
+     * de forma que posições iguais sem captura possível tenham a mesma chave de Zobrist.
+     * </p>
+     *
+     * @return casa (0 a 63), ou {@link #NO_SQUARE}.
+     */
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    /**
+     * Define a casa de en passant (por exemplo, lida de uma FEN), atualizando a chave de Zobrist.
+     *
+     * @param square casa (0 a 63), ou {@link #NO_SQUARE}.
+     */
+    public void setEnPassantSquare(int square) {
+        if (enPassantSquare != NO_SQUARE) zobristKey ^= Zobrist.enPassant(enPassantSquare & 7);
+        enPassantSquare = square;
+        if (enPassantSquare != NO_SQUARE) zobristKey ^= Zobrist.enPassant(enPassantSquare & 7);
+    }
+
+    /**
+     * Retorna a quantidade de meio-lances desde a última captura ou movimento de peão.
+     *
+     * @return relógio de meio-lances.
+     */
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    /**
+     * Define o relógio de meio-lances (por exemplo, lido de uma FEN).
+     *
+     * @param halfmoveClock meio-lances desde a última captura ou movimento de peão.
+     */
+    public void setHalfmoveClock(int halfmoveClock) {
+        this.halfmoveClock = halfmoveClock;
+    }
+
+    /**
+     * Retorna a chave de Zobrist da posição atual, mantida de forma incremental.
+     *
+     * @return chave de 64 bits da posição (peças, direitos de roque e lado a jogar).
+     */
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Retorna a chave de Zobrist da estrutura de peões, mantida de forma incremental.
+     * <p>É o XOR dos números de {@link Zobrist#piece(int, int)} de todos os peões, sem as demais peças,
+     * o turno, o roque ou o en passant; posições com os mesmos peões têm a mesma chave, e uma posição
+     * sem peões tem a chave 0.</p>
+     *
+     * @return chave de 64 bits dos peões.
+     */
+    public long getPawnKey() {
+        return pawnKey;
+    }
+
+    /**
+     * Retorna a soma dos valores de meio-jogo das peças, mantida de forma incremental.
+     *
+     * @return centipeões do ponto de vista das brancas.
+     */
+    public int getMidgameScore() {
+        return midgameScore;
+    }
+
+    /**
+     * Retorna a soma dos valores de final das peças, mantida de forma incremental.
+     *
+     * @return centipeões do ponto de vista das brancas.
+     */
+    public int getEndgameScore() {
+        return endgameScore;
+    }
+
+    /**
+     * Retorna a fase da partida, mantida de forma incremental.
+     *
+     * @return soma dos pesos das peças ({@link PieceSquareTables#MAX_PHASE} na posição inicial, 0 só com
+     *         peões e reis; promoções podem ultrapassar o máximo).
+     */
+    public int getPhase() {
+        return phase;
+    }
+
+    /**
+     * Retorna a quantidade de movimentos aplicados por {@link #makeMove(int)} ainda não desfeitos.
+     *
+     * @return profundidade atual da pilha de desfazer.
+     */
+    public int getPly() {
+        return ply;
+    }
+
+    /**
+     * Verifica se a posição atual já ocorreu desde o último movimento irreversível (captura ou
+     * movimento de peão), consultando as chaves de Zobrist empilhadas por {@link #makeMove(int)}.
+     * <p>Só são comparadas as posições com o mesmo lado a jogar, ou seja, a cada dois plies.</p>
+     *
+     * @return true se a posição for uma repetição dentro da pilha de desfazer.
+     */
+    public boolean isRepetition() {
+        int oldest = Math.max(0, ply - halfmoveClock);
+        for (int i = ply - 4; i >= oldest; i -= 2) {
+            if (keyStack[i] == zobristKey) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna todas as peças do tipo informado, percorrendo apenas os bits ligados do bitboard.
+     *
+     * @param type tipo da peça.
+     * @return lista com as peças encontradas.
+     */
+    public List<ChessPiece> findPieces(Type type) {
+        return collect(bitboards[type.getValor()]);
+    }
+
+    /**
+     * Retorna todas as peças de uma cor.
+     *
+     * @param color {@link Turn#WHITE} ou {@link Turn#BLACK}.
+     * @return lista com as peças da cor informada.
+     */
+    public List<ChessPiece> getPiecesOf(Turn color) {
+        return collect(getOccupancy(color));
+    }
+
+    /**
+     * Retorna a quantidade de peças do tipo informado (popcount do bitboard).
+     *
+     * @param type tipo da peça.
+     * @return quantidade de peças no tabuleiro.
+     */
+    public int countPieces(Type type) {
+        return BitboardUtils.popCount(bitboards[type.getValor()]);
+    }
+
+    /**
+     * Retorna o bitboard de ocupação de um tipo de peça.
+     *
+     * @param type tipo da peça.
+     * @return máscara com as casas ocupadas por esse tipo.
+     */
+    public long getBitboard(Type type) {
+        return bitboards[type.getValor()];
+    }
+
+    /**
+     * Retorna o bitboard de ocupação de uma cor.
+     *
+     * @param color {@link Turn#WHITE} ou {@link Turn#BLACK}.
+     * @return máscara com as casas ocupadas pelas peças da cor.
+     */
+    public long getOccupancy(Turn color) {
+        return colorOccupancy[color == Turn.WHITE ? 0 : 1];
+    }
+
+    /**
+     * Retorna o bitboard de ocupação total do tabuleiro.
+     *
+     * @return máscara com todas as casas ocupadas.
+     */
+    public long getOccupancy() {
+        return occupancy;
+    }
+
+    /**
+     * Verifica se uma casa é atacada por alguma peça da cor informada.
+     * <p>
+     * A consulta parte da própria casa: os saltos de cavalo e de rei, as diagonais de captura de peão
+     * e os raios de torre e bispo (via magic bitboards) são intersectados com os bitboards das peças
+     * atacantes. Nenhuma lista de movimentos é gerada e a lógica de roque nunca é acionada.
+     * </p>
+     *
+     * @param square  casa a ser verificada (0 a 63).
+     * @param byColor cor das peças atacantes.
+     * @return true se alguma peça da cor informada ataca a casa.
+     */
+    public boolean isSquareAttacked(int square, Turn byColor) {
+        return isSquareAttacked(square, byColor, occupancy);
+    }
+
+    /**
+     * Verifica se uma casa é atacada por alguma peça da cor informada, considerando uma ocupação
+     * alternativa para os raios das peças deslizantes.
+     * <p>
+     * Usado pelo gerador de movimentos legais para testar as casas de fuga do rei com o próprio
+     * rei removido da ocupação, de forma que ele não bloqueie o raio que o ataca.
+     * </p>
+     *
+     * @param square    casa a ser verificada (0 a 63).
+     * @param byColor   cor das peças atacantes.
+     * @param occupancy ocupação usada para bloquear os raios de torre, bispo e dama.
+     * @return true se alguma peça da cor informada ataca a casa.
+     */
+    public boolean isSquareAttacked(int square, Turn byColor, long occupancy) {
+        int color = byColor == Turn.WHITE ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+        int offset = color * 6;
+
+        // um peão atacante está numa casa que o peão da cor oposta atacaria a partir do alvo
+        if ((LeaperAttacks.pawnAttacks(color ^ 1, square) & bitboards[offset]) != 0) return true;
+        if ((LeaperAttacks.knightAttacks(square) & bitboards[offset + 2]) != 0) return true;
+        if ((LeaperAttacks.kingAttacks(square) & bitboards[offset + 5]) != 0) return true;
+
+        long queens = bitboards[offset + 4];
+        if ((SlidingAttacks.bishopAttacks(square, occupancy) & (bitboards[offset + 3] | queens)) != 0) return true;
+        return (SlidingAttacks.rookAttacks(square, occupancy) & (bitboards[offset + 1] | queens)) != 0;
+    }
+
+    /**
+     * Retorna todas as peças, das duas cores, que atacam uma casa, considerando uma ocupação
+     * alternativa para os raios das peças deslizantes.
+     * <p>
+     * Usado pela troca estática (SEE): ao retirar da ocupação as peças que já capturaram, os raios
+     * revelam os atacantes que estavam atrás delas (raios X). Peças fora da ocupação informada
+     * continuam no resultado e devem ser filtradas por quem chama.
+     * </p>
+     *
+     * @param square    casa alvo (0 a 63).
+     * @param occupancy ocupação usada para bloquear os raios de torre, bispo e dama.
+     * @return bitboard com as casas dos atacantes.
+     */
+    public long attackersTo(int square, long occupancy) {
+        long queens = bitboards[4] | bitboards[10];
+        return (LeaperAttacks.pawnAttacks(LeaperAttacks.BLACK, square) & bitboards[0])
+                | (LeaperAttacks.pawnAttacks(LeaperAttacks.WHITE, square) & bitboards[6])
+                | (LeaperAttacks.knightAttacks(square) & (bitboards[2] | bitboards[8]))
+                | (LeaperAttacks.kingAttacks(square) & (bitboards[5] | bitboards[11]))
+                | (SlidingAttacks.bishopAttacks(square, occupancy) & (bitboards[3] | bitboards[9] | queens))
+                | (SlidingAttacks.rookAttacks(square, occupancy) & (bitboards[1] | bitboards[7] | queens));
+    }
+
+    /**
+     * Verifica se o rei da cor informada está em xeque.
+     *
+     * @param color cor do rei.
+     * @return true se o rei estiver atacado; false se estiver seguro ou ausente do tabuleiro.
+     */
+    public boolean isInCheck(Turn color) {
+        long king = bitboards[color == Turn.WHITE ? Type.KING_WHITE.getValor() : Type.KING_BLACK.getValor()];
+        return king != 0 && isSquareAttacked(BitboardUtils.lsb(king), color.next());
+    }
+
+    /**
+     * Converte os bits de uma máscara nas peças correspondentes da matriz.
+     *
+     * @param mask máscara de casas ocupadas.
+     * @return lista de peças nessas casas.
+     */
+    private List<ChessPiece> collect(long mask) {
+        List<ChessPiece> found = new ArrayList<>(BitboardUtils.popCount(mask));
+        while (mask != 0) {
+            int square = BitboardUtils.lsb(mask);
+            found.add(pieces[square >>> 3][square & 7]);
+            mask = BitboardUtils.popLsb(mask);
+        }
+        return found;
+    }
+
+    /**
+     * Coloca uma peça em uma casa vazia, atualizando matriz, bitboards, mailbox e posição da peça.
+     *
+     * @param square casa (0 a 63).
+     * @param piece  peça a ser colocada.
+     */
+    private void put(int square, ChessPiece piece) {
+        pieces[square >>> 3][square & 7] = piece;
+        setBit(piece.getType().getValor(), square);
+        piece.setPosition(BitboardUtils.toPosition(square));
+    }
+
+    /**
+     * Retira a peça de uma casa, atualizando matriz, bitboards e mailbox.
+     *
+     * @param square casa (0 a 63).
+     * @return peça retirada, ou {@code null} se a casa estava vazia.
+     */
+    private ChessPiece take(int square) {
+        ChessPiece piece = pieces[square >>> 3][square & 7];
+        if (piece != null) {
+            clearBit(piece.getType().getValor(), square);
+            pieces[square >>> 3][square & 7] = null;
+        }
+        return piece;
+    }
+
+    /**
+     * Verifica se a casa contém uma peça do tipo informado que ainda não se moveu.
+     *
+     * @param square casa (0 a 63).
+     * @param type   tipo esperado.
+     * @return true se a peça estiver na casa com zero movimentos.
+     */
+    private boolean isUnmoved(int square, Type type) {
+        return squares[square] == type.getValor() && pieces[square >>> 3][square & 7].getN_moves() == 0;
+    }
+
+    /**
+     * Deduz os direitos de roque do contador de movimentos do rei e das torres em suas casas de origem.
+     *
+     * @return combinação dos direitos de roque.
+     */
+    private int deriveCastlingRights() {
+        int rights = 0;
+        if (isUnmoved(60, Type.KING_WHITE)) {
+            if (isUnmoved(63, Type.ROOK_WHITE)) rights |= WHITE_KINGSIDE;
+            if (isUnmoved(56, Type.ROOK_WHITE)) rights |= WHITE_QUEENSIDE;
+        }
+        if (isUnmoved(4, Type.KING_BLACK)) {
+            if (isUnmoved(7, Type.ROOK_BLACK)) rights |= BLACK_KINGSIDE;
+            if (isUnmoved(0, Type.ROOK_BLACK)) rights |= BLACK_QUEENSIDE;
+        }
+        return rights;
+    }
+
+    /**
+     * Altera os direitos de roque, atualizando a chave de Zobrist se eles mudaram.
+     *
+     * @param rights novos direitos de roque.
+     */
+    private void setCastlingRights(int rights) {
+        if (rights != castlingRights) {
+            zobristKey ^= Zobrist.castling(castlingRights) ^ Zobrist.castling(rights);
+            castlingRights = rights;
+        }
+    }
+
+    /**
+     * Descarta a casa de en passant anterior e, após um avanço duplo, registra a casa pulada se algum
+     * peão adversário puder capturá-la.
+     *
+     * @param move movimento que acabou de ser aplicado.
+     */
+    private void updateEnPassant(int move) {
+        int target = NO_SQUARE;
+        if (Move.isDoublePush(move)) {
+            int pawn = Move.piece(move);
+            int us = pawn == Type.PAWN_WHITE.getValor() ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+            int skipped = (Move.from(move) + Move.to(move)) >>> 1;
+            // peões adversários que atacam a casa pulada estão onde um peão nosso a atacaria
+            if ((LeaperAttacks.pawnAttacks(us, skipped) & bitboards[(us ^ 1) * 6]) != 0) {
+                target = skipped;
+            }
+        }
+        if (target != enPassantSquare) {
+            setEnPassantSquare(target);
+        }
+    }
+
+    /**
+     * Compacta o estado irreversível em um {@code int}.
+     * <pre>
+     *  bits  0-3   direitos de roque
+     *  bits  4-10  casa de en passant (127 para nenhuma)
+     *  bits 11-12  turno ({@link Turn#ordinal()})
+     *  bits 13-31  relógio de meio-lances
+     * </pre>
+     *
+     * @return estado compactado.
+     */
+    private int packState() {
+        return castlingRights | (enPassantSquare & 0x7F) << 4 | turn.ordinal() << 11 | halfmoveClock << 13;
+    }
+
+    /**
+     * Restaura o estado irreversível compactado por {@link #packState()} (sem alterar a chave de Zobrist).
+     *
+     * @param state estado compactado.
+     */
+    private void unpackState(int state) {
+        castlingRights = state & 0xF;
+        int square = (state >>> 4) & 0x7F;
+        enPassantSquare = square == 0x7F ? NO_SQUARE : square;
+        turn = TURNS[(state >>> 11) & 0x3];
+        halfmoveClock = state >>> 13;
+    }
+
+    /**
+     * Dobra a capacidade das pilhas de desfazer.
+     */
+    private void growStacks() {
+        int size = movedStack.length * 2;
+        capturedStack = Arrays.copyOf(capturedStack, size);
+        movedStack = Arrays.copyOf(movedStack, size);
+        stateStack = Arrays.copyOf(stateStack, size);
+        keyStack = Arrays.copyOf(keyStack, size);
+    }
+
+    /**
+     * Liga o bit da casa nos bitboards do tipo, da cor e da ocupação total, registra o tipo no mailbox
+     * e aplica a peça na chave de Zobrist (e na dos peões), nas somas das tabelas peça-casa e na fase.
+     *
+     * @param valor  valor do tipo da peça.
+     * @param square índice da casa (0 a 63).
+     */
+    private void setBit(int valor, int square) {
+        long bit = 1L << square;
+        bitboards[valor] |= bit;
+        colorOccupancy[valor / 6] |= bit;
+        occupancy |= bit;
+        squares[square] = valor;
+        zobristKey ^= Zobrist.piece(valor, square);
+        if (valor % 6 == 0) {
+            pawnKey ^= Zobrist.piece(valor, square);
+        }
+        midgameScore += PieceSquareTables.midgame(valor, square);
+        endgameScore += PieceSquareTables.endgame(valor, square);
+        phase += PieceSquareTables.phase(valor);
+    }
+
+    /**
+     * Desliga o bit da casa nos bitboards do tipo, da cor e da ocupação total, esvazia a casa no mailbox
+     * e retira a peça da chave de Zobrist (e da dos peões), das somas das tabelas peça-casa e da fase.
+     *
+     * @param valor  valor do tipo da peça.
+     * @param square índice da casa (0 a 63).
+     */
+    private void clearBit(int valor, int square) {
+        long bit = ~(1L << square);
+        bitboards[valor] &= bit;
+        colorOccupancy[valor / 6] &= bit;
+        occupancy &= bit;
+        squares[square] = Move.NO_PIECE;
+        zobristKey ^= Zobrist.piece(valor, square);
+        if (valor % 6 == 0) {
+            pawnKey ^= Zobrist.piece(valor, square);
+        }
+        midgameScore -= PieceSquareTables.midgame(valor, square);
+        endgameScore -= PieceSquareTables.endgame(valor, square);
+        phase -= PieceSquareTables.phase(valor);
+    }
 }
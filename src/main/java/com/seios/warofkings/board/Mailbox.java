@@ -0,0 +1,72 @@
+package com.seios.warofkings.board;
+
+import java.util.Arrays;
+
+/**
+ * Representação 10x12 (<i>mailbox</i>) do tabuleiro, com casas sentinela ao redor das 64 casas reais.
+ * <p>
+ * O formato posicional XY ({@code linha * 10 + coluna}) já tem largura 10; somando 21 a uma posição
+ * obtém-se o índice no vetor de 120 casas, com duas linhas sentinela acima e abaixo e uma coluna
+ * sentinela de cada lado. Qualquer passo de peça (inclusive o salto do cavalo) que saia do tabuleiro
+ * cai numa sentinela, de forma que a validação de limites vira uma única consulta ao vetor, sem a
+ * divisão e o resto de {@code getX}/{@code getY} nem as quatro comparações de limite.
+ * </p>
+ *
+ * <pre>
+ *   posição XY:  -1   0   1  ...  7   8
+ *   mailbox:     20  21  22  ... 28  29     (20 e 29 são sentinelas)
+ * </pre>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Mailbox {
+    /** Valor das casas sentinela (fora do tabuleiro). */
+    public static final int OFFBOARD = -1;
+
+    /** Diferença entre o índice no mailbox e a posição XY. */
+    private static final int OFFSET = 21;
+
+    /** Casa do bitboard (0 a 63) de cada índice do mailbox, ou {@link #OFFBOARD}. */
+    private static final int[] MAILBOX = new int[120];
+
+    static {
+        Arrays.fill(MAILBOX, OFFBOARD);
+        for (int square = 0; square < 64; square++) {
+            MAILBOX[(square >>> 3) * 10 + (square & 7) + OFFSET] = square;
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private Mailbox() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Converte uma posição XY na casa do bitboard correspondente.
+     *
+     * @param position posição no formato XY, possivelmente fora do tabuleiro (ex: resultado de um passo).
+     * @return casa (0 a 63), ou {@link #OFFBOARD} se a posição estiver fora do tabuleiro.
+     */
+    public static int toSquare(int position) {
+        int index = position + OFFSET;
+        return index >= 0 && index < MAILBOX.length ? MAILBOX[index] : OFFBOARD;
+    }
+
+    /**
+     * Verifica se uma posição XY está dentro do tabuleiro.
+     *
+     * @param position posição no formato XY.
+     * @return true se a posição corresponder a uma das 64 casas.
+     */
+    public static boolean isOnBoard(int position) {
+        return toSquare(position) != OFFBOARD;
+    }
+}
@@ -0,0 +1,159 @@
+package com.seios.warofkings.board;
+
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+
+/**
+ * Chaves de Zobrist para identificar posições por um número de 64 bits.
+ * <p>
+ * Cada combinação (tipo de peça, casa), cada conjunto de direitos de roque, cada coluna de en passant
+ * e o lado a jogar recebem um número pseudoaleatório; a chave de uma posição é o XOR dos números
+ * dos elementos presentes.
+ * Posições iguais alcançadas por ordens de lances diferentes (transposições) têm a mesma chave,
+ * o que permite reaproveitar resultados em tabelas de hash.
+ * </p>
+ *
+ * <p><b>Nota:</b> Os números são gerados com semente fixa, de forma que as chaves são as mesmas
+ * em todas as execuções.</p>
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+public final class Zobrist {
+    /** Números por tipo de peça (valor de {@link com.seios.warofkings.pieces.enums.Type}) e casa. */
+    private static final long[][] PIECES = new long[12][64];
+
+    /** Números por combinação de direitos de roque (0 a 15). */
+    private static final long[] CASTLING = new long[16];
+
+    /** Números por coluna da casa de en passant. */
+    private static final long[] EN_PASSANT = new long[8];
+
+    /** Número aplicado quando as pretas têm a vez. */
+    private static final long SIDE;
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int piece = 0; piece < 12; piece++) {
+            for (int square = 0; square < 64; square++) {
+                seed = next(seed);
+                PIECES[piece][square] = seed * 0x2545F4914F6CDD1DL;
+            }
+        }
+        for (int rights = 0; rights < 16; rights++) {
+            seed = next(seed);
+            CASTLING[rights] = seed * 0x2545F4914F6CDD1DL;
+        }
+        seed = next(seed);
+        SIDE = seed * 0x2545F4914F6CDD1DL;
+        for (int file = 0; file < 8; file++) {
+            seed = next(seed);
+            EN_PASSANT[file] = seed * 0x2545F4914F6CDD1DL;
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private Zobrist() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Retorna o número de uma peça em uma casa.
+     *
+     * @param piece  valor do tipo da peça.
+     * @param square casa (0 a 63).
+     * @return número de Zobrist.
+     */
+    public static long piece(int piece, int square) {
+        return PIECES[piece][square];
+    }
+
+    /**
+     * Retorna o número de um conjunto de direitos de roque.
+     *
+     * @param rights direitos de roque (ver {@link Board#getCastlingRights()}).
+     * @return número de Zobrist.
+     */
+    public static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    /**
+     * Retorna o número da coluna de uma casa de en passant.
+     *
+     * @param file coluna (0 a 7).
+     * @return número de Zobrist.
+     */
+    public static long enPassant(int file) {
+        return EN_PASSANT[file];
+    }
+
+    /**
+     * Retorna o número aplicado quando as pretas têm a vez.
+     *
+     * @return número de Zobrist.
+     */
+    public static long side() {
+        return SIDE;
+    }
+
+    /**
+     * Calcula a chave da posição do zero, percorrendo o vetor de casas do tabuleiro.
+     *
+     * @param board tabuleiro atual.
+     * @return chave de Zobrist da posição.
+     */
+    public static long compute(Board board) {
+        long key = 0L;
+        for (int square = 0; square < 64; square++) {
+            int piece = board.getPieceCode(square);
+            if (piece != Move.NO_PIECE) {
+                key ^= PIECES[piece][square];
+            }
+        }
+
+        key ^= CASTLING[board.getCastlingRights()];
+        if (board.getEnPassantSquare() != Board.NO_SQUARE) {
+            key ^= EN_PASSANT[board.getEnPassantSquare() & 7];
+        }
+        if (board.getTurn() == Turn.BLACK) {
+            key ^= SIDE;
+        }
+        return key;
+    }
+
+    /**
+     * Calcula a chave só dos peões do zero, para conferir {@link Board#getPawnKey()}.
+     *
+     * @param board tabuleiro atual.
+     * @return XOR dos números dos peões (0 sem peões).
+     */
+    public static long computePawnKey(Board board) {
+        long key = 0L;
+        for (int square = 0; square < 64; square++) {
+            int piece = board.getPieceCode(square);
+            if (piece != Move.NO_PIECE && piece % 6 == 0) {
+                key ^= PIECES[piece][square];
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Avança o gerador xorshift64.
+     *
+     * @param seed estado atual.
+     * @return próximo estado.
+     */
+    private static long next(long seed) {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return seed;
+    }
+}
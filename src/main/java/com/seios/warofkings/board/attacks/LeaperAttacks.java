@@ -0,0 +1,106 @@
+package com.seios.warofkings.board.attacks;
+
+/**
+ * Tabelas pré-calculadas de ataque das peças saltadoras: cavalo, rei e capturas de peão.
+ * <p>
+ * Cada tabela possui 64 entradas (uma por casa) contendo o bitboard das casas atacadas a partir
+ * daquela casa. As tabelas são montadas uma única vez no carregamento da classe, de forma que a
+ * geração de movimentos e a detecção de xeque não precisem recalcular deslocamentos nem verificar
+ * limites do tabuleiro.
+ * </p>
+ *
+ * <p>As casas seguem o índice dos bitboards: {@code casa = 8 * linha + coluna}. As brancas
+ * avançam em direção à linha 0 e as pretas em direção à linha 7.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LeaperAttacks {
+    /** Índice das tabelas de peão para as brancas. */
+    public static final int WHITE = 0;
+
+    /** Índice das tabelas de peão para as pretas. */
+    public static final int BLACK = 1;
+
+    /** Ataques de cavalo por casa. */
+    private static final long[] KNIGHT = new long[64];
+
+    /** Ataques de rei (sem roque) por casa. */
+    private static final long[] KING = new long[64];
+
+    /** Ataques (capturas diagonais) de peão por cor e casa. */
+    private static final long[][] PAWN = new long[2][64];
+
+    static {
+        int[][] knightJumps = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+        int[][] kingSteps = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+        for (int square = 0; square < 64; square++) {
+            KNIGHT[square] = offsets(square, knightJumps);
+            KING[square] = offsets(square, kingSteps);
+            PAWN[WHITE][square] = offsets(square, new int[][]{{-1, -1}, {-1, 1}});
+            PAWN[BLACK][square] = offsets(square, new int[][]{{1, -1}, {1, 1}});
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private LeaperAttacks() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Retorna as casas atacadas por um cavalo.
+     *
+     * @param square casa do cavalo (0 a 63).
+     * @return bitboard com as casas atacadas.
+     */
+    public static long knightAttacks(int square) {
+        return KNIGHT[square];
+    }
+
+    /**
+     * Retorna as casas atacadas por um rei (sem considerar o roque).
+     *
+     * @param square casa do rei (0 a 63).
+     * @return bitboard com as casas atacadas.
+     */
+    public static long kingAttacks(int square) {
+        return KING[square];
+    }
+
+    /**
+     * Retorna as casas atacadas (diagonais de captura) por um peão.
+     *
+     * @param color  {@link #WHITE} ou {@link #BLACK}.
+     * @param square casa do peão (0 a 63).
+     * @return bitboard com as casas atacadas.
+     */
+    public static long pawnAttacks(int color, int square) {
+        return PAWN[color][square];
+    }
+
+    /**
+     * Monta a máscara de destinos a partir de deslocamentos (linha, coluna), descartando
+     * os que saem do tabuleiro.
+     *
+     * @param square  casa de origem.
+     * @param offsets deslocamentos como pares (linha, coluna).
+     * @return bitboard com os destinos válidos.
+     */
+    private static long offsets(int square, int[][] offsets) {
+        long attacks = 0L;
+        for (int[] offset : offsets) {
+            int x = (square >>> 3) + offset[0];
+            int y = (square & 7) + offset[1];
+            if (x >= 0 && x < 8 && y >= 0 && y < 8) {
+                attacks |= 1L << (x * 8 + y);
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,226 @@
+package com.seios.warofkings.board.attacks;
+
+/**
+ * Gerador de ataques das peças deslizantes (torre, bispo e rainha) baseado em magic bitboards.
+ * <p>
+ * Para cada casa são pré-calculadas a máscara de ocupação relevante (as casas dos raios, sem as
+ * bordas) e uma tabela com todos os ataques possíveis. Em tempo de jogo, a ocupação relevante é
+ * multiplicada por um número mágico e deslocada, gerando um índice perfeito (sem colisões
+ * destrutivas) para a tabela. Assim, o conjunto de casas atacadas por uma peça deslizante é obtido
+ * com uma multiplicação, um deslocamento e um acesso a vetor, independentemente do tamanho dos raios.
+ * </p>
+ *
+ * <p>As casas seguem o índice dos bitboards: {@code casa = 8 * linha + coluna}
+ * (ver {@link com.seios.warofkings.utils.BitboardUtils}).</p>
+ *
+ * <p><b>Nota:</b> Os números mágicos foram encontrados previamente por busca aleatória com semente
+ * fixa; as tabelas são montadas uma única vez no carregamento da classe (cerca de 800 KB).</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SlidingAttacks {
+    /** Direções ortogonais como pares (linha, coluna). */
+    private static final int[][] ROOK_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    /** Direções diagonais como pares (linha, coluna). */
+    private static final int[][] BISHOP_DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    /** Números mágicos das torres, por casa. */
+    private static final long[] ROOK_MAGICS = {
+            0x1080004008801020L, 0x0840092002C03000L, 0x1900200010400900L, 0x0880100008000480L,
+            0x4200100420080200L, 0x8100020100080400L, 0x0200040110886200L, 0x0200008040220411L,
+            0x0404800084400220L, 0x0000401000402000L, 0x0086001081220440L, 0x0408800800100280L,
+            0x000A001201040820L, 0x8848800200840080L, 0x4001000100040200L, 0x0442000102105084L,
+            0x9080010020804100L, 0x0040404000201009L, 0x0000808010002009L, 0x2200090021D00100L,
+            0x0008008008040080L, 0x0004004002010040L, 0x0011040008015042L, 0x00000A0001768104L,
+            0x0000800080204009L, 0x2010004140002001L, 0x9800200280100080L, 0x1000100080080080L,
+            0x0442000A00049020L, 0x2100040080020080L, 0x0800120400900148L, 0x0010040A00128541L,
+            0x2800804000800030L, 0x1010002000400041L, 0x4000200011004100L, 0x0610008410800800L,
+            0x0400802402800800L, 0xC100020080800400L, 0x0002000802000401L, 0x0182085882000401L,
+            0x0220204000808000L, 0x2860100040024022L, 0x0001002004110040L, 0x99101042000A0020L,
+            0x0004080004008080L, 0x0010040002008080L, 0x2012004881020004L, 0x8300842444820011L,
+            0x0088403882010200L, 0x0820400080210100L, 0x0110910040A00300L, 0x0801100280080480L,
+            0x0242009008200600L, 0x1002000489500200L, 0x0040800200010080L, 0x0091800041000080L,
+            0x0000209300488001L, 0x04C1002414824001L, 0x020020000B001041L, 0x7000100004200901L,
+            0x8002002004100802L, 0x30010002084C0007L, 0x0888221800813004L, 0x4000002840840112L
+    };
+
+    /** Números mágicos dos bispos, por casa. */
+    private static final long[] BISHOP_MAGICS = {
+            0xA010041108003100L, 0x006082020A002900L, 0x6810010619200000L, 0x08281A0520000408L,
+            0x0001104001000400L, 0x0018901008048400L, 0x00040A0210245280L, 0x000200210808A402L,
+            0x9140048410821200L, 0x0800091010820041L, 0x20504804832202C0L, 0x0100091401081000L,
+            0x8021011140000012L, 0x0810020804450400L, 0x208B0542109008A2L, 0x0080084A08040204L,
+            0x0040E2A80811244CL, 0x2505022008008108L, 0x0430220100420040L, 0x010A040420220040L,
+            0x1105000290400000L, 0x0093001200822120L, 0x4000A62048043004L, 0x280120048A015004L,
+            0x006090002A020814L, 0x44042000240800D0L, 0x01102800040A4400L, 0x1004080080220040L,
+            0x0001001011004024L, 0x0010044000805040L, 0x0914041200820100L, 0x0004821012821480L,
+            0x0024040500C05021L, 0x0088611002080200L, 0x0116080A00040020L, 0x4000020080080080L,
+            0x2450450140840040L, 0x0000880201484100L, 0x0222020404020092L, 0x8081110600002E00L,
+            0x2842101105000801L, 0x1100809008001025L, 0x00020202221C0400L, 0x0422014022009020L,
+            0x0210046102100C00L, 0xC004008082029102L, 0x00AA461801101200L, 0x0404080080201108L,
+            0x020542108C205002L, 0x0410544804100100L, 0x0040910841100000L, 0x0400200042021100L,
+            0x00004204850400C0L, 0x0200100410A42102L, 0x1040020801210102L, 0x0805040410420000L,
+            0x2884804130100200L, 0x800C262201242000L, 0x1058000194108800L, 0x0014221054420204L,
+            0x0104000012A02200L, 0x0200881003300100L, 0x0140400202840100L, 0x0402020801010201L
+    };
+
+    /** Máscaras de ocupação relevante das torres. */
+    private static final long[] ROOK_MASKS = new long[64];
+    /** Máscaras de ocupação relevante dos bispos. */
+    private static final long[] BISHOP_MASKS = new long[64];
+    /** Deslocamentos ({@code 64 - bits relevantes}) das torres. */
+    private static final int[] ROOK_SHIFTS = new int[64];
+    /** Deslocamentos ({@code 64 - bits relevantes}) dos bispos. */
+    private static final int[] BISHOP_SHIFTS = new int[64];
+    /** Tabelas de ataque das torres, indexadas por casa e índice mágico. */
+    private static final long[][] ROOK_ATTACKS = new long[64][];
+    /** Tabelas de ataque dos bispos, indexadas por casa e índice mágico. */
+    private static final long[][] BISHOP_ATTACKS = new long[64][];
+
+    static {
+        for (int square = 0; square < 64; square++) {
+            init(square, ROOK_DIRECTIONS, ROOK_MAGICS, ROOK_MASKS, ROOK_SHIFTS, ROOK_ATTACKS);
+            init(square, BISHOP_DIRECTIONS, BISHOP_MAGICS, BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private SlidingAttacks() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Retorna as casas atacadas por uma torre.
+     *
+     * @param square    casa da torre (0 a 63).
+     * @param occupancy ocupação total do tabuleiro.
+     * @return bitboard com as casas atacadas, incluindo a primeira peça de cada raio.
+     */
+    public static long rookAttacks(int square, long occupancy) {
+        return ROOK_ATTACKS[square][(int) (((occupancy & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    /**
+     * Retorna as casas atacadas por um bispo.
+     *
+     * @param square    casa do bispo (0 a 63).
+     * @param occupancy ocupação total do tabuleiro.
+     * @return bitboard com as casas atacadas, incluindo a primeira peça de cada raio.
+     */
+    public static long bishopAttacks(int square, long occupancy) {
+        return BISHOP_ATTACKS[square][(int) (((occupancy & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    /**
+     * Retorna as casas atacadas por uma rainha (união dos ataques de torre e bispo).
+     *
+     * @param square    casa da rainha (0 a 63).
+     * @param occupancy ocupação total do tabuleiro.
+     * @return bitboard com as casas atacadas.
+     */
+    public static long queenAttacks(int square, long occupancy) {
+        return rookAttacks(square, occupancy) | bishopAttacks(square, occupancy);
+    }
+
+    /**
+     * Retorna a máscara de ocupação relevante da torre na casa informada.
+     *
+     * @param square casa (0 a 63).
+     * @return casas cuja ocupação influencia os ataques da torre.
+     */
+    public static long rookMask(int square) {
+        return ROOK_MASKS[square];
+    }
+
+    /**
+     * Retorna a máscara de ocupação relevante do bispo na casa informada.
+     *
+     * @param square casa (0 a 63).
+     * @return casas cuja ocupação influencia os ataques do bispo.
+     */
+    public static long bishopMask(int square) {
+        return BISHOP_MASKS[square];
+    }
+
+    /**
+     * Calcula os ataques percorrendo os raios casa a casa. Usado apenas na montagem das tabelas
+     * e como referência de verificação.
+     *
+     * @param square     casa de origem.
+     * @param occupancy  ocupação do tabuleiro.
+     * @param directions direções a percorrer.
+     * @return bitboard com as casas atacadas.
+     */
+    static long slowAttacks(int square, long occupancy, int[][] directions) {
+        long attacks = 0L;
+        for (int[] dir : directions) {
+            int x = (square >>> 3) + dir[0];
+            int y = (square & 7) + dir[1];
+            while (x >= 0 && x < 8 && y >= 0 && y < 8) {
+                long bit = 1L << (x * 8 + y);
+                attacks |= bit;
+                if ((occupancy & bit) != 0) break;
+                x += dir[0];
+                y += dir[1];
+            }
+        }
+        return attacks;
+    }
+
+    /**
+     * Calcula a máscara de ocupação relevante: as casas dos raios, excluindo a última casa de cada raio
+     * (a ocupação da borda nunca altera o conjunto de ataques).
+     *
+     * @param square     casa de origem.
+     * @param directions direções a percorrer.
+     * @return máscara relevante.
+     */
+    private static long relevantMask(int square, int[][] directions) {
+        long mask = 0L;
+        for (int[] dir : directions) {
+            int x = (square >>> 3) + dir[0];
+            int y = (square & 7) + dir[1];
+            while (x + dir[0] >= 0 && x + dir[0] < 8 && y + dir[1] >= 0 && y + dir[1] < 8) {
+                mask |= 1L << (x * 8 + y);
+                x += dir[0];
+                y += dir[1];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Monta a máscara, o deslocamento e a tabela de ataques de uma casa, enumerando todos os
+     * subconjuntos da máscara relevante (técnica carry-rippler).
+     *
+     * @param square     casa sendo preparada.
+     * @param directions direções da peça.
+     * @param magics     números mágicos da peça.
+     * @param masks      vetor de máscaras a preencher.
+     * @param shifts     vetor de deslocamentos a preencher.
+     * @param tables     vetor de tabelas de ataque a preencher.
+     */
+    private static void init(int square, int[][] directions, long[] magics, long[] masks, int[] shifts, long[][] tables) {
+        long mask = relevantMask(square, directions);
+        int bits = Long.bitCount(mask);
+        long[] table = new long[1 << bits];
+
+        long subset = 0L;
+        do {
+            int index = (int) ((subset * magics[square]) >>> (64 - bits));
+            table[index] = slowAttacks(square, subset, directions);
+            subset = (subset - mask) & mask;
+        } while (subset != 0);
+
+        masks[square] = mask;
+        shifts[square] = 64 - bits;
+        tables[square] = table;
+    }
+}
@@ -0,0 +1,29 @@
+package com.seios.warofkings.board.enums;
+
+/**
+ * Situação da partida para o lado que tem a vez, calculada por
+ * {@link com.seios.warofkings.board.moves.MoveGenerator#getGameStatus(com.seios.warofkings.board.Board, Turn)}.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum GameStatus {
+    /** O rei está em xeque e não há movimento legal: fim de jogo com vitória do adversário. */
+    CHECKMATE,
+    /** O rei não está em xeque, mas não há movimento legal: fim de jogo empatado (afogamento). */
+    STALEMATE,
+    /** O rei está em xeque e há ao menos um movimento legal. */
+    CHECK,
+    /** O rei não está em xeque e há ao menos um movimento legal. */
+    NORMAL;
+
+    /**
+     * Indica se a partida terminou.
+     *
+     * @return true para {@link #CHECKMATE} e {@link #STALEMATE}.
+     */
+    public boolean isGameOver() {
+        return this == CHECKMATE || this == STALEMATE;
+    }
+}
@@ -0,0 +1,263 @@
+package com.seios.warofkings.board.moves;
+
+import com.seios.warofkings.utils.BitboardUtils;
+
+/**
+ * Codificação compacta de um movimento em um único {@code int}, evitando a criação de objetos
+ * durante a geração de jogadas.
+ * <p>
+ * Layout dos bits:
+ * </p>
+ * <pre>
+ *  bits  0-5   casa de origem (0 a 63)
+ *  bits  6-11  casa de destino (0 a 63)
+ *  bits 12-15  peça movida ({@link com.seios.warofkings.pieces.enums.Type#getValor()})
+ *  bits 16-19  peça capturada, ou {@link #NO_PIECE}
+ *  bits 20-23  peça de promoção, ou {@link #NO_PIECE}
+ *  bits 24-27  flags ({@link #DOUBLE_PUSH}, {@link #CASTLING}, {@link #EN_PASSANT})
+ * </pre>
+ * <p>
+ * As casas seguem o índice dos bitboards ({@code casa = 8 * linha + coluna}); use
+ * {@link #fromPosition(int)} e {@link #toPosition(int)} para obter o formato XY da interface.
+ * O valor {@link #NONE} ({@code 0}) nunca representa um movimento válido, pois origem e destino coincidem.
+ * </p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class Move {
+    /** Representa a ausência de movimento. */
+    public static final int NONE = 0;
+
+    /** Valor usado nos campos de peça capturada e de promoção quando não há peça. */
+    public static final int NO_PIECE = 12;
+
+    /** Flag de avanço duplo do peão. */
+    public static final int DOUBLE_PUSH = 1;
+
+    /** Flag de roque (o destino é a casa final do rei). */
+    public static final int CASTLING = 2;
+
+    /** Flag de captura en passant (o campo de peça capturada guarda o peão adversário). */
+    public static final int EN_PASSANT = 4;
+
+    /** Nomes das colunas, da coluna 0 à 7. */
+    private static final String FILES = "abcdefgh";
+
+    /** Letras das peças de promoção, indexadas por {@code valor % 6}. */
+    private static final String PROMOTION_LETTERS = "prnbqk";
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private Move() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Codifica um movimento.
+     *
+     * @param from      casa de origem (0 a 63).
+     * @param to        casa de destino (0 a 63).
+     * @param piece     valor do tipo da peça movida.
+     * @param captured  valor do tipo da peça capturada, ou {@link #NO_PIECE}.
+     * @param promotion valor do tipo da peça de promoção, ou {@link #NO_PIECE}.
+     * @param flags     combinação de flags especiais.
+     * @return movimento codificado.
+     */
+    public static int of(int from, int to, int piece, int captured, int promotion, int flags) {
+        return from | (to << 6) | (piece << 12) | (captured << 16) | (promotion << 20) | (flags << 24);
+    }
+
+    /**
+     * Codifica um movimento simples, sem promoção nem flags.
+     *
+     * @param from     casa de origem (0 a 63).
+     * @param to       casa de destino (0 a 63).
+     * @param piece    valor do tipo da peça movida.
+     * @param captured valor do tipo da peça capturada, ou {@link #NO_PIECE}.
+     * @return movimento codificado.
+     */
+    public static int of(int from, int to, int piece, int captured) {
+        return of(from, to, piece, captured, NO_PIECE, 0);
+    }
+
+    /**
+     * Retorna a casa de origem (0 a 63).
+     *
+     * @param move movimento codificado.
+     * @return casa de origem (0 a 63).
+     */
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    /**
+     * Retorna a casa de destino (0 a 63).
+     *
+     * @param move movimento codificado.
+     * @return casa de destino (0 a 63).
+     */
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    /**
+     * Retorna o valor do tipo da peça movida.
+     *
+     * @param move movimento codificado.
+     * @return valor do tipo da peça movida.
+     */
+    public static int piece(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    /**
+     * Retorna o valor do tipo da peça capturada, ou {@link #NO_PIECE}.
+     *
+     * @param move movimento codificado.
+     * @return valor do tipo da peça capturada, ou {@link #NO_PIECE}.
+     */
+    public static int captured(int move) {
+        return (move >>> 16) & 0xF;
+    }
+
+    /**
+     * Retorna o valor do tipo da peça de promoção, ou {@link #NO_PIECE}.
+     *
+     * @param move movimento codificado.
+     * @return valor do tipo da peça de promoção, ou {@link #NO_PIECE}.
+     */
+    public static int promotion(int move) {
+        return (move >>> 20) & 0xF;
+    }
+
+    /**
+     * Retorna as flags especiais do movimento.
+     *
+     * @param move movimento codificado.
+     * @return flags especiais do movimento.
+     */
+    public static int flags(int move) {
+        return (move >>> 24) & 0xF;
+    }
+
+    /**
+     * Verifica se o movimento captura uma peça.
+     *
+     * @param move movimento codificado.
+     * @return true se o movimento captura uma peça.
+     */
+    public static boolean isCapture(int move) {
+        return captured(move) != NO_PIECE;
+    }
+
+    /**
+     * Verifica se o movimento promove um peão.
+     *
+     * @param move movimento codificado.
+     * @return true se o movimento promove um peão.
+     */
+    public static boolean isPromotion(int move) {
+        return promotion(move) != NO_PIECE;
+    }
+
+    /**
+     * Verifica se o movimento é um roque.
+     *
+     * @param move movimento codificado.
+     * @return true se o movimento é um roque.
+     */
+    public static boolean isCastling(int move) {
+        return (flags(move) & CASTLING) != 0;
+    }
+
+    /**
+     * Verifica se o movimento é um avanço duplo de peão.
+     *
+     * @param move movimento codificado.
+     * @return true se o movimento é um avanço duplo de peão.
+     */
+    public static boolean isDoublePush(int move) {
+        return (flags(move) & DOUBLE_PUSH) != 0;
+    }
+
+    /**
+     * Verifica se o movimento é uma captura en passant.
+     *
+     * @param move movimento codificado.
+     * @return true se o movimento é uma captura en passant.
+     */
+    public static boolean isEnPassant(int move) {
+        return (flags(move) & EN_PASSANT) != 0;
+    }
+
+    /**
+     * Retorna a casa de origem no formato XY usado pela interface.
+     *
+     * @param move movimento codificado.
+     * @return posição de origem no formato XY.
+     */
+    public static int fromPosition(int move) {
+        return BitboardUtils.toPosition(from(move));
+    }
+
+    /**
+     * Retorna a casa de destino no formato XY usado pela interface.
+     *
+     * @param move movimento codificado.
+     * @return posição de destino no formato XY.
+     */
+    public static int toPosition(int move) {
+        return BitboardUtils.toPosition(to(move));
+    }
+
+    /**
+     * Retorna o nome algébrico de uma casa (ex: a linha 7, coluna 4 é {@code e1}).
+     *
+     * @param square casa (0 a 63).
+     * @return nome da casa.
+     */
+    public static String squareName(int square) {
+        return FILES.charAt(square & 7) + String.valueOf(8 - (square >>> 3));
+    }
+
+    /**
+     * Converte o nome algébrico de uma casa para o seu índice.
+     *
+     * @param name nome da casa (ex: {@code e4}).
+     * @return casa (0 a 63).
+     * @throws IllegalArgumentException se o nome não representar uma casa válida.
+     */
+    public static int parseSquare(String name) {
+        if (name == null || name.length() != 2) {
+            throw new IllegalArgumentException("Casa inválida: " + name);
+        }
+        int file = FILES.indexOf(name.charAt(0));
+        int rank = name.charAt(1) - '0';
+        if (file < 0 || rank < 1 || rank > 8) {
+            throw new IllegalArgumentException("Casa inválida: " + name);
+        }
+        return (8 - rank) * 8 + file;
+    }
+
+    /**
+     * Representação em notação de coordenadas (ex: {@code e2e4}, {@code a7a8q}).
+     *
+     * @param move movimento codificado.
+     * @return texto do movimento, ou {@code 0000} para {@link #NONE}.
+     */
+    public static String toString(int move) {
+        if (move == NONE) return "0000";
+        String text = squareName(from(move)) + squareName(to(move));
+        if (isPromotion(move)) {
+            text += PROMOTION_LETTERS.charAt(promotion(move) % 6);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,743 @@
+package com.seios.warofkings.board.moves;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
+import com.seios.warofkings.board.enums.GameStatus;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
+
+/**
+ * Gerador de movimentos legais para o lado que tem a vez no {@link Board}.
+ * <p>
+ * Em vez de gerar movimentos pseudo-legais e simular cada um para descobrir se o rei fica em xeque,
+ * o gerador calcula uma única vez por posição:
+ * </p>
+ * <ul>
+ *     <li>as peças que dão xeque no rei (<i>checkers</i>);</li>
+ *     <li>a máscara de evasão: casas em que uma peça pode capturar o atacante ou bloquear o raio;</li>
+ *     <li>as peças cravadas, que só podem se mover sobre a linha entre o rei e a peça que as crava.</li>
+ * </ul>
+ * <p>
+ * Com essas máscaras cada peça gera apenas os destinos legais. Somente os movimentos do rei testam
+ * as casas de destino com {@link Board#isSquareAttacked(int, Turn, long)}, removendo o rei da ocupação.
+ * O roque segue as regras padrão: direito de roque registrado no tabuleiro, caminho livre entre rei
+ * e torre, rei fora de xeque e sem atravessar casas atacadas. O en passant é gerado a partir da casa
+ * registrada por {@link Board#getEnPassantSquare()}, testando o xeque descoberto pela saída dos dois
+ * peões da mesma linha.
+ * </p>
+ *
+ * <p>
+ * As mesmas máscaras permitem decidir a situação da partida ({@link GameStatus}) sem gerar a lista:
+ * {@link #hasLegalMove(Board, Turn)} para no primeiro destino legal encontrado, começando pelo rei.
+ * {@link #generateLegalCaptures(Board, MoveList)} e {@link #generateLegalQuiets(Board, MoveList)}
+ * restringem os destinos às capturas e promoções ou ao seu complemento, para a geração em etapas, e
+ * {@link #isLegal(Board, int)} valida um único movimento vindo de outra posição (tabela de
+ * transposição, killers) só com as máscaras da peça que se move.
+ * </p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.7
+ * @since 2026-10-18
+ */
+public final class MoveGenerator {
+    /** Casas estritamente entre duas casas alinhadas (vazio se não estiverem alinhadas). */
+    private static final long[][] BETWEEN = new long[64][64];
+
+    /** Linha completa (fileira, coluna ou diagonal) que passa por duas casas alinhadas. */
+    private static final long[][] LINE = new long[64][64];
+
+    /** Peças para as quais um peão pode ser promovido, na ordem em que são geradas (sem o deslocamento de cor). */
+    private static final int[] PROMOTIONS = {
+            Type.QUEEN_WHITE.getValor(), Type.ROOK_WHITE.getValor(),
+            Type.BISHOP_WHITE.getValor(), Type.KNIGHT_WHITE.getValor()
+    };
+
+    /** Primeira e última linhas, onde os peões são promovidos. */
+    private static final long PROMOTION_RANKS = 0xFF000000000000FFL;
+
+    /** Modo de geração: todos os movimentos legais. */
+    private static final int ALL = 0;
+
+    /** Modo de geração: capturas (inclusive en passant) e promoções. */
+    private static final int CAPTURES = 1;
+
+    /** Modo de geração: movimentos sem captura e sem promoção (inclusive roque). */
+    private static final int QUIETS = 2;
+
+    /** Tipos indexados pelo valor, evitando a cópia feita por {@link Type#values()} a cada consulta. */
+    private static final Type[] TYPES = Type.values();
+
+    static {
+        for (int a = 0; a < 64; a++) {
+            for (int b = 0; b < 64; b++) {
+                if (a == b) continue;
+                long bitA = 1L << a;
+                long bitB = 1L << b;
+
+                if ((SlidingAttacks.rookAttacks(a, 0L) & bitB) != 0) {
+                    BETWEEN[a][b] = SlidingAttacks.rookAttacks(a, bitB) & SlidingAttacks.rookAttacks(b, bitA);
+                    LINE[a][b] = (SlidingAttacks.rookAttacks(a, 0L) & SlidingAttacks.rookAttacks(b, 0L)) | bitA | bitB;
+                } else if ((SlidingAttacks.bishopAttacks(a, 0L) & bitB) != 0) {
+                    BETWEEN[a][b] = SlidingAttacks.bishopAttacks(a, bitB) & SlidingAttacks.bishopAttacks(b, bitA);
+                    LINE[a][b] = (SlidingAttacks.bishopAttacks(a, 0L) & SlidingAttacks.bishopAttacks(b, 0L)) | bitA | bitB;
+                }
+            }
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private MoveGenerator() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Gera todos os movimentos legais do lado que tem a vez ({@link Board#getTurn()}).
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino; os movimentos são acrescentados ao final.
+     */
+    public static void generateLegalMoves(Board board, MoveList moves) {
+        generate(board, ALL, moves);
+    }
+
+    /**
+     * Gera apenas as capturas legais (inclusive en passant) e as promoções do lado que tem a vez,
+     * usadas pela busca de quiescência. As mesmas máscaras de xeque e cravada são aplicadas, com os
+     * destinos restritos às peças adversárias (e à última linha, para os peões).
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino; os movimentos são acrescentados ao final.
+     */
+    public static void generateLegalCaptures(Board board, MoveList moves) {
+        generate(board, CAPTURES, moves);
+    }
+
+    /**
+     * Gera os movimentos legais que não são capturas nem promoções (inclusive roque), o complemento
+     * de {@link #generateLegalCaptures(Board, MoveList)}. Permite que a busca só gere os movimentos
+     * tranquilos quando as capturas não produzirem um corte.
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino; os movimentos são acrescentados ao final.
+     */
+    public static void generateLegalQuiets(Board board, MoveList moves) {
+        generate(board, QUIETS, moves);
+    }
+
+    /**
+     * Procura, entre os movimentos legais do lado que tem a vez, o que tem a notação de coordenadas
+     * informada ({@link Move#toString(int)}, como {@code "e2e4"} ou {@code "b7b8q"}).
+     *
+     * @param board    tabuleiro atual.
+     * @param notation movimento na notação de coordenadas.
+     * @return movimento codificado, ou {@link Move#NONE} se não houver um movimento legal com essa notação.
+     */
+    public static int findLegalMove(Board board, String notation) {
+        MoveList moves = new MoveList();
+        generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(notation)) return moves.get(i);
+        }
+        return Move.NONE;
+    }
+
+    /**
+     * Verifica se um movimento codificado é legal na posição, sem gerar a lista de movimentos.
+     * <p>
+     * Usado para validar movimentos vindos de outras posições, como o da tabela de transposição e os
+     * killers: o movimento só é aceito se for exatamente o que a geração produziria, com a mesma peça,
+     * peça capturada, promoção e flags. Os destinos da peça de origem são calculados com as mesmas
+     * máscaras de xeque e cravada da geração completa.
+     * </p>
+     *
+     * @param board tabuleiro atual.
+     * @param move  movimento codificado (pode ser {@link Move#NONE}).
+     * @return true se o movimento estiver entre os movimentos legais do lado que tem a vez.
+     */
+    public static boolean isLegal(Board board, int move) {
+        Turn side = board.getTurn();
+        if (move == Move.NONE || side == Turn.END) return false;
+
+        int us = side == Turn.WHITE ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+        int offset = us * 6;
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int piece = Move.piece(move);
+        if (piece < offset || piece > offset + 5 || board.getPieceCode(from) != piece) return false;
+
+        Turn enemy = side.next();
+        long own = board.getOccupancy(side);
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(enemy);
+        long kingBoard = bitboard(board, offset + 5);
+        int king = kingBoard != 0 ? BitboardUtils.lsb(kingBoard) : 64;
+        long checkers = king != 64 ? checkers(board, king, us, occupancy) : 0L;
+
+        if (Move.isCastling(move)) {
+            if (piece != offset + 5 || checkers != 0 || Math.abs(to - from) != 2) return false;
+            int rights = board.getCastlingRights() >>> (2 * us);
+            if ((rights & (to > from ? 1 : 2)) == 0) return false;
+            return move == Move.of(from, to, piece, Move.NO_PIECE, Move.NO_PIECE, Move.CASTLING)
+                    && canCastle(board, from, to > from ? from + 3 : from - 4, offset, occupancy, enemy);
+        }
+        if (Move.isEnPassant(move)) {
+            return piece == offset && to == board.getEnPassantSquare()
+                    && (LeaperAttacks.pawnAttacks(us ^ 1, to) & (1L << from)) != 0
+                    && move == Move.of(from, to, offset, (us ^ 1) * 6, Move.NO_PIECE, Move.EN_PASSANT)
+                    && isLegalEnPassant(board, us, king, from, to, occupancy, checkers);
+        }
+
+        int captured = board.getPieceCode(to);
+        if (piece == offset + 5) {
+            return (LeaperAttacks.kingAttacks(from) & ~own & (1L << to)) != 0
+                    && move == Move.of(from, to, piece, captured)
+                    && !board.isSquareAttacked(to, enemy, occupancy & ~(1L << from));
+        }
+
+        // em xeque duplo somente o rei pode se mover
+        if (BitboardUtils.popCount(checkers) > 1) return false;
+        long evasion = checkers != 0 ? checkers | BETWEEN[king][BitboardUtils.lsb(checkers)] : ~0L;
+        long allowed = king != 64 ? evasion & pinMask(pinned(board, king, own, occupancy, (us ^ 1) * 6), king, from) : ~0L;
+
+        long targets;
+        if (piece == offset) {
+            targets = pawnTargets(us, from, occupancy, enemies, allowed);
+        } else if (piece == offset + 2) {
+            targets = LeaperAttacks.knightAttacks(from) & ~own & allowed;
+        } else {
+            long attacks = 0L;
+            if (piece != offset + 3) attacks |= SlidingAttacks.rookAttacks(from, occupancy);
+            if (piece != offset + 1) attacks |= SlidingAttacks.bishopAttacks(from, occupancy);
+            targets = attacks & ~own & allowed;
+        }
+        if ((targets & (1L << to)) == 0) return false;
+
+        if (piece != offset) return move == Move.of(from, to, piece, captured);
+        if (Math.abs(to - from) == 16) {
+            return move == Move.of(from, to, offset, Move.NO_PIECE, Move.NO_PIECE, Move.DOUBLE_PUSH);
+        }
+        int row = to >>> 3;
+        if (row != 0 && row != 7) return move == Move.of(from, to, offset, captured);
+        for (int promotion : PROMOTIONS) {
+            if (move == Move.of(from, to, offset, captured, promotion + offset, 0)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gera os movimentos legais do lado que tem a vez.
+     *
+     * @param board tabuleiro atual.
+     * @param mode  {@link #ALL}, {@link #CAPTURES} ou {@link #QUIETS}.
+     * @param moves lista de destino.
+     */
+    private static void generate(Board board, int mode, MoveList moves) {
+        Turn side = board.getTurn();
+        if (side == Turn.END) return;
+
+        int us = side == Turn.WHITE ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+        int offset = us * 6;
+        int enemyOffset = (us ^ 1) * 6;
+        Turn enemy = side.next();
+
+        long own = board.getOccupancy(side);
+        long occupancy = board.getOccupancy();
+        long enemies = board.getOccupancy(enemy);
+        long kingBoard = bitboard(board, offset + 5);
+        long filter = mode == CAPTURES ? enemies : mode == QUIETS ? ~enemies : ~0L;
+
+        long checkers = 0L;
+        long pinned = 0L;
+        long evasion = ~0L;
+        int king = 64;
+
+        if (kingBoard != 0) {
+            king = BitboardUtils.lsb(kingBoard);
+            checkers = checkers(board, king, us, occupancy);
+            pinned = pinned(board, king, own, occupancy, enemyOffset);
+
+            generateKingMoves(board, king, offset, ~own & filter, occupancy, enemy, moves);
+
+            // em xeque duplo somente o rei pode se mover
+            if (BitboardUtils.popCount(checkers) > 1) return;
+
+            if (checkers != 0) {
+                int checker = BitboardUtils.lsb(checkers);
+                evasion = checkers | BETWEEN[king][checker];
+            } else if (mode != CAPTURES) {
+                generateCastling(board, king, us, offset, occupancy, enemy, moves);
+            }
+        }
+
+        long targets = ~own & evasion & filter;
+
+        long knights = bitboard(board, offset + 2) & ~pinned; // cavalo cravado nunca se move
+        while (knights != 0) {
+            int from = BitboardUtils.lsb(knights);
+            addMoves(board, from, offset + 2, LeaperAttacks.knightAttacks(from) & targets, moves);
+            knights = BitboardUtils.popLsb(knights);
+        }
+
+        long diagonals = bitboard(board, offset + 3) | bitboard(board, offset + 4);
+        while (diagonals != 0) {
+            int from = BitboardUtils.lsb(diagonals);
+            long attacks = SlidingAttacks.bishopAttacks(from, occupancy) & targets & pinMask(pinned, king, from);
+            addMoves(board, from, board.getPieceCode(from), attacks, moves);
+            diagonals = BitboardUtils.popLsb(diagonals);
+        }
+
+        long lines = bitboard(board, offset + 1) | bitboard(board, offset + 4);
+        while (lines != 0) {
+            int from = BitboardUtils.lsb(lines);
+            long attacks = SlidingAttacks.rookAttacks(from, occupancy) & targets & pinMask(pinned, king, from);
+            addMoves(board, from, board.getPieceCode(from), attacks, moves);
+            lines = BitboardUtils.popLsb(lines);
+        }
+
+        long pawnFilter = mode == CAPTURES ? enemies | PROMOTION_RANKS
+                : mode == QUIETS ? ~(enemies | PROMOTION_RANKS) : ~0L;
+        generatePawnMoves(board, us, offset, occupancy, enemies, evasion & pawnFilter, pinned, king, checkers,
+                mode != QUIETS, moves);
+    }
+
+    /**
+     * Gera os movimentos legais de uma única peça, filtrando os movimentos legais do lado que tem a vez.
+     * <p>Usado pela interface para destacar exatamente as casas para as quais a peça pode ir.</p>
+     *
+     * @param board tabuleiro atual.
+     * @param piece peça selecionada.
+     * @param moves lista de destino; os movimentos são acrescentados ao final.
+     */
+    public static void generateLegalMoves(Board board, ChessPiece piece, MoveList moves) {
+        MoveList all = new MoveList();
+        generateLegalMoves(board, all);
+
+        int from = BitboardUtils.toSquare(piece.getPosition());
+        for (int i = 0; i < all.size(); i++) {
+            if (Move.from(all.get(i)) == from) {
+                moves.add(all.get(i));
+            }
+        }
+    }
+
+    /**
+     * Verifica se o lado informado possui ao menos um movimento legal, sem gerar a lista de movimentos.
+     * <p>
+     * O rei é testado primeiro, pois quase sempre tem uma casa livre; em xeque duplo só ele pode se
+     * mover. Para as demais peças basta que a máscara de destinos (já restrita à evasão e às cravadas)
+     * não seja vazia. O roque não precisa ser considerado: se ele for legal, o passo simples do rei
+     * na mesma direção também é.
+     * </p>
+     *
+     * @param board tabuleiro atual.
+     * @param side  lado a verificar (não precisa ser o lado que tem a vez).
+     * @return true se existir algum movimento legal.
+     */
+    public static boolean hasLegalMove(Board board, Turn side) {
+        if (side == Turn.END) return false;
+
+        int us = side == Turn.WHITE ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+        int offset = us * 6;
+        int enemyOffset = (us ^ 1) * 6;
+        Turn enemy = side.next();
+
+        long own = board.getOccupancy(side);
+        long occupancy = board.getOccupancy();
+        long kingBoard = bitboard(board, offset + 5);
+
+        long checkers = 0L;
+        long pinned = 0L;
+        long evasion = ~0L;
+        int king = 64;
+
+        if (kingBoard != 0) {
+            king = BitboardUtils.lsb(kingBoard);
+
+            long withoutKing = occupancy & ~(1L << king);
+            long escapes = LeaperAttacks.kingAttacks(king) & ~own;
+            while (escapes != 0) {
+                if (!board.isSquareAttacked(BitboardUtils.lsb(escapes), enemy, withoutKing)) return true;
+                escapes = BitboardUtils.popLsb(escapes);
+            }
+
+            checkers = checkers(board, king, us, occupancy);
+            if (BitboardUtils.popCount(checkers) > 1) return false;
+            if (checkers != 0) {
+                evasion = checkers | BETWEEN[king][BitboardUtils.lsb(checkers)];
+            }
+            pinned = pinned(board, king, own, occupancy, enemyOffset);
+        }
+
+        long targets = ~own & evasion;
+
+        long knights = bitboard(board, offset + 2) & ~pinned;
+        while (knights != 0) {
+            if ((LeaperAttacks.knightAttacks(BitboardUtils.lsb(knights)) & targets) != 0) return true;
+            knights = BitboardUtils.popLsb(knights);
+        }
+
+        long diagonals = bitboard(board, offset + 3) | bitboard(board, offset + 4);
+        while (diagonals != 0) {
+            int from = BitboardUtils.lsb(diagonals);
+            if ((SlidingAttacks.bishopAttacks(from, occupancy) & targets & pinMask(pinned, king, from)) != 0) return true;
+            diagonals = BitboardUtils.popLsb(diagonals);
+        }
+
+        long lines = bitboard(board, offset + 1) | bitboard(board, offset + 4);
+        while (lines != 0) {
+            int from = BitboardUtils.lsb(lines);
+            if ((SlidingAttacks.rookAttacks(from, occupancy) & targets & pinMask(pinned, king, from)) != 0) return true;
+            lines = BitboardUtils.popLsb(lines);
+        }
+
+        long enemies = board.getOccupancy(enemy);
+        long pawns = bitboard(board, offset);
+        while (pawns != 0) {
+            int from = BitboardUtils.lsb(pawns);
+            if (pawnTargets(us, from, occupancy, enemies, evasion & pinMask(pinned, king, from)) != 0) return true;
+            pawns = BitboardUtils.popLsb(pawns);
+        }
+
+        int target = board.getEnPassantSquare();
+        if (target != Board.NO_SQUARE) {
+            long candidates = LeaperAttacks.pawnAttacks(us ^ 1, target) & bitboard(board, offset);
+            while (candidates != 0) {
+                if (isLegalEnPassant(board, us, king, BitboardUtils.lsb(candidates), target, occupancy, checkers)) return true;
+                candidates = BitboardUtils.popLsb(candidates);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calcula a situação da partida para o lado informado.
+     *
+     * @param board tabuleiro atual.
+     * @param side  lado a avaliar (normalmente o que tem a vez, ou o adversário logo após um lance).
+     * @return {@link GameStatus#CHECKMATE}, {@link GameStatus#STALEMATE}, {@link GameStatus#CHECK}
+     *         ou {@link GameStatus#NORMAL}.
+     */
+    public static GameStatus getGameStatus(Board board, Turn side) {
+        boolean check = board.isInCheck(side);
+        if (hasLegalMove(board, side)) {
+            return check ? GameStatus.CHECK : GameStatus.NORMAL;
+        }
+        return check ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+    }
+
+    /**
+     * Calcula a situação da partida para o lado que tem a vez ({@link Board#getTurn()}).
+     *
+     * @param board tabuleiro atual.
+     * @return situação da partida.
+     */
+    public static GameStatus getGameStatus(Board board) {
+        return getGameStatus(board, board.getTurn());
+    }
+
+    /**
+     * Retorna as peças adversárias que atacam o rei na casa informada.
+     *
+     * @param board     tabuleiro atual.
+     * @param king      casa do rei.
+     * @param us        cor do rei ({@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}).
+     * @param occupancy ocupação total.
+     * @return bitboard com as peças que dão xeque.
+     */
+    private static long checkers(Board board, int king, int us, long occupancy) {
+        int enemyOffset = (us ^ 1) * 6;
+        long queens = bitboard(board, enemyOffset + 4);
+
+        return (LeaperAttacks.pawnAttacks(us, king) & bitboard(board, enemyOffset))
+                | (LeaperAttacks.knightAttacks(king) & bitboard(board, enemyOffset + 2))
+                | (SlidingAttacks.bishopAttacks(king, occupancy) & (bitboard(board, enemyOffset + 3) | queens))
+                | (SlidingAttacks.rookAttacks(king, occupancy) & (bitboard(board, enemyOffset + 1) | queens));
+    }
+
+    /**
+     * Calcula as peças aliadas cravadas: a única peça entre o rei e uma peça deslizante adversária
+     * alinhada com ele.
+     *
+     * @param board       tabuleiro atual.
+     * @param king        casa do rei.
+     * @param own         ocupação das peças aliadas.
+     * @param occupancy   ocupação total.
+     * @param enemyOffset deslocamento do tipo das peças adversárias (0 ou 6).
+     * @return bitboard com as peças cravadas.
+     */
+    private static long pinned(Board board, int king, long own, long occupancy, int enemyOffset) {
+        long queens = bitboard(board, enemyOffset + 4);
+        long snipers = (SlidingAttacks.rookAttacks(king, 0L) & (bitboard(board, enemyOffset + 1) | queens))
+                | (SlidingAttacks.bishopAttacks(king, 0L) & (bitboard(board, enemyOffset + 3) | queens));
+
+        long pinned = 0L;
+        while (snipers != 0) {
+            int sniper = BitboardUtils.lsb(snipers);
+            long blockers = BETWEEN[king][sniper] & occupancy;
+            if (blockers != 0 && BitboardUtils.popLsb(blockers) == 0) {
+                pinned |= blockers & own;
+            }
+            snipers = BitboardUtils.popLsb(snipers);
+        }
+        return pinned;
+    }
+
+    /**
+     * Retorna a máscara de destinos permitida para uma peça: a linha rei-peça se ela estiver cravada,
+     * ou todas as casas caso contrário.
+     *
+     * @param pinned peças cravadas.
+     * @param king   casa do rei.
+     * @param from   casa da peça.
+     * @return máscara de destinos permitidos.
+     */
+    private static long pinMask(long pinned, int king, int from) {
+        return (pinned & (1L << from)) != 0 ? LINE[king][from] : ~0L;
+    }
+
+    /**
+     * Gera os movimentos do rei para casas não atacadas, testadas com o rei fora da ocupação.
+     *
+     * @param board     tabuleiro atual.
+     * @param king      casa do rei.
+     * @param offset    deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param allowed   destinos permitidos (casas sem peças aliadas, restritas às capturas se for o caso).
+     * @param occupancy ocupação total.
+     * @param enemy     cor adversária.
+     * @param moves     lista de destino.
+     */
+    private static void generateKingMoves(Board board, int king, int offset, long allowed, long occupancy,
+                                          Turn enemy, MoveList moves) {
+        long withoutKing = occupancy & ~(1L << king);
+        long targets = LeaperAttacks.kingAttacks(king) & allowed;
+        while (targets != 0) {
+            int to = BitboardUtils.lsb(targets);
+            if (!board.isSquareAttacked(to, enemy, withoutKing)) {
+                moves.add(Move.of(king, to, offset + 5, board.getPieceCode(to)));
+            }
+            targets = BitboardUtils.popLsb(targets);
+        }
+    }
+
+    /**
+     * Gera os roques legais: direito de roque registrado no tabuleiro, torre no canto, caminho livre
+     * entre rei e torre e as duas casas percorridas pelo rei fora de ataque.
+     *
+     * @param board     tabuleiro atual (o rei não está em xeque).
+     * @param king      casa do rei.
+     * @param us        cor do lado que joga.
+     * @param offset    deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param occupancy ocupação total.
+     * @param enemy     cor adversária.
+     * @param moves     lista de destino.
+     */
+    private static void generateCastling(Board board, int king, int us, int offset, long occupancy, Turn enemy, MoveList moves) {
+        // direitos do lado que joga nos dois bits menos significativos: roque pequeno e grande
+        int rights = board.getCastlingRights() >>> (2 * us);
+        if ((rights & 1) != 0) {
+            addCastling(board, king, king + 3, offset, occupancy, enemy, moves);
+        }
+        if ((rights & 2) != 0) {
+            addCastling(board, king, king - 4, offset, occupancy, enemy, moves);
+        }
+    }
+
+    /**
+     * Adiciona o roque com a torre informada, se o caminho estiver livre e seguro.
+     *
+     * @param board     tabuleiro atual.
+     * @param king      casa do rei.
+     * @param rook      casa de origem da torre.
+     * @param offset    deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param occupancy ocupação total.
+     * @param enemy     cor adversária.
+     * @param moves     lista de destino.
+     */
+    private static void addCastling(Board board, int king, int rook, int offset, long occupancy, Turn enemy, MoveList moves) {
+        if (!canCastle(board, king, rook, offset, occupancy, enemy)) return;
+
+        int step = rook > king ? 1 : -1;
+        moves.add(Move.of(king, king + 2 * step, offset + 5, Move.NO_PIECE, Move.NO_PIECE, Move.CASTLING));
+    }
+
+    /**
+     * Verifica se o roque com a torre informada tem a torre no canto, o caminho livre e as duas casas
+     * percorridas pelo rei fora de ataque. O direito de roque e o xeque são conferidos por quem chama.
+     *
+     * @param board     tabuleiro atual.
+     * @param king      casa do rei.
+     * @param rook      casa de origem da torre.
+     * @param offset    deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param occupancy ocupação total.
+     * @param enemy     cor adversária.
+     * @return true se o caminho do roque estiver livre e seguro.
+     */
+    private static boolean canCastle(Board board, int king, int rook, int offset, long occupancy, Turn enemy) {
+        int step = rook > king ? 1 : -1;
+        if (board.getPieceCode(rook) != offset + 1 || (BETWEEN[king][rook] & occupancy) != 0) return false;
+        return !board.isSquareAttacked(king + step, enemy) && !board.isSquareAttacked(king + 2 * step, enemy);
+    }
+
+    /**
+     * Gera os movimentos legais dos peões: avanços simples e duplos (a partir da linha inicial),
+     * capturas, promoções e en passant, respeitando a máscara de evasão e as cravadas.
+     *
+     * @param board     tabuleiro atual.
+     * @param us        cor do lado que joga.
+     * @param offset    deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param occupancy ocupação total.
+     * @param enemies   ocupação das peças adversárias.
+     * @param evasion   máscara de evasão de xeque.
+     * @param pinned    peças cravadas.
+     * @param king      casa do rei (64 se ausente).
+     * @param checkers  peças que dão xeque no rei.
+     * @param enPassant true para gerar também a captura en passant.
+     * @param moves     lista de destino.
+     */
+    private static void generatePawnMoves(Board board, int us, int offset, long occupancy, long enemies,
+                                          long evasion, long pinned, int king, long checkers, boolean enPassant,
+                                          MoveList moves) {
+        long pawns = bitboard(board, offset);
+        while (pawns != 0) {
+            int from = BitboardUtils.lsb(pawns);
+            pawns = BitboardUtils.popLsb(pawns);
+
+            long targets = pawnTargets(us, from, occupancy, enemies, evasion & pinMask(pinned, king, from));
+            while (targets != 0) {
+                int to = BitboardUtils.lsb(targets);
+                if (Math.abs(to - from) == 16) {
+                    moves.add(Move.of(from, to, offset, Move.NO_PIECE, Move.NO_PIECE, Move.DOUBLE_PUSH));
+                } else {
+                    addPawnMove(from, to, offset, board.getPieceCode(to), moves);
+                }
+                targets = BitboardUtils.popLsb(targets);
+            }
+        }
+
+        int target = board.getEnPassantSquare();
+        if (enPassant && target != Board.NO_SQUARE) {
+            // peões aliados que atacam a casa de en passant
+            long candidates = LeaperAttacks.pawnAttacks(us ^ 1, target) & bitboard(board, offset);
+            while (candidates != 0) {
+                int from = BitboardUtils.lsb(candidates);
+                if (isLegalEnPassant(board, us, king, from, target, occupancy, checkers)) {
+                    moves.add(Move.of(from, target, offset, (us ^ 1) * 6, Move.NO_PIECE, Move.EN_PASSANT));
+                }
+                candidates = BitboardUtils.popLsb(candidates);
+            }
+        }
+    }
+
+    /**
+     * Verifica se uma captura en passant deixa o rei fora de ataque. Como dois peões saem da mesma
+     * linha, cravadas comuns não bastam: os raios de torre e bispo são recalculados com a ocupação
+     * após a captura, e um xeque de cavalo ou peão só é resolvido se o peão capturado for o atacante.
+     *
+     * @param board     tabuleiro atual.
+     * @param us        cor do lado que joga.
+     * @param king      casa do rei (64 se ausente).
+     * @param from      casa do peão que captura.
+     * @param target    casa de en passant (destino).
+     * @param occupancy ocupação total.
+     * @param checkers  peças que dão xeque no rei.
+     * @return true se a captura for legal.
+     */
+    private static boolean isLegalEnPassant(Board board, int us, int king, int from, int target,
+                                            long occupancy, long checkers) {
+        if (king == 64) return true;
+
+        int enemyOffset = (us ^ 1) * 6;
+        long captured = 1L << (target ^ 8);
+        long leapers = checkers & ~captured & (bitboard(board, enemyOffset) | bitboard(board, enemyOffset + 2));
+        if (leapers != 0) return false;
+
+        long after = (occupancy & ~(1L << from) & ~captured) | (1L << target);
+        long queens = bitboard(board, enemyOffset + 4);
+        return (SlidingAttacks.bishopAttacks(king, after) & (bitboard(board, enemyOffset + 3) | queens)) == 0
+                && (SlidingAttacks.rookAttacks(king, after) & (bitboard(board, enemyOffset + 1) | queens)) == 0;
+    }
+
+    /**
+     * Calcula os destinos legais de um peão: avanço simples, avanço duplo a partir da linha inicial
+     * (com a casa intermediária livre) e capturas, restritos à máscara permitida.
+     *
+     * @param us        cor do peão.
+     * @param from      casa do peão.
+     * @param occupancy ocupação total.
+     * @param enemies   ocupação das peças adversárias.
+     * @param allowed   máscara de evasão combinada com a da cravada.
+     * @return bitboard com os destinos legais.
+     */
+    private static long pawnTargets(int us, int from, long occupancy, long enemies, long allowed) {
+        int forward = us == LeaperAttacks.WHITE ? -8 : 8;
+        int startRow = us == LeaperAttacks.WHITE ? 6 : 1;
+
+        long targets = LeaperAttacks.pawnAttacks(us, from) & enemies;
+        long single = 1L << (from + forward);
+        if ((occupancy & single) == 0) {
+            targets |= single;
+            long twoSteps = 1L << (from + 2 * forward);
+            if ((from >>> 3) == startRow && (occupancy & twoSteps) == 0) {
+                targets |= twoSteps;
+            }
+        }
+        return targets & allowed;
+    }
+
+    /**
+     * Adiciona um movimento de peão, expandindo-o nas quatro promoções quando o destino é a última linha.
+     *
+     * @param from     casa de origem.
+     * @param to       casa de destino.
+     * @param offset   deslocamento do tipo das peças aliadas (0 ou 6).
+     * @param captured peça capturada ou {@link Move#NO_PIECE}.
+     * @param moves    lista de destino.
+     */
+    private static void addPawnMove(int from, int to, int offset, int captured, MoveList moves) {
+        int row = to >>> 3;
+        if (row == 0 || row == 7) {
+            for (int promotion : PROMOTIONS) {
+                moves.add(Move.of(from, to, offset, captured, promotion + offset, 0));
+            }
+        } else {
+            moves.add(Move.of(from, to, offset, captured));
+        }
+    }
+
+    /**
+     * Adiciona um movimento para cada casa de destino, registrando a peça capturada.
+     *
+     * @param board   tabuleiro atual.
+     * @param from    casa de origem.
+     * @param piece   valor do tipo da peça que se move.
+     * @param targets destinos legais.
+     * @param moves   lista de destino.
+     */
+    private static void addMoves(Board board, int from, int piece, long targets, MoveList moves) {
+        while (targets != 0) {
+            int to = BitboardUtils.lsb(targets);
+            moves.add(Move.of(from, to, piece, board.getPieceCode(to)));
+            targets = BitboardUtils.popLsb(targets);
+        }
+    }
+
+    /**
+     * Retorna o bitboard de um tipo a partir do seu valor.
+     *
+     * @param board tabuleiro atual.
+     * @param valor valor do tipo.
+     * @return bitboard do tipo.
+     */
+    private static long bitboard(Board board, int valor) {
+        return board.getBitboard(TYPES[valor]);
+    }
+}
@@ -0,0 +1,156 @@
+package com.seios.warofkings.board.moves;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lista primitiva e reutilizável de movimentos codificados por {@link Move}.
+ * <p>
+ * Os geradores escrevem diretamente em um vetor de {@code int} de capacidade fixa, sem criar
+ * objetos {@code Integer} nem listas a cada chamada. Uma mesma instância pode ser reaproveitada
+ * indefinidamente com {@link #clear()}.
+ * </p>
+ *
+ * <p><b>Nota:</b> A capacidade de {@value #CAPACITY} movimentos cobre com folga o máximo de
+ * jogadas possíveis em uma posição legal de xadrez (218).</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MoveList {
+    /** Capacidade máxima da lista. */
+    public static final int CAPACITY = 256;
+
+    /** Movimentos armazenados. */
+    private final int[] moves = new int[CAPACITY];
+
+    /** Quantidade de movimentos válidos em {@link #moves}. */
+    private int size;
+
+    /**
+     * Adiciona um movimento ao final da lista.
+     *
+     * @param move movimento codificado.
+     */
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    /**
+     * Retorna o movimento no índice informado.
+     *
+     * @param index índice (0 a {@code size() - 1}).
+     * @return movimento codificado.
+     */
+    public int get(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Substitui o movimento no índice informado.
+     *
+     * @param index índice (0 a {@code size() - 1}).
+     * @param move  novo movimento codificado.
+     */
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    /**
+     * Troca dois movimentos de lugar (útil para ordenação por seleção).
+     *
+     * @param i primeiro índice.
+     * @param j segundo índice.
+     */
+    public void swap(int i, int j) {
+        int tmp = moves[i];
+        moves[i] = moves[j];
+        moves[j] = tmp;
+    }
+
+    /**
+     * Retorna a quantidade de movimentos na lista.
+     *
+     * @return quantidade de movimentos na lista.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica se a lista está vazia.
+     *
+     * @return true se a lista não possui movimentos.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Esvazia a lista, mantendo o vetor interno para reuso.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Verifica se o movimento codificado está na lista.
+     *
+     * @param move movimento codificado.
+     * @return true se encontrado.
+     */
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Procura o primeiro movimento com o destino informado.
+     *
+     * @param to casa de destino (0 a 63).
+     * @return movimento encontrado ou {@link Move#NONE}.
+     */
+    public int findByDestination(int to) {
+        for (int i = 0; i < size; i++) {
+            if (Move.to(moves[i]) == to) return moves[i];
+        }
+        return Move.NONE;
+    }
+
+    /**
+     * Adaptador para a API antiga baseada em {@code List<Integer>}: retorna os destinos no
+     * formato XY, sem repetir destinos consecutivos (as quatro opções de promoção viram um só destino).
+     *
+     * @return lista de posições de destino.
+     */
+    public List<Integer> toPositions() {
+        List<Integer> positions = new ArrayList<>(size);
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            int to = Move.to(moves[i]);
+            if (to != last) {
+                positions.add(Move.toPosition(moves[i]));
+                last = to;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Representação textual dos movimentos em notação de coordenadas.
+     *
+     * @return lista de movimentos, ex: {@code [e2e4, d2d4]}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(Move.toString(moves[i]));
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,269 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Adversário controlado pelo computador: roda a {@link Search} fora da thread de quem pede o lance.
+ * <p>
+ * Cada pedido de {@link #think(Board, SearchLimits, Consumer, Consumer)} busca uma cópia do tabuleiro
+ * numa única thread de trabalho, e os relatórios das iterações e o resultado final são entregues
+ * pelo executor de retorno informado no construtor; na interface gráfica ele é
+ * {@code Platform::runLater}, de forma que os ouvintes rodam na thread da aplicação JavaFX e podem
+ * alterar a tela diretamente.
+ * </p>
+ *
+ * <p>Um novo pedido, ou {@link #cancel()}, interrompe a busca em andamento. Cada pedido recebe uma
+ * geração, e os relatórios de gerações antigas que já estavam na fila do executor de retorno são
+ * descartados, de forma que o ouvinte nunca recebe o lance de uma posição que não é mais a atual.
+ * Como a thread de trabalho é única, uma busca interrompida termina antes de a próxima começar e a
+ * mesma {@link Search} (e a sua tabela de transposição) é reaproveitada entre os lances.</p>
+ *
+ * <p>Enquanto o adversário pensa, {@link #ponder(Board, int, SearchLimits, Consumer, Consumer)} busca a
+ * posição depois da resposta prevista, sem limite de tempo e sem entregar relatórios. Se o adversário
+ * jogar a resposta prevista, {@link #ponderHit(Board)} transforma essa busca no pedido do próximo lance:
+ * ela continua de onde estava, com o limite de tempo contado a partir do acerto, e o que ficou retido é
+ * entregue. Num erro, o próximo {@link #think(Board, SearchLimits, Consumer, Consumer)} recomeça a busca
+ * com a tabela de transposição já aquecida pela ponderação.</p>
+ *
+ * <p>A thread de trabalho e a do relógio são threads de plataforma <i>daemon</i>: a busca ocupa a CPU sem
+ * pontos de bloqueio e, numa thread virtual, poderia reter o único carregador disponível e atrasar o
+ * relógio que a encerra. Por serem <i>daemon</i>, não impedem a aplicação de terminar.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class ComputerPlayer implements AutoCloseable {
+    /** Tabela de transposição da busca, mantida entre os lances. */
+    private final TranspositionTable table;
+
+    /** Sinal de parada da busca. */
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+
+    /** Busca usada por todos os pedidos. */
+    private final Search search;
+
+    /** Executor que entrega os relatórios aos ouvintes. */
+    private final Executor callbacks;
+
+    /** Thread de trabalho única onde as buscas rodam. */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().daemon().name("computador").factory());
+
+    /** Relógio que encerra a busca continuada depois do acerto da ponderação. */
+    private final ScheduledExecutorService clock = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("computador-relogio").factory());
+
+    /** Geração do pedido atual; incrementada a cada pedido e a cada cancelamento. */
+    private long generation;
+
+    /** Indica se o pedido atual ainda não entregou o resultado. */
+    private volatile boolean thinking;
+
+    /** Indica se o pedido atual é uma ponderação que ainda não teve acerto. */
+    private boolean pondering;
+
+    /** Chave Zobrist da posição ponderada. */
+    private long ponderKey;
+
+    /** Limites do lance depois do acerto da ponderação. */
+    private SearchLimits ponderLimits;
+
+    /** Ouvintes da ponderação, usados para entregar o que ficou retido até o acerto. */
+    private Consumer<SearchInfo> ponderOnIteration;
+    private Consumer<SearchInfo> ponderOnResult;
+
+    /** Última iteração e resultado retidos durante a ponderação. */
+    private SearchInfo heldIteration;
+    private SearchInfo heldResult;
+
+    /**
+     * Cria o adversário.
+     *
+     * @param tableMegabytes tamanho da tabela de transposição em MB.
+     * @param callbacks      executor que entrega os relatórios, como {@code Platform::runLater}.
+     */
+    public ComputerPlayer(int tableMegabytes, Executor callbacks) {
+        this.table = new TranspositionTable(tableMegabytes);
+        this.search = new Search(table, stopSignal, 0);
+        this.callbacks = callbacks;
+    }
+
+    /**
+     * Começa a buscar o lance do lado que tem a vez, interrompendo qualquer busca em andamento.
+     * <p>O tabuleiro é copiado antes de retornar e pode ser alterado logo em seguida.</p>
+     *
+     * @param board       tabuleiro atual.
+     * @param limits      limites da busca.
+     * @param onIteration ouvinte de cada iteração completa.
+     * @param onResult    ouvinte do resultado final, chamado uma única vez se o pedido não for cancelado.
+     */
+    public synchronized void think(Board board, SearchLimits limits, Consumer<SearchInfo> onIteration,
+                                   Consumer<SearchInfo> onResult) {
+        cancel();
+        long id = generation;
+        Board copy = new Board(board);
+        thinking = true;
+        worker.execute(() -> run(id, copy, limits, onIteration, onResult));
+    }
+
+    /**
+     * Começa a ponderar: busca, no tempo do adversário, a posição depois da resposta prevista,
+     * interrompendo qualquer busca em andamento. Nada é entregue antes de {@link #ponderHit(Board)}.
+     *
+     * @param board       tabuleiro atual, com a vez do adversário.
+     * @param predicted   resposta prevista do adversário, normalmente o segundo lance da variação
+     *                    principal do último lance do computador.
+     * @param limits      limites do lance depois do acerto (profundidade e tempo); só a profundidade vale
+     *                    durante a ponderação.
+     * @param onIteration ouvinte de cada iteração completa depois do acerto.
+     * @param onResult    ouvinte do resultado final, chamado uma única vez depois do acerto.
+     */
+    public synchronized void ponder(Board board, int predicted, SearchLimits limits, Consumer<SearchInfo> onIteration,
+                                    Consumer<SearchInfo> onResult) {
+        cancel();
+        long id = generation;
+        Board copy = new Board(board);
+        copy.makeMove(predicted);
+        pondering = true;
+        ponderKey = copy.getZobristKey();
+        ponderLimits = limits;
+        ponderOnIteration = onIteration;
+        ponderOnResult = onResult;
+        worker.execute(() -> run(id, copy, SearchLimits.depth(limits.getDepth()), onIteration, onResult));
+    }
+
+    /**
+     * Informa o lance do adversário à ponderação em andamento. Se ele levou à posição ponderada, a busca
+     * continua como o pedido do próximo lance: o limite de tempo passa a contar agora, a última iteração
+     * retida é entregue e, se a busca já tiver terminado, o resultado também.
+     *
+     * @param board tabuleiro depois do lance do adversário.
+     * @return true no acerto; false se não há ponderação ou se o adversário jogou outro lance, caso em que
+     *         o lance deve ser pedido com {@link #think(Board, SearchLimits, Consumer, Consumer)}.
+     */
+    public synchronized boolean ponderHit(Board board) {
+        if (!pondering || board.getZobristKey() != ponderKey) {
+            return false;
+        }
+        long id = generation;
+        pondering = false;
+        thinking = true;
+        if (heldIteration != null) {
+            deliver(id, heldIteration, ponderOnIteration, false);
+        }
+        if (heldResult != null) {
+            deliver(id, heldResult, ponderOnResult, true);
+        } else if (ponderLimits.getTimeMillis() > 0) {
+            clock.schedule(() -> stop(id), ponderLimits.getTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+        heldIteration = null;
+        heldResult = null;
+        return true;
+    }
+
+    /**
+     * Interrompe a busca em andamento e descarta os relatórios que ela ainda entregaria.
+     * Pode ser chamado de qualquer thread.
+     */
+    public synchronized void cancel() {
+        generation++;
+        thinking = false;
+        pondering = false;
+        heldIteration = null;
+        heldResult = null;
+        stopSignal.set(true);
+    }
+
+    /**
+     * Indica se há um pedido não cancelado que ainda não entregou o resultado.
+     *
+     * @return true enquanto o computador pensa (sem contar a ponderação antes do acerto).
+     */
+    public boolean isThinking() {
+        return thinking;
+    }
+
+    /**
+     * Indica se o computador pondera à espera do lance do adversário.
+     *
+     * @return true entre {@link #ponder(Board, int, SearchLimits, Consumer, Consumer)} e o acerto ou o
+     *         cancelamento.
+     */
+    public synchronized boolean isPondering() {
+        return pondering;
+    }
+
+    /**
+     * Cancela a busca em andamento e encerra a thread de trabalho e o relógio.
+     */
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+        clock.shutdownNow();
+    }
+
+    /**
+     * Executa um pedido na thread de trabalho, a menos que ele já tenha sido cancelado.
+     *
+     * @param id          geração do pedido.
+     * @param board       cópia do tabuleiro.
+     * @param limits      limites da busca.
+     * @param onIteration ouvinte de cada iteração completa.
+     * @param onResult    ouvinte do resultado final.
+     */
+    private void run(long id, Board board, SearchLimits limits, Consumer<SearchInfo> onIteration,
+                     Consumer<SearchInfo> onResult) {
+        // o sinal é religado sob a trava para que um cancelamento feito depois daqui não se perca
+        synchronized (this) {
+            if (id != generation) return;
+            stopSignal.set(false);
+            table.newSearch();
+        }
+        SearchInfo result = search.iterate(board, limits, info -> deliver(id, info, onIteration, false));
+        deliver(id, result, onResult, true);
+    }
+
+    /**
+     * Encerra a busca quando o tempo do lance acaba, se ela ainda for do mesmo pedido. O resultado da
+     * última iteração completa é entregue normalmente.
+     *
+     * @param id geração do pedido.
+     */
+    private synchronized void stop(long id) {
+        if (id == generation) stopSignal.set(true);
+    }
+
+    /**
+     * Entrega um relatório pelo executor de retorno, descartando-o se o pedido tiver sido substituído
+     * ou cancelado enquanto esperava na fila. Durante a ponderação o relatório é retido até o acerto.
+     *
+     * @param id       geração do pedido.
+     * @param info     relatório.
+     * @param listener ouvinte.
+     * @param last     true para o resultado final, que encerra o pedido.
+     */
+    private void deliver(long id, SearchInfo info, Consumer<SearchInfo> listener, boolean last) {
+        callbacks.execute(() -> {
+            synchronized (this) {
+                if (id != generation) return;
+                if (pondering) {
+                    if (last) heldResult = info;
+                    else heldIteration = info;
+                    return;
+                }
+                if (last) thinking = false;
+            }
+            listener.accept(info);
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.PieceSquareTables;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
+
+/**
+ * Avaliação estática de posições para a busca.
+ * <p>
+ * Soma o material e as tabelas peça-casa de meio-jogo e de final ({@link PieceSquareTables}) e
+ * interpola as duas somas pela fase da partida: com todas as peças no tabuleiro vale a de meio-jogo
+ * e, à medida que elas saem, a de final ganha peso, sem saltos de avaliação na transição. As somas e
+ * a fase são mantidas de forma incremental pelo {@link Board} a cada movimento, e a avaliação de uma
+ * folha se reduz a algumas operações aritméticas. O resultado é dado em centipeões do ponto de vista
+ * do lado que tem a vez, como exige o negamax.
+ * </p>
+ *
+ * <p>A estrutura de peões ({@link PawnStructure}) entra nas mesmas duas somas antes da interpolação.
+ * Na busca ela vem de uma {@link PawnHashTable}, que só recalcula os termos quando os peões mudam; o
+ * escudo de peões do rei e os passados com caminho livre dependem das outras peças e são somados a
+ * cada avaliação.</p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+public final class Evaluation {
+    /** Tipos indexados pelo valor, para consultar o material. */
+    private static final Type[] TYPES = Type.values();
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private Evaluation() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Avalia a posição do ponto de vista do lado que tem a vez.
+     *
+     * @param board tabuleiro atual.
+     * @return pontuação em centipeões (positiva se o lado a jogar estiver melhor).
+     */
+    public static int evaluate(Board board) {
+        long white = board.getBitboard(Type.PAWN_WHITE);
+        long black = board.getBitboard(Type.PAWN_BLACK);
+        return evaluate(board, PawnStructure.evaluate(white, black),
+                PawnStructure.passedPawns(white, black, LeaperAttacks.WHITE),
+                PawnStructure.passedPawns(black, white, LeaperAttacks.BLACK));
+    }
+
+    /**
+     * Avalia a posição do ponto de vista do lado que tem a vez, lendo a estrutura de peões do cache.
+     *
+     * @param board tabuleiro atual.
+     * @param pawns cache da estrutura de peões.
+     * @return pontuação em centipeões (positiva se o lado a jogar estiver melhor), igual à de
+     *         {@link #evaluate(Board)}.
+     */
+    public static int evaluate(Board board, PawnHashTable pawns) {
+        int entry = pawns.probe(board.getPawnKey(), board.getBitboard(Type.PAWN_WHITE), board.getBitboard(Type.PAWN_BLACK));
+        return evaluate(board, pawns.score(entry), pawns.passed(entry, LeaperAttacks.WHITE),
+                pawns.passed(entry, LeaperAttacks.BLACK));
+    }
+
+    /**
+     * Retorna o valor material de um tipo de peça.
+     *
+     * @param piece valor do tipo ({@link Type#getValor()}).
+     * @return valor em centipeões (0 para o rei), como {@link Type#getMaterial()}.
+     */
+    public static int materialValue(int piece) {
+        return TYPES[piece].getMaterial();
+    }
+
+    /**
+     * Soma a estrutura de peões e os termos que dependem do rei e da ocupação às somas do tabuleiro e
+     * interpola pela fase.
+     *
+     * @param board       tabuleiro atual.
+     * @param structure   pontuação compactada da estrutura de peões, do ponto de vista das brancas.
+     * @param whitePassed peões passados brancos.
+     * @param blackPassed peões passados pretos.
+     * @return pontuação do ponto de vista do lado que tem a vez.
+     */
+    private static int evaluate(Board board, int structure, long whitePassed, long blackPassed) {
+        long occupancy = board.getOccupancy();
+        int midgame = board.getMidgameScore() + PawnStructure.midgame(structure)
+                + shield(board, Type.PAWN_WHITE, Type.KING_WHITE, LeaperAttacks.WHITE)
+                - shield(board, Type.PAWN_BLACK, Type.KING_BLACK, LeaperAttacks.BLACK);
+        int endgame = board.getEndgameScore() + PawnStructure.endgame(structure)
+                + PawnStructure.freePassers(whitePassed, occupancy, LeaperAttacks.WHITE)
+                - PawnStructure.freePassers(blackPassed, occupancy, LeaperAttacks.BLACK);
+
+        int score = PieceSquareTables.blend(midgame, endgame, board.getPhase());
+        return board.getTurn() == Turn.WHITE ? score : -score;
+    }
+
+    /**
+     * Calcula o escudo de peões do rei de uma cor.
+     *
+     * @param board tabuleiro atual.
+     * @param pawn  tipo dos peões da cor.
+     * @param king  tipo do rei da cor.
+     * @param side  {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return bônus de meio-jogo (0 se não houver rei, como em posições de teste).
+     */
+    private static int shield(Board board, Type pawn, Type king, int side) {
+        long kings = board.getBitboard(king);
+        return kings == 0 ? 0 : PawnStructure.shield(board.getBitboard(pawn), BitboardUtils.lsb(kings), side);
+    }
+}
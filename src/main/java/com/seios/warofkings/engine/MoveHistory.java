@@ -0,0 +1,121 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.moves.Move;
+
+import java.util.Arrays;
+
+/**
+ * Heurísticas de ordenação dos movimentos tranquilos, aprendidas durante a busca.
+ * <p>
+ * Guarda, para cada ply, os dois últimos movimentos tranquilos que causaram corte (<i>killers</i>);
+ * para cada movimento do adversário, identificado pela peça e pela casa de destino, o lance tranquilo
+ * que o refutou (<i>countermove</i>); e uma pontuação de histórico por peça e casa de destino, que
+ * aumenta para os movimentos que cortam e diminui para os tentados antes deles sem sucesso.
+ * </p>
+ *
+ * <p>As pontuações de histórico ficam limitadas a {@link #MAX_HISTORY} em valor absoluto: cada ajuste
+ * é amortecido pelo valor atual, de forma que movimentos que cortaram há muito tempo perdem peso para
+ * os recentes sem precisar de uma passada de envelhecimento.</p>
+ *
+ * <p><b>Nota:</b> não é thread-safe; cada {@link Search} tem a sua.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MoveHistory {
+    /** Valor absoluto máximo de uma pontuação de histórico. */
+    public static final int MAX_HISTORY = 16_384;
+
+    /** Bônus máximo de um único corte, para que uma busca profunda não sature a tabela de uma vez. */
+    private static final int MAX_BONUS = 1_200;
+
+    /** Killers por ply: {@code [ply][0]} é o mais recente. */
+    private final int[][] killers = new int[Search.MAX_PLY + 1][2];
+
+    /** Refutações indexadas pela peça e pela casa de destino do movimento anterior. */
+    private final int[][] counterMoves = new int[12][64];
+
+    /** Pontuações de histórico indexadas pela peça e pela casa de destino. */
+    private final int[][] history = new int[12][64];
+
+    /**
+     * Retorna um killer do ply.
+     *
+     * @param ply  distância da raiz.
+     * @param slot 0 para o mais recente e 1 para o anterior.
+     * @return movimento codificado, ou {@link Move#NONE}.
+     */
+    public int killer(int ply, int slot) {
+        return killers[ply][slot];
+    }
+
+    /**
+     * Retorna a refutação registrada para o movimento anterior.
+     *
+     * @param previous movimento que levou à posição, ou {@link Move#NONE} na raiz.
+     * @return movimento codificado, ou {@link Move#NONE}.
+     */
+    public int counterMove(int previous) {
+        return previous == Move.NONE ? Move.NONE : counterMoves[Move.piece(previous)][Move.to(previous)];
+    }
+
+    /**
+     * Retorna a pontuação de histórico de um movimento tranquilo.
+     *
+     * @param move movimento codificado.
+     * @return pontuação entre {@code -MAX_HISTORY} e {@code MAX_HISTORY}.
+     */
+    public int score(int move) {
+        return history[Move.piece(move)][Move.to(move)];
+    }
+
+    /**
+     * Registra o corte beta de um movimento tranquilo: atualiza os killers do ply, a refutação do
+     * movimento anterior e o histórico, com bônus para o movimento que cortou e penalidade para os
+     * tranquilos tentados antes dele.
+     *
+     * @param ply      distância da raiz.
+     * @param previous movimento que levou à posição, ou {@link Move#NONE}.
+     * @param move     movimento tranquilo que causou o corte.
+     * @param depth    profundidade restante do nó.
+     * @param tried    movimentos tranquilos tentados no nó antes do corte.
+     * @param count    quantidade de movimentos válidos em {@code tried}.
+     */
+    public void update(int ply, int previous, int move, int depth, int[] tried, int count) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        if (previous != Move.NONE) {
+            counterMoves[Move.piece(previous)][Move.to(previous)] = move;
+        }
+
+        int bonus = Math.min(depth * depth * 16, MAX_BONUS);
+        adjust(move, bonus);
+        for (int i = 0; i < count; i++) {
+            adjust(tried[i], -bonus);
+        }
+    }
+
+    /**
+     * Apaga todas as heurísticas.
+     */
+    public void clear() {
+        for (int[] row : killers) Arrays.fill(row, Move.NONE);
+        for (int[] row : counterMoves) Arrays.fill(row, Move.NONE);
+        for (int[] row : history) Arrays.fill(row, 0);
+    }
+
+    /**
+     * Ajusta a pontuação de histórico de um movimento, amortecendo pelo valor atual.
+     *
+     * @param move  movimento codificado.
+     * @param bonus ajuste (negativo para penalizar).
+     */
+    private void adjust(int move, int bonus) {
+        int[] row = history[Move.piece(move)];
+        int to = Move.to(move);
+        row[to] += bonus - row[to] * Math.abs(bonus) / MAX_HISTORY;
+    }
+}
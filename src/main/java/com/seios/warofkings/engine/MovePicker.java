@@ -0,0 +1,264 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+
+/**
+ * Seletor de movimentos em etapas para um nó da busca.
+ * <p>
+ * Entrega os movimentos legais um a um, na ordem em que costumam produzir cortes:
+ * </p>
+ * <ol>
+ *   <li>o movimento da tabela de transposição (ou da variação principal);</li>
+ *   <li>as capturas e promoções que não perdem material pelo {@link StaticExchange}, em ordem MVV-LVA;</li>
+ *   <li>os dois killers do ply;</li>
+ *   <li>a refutação do movimento anterior (<i>countermove</i>);</li>
+ *   <li>os demais movimentos tranquilos, pela pontuação do {@link MoveHistory};</li>
+ *   <li>as capturas perdedoras, na ordem em que foram adiadas.</li>
+ * </ol>
+ *
+ * <p>Cada etapa só é gerada quando a anterior se esgota: um corte nas capturas dispensa a geração e a
+ * pontuação dos movimentos tranquilos ({@link MoveGenerator#generateLegalQuiets(Board, MoveList)}).
+ * O movimento da tabela, os killers e a refutação vêm de outras posições e só são entregues depois de
+ * validados um a um por {@link MoveGenerator#isLegal(Board, int)}, sem gerar a lista da sua etapa; cada
+ * movimento é entregue uma única vez.</p>
+ *
+ * <p>Uma instância por ply é pré-alocada pela {@link Search} e reiniciada a cada nó por
+ * {@link #init(Board, MoveHistory, int, int, int)}.</p>
+ *
+ * @author Lucas
+ * @version 1.3
+ * @since 2026-10-18
+ */
+public final class MovePicker {
+    /** Etapa: movimento da tabela de transposição. */
+    private static final int TT_MOVE = 0;
+
+    /** Etapa: geração e pontuação das capturas. */
+    private static final int GENERATE_CAPTURES = 1;
+
+    /** Etapa: capturas vencedoras ou equilibradas. */
+    private static final int GOOD_CAPTURES = 2;
+
+    /** Etapa: killer mais recente. */
+    private static final int FIRST_KILLER = 3;
+
+    /** Etapa: killer anterior. */
+    private static final int SECOND_KILLER = 4;
+
+    /** Etapa: refutação do movimento anterior. */
+    private static final int COUNTER_MOVE = 5;
+
+    /** Etapa: pontuação dos movimentos tranquilos pelo histórico. */
+    private static final int GENERATE_QUIETS = 6;
+
+    /** Etapa: movimentos tranquilos. */
+    private static final int QUIETS = 7;
+
+    /** Etapa: capturas perdedoras. */
+    private static final int BAD_CAPTURES = 8;
+
+    /** Todos os movimentos foram entregues. */
+    private static final int DONE = 9;
+
+    /** Capturas e promoções legais. */
+    private final MoveList captures = new MoveList();
+
+    /** Pontuações MVV-LVA, paralelas a {@link #captures}. */
+    private final int[] captureScores = new int[MoveList.CAPACITY];
+
+    /** Movimentos tranquilos legais. */
+    private final MoveList quiets = new MoveList();
+
+    /** Pontuações de histórico, paralelas a {@link #quiets}. */
+    private final int[] quietScores = new int[MoveList.CAPACITY];
+
+    /** Capturas adiadas por perderem material. */
+    private final MoveList badCaptures = new MoveList();
+
+    /** Vetor de ganhos da avaliação estática de trocas, reaproveitado a cada captura. */
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES];
+
+    /** Tabuleiro do nó. */
+    private Board board;
+
+    /** Heurísticas da busca. */
+    private MoveHistory history;
+
+    /** Etapa atual. */
+    private int stage;
+
+    /** Próximo índice de {@link #captures}, {@link #quiets} ou {@link #badCaptures}, conforme a etapa. */
+    private int index;
+
+    /** Movimento da tabela de transposição, depois de validado (ou {@link Move#NONE}). */
+    private int ttMove;
+
+    /** Killer mais recente, depois de validado. */
+    private int firstKiller;
+
+    /** Killer anterior, depois de validado. */
+    private int secondKiller;
+
+    /** Refutação do movimento anterior, depois de validada. */
+    private int counterMove;
+
+    /**
+     * Reinicia o seletor para um novo nó.
+     *
+     * @param board    tabuleiro do nó (não é alterado pelo seletor).
+     * @param history  heurísticas da busca.
+     * @param ttMove   movimento a tentar primeiro, ou {@link Move#NONE}.
+     * @param ply      distância da raiz, para os killers.
+     * @param previous movimento que levou ao nó, ou {@link Move#NONE}, para a refutação.
+     */
+    public void init(Board board, MoveHistory history, int ttMove, int ply, int previous) {
+        this.board = board;
+        this.history = history;
+        this.stage = TT_MOVE;
+        this.index = 0;
+        this.ttMove = ttMove;
+        this.firstKiller = history.killer(ply, 0);
+        this.secondKiller = history.killer(ply, 1);
+        this.counterMove = history.counterMove(previous);
+        captures.clear();
+        quiets.clear();
+        badCaptures.clear();
+    }
+
+    /**
+     * Entrega o próximo movimento legal.
+     * <p>Cada etapa que se esgota avança {@link #stage} e continua na seguinte pela queda intencional entre
+     * os casos do {@code switch}, marcada com {@code // fall through} em cada um.</p>
+     *
+     * @return movimento codificado, ou {@link Move#NONE} quando não houver mais movimentos.
+     */
+    @SuppressWarnings("fallthrough") // as etapas caem de propósito na seguinte
+    public int next() {
+        switch (stage) {
+            case TT_MOVE:
+                stage = GENERATE_CAPTURES;
+                if (MoveGenerator.isLegal(board, ttMove)) return ttMove;
+                ttMove = Move.NONE;
+                // fall through
+            case GENERATE_CAPTURES:
+                MoveGenerator.generateLegalCaptures(board, captures);
+                for (int i = 0; i < captures.size(); i++) {
+                    captureScores[i] = mvvLva(captures.get(i));
+                }
+                index = 0;
+                stage = GOOD_CAPTURES;
+                // fall through
+            case GOOD_CAPTURES:
+                while (index < captures.size()) {
+                    int move = pickNext(captures, captureScores, index++);
+                    if (move == ttMove) continue;
+                    // tomar uma peça de valor igual ou maior nunca perde material; só as demais passam pela troca
+                    boolean safe = Move.isCapture(move)
+                            && StaticExchange.value(Move.captured(move)) >= StaticExchange.value(Move.piece(move));
+                    if (!safe && StaticExchange.isLosing(board, move, exchangeGains)) {
+                        badCaptures.add(move);
+                        continue;
+                    }
+                    return move;
+                }
+                stage = FIRST_KILLER;
+                // fall through
+            case FIRST_KILLER:
+                stage = SECOND_KILLER;
+                if (isQuietCandidate(firstKiller)) return firstKiller;
+                firstKiller = Move.NONE;
+                // fall through
+            case SECOND_KILLER:
+                stage = COUNTER_MOVE;
+                if (secondKiller != firstKiller && isQuietCandidate(secondKiller)) return secondKiller;
+                secondKiller = Move.NONE;
+                // fall through
+            case COUNTER_MOVE:
+                stage = GENERATE_QUIETS;
+                if (counterMove != firstKiller && counterMove != secondKiller && isQuietCandidate(counterMove)) {
+                    return counterMove;
+                }
+                counterMove = Move.NONE;
+                // fall through
+            case GENERATE_QUIETS:
+                MoveGenerator.generateLegalQuiets(board, quiets);
+                for (int i = 0; i < quiets.size(); i++) {
+                    quietScores[i] = history.score(quiets.get(i));
+                }
+                index = 0;
+                stage = QUIETS;
+                // fall through
+            case QUIETS:
+                while (index < quiets.size()) {
+                    int move = pickNext(quiets, quietScores, index++);
+                    if (move != ttMove && move != firstKiller && move != secondKiller && move != counterMove) {
+                        return move;
+                    }
+                }
+                index = 0;
+                stage = BAD_CAPTURES;
+                // fall through
+            case BAD_CAPTURES:
+                if (index < badCaptures.size()) return badCaptures.get(index++);
+                stage = DONE;
+                // fall through
+            default:
+                return Move.NONE;
+        }
+    }
+
+    /**
+     * Pontuação MVV-LVA de um movimento: capturas da peça mais valiosa primeiro e, entre elas, pelo
+     * atacante menos valioso; promoções somam o valor da peça promovida. Movimentos tranquilos valem 0.
+     *
+     * @param move movimento codificado.
+     * @return pontuação de ordenação (maior primeiro).
+     */
+    static int mvvLva(int move) {
+        int score = 0;
+        if (Move.isCapture(move)) {
+            score += StaticExchange.value(Move.captured(move)) * 8 - StaticExchange.value(Move.piece(move)) / 100;
+        }
+        if (Move.isPromotion(move)) {
+            score += StaticExchange.value(Move.promotion(move));
+        }
+        return score;
+    }
+
+    /**
+     * Seleciona o movimento de maior pontuação entre os ainda não tentados e o traz para a posição
+     * atual (ordenação por seleção, que só paga pelos movimentos realmente tentados antes de um corte).
+     *
+     * @param moves  lista de movimentos.
+     * @param scores pontuações de ordenação, paralelas à lista.
+     * @param index  posição atual.
+     * @return movimento escolhido.
+     */
+    static int pickNext(MoveList moves, int[] scores, int index) {
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        if (best != index) {
+            moves.swap(index, best);
+            int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+        return moves.get(index);
+    }
+
+    /**
+     * Verifica se um killer ou uma refutação é um movimento tranquilo legal ainda não entregue.
+     *
+     * @param move movimento codificado, ou {@link Move#NONE}.
+     * @return true se o movimento deve ser entregue.
+     */
+    private boolean isQuietCandidate(int move) {
+        if (move == Move.NONE || move == ttMove || Move.isCapture(move) || Move.isPromotion(move)) return false;
+        return MoveGenerator.isLegal(board, move);
+    }
+}
@@ -0,0 +1,251 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.engine.nnue.Network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Busca paralela no estilo <i>Lazy SMP</i>.
+ * <p>
+ * Todas as threads buscam a mesma raiz, cada uma com a sua {@link Search} e a sua cópia do
+ * {@link Board}, e compartilham uma única {@link TranspositionTable} sem travas. A divisão do trabalho
+ * é implícita: as threads auxiliares de índice ímpar buscam um ply além da principal, e os resultados
+ * que cada uma guarda na tabela mudam a ordem dos movimentos e os cortes das outras, de forma que as
+ * árvores percorridas divergem.
+ * </p>
+ *
+ * <p>A busca principal roda na thread que chama {@link #search(Board, SearchLimits, Consumer)} e é a
+ * única que respeita os limites de nós e de tempo; quando ela termina, ou quando alguma auxiliar
+ * completa a profundidade máxima, o sinal de parada compartilhado encerra as demais. O resultado é o
+ * da iteração completa mais profunda entre todas as threads.</p>
+ *
+ * @author Lucas
+ * @version 1.6
+ * @since 2026-10-18
+ */
+public class ParallelSearch implements AutoCloseable {
+    /** Tabela de transposição compartilhada. */
+    private final TranspositionTable table;
+
+    /** Sinal de parada compartilhado por todas as buscas. */
+    private final AtomicBoolean stopSignal = new AtomicBoolean();
+
+    /** Busca principal. */
+    private final Search main;
+
+    /** Buscas auxiliares. */
+    private final List<Search> helpers = new ArrayList<>();
+
+    /** Executor das buscas auxiliares, ou {@code null} com uma thread. */
+    private final ExecutorService executor;
+
+    /**
+     * Cria a busca paralela com threads de plataforma.
+     *
+     * @param threads        quantidade total de threads (a principal e as auxiliares).
+     * @param tableMegabytes tamanho da tabela de transposição em MB.
+     */
+    public ParallelSearch(int threads, int tableMegabytes) {
+        this(threads, tableMegabytes, false);
+    }
+
+    /**
+     * Cria a busca paralela.
+     *
+     * @param threads        quantidade total de threads (a principal e as auxiliares).
+     * @param tableMegabytes tamanho da tabela de transposição em MB.
+     * @param virtual        true para rodar as auxiliares em threads virtuais.
+     */
+    public ParallelSearch(int threads, int tableMegabytes, boolean virtual) {
+        this.table = new TranspositionTable(tableMegabytes);
+        this.main = new Search(table, stopSignal, 0);
+        for (int i = 1; i < threads; i++) {
+            helpers.add(new Search(table, stopSignal, i & 1));
+        }
+        if (helpers.isEmpty()) {
+            this.executor = null;
+        } else if (virtual) {
+            this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.executor = Executors.newFixedThreadPool(helpers.size());
+        }
+    }
+
+    /**
+     * Busca o melhor movimento para o lado que tem a vez.
+     *
+     * @param board  tabuleiro atual (alterado durante a busca e restaurado ao final).
+     * @param limits limites da busca.
+     * @return relatório da iteração completa mais profunda.
+     */
+    public SearchInfo search(Board board, SearchLimits limits) {
+        return search(board, limits, info -> {});
+    }
+
+    /**
+     * Busca o melhor movimento para o lado que tem a vez, informando cada iteração completa da busca
+     * principal com o total de nós de todas as threads.
+     *
+     * @param board    tabuleiro atual (alterado pela busca principal e restaurado ao final).
+     * @param limits   limites da busca principal.
+     * @param listener ouvinte chamado ao final de cada iteração, na thread que chamou este método.
+     * @return relatório da iteração completa mais profunda entre todas as threads.
+     */
+    public SearchInfo search(Board board, SearchLimits limits, Consumer<SearchInfo> listener) {
+        stopSignal.set(false);
+        table.newSearch();
+        int depth = limits.getDepth();
+        SearchLimits helperLimits = SearchLimits.depth(depth);
+        // a auxiliar que completa a profundidade máxima primeiro encerra a busca de todas
+        Consumer<SearchInfo> helperListener = info -> {
+            if (info.getDepth() >= depth) stopSignal.set(true);
+        };
+
+        List<Future<SearchInfo>> futures = new ArrayList<>(helpers.size());
+        for (Search helper : helpers) {
+            Board copy = new Board(board);
+            futures.add(executor.submit(() -> helper.iterate(copy, helperLimits, helperListener)));
+        }
+
+        SearchInfo best;
+        try {
+            best = main.iterate(board, limits, info -> listener.accept(withTotalNodes(info)));
+        } finally {
+            stopSignal.set(true);
+        }
+
+        for (Future<SearchInfo> future : futures) {
+            SearchInfo result = join(future);
+            if (result != null && result.getDepth() > best.getDepth()) {
+                best = result;
+            }
+        }
+        return withTotalNodes(best);
+    }
+
+    /**
+     * Pede a interrupção da busca em andamento em todas as threads. Pode ser chamado de qualquer thread.
+     */
+    public void stop() {
+        stopSignal.set(true);
+    }
+
+    /**
+     * Retorna a quantidade total de threads.
+     *
+     * @return a principal mais as auxiliares.
+     */
+    public int getThreads() {
+        return helpers.size() + 1;
+    }
+
+    /**
+     * Retorna a tabela de transposição compartilhada.
+     *
+     * @return tabela de transposição.
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Retorna os nós visitados por todas as threads na busca atual ou na última busca.
+     *
+     * @return soma dos nós (aproximada durante a busca).
+     */
+    public long getNodes() {
+        long nodes = main.getNodes();
+        for (Search helper : helpers) {
+            nodes += helper.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Define as técnicas seletivas de todas as threads.
+     *
+     * @param options técnicas ligadas.
+     */
+    public void setOptions(SearchOptions options) {
+        main.setOptions(options);
+        for (Search helper : helpers) {
+            helper.setOptions(options);
+        }
+    }
+
+    /**
+     * Define a rede neural que avalia as folhas de todas as threads; a rede é compartilhada e cada
+     * thread tem o seu acumulador.
+     *
+     * @param network rede, ou null para voltar à {@link Evaluation}.
+     */
+    public void setNetwork(Network network) {
+        main.setNetwork(network);
+        for (Search helper : helpers) {
+            helper.setNetwork(network);
+        }
+    }
+
+    /**
+     * Calcula a taxa de acertos dos caches de estrutura de peões de todas as threads.
+     *
+     * @return fração entre 0 e 1 dos acertos sobre as consultas (0 sem consultas).
+     */
+    public double getPawnHitRate() {
+        long probes = main.getPawnTable().getProbes();
+        long hits = main.getPawnTable().getHits();
+        for (Search helper : helpers) {
+            probes += helper.getPawnTable().getProbes();
+            hits += helper.getPawnTable().getHits();
+        }
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+
+    /**
+     * Encerra as threads auxiliares.
+     */
+    @Override
+    public void close() {
+        stop();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Copia um relatório substituindo os nós pelo total de todas as threads.
+     *
+     * @param info relatório de uma das buscas.
+     * @return relatório com o total de nós.
+     */
+    private SearchInfo withTotalNodes(SearchInfo info) {
+        return new SearchInfo(info.getDepth(), info.getScore(), getNodes(), info.getElapsedNanos(), info.getPv(),
+                info.getHashfull(), info.getFirstMoveCutoffRate(), info.getBranchingFactor(),
+                info.getAspirationResearches(), info.getZeroWindowResearches());
+    }
+
+    /**
+     * Aguarda o término de uma busca auxiliar.
+     *
+     * @param future resultado pendente da busca auxiliar.
+     * @return relatório da última iteração completa da auxiliar, ou {@code null} se nenhuma terminou.
+     */
+    private static SearchInfo join(Future<SearchInfo> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha em uma thread auxiliar da busca.", e.getCause());
+        }
+    }
+}
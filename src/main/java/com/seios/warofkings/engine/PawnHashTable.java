@@ -0,0 +1,159 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+
+import java.util.Arrays;
+
+/**
+ * Cache da avaliação da estrutura de peões, indexado pela chave dos peões
+ * ({@link com.seios.warofkings.board.Board#getPawnKey()}).
+ * <p>
+ * A estrutura de peões muda só quando um peão se move, é capturado ou promovido, e numa busca a mesma
+ * estrutura reaparece em quase todas as folhas de uma subárvore; guardar a pontuação de
+ * {@link PawnStructure#evaluate(long, long)} e os peões passados de cada cor evita recalculá-los. Cada
+ * entrada é substituída sempre que outra estrutura cai no mesmo índice.
+ * </p>
+ *
+ * <p>As entradas começam zeradas, o que corresponde exatamente à posição sem peões (chave 0, pontuação 0
+ * e nenhum passado), e por isso não há marcação de entrada vazia. Os contadores de consultas e acertos
+ * medem a eficácia do cache ao longo da partida.</p>
+ *
+ * <p><b>Nota:</b> não é thread-safe; cada {@link Search} tem a sua.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PawnHashTable {
+    /** Quantidade padrão de entradas (cerca de 450 KB). */
+    public static final int DEFAULT_ENTRIES = 1 << 14;
+
+    /** Chaves dos peões de cada entrada. */
+    private final long[] keys;
+
+    /** Pontuações compactadas por {@link PawnStructure#pack(int, int)}, do ponto de vista das brancas. */
+    private final int[] scores;
+
+    /** Peões passados: brancos em {@code 2i} e pretos em {@code 2i + 1}. */
+    private final long[] passed;
+
+    /** Máscara do índice (quantidade de entradas menos um). */
+    private final int mask;
+
+    /** Consultas desde a criação ou a última {@link #resetStatistics()}. */
+    private long probes;
+
+    /** Consultas que encontraram a estrutura no cache. */
+    private long hits;
+
+    /**
+     * Cria a tabela com a maior potência de dois de entradas que não passa da quantidade informada.
+     *
+     * @param entries quantidade aproximada de entradas (mínimo 1).
+     */
+    public PawnHashTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(1, entries));
+        this.keys = new long[size];
+        this.scores = new int[size];
+        this.passed = new long[size * 2];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Procura a estrutura de peões, calculando e guardando a avaliação se ela não estiver no cache.
+     *
+     * @param key   chave dos peões.
+     * @param white peões brancos.
+     * @param black peões pretos.
+     * @return índice da entrada, lida com {@link #score(int)} e {@link #passed(int, int)}.
+     */
+    public int probe(long key, long white, long black) {
+        probes++;
+        int index = (int) key & mask;
+        if (keys[index] == key) {
+            hits++;
+            return index;
+        }
+
+        keys[index] = key;
+        scores[index] = PawnStructure.evaluate(white, black);
+        passed[2 * index] = PawnStructure.passedPawns(white, black, LeaperAttacks.WHITE);
+        passed[2 * index + 1] = PawnStructure.passedPawns(black, white, LeaperAttacks.BLACK);
+        return index;
+    }
+
+    /**
+     * Retorna a pontuação da estrutura de uma entrada.
+     *
+     * @param index índice retornado por {@link #probe(long, long, long)}.
+     * @return pontuação compactada por {@link PawnStructure#pack(int, int)}, do ponto de vista das brancas.
+     */
+    public int score(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Retorna os peões passados de uma cor numa entrada.
+     *
+     * @param index índice retornado por {@link #probe(long, long, long)}.
+     * @param side  {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return bitboard dos peões passados.
+     */
+    public long passed(int index, int side) {
+        return passed[2 * index + side];
+    }
+
+    /**
+     * Retorna as consultas feitas desde a criação ou a última {@link #resetStatistics()}.
+     *
+     * @return quantidade de consultas.
+     */
+    public long getProbes() {
+        return probes;
+    }
+
+    /**
+     * Retorna as consultas que encontraram a estrutura no cache.
+     *
+     * @return quantidade de acertos.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Calcula a taxa de acertos.
+     *
+     * @return fração entre 0 e 1 (0 sem consultas).
+     */
+    public double getHitRate() {
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+
+    /**
+     * Zera os contadores de consultas e acertos, mantendo as entradas.
+     */
+    public void resetStatistics() {
+        probes = 0;
+        hits = 0;
+    }
+
+    /**
+     * Apaga todas as entradas e os contadores.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(scores, 0);
+        Arrays.fill(passed, 0L);
+        resetStatistics();
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return número de entradas (potência de dois).
+     */
+    public int size() {
+        return keys.length;
+    }
+}
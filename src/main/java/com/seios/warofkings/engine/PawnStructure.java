@@ -0,0 +1,254 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.utils.BitboardUtils;
+
+/**
+ * Termos de avaliação da estrutura de peões: peões dobrados, isolados, atrasados e passados, e o
+ * escudo de peões do rei.
+ * <p>
+ * Os termos que dependem só dos peões ({@link #evaluate(long, long)} e
+ * {@link #passedPawns(long, long, int)}) mudam raramente de uma posição para a seguinte e são guardados
+ * na {@link PawnHashTable}, indexada por {@link com.seios.warofkings.board.Board#getPawnKey()}. O escudo
+ * e o caminho livre dos passados dependem também do rei e das outras peças; são calculados a cada
+ * avaliação, mas com as máscaras pré-calculadas aqui custam poucas operações.
+ * </p>
+ *
+ * <p>As pontuações têm um valor de meio-jogo e outro de final, compactados num único {@code int} por
+ * {@link #pack(int, int)} para que possam ser somados de uma vez.</p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PawnStructure {
+    /** Penalidade por peão a mais numa coluna. */
+    private static final int DOUBLED = pack(-10, -25);
+
+    /** Penalidade por peão sem peões aliados nas colunas vizinhas. */
+    private static final int ISOLATED = pack(-10, -15);
+
+    /** Penalidade por peão que não pode ser apoiado e cuja casa de avanço é atacada por um peão adversário. */
+    private static final int BACKWARD = pack(-8, -12);
+
+    /** Bônus de peão passado, indexado pela linha relativa (1 = segunda linha do lado). */
+    private static final int[] PASSED = {
+            pack(0, 0), pack(5, 10), pack(10, 15), pack(15, 30),
+            pack(25, 55), pack(45, 90), pack(70, 140), pack(0, 0)
+    };
+
+    /** Bônus de final por peão passado com a casa de avanço livre, indexado pela linha relativa. */
+    private static final int[] FREE_PASSER = {0, 0, 5, 10, 20, 35, 60, 0};
+
+    /** Bônus de meio-jogo por peão do escudo logo à frente do rei. */
+    private static final int SHIELD_NEAR = 15;
+
+    /** Bônus de meio-jogo por peão do escudo duas linhas à frente do rei. */
+    private static final int SHIELD_FAR = 7;
+
+    /** Colunas (a = 0). */
+    private static final long[] FILES = new long[8];
+
+    /** Colunas vizinhas de cada coluna. */
+    private static final long[] ADJACENT_FILES = new long[8];
+
+    /** Casas à frente da linha de cada casa, por cor (0 brancas, 1 pretas). */
+    private static final long[][] FORWARD = new long[2][64];
+
+    /** Casas que um peão adversário precisaria ocupar ou atravessar para barrar um passado, por cor e casa. */
+    private static final long[][] PASSED_MASKS = new long[2][64];
+
+    /** Casas uma linha à frente do rei nas três colunas em volta, por cor e casa. */
+    private static final long[][] SHIELD_NEAR_MASKS = new long[2][64];
+
+    /** Casas duas linhas à frente do rei nas três colunas em volta, por cor e casa. */
+    private static final long[][] SHIELD_FAR_MASKS = new long[2][64];
+
+    static {
+        for (int file = 0; file < 8; file++) {
+            FILES[file] = 0x0101010101010101L << file;
+        }
+        for (int file = 0; file < 8; file++) {
+            ADJACENT_FILES[file] = (file > 0 ? FILES[file - 1] : 0L) | (file < 7 ? FILES[file + 1] : 0L);
+        }
+        for (int square = 0; square < 64; square++) {
+            int row = square >>> 3;
+            int file = square & 7;
+            long around = FILES[file] | ADJACENT_FILES[file];
+            for (int other = 0; other < 64; other++) {
+                // a8 = 0: as brancas avançam para as linhas de índice menor
+                if ((other >>> 3) < row) FORWARD[LeaperAttacks.WHITE][square] |= 1L << other;
+                if ((other >>> 3) > row) FORWARD[LeaperAttacks.BLACK][square] |= 1L << other;
+            }
+            for (int side = 0; side < 2; side++) {
+                PASSED_MASKS[side][square] = FORWARD[side][square] & around;
+                int step = side == LeaperAttacks.WHITE ? -1 : 1;
+                if (row + step >= 0 && row + step < 8) {
+                    SHIELD_NEAR_MASKS[side][square] = around & (0xFFL << ((row + step) * 8));
+                }
+                if (row + 2 * step >= 0 && row + 2 * step < 8) {
+                    SHIELD_FAR_MASKS[side][square] = around & (0xFFL << ((row + 2 * step) * 8));
+                }
+            }
+        }
+    }
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private PawnStructure() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Avalia a estrutura de peões das duas cores: dobrados, isolados, atrasados e passados.
+     *
+     * @param white peões brancos.
+     * @param black peões pretos.
+     * @return pontuação compactada por {@link #pack(int, int)}, do ponto de vista das brancas.
+     */
+    public static int evaluate(long white, long black) {
+        return evaluateSide(white, black, LeaperAttacks.WHITE) - evaluateSide(black, white, LeaperAttacks.BLACK);
+    }
+
+    /**
+     * Encontra os peões passados de uma cor: sem peões adversários à frente na mesma coluna nem nas
+     * vizinhas e sem peão aliado à frente na mesma coluna.
+     *
+     * @param own   peões da cor.
+     * @param enemy peões adversários.
+     * @param side  {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return bitboard dos peões passados.
+     */
+    public static long passedPawns(long own, long enemy, int side) {
+        long passed = 0L;
+        long pawns = own;
+        while (pawns != 0) {
+            int square = BitboardUtils.lsb(pawns);
+            if ((enemy & PASSED_MASKS[side][square]) == 0
+                    && (own & FORWARD[side][square] & FILES[square & 7]) == 0) {
+                passed |= 1L << square;
+            }
+            pawns = BitboardUtils.popLsb(pawns);
+        }
+        return passed;
+    }
+
+    /**
+     * Calcula o bônus de meio-jogo do escudo de peões à frente do rei.
+     *
+     * @param own  peões da cor do rei.
+     * @param king casa do rei.
+     * @param side {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return bônus em centipeões (não negativo).
+     */
+    public static int shield(long own, int king, int side) {
+        return SHIELD_NEAR * BitboardUtils.popCount(own & SHIELD_NEAR_MASKS[side][king])
+                + SHIELD_FAR * BitboardUtils.popCount(own & SHIELD_FAR_MASKS[side][king]);
+    }
+
+    /**
+     * Calcula o bônus de final dos peões passados cuja casa de avanço está livre.
+     *
+     * @param passed    peões passados da cor.
+     * @param occupancy ocupação total do tabuleiro.
+     * @param side      {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return bônus em centipeões (não negativo).
+     */
+    public static int freePassers(long passed, long occupancy, int side) {
+        int bonus = 0;
+        while (passed != 0) {
+            int square = BitboardUtils.lsb(passed);
+            int stop = side == LeaperAttacks.WHITE ? square - 8 : square + 8;
+            if ((occupancy & (1L << stop)) == 0) {
+                bonus += FREE_PASSER[relativeRank(square, side)];
+            }
+            passed = BitboardUtils.popLsb(passed);
+        }
+        return bonus;
+    }
+
+    /**
+     * Compacta uma pontuação de meio-jogo e uma de final num único {@code int}, que pode ser somado e
+     * subtraído diretamente (cada parte deve caber em 16 bits com sinal).
+     *
+     * @param midgame pontuação de meio-jogo.
+     * @param endgame pontuação de final.
+     * @return pontuação compactada.
+     */
+    public static int pack(int midgame, int endgame) {
+        return (endgame << 16) + midgame;
+    }
+
+    /**
+     * Extrai a parte de meio-jogo de uma pontuação compactada.
+     *
+     * @param packed pontuação compactada por {@link #pack(int, int)}.
+     * @return pontuação de meio-jogo.
+     */
+    public static int midgame(int packed) {
+        return (short) packed;
+    }
+
+    /**
+     * Extrai a parte de final de uma pontuação compactada.
+     *
+     * @param packed pontuação compactada por {@link #pack(int, int)}.
+     * @return pontuação de final.
+     */
+    public static int endgame(int packed) {
+        return (packed + 0x8000) >> 16;
+    }
+
+    /**
+     * Avalia a estrutura de peões de uma cor.
+     *
+     * @param own   peões da cor.
+     * @param enemy peões adversários.
+     * @param side  {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return pontuação compactada, do ponto de vista da cor.
+     */
+    private static int evaluateSide(long own, long enemy, int side) {
+        int score = 0;
+        for (int file = 0; file < 8; file++) {
+            int count = BitboardUtils.popCount(own & FILES[file]);
+            if (count > 1) score += DOUBLED * (count - 1);
+        }
+
+        long pawns = own;
+        while (pawns != 0) {
+            int square = BitboardUtils.lsb(pawns);
+            int file = square & 7;
+            if ((own & ADJACENT_FILES[file]) == 0) {
+                score += ISOLATED;
+            } else if ((own & ADJACENT_FILES[file] & ~FORWARD[side][square]) == 0) {
+                // nenhum aliado ao lado ou atrás pode apoiá-lo, e um peão adversário vigia a casa de avanço
+                int stop = side == LeaperAttacks.WHITE ? square - 8 : square + 8;
+                if ((LeaperAttacks.pawnAttacks(side, stop) & enemy) != 0) score += BACKWARD;
+            }
+            pawns = BitboardUtils.popLsb(pawns);
+        }
+
+        long passed = passedPawns(own, enemy, side);
+        while (passed != 0) {
+            score += PASSED[relativeRank(BitboardUtils.lsb(passed), side)];
+            passed = BitboardUtils.popLsb(passed);
+        }
+        return score;
+    }
+
+    /**
+     * Calcula a linha de uma casa do ponto de vista de uma cor.
+     *
+     * @param square casa (0 a 63, a8 = 0).
+     * @param side   {@link LeaperAttacks#WHITE} ou {@link LeaperAttacks#BLACK}.
+     * @return 0 para a primeira linha da cor até 7 para a de promoção.
+     */
+    private static int relativeRank(int square, int side) {
+        return side == LeaperAttacks.WHITE ? 7 - (square >>> 3) : square >>> 3;
+    }
+}
@@ -0,0 +1,940 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.engine.nnue.Network;
+import com.seios.warofkings.engine.nnue.NnueEvaluator;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Busca alfa-beta (negamax) com aprofundamento iterativo sobre um {@link Board}.
+ * <p>
+ * A árvore é percorrida com {@link Board#makeMove(int)}/{@link Board#unmakeMove(int)} no próprio
+ * tabuleiro, com um {@link MovePicker} e uma {@link MoveList} pré-alocados por ply, de forma que a
+ * busca não aloca memória por nó. Cada iteração começa pela variação principal da anterior, o que
+ * melhora os cortes e permite interromper a busca a qualquer momento com o melhor resultado completo
+ * até então.
+ * </p>
+ *
+ * <p>Os movimentos de cada nó são entregues em etapas pelo {@link MovePicker}: o da tabela, as
+ * capturas vencedoras, os killers, a refutação do lance anterior, os tranquilos pelo histórico e por
+ * fim as capturas perdedoras. Os cortes de movimentos tranquilos alimentam o {@link MoveHistory}. A
+ * qualidade da ordenação é medida pela fração dos cortes produzidos pelo primeiro movimento e pelo
+ * fator de ramificação efetivo de cada iteração, ambos informados no {@link SearchInfo}.</p>
+ *
+ * <p>Cada nó busca o primeiro movimento com a janela completa e os demais com janela nula, apenas
+ * para provar que não passam de alfa (PVS, <i>principal variation search</i>); o que passar é buscado
+ * de novo com a janela completa. A partir de {@link #ASPIRATION_DEPTH}, cada iteração começa com uma
+ * janela estreita em volta da pontuação da anterior, alargada a cada vez que a pontuação cai fora dela.
+ * As duas contagens de novas buscas são informadas no {@link SearchInfo}, para calibrar as janelas. Os
+ * nós da variação principal não são cortados pela tabela de transposição, e a tabela triangular
+ * ({@link #pvTable}) guarda a linha completa até as folhas.</p>
+ *
+ * <p>A busca é seletiva ({@link SearchOptions}): fora da variação principal (janela nula) e fora de
+ * xeque, um nó cuja avaliação estática já passa de beta tenta o lance nulo com profundidade reduzida
+ * (só com peças além de peões, por causa do zugzwang) e, nas profundidades rasas, é cortado pela
+ * futilidade reversa ou resolvido pela quiescência quando está muito abaixo de alfa (razoring); os
+ * movimentos tranquilos que não alcançariam alfa nem dando xeque são descartados (futilidade). Os
+ * movimentos tranquilos tardios são buscados com profundidade reduzida pela tabela
+ * {@link #REDUCTIONS} e, se surpreenderem, de novo na profundidade completa (LMR).</p>
+ *
+ * <p>As folhas são avaliadas pela {@link Evaluation} com uma {@link PawnHashTable} própria de cada
+ * busca, que acumula entre as buscas a taxa de acertos da estrutura de peões. Com uma {@link Network}
+ * ({@link #setNetwork(Network)}), as folhas passam a ser avaliadas por uma {@link NnueEvaluator},
+ * cujo acumulador acompanha cada make/unmake.</p>
+ *
+ * <p>Nas folhas, a busca de quiescência continua apenas com capturas e promoções, ordenadas por MVV-LVA
+ * (vítima mais valiosa, atacante menos valioso) e descartando as que perdem material segundo o
+ * {@link StaticExchange}, até chegar a uma posição tranquila; isso evita o efeito horizonte de avaliar
+ * no meio de uma troca.</p>
+ *
+ * <p>Os resultados de cada nó são guardados numa {@link TranspositionTable}, que fornece o melhor
+ * movimento a tentar primeiro e cortes em transposições já pesquisadas. A tabela pode ser
+ * compartilhada entre várias buscas, como no {@link ParallelSearch}.</p>
+ *
+ * <p>Ao final de cada iteração um {@link SearchInfo} com profundidade, pontuação, variação
+ * principal, nós e nós/s é enviado ao ouvinte. A busca termina ao atingir um dos
+ * {@link SearchLimits} ou por {@link #stop()}, chamado de outra thread; a primeira iteração é
+ * sempre completada, para que haja um movimento a jogar.</p>
+ *
+ * <p>Uso pela linha de comando:</p>
+ * <pre>
+ *   Search [opções] [fen]          busca a posição e imprime cada iteração
+ *
+ *   --depth N      profundidade máxima
+ *   --nodes N      quantidade máxima de nós
+ *   --time ms      tempo máximo (padrão de 1000 ms sem outros limites)
+ *   --threads N    busca paralela com N threads ({@link ParallelSearch})
+ *   --virtual      threads virtuais em vez de threads de plataforma
+ *   --hash MB      tamanho da tabela de transposição
+ *   --weights arq  avalia as folhas com a rede do arquivo ({@link Network})
+ *   --no-null      desliga a poda do lance nulo (também --no-lmr, --no-futility e --no-razoring)
+ *   --selectivity  mede os nós até a profundidade com cada técnica seletiva ligada isoladamente
+ *   --scaling      mede o tempo até a profundidade e o speedup com 1, 2, 4... até N threads
+ * </pre>
+ *
+ * <p><b>Nota:</b> uma instância não deve ser usada por duas buscas ao mesmo tempo.</p>
+ *
+ * @author Lucas
+ * @version 1.10
+ * @since 2026-10-18
+ */
+public class Search {
+    /** Pontuação de mate na raiz; um mate a {@code n} plies vale {@code MATE - n}. */
+    public static final int MATE = 32_000;
+
+    /** Limite superior das pontuações, usado como janela inicial. */
+    public static final int INFINITY = MATE + 1;
+
+    /** Pontuação de empate (afogamento, repetição e regra dos 50 lances). */
+    public static final int DRAW = 0;
+
+    /** Distância máxima da raiz alcançada pela busca. */
+    public static final int MAX_PLY = 128;
+
+    /** Intervalo (em nós, potência de dois) entre as verificações de tempo e de parada. */
+    private static final int CHECK_INTERVAL = 1024;
+
+    /** Tempo padrão da busca pela linha de comando (ms). */
+    private static final long DEFAULT_TIME_MILLIS = 1000;
+
+    /** Tamanho padrão da tabela de transposição (MB). */
+    public static final int DEFAULT_HASH_MB = 16;
+
+    /** Profundidade padrão da medição de speedup pela linha de comando. */
+    private static final int DEFAULT_SCALING_DEPTH = 7;
+
+    /** Posições de meio-jogo usadas na medição de speedup. */
+    private static final String[] SCALING_POSITIONS = {
+            FenUtils.START_POSITION,
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP1B1PPP/R2QKB1R w KQ - 0 8",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"
+    };
+
+    /** Profundidade a partir da qual a raiz é buscada com janela de aspiração. */
+    private static final int ASPIRATION_DEPTH = 5;
+
+    /** Meia largura inicial da janela de aspiração, em centipeões (dobra a cada falha). */
+    private static final int ASPIRATION_WINDOW = 25;
+
+    /** Profundidade mínima para a poda do lance nulo. */
+    private static final int NULL_MOVE_DEPTH = 3;
+
+    /** Redução base do lance nulo, somada a um ply a cada 6 de profundidade. */
+    private static final int NULL_MOVE_REDUCTION = 3;
+
+    /** Maior profundidade restante com poda de futilidade. */
+    private static final int FUTILITY_DEPTH = 3;
+
+    /** Margens de futilidade por profundidade restante, em centipeões. */
+    private static final int[] FUTILITY_MARGINS = {0, 120, 240, 360};
+
+    /** Maior profundidade restante com razoring. */
+    private static final int RAZOR_DEPTH = 2;
+
+    /** Margens do razoring por profundidade restante, em centipeões. */
+    private static final int[] RAZOR_MARGINS = {0, 300, 550};
+
+    /** Profundidade mínima para reduzir movimentos tardios. */
+    private static final int LMR_DEPTH = 3;
+
+    /** Movimentos buscados sem redução em cada nó antes das reduções de movimentos tardios. */
+    private static final int LMR_MOVES = 3;
+
+    /**
+     * Reduções de movimentos tardios, indexadas pela profundidade restante e pela ordem do movimento
+     * (ambas limitadas a 63): cresce com o produto dos logaritmos, de forma que movimentos muito
+     * tardios em profundidades altas perdem vários plies.
+     */
+    static final int[][] REDUCTIONS = new int[64][64];
+
+    static {
+        for (int depth = 1; depth < 64; depth++) {
+            for (int move = 1; move < 64; move++) {
+                REDUCTIONS[depth][move] = (int) (0.75 + Math.log(depth) * Math.log(move) / 2.25);
+            }
+        }
+    }
+
+    /** Tabela de transposição, possivelmente compartilhada com outras buscas. */
+    private final TranspositionTable table;
+
+    /** Sinal de parada, compartilhado entre as buscas de um {@link ParallelSearch}. */
+    private final AtomicBoolean stopSignal;
+
+    /** Plies somados à profundidade de cada iteração (usado pelas threads auxiliares). */
+    private final int depthOffset;
+
+    /** Listas de movimentos indexadas pelo ply. */
+    private final MoveList[] moveLists = new MoveList[MAX_PLY + 1];
+
+    /** Pontuações de ordenação dos movimentos de cada lista, indexadas pelo ply. */
+    private final int[][] moveScores = new int[MAX_PLY + 1][MoveList.CAPACITY];
+
+    /** Seletores de movimentos da busca principal, indexados pelo ply. */
+    private final MovePicker[] pickers = new MovePicker[MAX_PLY + 1];
+
+    /** Movimentos tranquilos já tentados em cada ply, penalizados no histórico quando outro corta. */
+    private final int[][] quietsTried = new int[MAX_PLY + 1][MoveList.CAPACITY];
+
+    /** Movimento jogado em cada ply do caminho atual, para as refutações. */
+    private final int[] playedMoves = new int[MAX_PLY + 1];
+
+    /** Vetor de ganhos da avaliação estática de trocas na quiescência, reaproveitado a cada captura. */
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES];
+
+    /** Killers, refutações e histórico. */
+    private final MoveHistory history = new MoveHistory();
+
+    /** Cache da estrutura de peões, próprio de cada busca. */
+    private final PawnHashTable pawnTable = new PawnHashTable(PawnHashTable.DEFAULT_ENTRIES);
+
+    /** Técnicas seletivas ligadas. */
+    private SearchOptions options = SearchOptions.all();
+
+    /** Avaliação pela rede neural, ou null para a {@link Evaluation}. */
+    private NnueEvaluator nnue;
+
+    /** Tabela triangular da variação principal: a linha {@code ply} guarda a melhor continuação. */
+    private final int[][] pvTable = new int[MAX_PLY + 1][MAX_PLY + 1];
+
+    /** Comprimento (em plies a partir da raiz) da variação guardada em cada linha de {@link #pvTable}. */
+    private final int[] pvLength = new int[MAX_PLY + 1];
+
+    /** Variação principal da última iteração completa, tentada primeiro na iteração seguinte. */
+    private int[] previousPv = new int[0];
+
+    /** Tabuleiro da busca atual. */
+    private Board board;
+
+    /** Limites da busca atual. */
+    private SearchLimits limits;
+
+    /** Início da busca atual (nanossegundos). */
+    private long startNanos;
+
+    /** Nós visitados na busca atual. */
+    private long nodes;
+
+    /** Cortes beta na busca principal (sem a quiescência). */
+    private long cutoffs;
+
+    /** Cortes beta produzidos pelo primeiro movimento tentado. */
+    private long firstMoveCutoffs;
+
+    /** Novas buscas da raiz por falha da janela de aspiração. */
+    private long aspirationResearches;
+
+    /** Novas buscas com janela completa depois de uma janela nula acima de alfa. */
+    private long zeroWindowResearches;
+
+    /** Profundidade da última iteração completa. */
+    private int completedDepth;
+
+    /** Indica se a iteração atual foi interrompida (o resultado parcial é descartado). */
+    private boolean aborted;
+
+    /**
+     * Cria a busca com uma tabela de transposição própria de {@link #DEFAULT_HASH_MB} MB.
+     */
+    public Search() {
+        this(new TranspositionTable(DEFAULT_HASH_MB));
+    }
+
+    /**
+     * Cria a busca usando a tabela de transposição informada.
+     *
+     * @param table tabela de transposição, que pode ser compartilhada com outras buscas.
+     */
+    public Search(TranspositionTable table) {
+        this(table, new AtomicBoolean(), 0);
+    }
+
+    /**
+     * Cria uma busca que faz parte de uma busca paralela.
+     *
+     * @param table       tabela de transposição compartilhada.
+     * @param stopSignal  sinal de parada compartilhado.
+     * @param depthOffset plies somados à profundidade de cada iteração.
+     */
+    Search(TranspositionTable table, AtomicBoolean stopSignal, int depthOffset) {
+        this.table = table;
+        this.stopSignal = stopSignal;
+        this.depthOffset = depthOffset;
+        for (int i = 0; i < moveLists.length; i++) {
+            moveLists[i] = new MoveList();
+            pickers[i] = new MovePicker();
+        }
+    }
+
+    /**
+     * Busca o melhor movimento para o lado que tem a vez.
+     *
+     * @param board  tabuleiro atual (alterado durante a busca e restaurado ao final).
+     * @param limits limites da busca.
+     * @return relatório da última iteração completa.
+     */
+    public SearchInfo search(Board board, SearchLimits limits) {
+        return search(board, limits, info -> {});
+    }
+
+    /**
+     * Busca o melhor movimento para o lado que tem a vez, informando cada iteração completa.
+     *
+     * @param board    tabuleiro atual (alterado durante a busca e restaurado ao final).
+     * @param limits   limites da busca.
+     * @param listener ouvinte chamado ao final de cada iteração, na thread da busca.
+     * @return relatório da última iteração completa; sem movimentos legais, o relatório tem
+     *         variação principal vazia e pontuação de mate ou empate.
+     */
+    public SearchInfo search(Board board, SearchLimits limits, Consumer<SearchInfo> listener) {
+        stopSignal.set(false);
+        table.newSearch();
+        return iterate(board, limits, listener);
+    }
+
+    /**
+     * Pede a interrupção da busca em andamento. Pode ser chamado de qualquer thread; a busca
+     * retorna o resultado da última iteração completa assim que perceber o pedido.
+     */
+    public void stop() {
+        stopSignal.set(true);
+    }
+
+    /**
+     * Retorna os nós visitados pela busca atual ou pela última busca.
+     * <p>Lido de outra thread durante a busca, o valor é apenas aproximado.</p>
+     *
+     * @return quantidade de nós.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Retorna a tabela de transposição usada pela busca.
+     *
+     * @return tabela de transposição.
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Retorna o cache da estrutura de peões, que acumula as estatísticas de acerto entre as buscas.
+     *
+     * @return cache da estrutura de peões.
+     */
+    public PawnHashTable getPawnTable() {
+        return pawnTable;
+    }
+
+    /**
+     * Define as técnicas seletivas usadas pelas próximas buscas.
+     *
+     * @param options técnicas ligadas.
+     */
+    public void setOptions(SearchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Retorna as técnicas seletivas em uso.
+     *
+     * @return técnicas ligadas.
+     */
+    public SearchOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Define a rede neural que avalia as folhas das próximas buscas.
+     *
+     * @param network rede compartilhável entre buscas, ou null para voltar à {@link Evaluation}.
+     */
+    public void setNetwork(Network network) {
+        this.nnue = network == null ? null : new NnueEvaluator(network);
+    }
+
+    /**
+     * Executa o aprofundamento iterativo sem limpar o sinal de parada nem iniciar uma nova geração da
+     * tabela, o que no {@link ParallelSearch} é feito uma única vez para todas as threads.
+     *
+     * @param board    tabuleiro atual.
+     * @param limits   limites da busca.
+     * @param listener ouvinte chamado ao final de cada iteração.
+     * @return relatório da última iteração completa.
+     */
+    SearchInfo iterate(Board board, SearchLimits limits, Consumer<SearchInfo> listener) {
+        this.board = board;
+        this.limits = limits;
+        this.startNanos = System.nanoTime();
+        this.nodes = 0;
+        this.cutoffs = 0;
+        this.firstMoveCutoffs = 0;
+        this.aspirationResearches = 0;
+        this.zeroWindowResearches = 0;
+        this.completedDepth = 0;
+        this.aborted = false;
+        this.previousPv = new int[0];
+        history.clear();
+        if (nnue != null) nnue.refresh(board);
+
+        SearchInfo result = null;
+        long previousTotalNodes = 0;
+        for (int iteration = 1; iteration + depthOffset <= limits.getDepth(); iteration++) {
+            int depth = iteration + depthOffset;
+            int score = result == null ? negamax(depth, -INFINITY, INFINITY, 0, true) : aspiration(depth, result.getScore());
+            if (aborted) break;
+
+            // com os totais acumulados, a tabela aquecida entre as iterações não leva o fator abaixo de 1
+            double branchingFactor = previousTotalNodes == 0 ? 0 : (double) nodes / previousTotalNodes;
+            previousTotalNodes = nodes;
+
+            previousPv = Arrays.copyOf(pvTable[0], pvLength[0]);
+            completedDepth = depth;
+            result = new SearchInfo(depth, score, nodes, System.nanoTime() - startNanos, previousPv, table.hashfull(),
+                    cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs, branchingFactor, aspirationResearches,
+                    zeroWindowResearches);
+            listener.accept(result);
+
+            // um mate dentro da profundidade completa não muda com iterações mais profundas
+            if (result.isMate() && MATE - Math.abs(score) <= depth) break;
+            if (limits.getNodes() > 0 && nodes >= limits.getNodes()) break;
+        }
+        return result;
+    }
+
+    /**
+     * Ponto de entrada da linha de comando: busca a posição e imprime cada iteração.
+     *
+     * @param args {@code [opções] [fen]}.
+     * @throws IOException se o arquivo de pesos não puder ser lido.
+     */
+    public static void main(String[] args) throws IOException {
+        int depth = 0;
+        long nodes = 0;
+        long time = 0;
+        int threads = 1;
+        int hash = DEFAULT_HASH_MB;
+        boolean virtual = false;
+        boolean scaling = false;
+        Path weights = null;
+        boolean selectivity = false;
+        SearchOptions options = SearchOptions.all();
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("--"); i++) {
+            switch (args[i]) {
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--nodes" -> nodes = Long.parseLong(args[++i]);
+                case "--time" -> time = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--hash" -> hash = Integer.parseInt(args[++i]);
+                case "--virtual" -> virtual = true;
+                case "--scaling" -> scaling = true;
+                case "--weights" -> weights = Path.of(args[++i]);
+                case "--no-null" -> options = options.withNullMove(false);
+                case "--no-lmr" -> options = options.withLateMoveReductions(false);
+                case "--no-futility" -> options = options.withFutility(false);
+                case "--no-razoring" -> options = options.withRazoring(false);
+                case "--selectivity" -> selectivity = true;
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        if (scaling) {
+            runScaling(depth > 0 ? depth : DEFAULT_SCALING_DEPTH,
+                    threads > 1 ? threads : Runtime.getRuntime().availableProcessors(), hash, virtual);
+            return;
+        }
+        if (selectivity) {
+            runSelectivity(depth > 0 ? depth : DEFAULT_SCALING_DEPTH);
+            return;
+        }
+        if (depth == 0 && nodes == 0 && time == 0) {
+            time = DEFAULT_TIME_MILLIS;
+        }
+
+        String fen = i < args.length ? String.join(" ", Arrays.copyOfRange(args, i, args.length)) : FenUtils.START_POSITION;
+        SearchInfo result;
+        try (ParallelSearch search = new ParallelSearch(threads, hash, virtual)) {
+            if (weights != null) search.setNetwork(Network.load(weights));
+            search.setOptions(options);
+            result = search.search(FenUtils.load(fen), new SearchLimits(depth, nodes, time),
+                    info -> System.out.println("info " + info));
+            System.out.printf("Cortes no primeiro movimento: %.1f%%  Fator de ramificação efetivo: %.2f"
+                            + "  Acertos na tabela de peões: %.1f%%%n",
+                    result.getFirstMoveCutoffRate() * 100, result.getBranchingFactor(), search.getPawnHitRate() * 100);
+            System.out.printf("Novas buscas por aspiração: %d  Novas buscas por janela nula: %d%n",
+                    result.getAspirationResearches(), result.getZeroWindowResearches());
+        }
+        System.out.println("bestmove " + (result.getBestMove() == Move.NONE ? "(none)" : Move.toString(result.getBestMove())));
+    }
+
+    /**
+     * Mede a escalabilidade da busca paralela: busca as posições de {@link #SCALING_POSITIONS} até a
+     * mesma profundidade com 1, 2, 4... threads (e com {@code maxThreads}, se não for potência de dois)
+     * e imprime o tempo até a profundidade, nós/s e o speedup em relação a uma thread. Cada busca
+     * começa com a tabela vazia, e uma execução inicial sem medição aquece o JIT.
+     *
+     * @param depth      profundidade de cada busca.
+     * @param maxThreads maior quantidade de threads.
+     * @param hash       tamanho da tabela de transposição em MB.
+     * @param virtual    true para threads virtuais.
+     */
+    private static void runScaling(int depth, int maxThreads, int hash, boolean virtual) {
+        measureTimeToDepth(1, depth, hash, virtual);
+
+        double base = 0;
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads && threads * 2 > maxThreads ? maxThreads : threads * 2) {
+            long[] measured = measureTimeToDepth(threads, depth, hash, virtual);
+            if (threads == 1) base = measured[0];
+
+            System.out.printf("Threads: %2d  Profundidade: %d  Nós: %d  Tempo: %d ms  Nós/s: %d  Speedup: %.2fx%n",
+                    threads, depth, measured[1], measured[0] / 1_000_000,
+                    measured[1] * 1_000_000_000L / Math.max(measured[0], 1), base / measured[0]);
+            if (threads == maxThreads) break;
+        }
+    }
+
+    /**
+     * Mede a economia de nós de cada técnica seletiva: busca as posições de {@link #SCALING_POSITIONS}
+     * até a mesma profundidade sem nenhuma técnica, com cada uma ligada isoladamente, com todas e com
+     * todas menos uma, e imprime nós, tempo e a redução de nós em relação à busca sem poda seletiva;
+     * as linhas "todas menos" mostram a contribuição de cada uma na busca completa. Cada busca começa
+     * com a tabela vazia, e uma execução inicial sem medição aquece o JIT.
+     *
+     * @param depth profundidade de cada busca.
+     */
+    private static void runSelectivity(int depth) {
+        SearchOptions none = SearchOptions.none();
+        SearchOptions all = SearchOptions.all();
+        String[] names = {"Sem poda seletiva", "Só lance nulo", "Só LMR", "Só futilidade", "Só razoring", "Todas",
+                "Todas menos lance nulo", "Todas menos LMR", "Todas menos futilidade", "Todas menos razoring"};
+        SearchOptions[] configurations = {none, none.withNullMove(true), none.withLateMoveReductions(true),
+                none.withFutility(true), none.withRazoring(true), all, all.withNullMove(false),
+                all.withLateMoveReductions(false), all.withFutility(false), all.withRazoring(false)};
+        for (SearchOptions options : configurations) {
+            measureSelectivity(options, Math.min(depth, 5));
+        }
+
+        long base = 0;
+        for (int c = 0; c < configurations.length; c++) {
+            long[] measured = measureSelectivity(configurations[c], depth);
+            if (c == 0) base = measured[1];
+
+            System.out.printf("%-24s Profundidade: %d  Nós: %d  Tempo: %d ms  Economia de nós: %.1f%%%n",
+                    names[c], depth, measured[1], measured[0] / 1_000_000, 100.0 * (base - measured[1]) / base);
+        }
+    }
+
+    /**
+     * Busca todas as posições de medição até a profundidade informada com as técnicas dadas.
+     *
+     * @param options técnicas seletivas ligadas.
+     * @param depth   profundidade de cada busca.
+     * @return tempo total em nanossegundos e total de nós visitados, nessa ordem.
+     */
+    private static long[] measureSelectivity(SearchOptions options, int depth) {
+        long elapsed = 0;
+        long nodes = 0;
+        for (String fen : SCALING_POSITIONS) {
+            Search search = new Search();
+            search.setOptions(options);
+            SearchInfo info = search.search(FenUtils.load(fen), SearchLimits.depth(depth));
+            elapsed += info.getElapsedNanos();
+            nodes += info.getNodes();
+        }
+        return new long[] {elapsed, nodes};
+    }
+
+    /**
+     * Busca todas as posições de medição até a profundidade informada.
+     *
+     * @param threads quantidade de threads.
+     * @param depth   profundidade de cada busca.
+     * @param hash    tamanho da tabela de transposição em MB.
+     * @param virtual true para threads virtuais.
+     * @return tempo total em nanossegundos e total de nós visitados, nessa ordem.
+     */
+    private static long[] measureTimeToDepth(int threads, int depth, int hash, boolean virtual) {
+        long elapsed = 0;
+        long nodes = 0;
+        try (ParallelSearch search = new ParallelSearch(threads, hash, virtual)) {
+            for (String fen : SCALING_POSITIONS) {
+                search.getTable().clear();
+                SearchInfo info = search.search(FenUtils.load(fen), SearchLimits.depth(depth));
+                elapsed += info.getElapsedNanos();
+                nodes += info.getNodes();
+            }
+        }
+        return new long[] {elapsed, nodes};
+    }
+
+    /**
+     * Busca a raiz com uma janela estreita em volta da pontuação da iteração anterior, alargando-a do
+     * lado em que a pontuação caiu fora até que ela fique dentro. Pontuações de mate usam a janela
+     * completa, e depois de algumas falhas a janela cobre todas as pontuações.
+     *
+     * @param depth    profundidade da iteração.
+     * @param previous pontuação da iteração anterior.
+     * @return pontuação exata da raiz (0 se a busca foi interrompida).
+     */
+    private int aspiration(int depth, int previous) {
+        if (depth < ASPIRATION_DEPTH || Math.abs(previous) >= MATE - MAX_PLY) {
+            return negamax(depth, -INFINITY, INFINITY, 0, true);
+        }
+
+        int delta = ASPIRATION_WINDOW;
+        int alpha = previous - delta;
+        int beta = previous + delta;
+        while (true) {
+            int score = negamax(depth, alpha, beta, 0, true);
+            if (aborted) return 0;
+            if (score <= alpha) {
+                beta = (alpha + beta) / 2;
+                alpha = Math.max(score - delta, -INFINITY);
+            } else if (score >= beta) {
+                beta = Math.min(score + delta, INFINITY);
+            } else {
+                return score;
+            }
+            aspirationResearches++;
+            delta *= 2;
+        }
+    }
+
+    /**
+     * Negamax com poda alfa-beta e busca da variação principal (PVS).
+     *
+     * @param depth     profundidade restante.
+     * @param alpha     limite inferior da janela.
+     * @param beta      limite superior da janela.
+     * @param ply       distância da raiz.
+     * @param followPv  true se o caminho até aqui for o da variação principal anterior.
+     * @return pontuação do ponto de vista do lado a jogar (0 se a busca foi interrompida).
+     */
+    private int negamax(int depth, int alpha, int beta, int ply, boolean followPv) {
+        if (depth <= 0) return quiescence(alpha, beta, ply);
+
+        pvLength[ply] = ply;
+        if ((++nodes & (CHECK_INTERVAL - 1)) == 0) {
+            checkLimits();
+        }
+        if (aborted) return 0;
+
+        if (ply > 0 && (board.getHalfmoveClock() >= 100 || board.isRepetition())) return DRAW;
+        if (ply == MAX_PLY) return evaluate();
+
+        // nós da variação principal não são cortados pela tabela, para que a linha chegue completa
+        boolean pvNode = beta - alpha > 1;
+        long key = board.getZobristKey();
+        long entry = table.probe(key);
+        int hashMove = Move.NONE;
+        if (entry != 0) {
+            hashMove = TranspositionTable.move(entry);
+            if (!pvNode && TranspositionTable.depth(entry) >= depth) {
+                int score = scoreFromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && score >= beta)
+                        || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        boolean inCheck = board.isInCheck(board.getTurn());
+        int staticEval = pvNode || inCheck ? -INFINITY : evaluate();
+        if (!pvNode && !inCheck) {
+            // futilidade reversa: mesmo cedendo a margem, a posição continua acima de beta
+            if (options.isFutility() && depth <= FUTILITY_DEPTH && Math.abs(beta) < MATE - MAX_PLY
+                    && staticEval - FUTILITY_MARGINS[depth] >= beta) {
+                return staticEval;
+            }
+
+            // razoring: tão abaixo de alfa que só as capturas da quiescência poderiam salvar o nó
+            if (options.isRazoring() && depth <= RAZOR_DEPTH && staticEval + RAZOR_MARGINS[depth] <= alpha) {
+                int score = quiescence(alpha, alpha + 1, ply);
+                if (aborted) return 0;
+                if (score <= alpha) return score;
+            }
+
+            // lance nulo: se passar a vez ainda corta, um movimento de verdade quase certamente corta;
+            // sem peças além de peões o zugzwang é comum e a suposição falha
+            if (options.isNullMove() && depth >= NULL_MOVE_DEPTH && ply > 0 && playedMoves[ply - 1] != Move.NONE
+                    && staticEval >= beta && Math.abs(beta) < MATE - MAX_PLY && hasNonPawnMaterial()) {
+                playedMoves[ply] = Move.NONE;
+                makeNullMove();
+                int score = -negamax(depth - 1 - NULL_MOVE_REDUCTION - depth / 6, -beta, -beta + 1, ply + 1, false);
+                unmakeNullMove();
+                if (aborted) return 0;
+                if (score >= beta) return score >= MATE - MAX_PLY ? beta : score;
+            }
+        }
+        boolean futile = options.isFutility() && !pvNode && !inCheck && depth <= FUTILITY_DEPTH
+                && Math.abs(alpha) < MATE - MAX_PLY && staticEval + FUTILITY_MARGINS[depth] <= alpha;
+        boolean reduce = options.isLateMoveReductions() && depth >= LMR_DEPTH && !inCheck;
+
+        // na variação principal anterior o seu movimento vem primeiro; fora dela, o da tabela
+        int pvMove = followPv && ply < previousPv.length ? previousPv[ply] : Move.NONE;
+        int previous = ply > 0 ? playedMoves[ply - 1] : Move.NONE;
+        MovePicker picker = pickers[ply];
+        picker.init(board, history, pvMove != Move.NONE ? pvMove : hashMove, ply, previous);
+
+        int[] tried = quietsTried[ply];
+        int quietCount = 0;
+        int moveCount = 0;
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestMove = Move.NONE;
+        int move;
+        while ((move = picker.next()) != Move.NONE) {
+            moveCount++;
+            boolean quiet = !Move.isCapture(move) && !Move.isPromotion(move);
+            boolean late = quiet && (futile || (reduce && moveCount > LMR_MOVES)) && moveCount > 1;
+            playedMoves[ply] = move;
+            makeMove(move);
+            boolean givesCheck = late && board.isInCheck(board.getTurn());
+
+            // futilidade: um movimento tranquilo que não dá xeque não recupera a distância até alfa
+            if (futile && late && !givesCheck) {
+                unmakeMove(move);
+                continue;
+            }
+
+            boolean childPv = pvMove != Move.NONE && move == pvMove;
+            int reduction = reduce && late && !givesCheck && moveCount > LMR_MOVES
+                    ? Math.min(REDUCTIONS[Math.min(depth, 63)][Math.min(moveCount, 63)] - (pvNode ? 1 : 0), depth - 2)
+                    : 0;
+            int score;
+            if (moveCount == 1) {
+                score = -negamax(depth - 1, -beta, -alpha, ply + 1, childPv);
+            } else {
+                // janela nula (e reduzida, se tardio): só prova que o movimento não passa de alfa
+                score = -negamax(depth - 1 - reduction, -alpha - 1, -alpha, ply + 1, false);
+                if (score > alpha && reduction > 0 && !aborted) {
+                    score = -negamax(depth - 1, -alpha - 1, -alpha, ply + 1, false);
+                }
+                if (score > alpha && score < beta && !aborted) {
+                    zeroWindowResearches++;
+                    score = -negamax(depth - 1, -beta, -alpha, ply + 1, childPv);
+                }
+            }
+            unmakeMove(move);
+            if (aborted) return 0;
+
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (alpha >= beta) {
+                        cutoffs++;
+                        if (moveCount == 1) firstMoveCutoffs++;
+                        if (quiet) history.update(ply, previous, move, depth, tried, quietCount);
+                        break;
+                    }
+                }
+            }
+            if (quiet) tried[quietCount++] = move;
+        }
+
+        if (moveCount == 0) {
+            return inCheck ? -MATE + ply : DRAW;
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER
+                : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        table.store(key, bestMove, scoreToTable(best, ply), depth, bound);
+        return best;
+    }
+
+    /**
+     * Busca de quiescência: a partir de uma folha, continua apenas com capturas e promoções até uma
+     * posição tranquila.
+     * <p>
+     * Fora de xeque, o lado a jogar pode aceitar a avaliação estática (<i>stand pat</i>), que serve de
+     * limite inferior; as capturas são tentadas em ordem MVV-LVA e as que perdem material pela troca
+     * estática são descartadas. Em xeque não há stand pat: todas as evasões são buscadas, e sem
+     * nenhuma a posição é mate.
+     * </p>
+     *
+     * @param alpha limite inferior da janela.
+     * @param beta  limite superior da janela.
+     * @param ply   distância da raiz.
+     * @return pontuação do ponto de vista do lado a jogar (0 se a busca foi interrompida).
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if ((++nodes & (CHECK_INTERVAL - 1)) == 0) {
+            checkLimits();
+        }
+        if (aborted) return 0;
+        if (ply == MAX_PLY) return evaluate();
+
+        boolean inCheck = board.isInCheck(board.getTurn());
+        int best = -INFINITY;
+        MoveList moves = moveLists[ply];
+        moves.clear();
+
+        if (inCheck) {
+            MoveGenerator.generateLegalMoves(board, moves);
+            if (moves.isEmpty()) return -MATE + ply;
+        } else {
+            best = evaluate();
+            if (best >= beta) return best;
+            if (best > alpha) alpha = best;
+            MoveGenerator.generateLegalCaptures(board, moves);
+        }
+
+        int[] scores = moveScores[ply];
+        for (int i = 0; i < moves.size(); i++) {
+            scores[i] = MovePicker.mvvLva(moves.get(i));
+        }
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = MovePicker.pickNext(moves, scores, i);
+            if (!inCheck && StaticExchange.isLosing(board, move, exchangeGains)) continue;
+
+            makeMove(move);
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            unmakeMove(move);
+            if (aborted) return 0;
+
+            if (score > best) {
+                best = score;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (alpha >= beta) break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Avalia a posição atual pela rede, se houver, ou pela {@link Evaluation}.
+     *
+     * @return pontuação do ponto de vista do lado a jogar.
+     */
+    private int evaluate() {
+        return nnue != null ? nnue.evaluate(board.getTurn()) : Evaluation.evaluate(board, pawnTable);
+    }
+
+    /**
+     * Verifica se o lado a jogar tem peças além de peões e do rei, condição da poda do lance nulo.
+     *
+     * @return true se houver ao menos um cavalo, bispo, torre ou dama do lado a jogar.
+     */
+    private boolean hasNonPawnMaterial() {
+        Turn turn = board.getTurn();
+        long pawnsAndKing = turn == Turn.WHITE
+                ? board.getBitboard(Type.PAWN_WHITE) | board.getBitboard(Type.KING_WHITE)
+                : board.getBitboard(Type.PAWN_BLACK) | board.getBitboard(Type.KING_BLACK);
+        return (board.getOccupancy(turn) & ~pawnsAndKing) != 0;
+    }
+
+    /**
+     * Passa a vez no tabuleiro e no acumulador da rede.
+     */
+    private void makeNullMove() {
+        if (nnue != null) nnue.pushNull();
+        board.makeNullMove();
+    }
+
+    /**
+     * Desfaz o lance nulo no tabuleiro e no acumulador da rede.
+     */
+    private void unmakeNullMove() {
+        board.unmakeNullMove();
+        if (nnue != null) nnue.pop();
+    }
+
+    /**
+     * Aplica o movimento ao tabuleiro e ao acumulador da rede.
+     *
+     * @param move movimento gerado para a posição atual.
+     */
+    private void makeMove(int move) {
+        if (nnue != null) nnue.push(move);
+        board.makeMove(move);
+    }
+
+    /**
+     * Desfaz o movimento no tabuleiro e no acumulador da rede.
+     *
+     * @param move o mesmo movimento passado ao {@link #makeMove(int)} correspondente.
+     */
+    private void unmakeMove(int move) {
+        board.unmakeMove(move);
+        if (nnue != null) nnue.pop();
+    }
+
+    /**
+     * Converte uma pontuação de mate relativa à raiz em relativa à posição, para guardar na tabela:
+     * a mesma posição pode ser alcançada em plies diferentes.
+     *
+     * @param score pontuação relativa à raiz.
+     * @param ply   distância da raiz.
+     * @return pontuação relativa à posição.
+     */
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score + ply;
+        if (score <= -MATE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    /**
+     * Converte uma pontuação de mate lida da tabela (relativa à posição) em relativa à raiz.
+     *
+     * @param score pontuação relativa à posição.
+     * @param ply   distância da raiz.
+     * @return pontuação relativa à raiz.
+     */
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score - ply;
+        if (score <= -MATE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    /**
+     * Registra o movimento como o melhor do ply, seguido da melhor continuação do ply seguinte.
+     *
+     * @param ply  distância da raiz.
+     * @param move melhor movimento encontrado até agora no ply.
+     */
+    private void updatePv(int ply, int move) {
+        int[] line = pvTable[ply];
+        line[ply] = move;
+        int length = pvLength[ply + 1];
+        System.arraycopy(pvTable[ply + 1], ply + 1, line, ply + 1, length - ply - 1);
+        pvLength[ply] = length;
+    }
+
+    /**
+     * Verifica os limites de nós e de tempo e o pedido de parada, marcando a iteração atual como
+     * interrompida. A primeira iteração nunca é interrompida.
+     */
+    private void checkLimits() {
+        if (completedDepth == 0) return;
+        if (stopSignal.get()
+                || (limits.getNodes() > 0 && nodes >= limits.getNodes())
+                || (limits.getTimeMillis() > 0 && System.nanoTime() - startNanos >= limits.getTimeMillis() * 1_000_000L)) {
+            aborted = true;
+        }
+    }
+}
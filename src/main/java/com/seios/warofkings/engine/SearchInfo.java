@@ -0,0 +1,263 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.moves.Move;
+
+import java.util.Arrays;
+
+/**
+ * Relatório de uma iteração completa do aprofundamento iterativo: profundidade, pontuação,
+ * variação principal, nós visitados e tempo gasto desde o início da busca, além das medidas da
+ * qualidade da ordenação dos movimentos e das novas buscas causadas pelas janelas estreitas.
+ *
+ * @author Lucas
+ * @version 1.4
+ * @since 2026-10-18
+ */
+public class SearchInfo {
+    /** Profundidade completada. */
+    private final int depth;
+
+    /** Pontuação da raiz em centipeões, do ponto de vista do lado a jogar. */
+    private final int score;
+
+    /** Nós visitados desde o início da busca. */
+    private final long nodes;
+
+    /** Tempo desde o início da busca em nanossegundos. */
+    private final long elapsedNanos;
+
+    /** Variação principal (movimentos codificados por {@link Move}). */
+    private final int[] pv;
+
+    /** Ocupação da tabela de transposição pela busca atual, por mil. */
+    private final int hashfull;
+
+    /** Fração dos cortes beta produzidos pelo primeiro movimento tentado. */
+    private final double firstMoveCutoffRate;
+
+    /** Fator de ramificação efetivo da iteração. */
+    private final double branchingFactor;
+
+    /** Novas buscas da raiz porque a pontuação caiu fora da janela de aspiração, desde o início da busca. */
+    private final long aspirationResearches;
+
+    /** Novas buscas com janela completa depois de uma busca de janela nula acima de alfa (PVS). */
+    private final long zeroWindowResearches;
+
+    /**
+     * Construtor do relatório sem as medidas da ordenação.
+     *
+     * @param depth        profundidade completada.
+     * @param score        pontuação da raiz.
+     * @param nodes        nós visitados desde o início da busca.
+     * @param elapsedNanos tempo desde o início da busca em nanossegundos.
+     * @param pv           variação principal (o vetor é copiado).
+     * @param hashfull     ocupação da tabela de transposição, por mil.
+     */
+    public SearchInfo(int depth, int score, long nodes, long elapsedNanos, int[] pv, int hashfull) {
+        this(depth, score, nodes, elapsedNanos, pv, hashfull, 0, 0);
+    }
+
+    /**
+     * Construtor completo do relatório, com as medidas da ordenação.
+     *
+     * @param depth               profundidade completada.
+     * @param score               pontuação da raiz.
+     * @param nodes               nós visitados desde o início da busca.
+     * @param elapsedNanos        tempo desde o início da busca em nanossegundos.
+     * @param pv                  variação principal (o vetor é copiado).
+     * @param hashfull            ocupação da tabela de transposição, por mil.
+     * @param firstMoveCutoffRate fração dos cortes produzidos pelo primeiro movimento (0 a 1).
+     * @param branchingFactor     total de nós até esta iteração dividido pelo total até a anterior (0 na primeira).
+     */
+    public SearchInfo(int depth, int score, long nodes, long elapsedNanos, int[] pv, int hashfull,
+                      double firstMoveCutoffRate, double branchingFactor) {
+        this(depth, score, nodes, elapsedNanos, pv, hashfull, firstMoveCutoffRate, branchingFactor, 0, 0);
+    }
+
+    /**
+     * Construtor completo do relatório, com as medidas da ordenação e as contagens de novas buscas.
+     *
+     * @param depth                profundidade completada.
+     * @param score                pontuação da raiz.
+     * @param nodes                nós visitados desde o início da busca.
+     * @param elapsedNanos         tempo desde o início da busca em nanossegundos.
+     * @param pv                   variação principal (o vetor é copiado).
+     * @param hashfull             ocupação da tabela de transposição, por mil.
+     * @param firstMoveCutoffRate  fração dos cortes produzidos pelo primeiro movimento (0 a 1).
+     * @param branchingFactor      total de nós até esta iteração dividido pelo total até a anterior (0 na primeira).
+     * @param aspirationResearches novas buscas da raiz por falha da janela de aspiração.
+     * @param zeroWindowResearches novas buscas com janela completa após a janela nula (PVS).
+     */
+    public SearchInfo(int depth, int score, long nodes, long elapsedNanos, int[] pv, int hashfull,
+                      double firstMoveCutoffRate, double branchingFactor, long aspirationResearches,
+                      long zeroWindowResearches) {
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.pv = pv.clone();
+        this.hashfull = hashfull;
+        this.firstMoveCutoffRate = firstMoveCutoffRate;
+        this.branchingFactor = branchingFactor;
+        this.aspirationResearches = aspirationResearches;
+        this.zeroWindowResearches = zeroWindowResearches;
+    }
+
+    /**
+     * Retorna a profundidade completada.
+     *
+     * @return profundidade.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Retorna a pontuação da raiz.
+     *
+     * @return centipeões do ponto de vista do lado a jogar, ou uma pontuação de mate
+     *         (ver {@link #isMate()}).
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retorna os nós visitados desde o início da busca.
+     *
+     * @return quantidade de nós.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Retorna o tempo desde o início da busca.
+     *
+     * @return tempo em nanossegundos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Calcula a vazão da busca.
+     *
+     * @return nós por segundo.
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * Retorna a ocupação da tabela de transposição ao final da iteração.
+     *
+     * @return entradas da busca atual por mil, como {@link TranspositionTable#hashfull()}.
+     */
+    public int getHashfull() {
+        return hashfull;
+    }
+
+    /**
+     * Retorna a fração dos cortes beta da busca produzidos pelo primeiro movimento tentado no nó.
+     * <p>Com uma boa ordenação, a maioria dos cortes vem do primeiro movimento; valores acima de 0,9
+     * são típicos.</p>
+     *
+     * @return fração entre 0 e 1 (0 se não houve cortes).
+     */
+    public double getFirstMoveCutoffRate() {
+        return firstMoveCutoffRate;
+    }
+
+    /**
+     * Retorna o fator de ramificação efetivo: o total de nós visitados até esta iteração dividido pelo
+     * total até a iteração anterior. Os totais acumulados incluem as iterações rasas que aqueceram a
+     * tabela de transposição, de forma que o fator nunca fica abaixo de 1. Quanto melhor a ordenação,
+     * menor o fator.
+     *
+     * @return fator de ramificação, ou 0 na primeira iteração.
+     */
+    public double getBranchingFactor() {
+        return branchingFactor;
+    }
+
+    /**
+     * Retorna quantas vezes a raiz foi buscada de novo, desde o início da busca, porque a pontuação
+     * caiu fora da janela de aspiração. Muitas novas buscas indicam uma janela estreita demais.
+     *
+     * @return quantidade de novas buscas da raiz.
+     */
+    public long getAspirationResearches() {
+        return aspirationResearches;
+    }
+
+    /**
+     * Retorna quantas buscas de janela nula ficaram acima de alfa e precisaram ser repetidas com a
+     * janela completa, desde o início da busca. Poucas indicam que o primeiro movimento costuma ser o
+     * melhor, como a PVS supõe.
+     *
+     * @return quantidade de novas buscas com janela completa.
+     */
+    public long getZeroWindowResearches() {
+        return zeroWindowResearches;
+    }
+
+    /**
+     * Retorna a variação principal.
+     *
+     * @return cópia dos movimentos codificados, a partir da raiz.
+     */
+    public int[] getPv() {
+        return pv.clone();
+    }
+
+    /**
+     * Retorna o melhor movimento da raiz (o primeiro da variação principal).
+     *
+     * @return movimento codificado, ou {@link Move#NONE} se não houver movimento legal.
+     */
+    public int getBestMove() {
+        return pv.length > 0 ? pv[0] : Move.NONE;
+    }
+
+    /**
+     * Indica se a pontuação representa um mate forçado.
+     *
+     * @return true se algum dos lados tiver mate dentro do horizonte da busca.
+     */
+    public boolean isMate() {
+        return Math.abs(score) >= Search.MATE - Search.MAX_PLY;
+    }
+
+    /**
+     * Retorna a distância até o mate em lances completos.
+     *
+     * @return lances até o mate (negativo se o lado a jogar for o que leva mate), ou 0 se
+     *         a pontuação não for de mate.
+     */
+    public int getMateIn() {
+        if (!isMate()) return 0;
+        int plies = Search.MATE - Math.abs(score);
+        return score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+
+    /**
+     * Formata o relatório no estilo das linhas {@code info} do protocolo UCI.
+     *
+     * @return exemplo: {@code depth 6 score cp 35 nodes 120345 nps 1500000 hashfull 12 time 80 pv e2e4 e7e5}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("depth ").append(depth)
+                .append(isMate() ? " score mate " + getMateIn() : " score cp " + score)
+                .append(" nodes ").append(nodes)
+                .append(" nps ").append(getNodesPerSecond())
+                .append(" hashfull ").append(hashfull)
+                .append(" time ").append(elapsedNanos / 1_000_000)
+                .append(" pv");
+        Arrays.stream(pv).forEach(move -> sb.append(' ').append(Move.toString(move)));
+        return sb.toString();
+    }
+}
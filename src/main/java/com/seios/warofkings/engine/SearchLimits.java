@@ -0,0 +1,139 @@
+package com.seios.warofkings.engine;
+
+/**
+ * Limites de uma busca: profundidade máxima, quantidade de nós e tempo. A busca termina quando
+ * qualquer um dos limites definidos é atingido; o valor 0 indica um limite não definido.
+ * <p>Exemplo: {@code SearchLimits.time(1000).withDepth(12)}.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SearchLimits {
+    /** Profundidade usada quando nenhum limite de profundidade é definido. */
+    public static final int MAX_DEPTH = 64;
+
+    /** Profundidade máxima (0 para {@link #MAX_DEPTH}). */
+    private final int depth;
+
+    /** Quantidade máxima de nós (0 para ilimitado). */
+    private final long nodes;
+
+    /** Tempo máximo em milissegundos (0 para ilimitado). */
+    private final long timeMillis;
+
+    /**
+     * Construtor completo dos limites.
+     *
+     * @param depth      profundidade máxima (0 para {@link #MAX_DEPTH}).
+     * @param nodes      quantidade máxima de nós (0 para ilimitado).
+     * @param timeMillis tempo máximo em milissegundos (0 para ilimitado).
+     */
+    public SearchLimits(int depth, long nodes, long timeMillis) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+    }
+
+    /**
+     * Cria limites apenas de profundidade.
+     *
+     * @param depth profundidade máxima.
+     * @return novos limites.
+     */
+    public static SearchLimits depth(int depth) {
+        return new SearchLimits(depth, 0, 0);
+    }
+
+    /**
+     * Cria limites apenas de nós.
+     *
+     * @param nodes quantidade máxima de nós.
+     * @return novos limites.
+     */
+    public static SearchLimits nodes(long nodes) {
+        return new SearchLimits(0, nodes, 0);
+    }
+
+    /**
+     * Cria limites apenas de tempo.
+     *
+     * @param timeMillis tempo máximo em milissegundos.
+     * @return novos limites.
+     */
+    public static SearchLimits time(long timeMillis) {
+        return new SearchLimits(0, 0, timeMillis);
+    }
+
+    /**
+     * Cria limites sem restrição além de {@link #MAX_DEPTH}; a busca só termina ao atingir essa
+     * profundidade ou por {@link Search#stop()}.
+     *
+     * @return novos limites.
+     */
+    public static SearchLimits infinite() {
+        return new SearchLimits(0, 0, 0);
+    }
+
+    /**
+     * Retorna uma cópia com a profundidade máxima alterada.
+     *
+     * @param depth profundidade máxima.
+     * @return novos limites.
+     */
+    public SearchLimits withDepth(int depth) {
+        return new SearchLimits(depth, nodes, timeMillis);
+    }
+
+    /**
+     * Retorna uma cópia com a quantidade máxima de nós alterada.
+     *
+     * @param nodes quantidade máxima de nós.
+     * @return novos limites.
+     */
+    public SearchLimits withNodes(long nodes) {
+        return new SearchLimits(depth, nodes, timeMillis);
+    }
+
+    /**
+     * Retorna uma cópia com o tempo máximo alterado.
+     *
+     * @param timeMillis tempo máximo em milissegundos.
+     * @return novos limites.
+     */
+    public SearchLimits withTime(long timeMillis) {
+        return new SearchLimits(depth, nodes, timeMillis);
+    }
+
+    /**
+     * Retorna a profundidade máxima efetiva.
+     *
+     * @return profundidade máxima (entre 1 e {@link #MAX_DEPTH}).
+     */
+    public int getDepth() {
+        return depth > 0 ? Math.min(depth, MAX_DEPTH) : MAX_DEPTH;
+    }
+
+    /**
+     * Retorna a quantidade máxima de nós.
+     *
+     * @return nós, ou 0 se ilimitado.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Retorna o tempo máximo.
+     *
+     * @return milissegundos, ou 0 se ilimitado.
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchLimits{depth=" + depth + ", nodes=" + nodes + ", timeMillis=" + timeMillis + "}";
+    }
+}
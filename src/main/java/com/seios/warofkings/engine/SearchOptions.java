@@ -0,0 +1,140 @@
+package com.seios.warofkings.engine;
+
+/**
+ * Técnicas seletivas ligadas na {@link Search}: poda do lance nulo, reduções de movimentos tardios
+ * (LMR), poda de futilidade e razoring. Cada uma pode ser desligada isoladamente para medir a
+ * economia de nós que ela produz ({@code Search --selectivity}).
+ * <p>Exemplo: {@code SearchOptions.all().withNullMove(false)}.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SearchOptions {
+    /** Poda do lance nulo. */
+    private final boolean nullMove;
+
+    /** Reduções de movimentos tardios. */
+    private final boolean lateMoveReductions;
+
+    /** Poda de futilidade (do nó e dos movimentos tranquilos). */
+    private final boolean futility;
+
+    /** Razoring. */
+    private final boolean razoring;
+
+    /**
+     * Construtor completo das opções.
+     *
+     * @param nullMove           true para a poda do lance nulo.
+     * @param lateMoveReductions true para as reduções de movimentos tardios.
+     * @param futility           true para a poda de futilidade.
+     * @param razoring           true para o razoring.
+     */
+    public SearchOptions(boolean nullMove, boolean lateMoveReductions, boolean futility, boolean razoring) {
+        this.nullMove = nullMove;
+        this.lateMoveReductions = lateMoveReductions;
+        this.futility = futility;
+        this.razoring = razoring;
+    }
+
+    /**
+     * Cria opções com todas as técnicas ligadas (o padrão da busca).
+     *
+     * @return novas opções.
+     */
+    public static SearchOptions all() {
+        return new SearchOptions(true, true, true, true);
+    }
+
+    /**
+     * Cria opções com todas as técnicas desligadas: alfa-beta sem poda seletiva.
+     *
+     * @return novas opções.
+     */
+    public static SearchOptions none() {
+        return new SearchOptions(false, false, false, false);
+    }
+
+    /**
+     * Retorna uma cópia com a poda do lance nulo alterada.
+     *
+     * @param enabled true para ligar.
+     * @return novas opções.
+     */
+    public SearchOptions withNullMove(boolean enabled) {
+        return new SearchOptions(enabled, lateMoveReductions, futility, razoring);
+    }
+
+    /**
+     * Retorna uma cópia com as reduções de movimentos tardios alteradas.
+     *
+     * @param enabled true para ligar.
+     * @return novas opções.
+     */
+    public SearchOptions withLateMoveReductions(boolean enabled) {
+        return new SearchOptions(nullMove, enabled, futility, razoring);
+    }
+
+    /**
+     * Retorna uma cópia com a poda de futilidade alterada.
+     *
+     * @param enabled true para ligar.
+     * @return novas opções.
+     */
+    public SearchOptions withFutility(boolean enabled) {
+        return new SearchOptions(nullMove, lateMoveReductions, enabled, razoring);
+    }
+
+    /**
+     * Retorna uma cópia com o razoring alterado.
+     *
+     * @param enabled true para ligar.
+     * @return novas opções.
+     */
+    public SearchOptions withRazoring(boolean enabled) {
+        return new SearchOptions(nullMove, lateMoveReductions, futility, enabled);
+    }
+
+    /**
+     * Indica se a poda do lance nulo está ligada.
+     *
+     * @return true se ligada.
+     */
+    public boolean isNullMove() {
+        return nullMove;
+    }
+
+    /**
+     * Indica se as reduções de movimentos tardios estão ligadas.
+     *
+     * @return true se ligadas.
+     */
+    public boolean isLateMoveReductions() {
+        return lateMoveReductions;
+    }
+
+    /**
+     * Indica se a poda de futilidade está ligada.
+     *
+     * @return true se ligada.
+     */
+    public boolean isFutility() {
+        return futility;
+    }
+
+    /**
+     * Indica se o razoring está ligado.
+     *
+     * @return true se ligado.
+     */
+    public boolean isRazoring() {
+        return razoring;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchOptions{nullMove=" + nullMove + ", lateMoveReductions=" + lateMoveReductions
+                + ", futility=" + futility + ", razoring=" + razoring + "}";
+    }
+}
@@ -0,0 +1,193 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
+
+/**
+ * Avaliação estática de trocas (<i>Static Exchange Evaluation</i>, SEE).
+ * <p>
+ * Calcula o saldo material de uma sequência de capturas numa única casa sem aplicar movimentos no
+ * tabuleiro: a partir do conjunto de atacantes e defensores da casa ({@link Board#attackersTo(int, long)}),
+ * cada lado recaptura com a sua peça de menor valor, e as peças que já capturaram saem da ocupação,
+ * revelando os atacantes em raio X atrás delas. Cada lado pode parar a sequência quando continuar
+ * seria pior, o que é resolvido de trás para frente na lista de ganhos.
+ * </p>
+ *
+ * <p>Usada pela busca de quiescência para descartar capturas perdedoras e disponível para qualquer
+ * ferramenta que precise saber, sem busca, se uma captura perde material. A busca passa um vetor de
+ * ganhos próprio, com {@link #MAX_EXCHANGES} posições, e não aloca memória a cada avaliação.</p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class StaticExchange {
+    /**
+     * Valor das peças na troca, indexado por {@code Type.getValor() % 6} (peão, torre, cavalo, bispo,
+     * dama e rei). Cavalo e bispo valem o mesmo, para que a troca entre eles seja neutra.
+     */
+    private static final int[] VALUES = {100, 500, 325, 325, 900, 20_000};
+
+    /** Tipos sem o deslocamento de cor, do menos ao mais valioso, na ordem de escolha dos atacantes. */
+    private static final int[] LEAST_VALUABLE_FIRST = {0, 2, 3, 1, 4, 5};
+
+    /** Tipos indexados pelo valor, para consultar os bitboards. */
+    private static final Type[] TYPES = Type.values();
+
+    /** Quantidade máxima de capturas numa casa (todas as peças do tabuleiro); tamanho do vetor de ganhos. */
+    public static final int MAX_EXCHANGES = 32;
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private StaticExchange() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Calcula o saldo material esperado de um movimento na casa de destino, com as duas partes
+     * recapturando da melhor forma.
+     * <p>Um movimento sem captura vale 0 se a peça não puder ser tomada com lucro, e negativo caso
+     * contrário. A promoção conta o ganho da peça promovida sobre o peão.</p>
+     *
+     * @param board tabuleiro atual (não é alterado).
+     * @param move  movimento legal do lado que tem a vez.
+     * @return saldo em centipeões do ponto de vista de quem move.
+     */
+    public static int evaluate(Board board, int move) {
+        return evaluate(board, move, new int[MAX_EXCHANGES]);
+    }
+
+    /**
+     * Calcula o saldo da troca como {@link #evaluate(Board, int)}, usando um vetor de ganhos
+     * fornecido por quem chama, para que a busca não aloque memória a cada captura avaliada.
+     *
+     * @param board tabuleiro atual (não é alterado).
+     * @param move  movimento legal do lado que tem a vez.
+     * @param gain  vetor de trabalho com pelo menos {@link #MAX_EXCHANGES} posições (sobrescrito).
+     * @return saldo em centipeões do ponto de vista de quem move.
+     */
+    public static int evaluate(Board board, int move, int[] gain) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+
+        int captured = Move.captured(move);
+        gain[0] = captured == Move.NO_PIECE ? 0 : VALUES[captured % 6];
+        int onSquare = VALUES[Move.piece(move) % 6];
+        if (Move.isPromotion(move)) {
+            onSquare = VALUES[Move.promotion(move) % 6];
+            gain[0] += onSquare - VALUES[0];
+        }
+
+        long occupancy = board.getOccupancy() & ~(1L << from);
+        if (Move.isEnPassant(move)) {
+            occupancy &= ~(1L << (to ^ 8));
+        }
+        long white = board.getOccupancy(Turn.WHITE);
+        long black = board.getOccupancy(Turn.BLACK);
+
+        int side = Move.piece(move) < 6 ? 1 : 0;
+        long attackers = board.attackersTo(to, occupancy) & occupancy;
+        int depth = 0;
+
+        while (depth + 1 < MAX_EXCHANGES) {
+            long own = attackers & (side == 0 ? white : black);
+            if (own == 0) break;
+
+            int attacker = leastValuable(board, own, side);
+            int type = attacker >>> 6;
+            // o rei só recaptura se a casa não estiver mais defendida
+            if (type == 5 && (attackers & (side == 0 ? black : white)) != 0) break;
+
+            depth++;
+            gain[depth] = onSquare - gain[depth - 1];
+            // nem parar nem capturar salva este lado: o restante da sequência não muda o resultado
+            if (Math.max(-gain[depth - 1], gain[depth]) < 0) {
+                depth--;
+                break;
+            }
+
+            occupancy &= ~(1L << (attacker & 63));
+            attackers = board.attackersTo(to, occupancy) & occupancy;
+            onSquare = VALUES[type];
+            side ^= 1;
+        }
+
+        while (depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+            depth--;
+        }
+        return gain[0];
+    }
+
+    /**
+     * Verifica se o saldo da troca iniciada pelo movimento é de pelo menos o limite informado.
+     *
+     * @param board     tabuleiro atual (não é alterado).
+     * @param move      movimento legal do lado que tem a vez.
+     * @param threshold saldo mínimo em centipeões.
+     * @return true se {@link #evaluate(Board, int)} for maior ou igual ao limite.
+     */
+    public static boolean isAtLeast(Board board, int move, int threshold) {
+        return evaluate(board, move) >= threshold;
+    }
+
+    /**
+     * Verifica se o movimento perde material na casa de destino.
+     *
+     * @param board tabuleiro atual (não é alterado).
+     * @param move  movimento legal do lado que tem a vez.
+     * @return true se o saldo da troca for negativo.
+     */
+    public static boolean isLosing(Board board, int move) {
+        return evaluate(board, move) < 0;
+    }
+
+    /**
+     * Verifica se o movimento perde material na casa de destino, usando um vetor de ganhos fornecido
+     * por quem chama.
+     *
+     * @param board tabuleiro atual (não é alterado).
+     * @param move  movimento legal do lado que tem a vez.
+     * @param gain  vetor de trabalho com pelo menos {@link #MAX_EXCHANGES} posições (sobrescrito).
+     * @return true se o saldo da troca for negativo.
+     */
+    public static boolean isLosing(Board board, int move, int[] gain) {
+        return evaluate(board, move, gain) < 0;
+    }
+
+    /**
+     * Retorna o valor de uma peça na troca.
+     *
+     * @param piece valor do tipo ({@link Type#getValor()}).
+     * @return valor em centipeões.
+     */
+    public static int value(int piece) {
+        return VALUES[piece % 6];
+    }
+
+    /**
+     * Escolhe o atacante de menor valor de um lado.
+     *
+     * @param board     tabuleiro atual.
+     * @param attackers atacantes do lado (não vazio).
+     * @param side      0 para as brancas e 1 para as pretas.
+     * @return casa do atacante nos 6 bits inferiores e o tipo sem cor nos bits seguintes.
+     */
+    private static int leastValuable(Board board, long attackers, int side) {
+        for (int type : LEAST_VALUABLE_FIRST) {
+            long pieces = attackers & board.getBitboard(TYPES[side * 6 + type]);
+            if (pieces != 0) {
+                return type << 6 | BitboardUtils.lsb(pieces);
+            }
+        }
+        throw new IllegalStateException("Conjunto de atacantes vazio.");
+    }
+}
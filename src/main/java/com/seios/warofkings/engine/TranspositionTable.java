@@ -0,0 +1,251 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.moves.Move;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tabela de transposição compartilhada e sem travas, indexada pela chave de Zobrist.
+ * <p>
+ * Cada entrada ocupa dois {@code long}: o primeiro guarda {@code chave ^ dados} e o segundo os dados
+ * compactados (melhor movimento, pontuação, profundidade, tipo de limite e idade). Leituras e escritas
+ * são atômicas por elemento, mas não entre os dois; uma entrada misturada por escritas simultâneas de
+ * threads diferentes não passa na validação por XOR e é tratada como ausência, como na
+ * {@link com.seios.warofkings.perft.PerftTable}. Nenhuma operação usa travas, e a tabela pode ser
+ * usada ao mesmo tempo por todas as threads de um {@link ParallelSearch}.
+ * </p>
+ *
+ * <pre>
+ *  bits  0-27  movimento ({@link Move})
+ *  bits 28-43  pontuação (16 bits com sinal)
+ *  bits 44-51  profundidade
+ *  bits 52-53  tipo de limite ({@link #EXACT}, {@link #LOWER} ou {@link #UPPER})
+ *  bits 54-59  idade (geração da busca que gravou a entrada)
+ * </pre>
+ *
+ * <p>As entradas são agrupadas em baldes de {@link #BUCKET_SIZE} (64 bytes, uma linha de cache). A
+ * chave escolhe o balde; uma posição já presente é atualizada no lugar e, caso contrário, substitui
+ * a entrada de menor valor, em que cada geração de idade pesa como {@link #AGE_WEIGHT} plies de
+ * profundidade. Assim, entradas profundas sobrevivem a buscas rasas, mas as de buscas antigas acabam
+ * substituídas.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class TranspositionTable {
+    /** Pontuação é um limite superior (nenhum movimento superou alfa). */
+    public static final int UPPER = 1;
+
+    /** Pontuação é um limite inferior (corte beta). */
+    public static final int LOWER = 2;
+
+    /** Pontuação exata (dentro da janela). */
+    public static final int EXACT = 3;
+
+    /** Entradas por balde. */
+    public static final int BUCKET_SIZE = 4;
+
+    /** Plies de profundidade equivalentes a uma geração de idade na escolha da entrada substituída. */
+    private static final int AGE_WEIGHT = 8;
+
+    /** Quantidade de gerações distintas (6 bits). */
+    private static final int AGE_MASK = 0x3F;
+
+    /** Entradas amostradas por {@link #hashfull()}. */
+    private static final int HASHFULL_SAMPLE = 1000;
+
+    /** Entradas intercaladas: chave validada em {@code 2i} e dados em {@code 2i + 1}. */
+    private final AtomicLongArray entries;
+
+    /** Máscara para o índice do balde (quantidade de baldes menos um). */
+    private final int bucketMask;
+
+    /** Geração atual, incrementada por {@link #newSearch()}. */
+    private volatile int generation;
+
+    /**
+     * Cria a tabela com o maior número de entradas (potência de dois) que cabe no tamanho informado.
+     *
+     * @param megabytes tamanho aproximado em MB (mínimo 1).
+     */
+    public TranspositionTable(int megabytes) {
+        long bytes = Math.max(1, megabytes) * 1024L * 1024L;
+        int count = Integer.highestOneBit((int) Math.min(bytes / 16, 1 << 29));
+        this.entries = new AtomicLongArray(count * 2);
+        this.bucketMask = count / BUCKET_SIZE - 1;
+    }
+
+    /**
+     * Procura a entrada de uma posição.
+     *
+     * @param key chave de Zobrist da posição.
+     * @return dados compactados (lidos com {@link #move(long)}, {@link #score(long)},
+     *         {@link #depth(long)} e {@link #bound(long)}), ou 0 se a entrada não existir ou for inválida.
+     */
+    public long probe(long key) {
+        int first = bucket(key);
+        for (int i = first; i < first + BUCKET_SIZE; i++) {
+            long data = entries.getOpaque(2 * i + 1);
+            long check = entries.getOpaque(2 * i);
+            if (data != 0 && (check ^ data) == key) return data;
+        }
+        return 0L;
+    }
+
+    /**
+     * Guarda o resultado da busca de uma posição.
+     * <p>
+     * Se a posição já estiver no balde, a entrada é atualizada, exceto quando a existente for da
+     * geração atual, mais profunda e não exata; o melhor movimento anterior é mantido se o novo for
+     * {@link Move#NONE}. Caso contrário, é substituída a entrada vazia ou de menor profundidade
+     * ajustada pela idade.
+     * </p>
+     *
+     * @param key   chave de Zobrist da posição.
+     * @param move  melhor movimento, ou {@link Move#NONE}.
+     * @param score pontuação (já ajustada para a distância de mate relativa à posição).
+     * @param depth profundidade restante da busca (até 255).
+     * @param bound {@link #EXACT}, {@link #LOWER} ou {@link #UPPER}.
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int age = generation;
+        int first = bucket(key);
+        int target = first;
+        int lowest = Integer.MAX_VALUE;
+
+        for (int i = first; i < first + BUCKET_SIZE; i++) {
+            long data = entries.getOpaque(2 * i + 1);
+            if (data == 0) {
+                if (lowest > Integer.MIN_VALUE) {
+                    target = i;
+                    lowest = Integer.MIN_VALUE;
+                }
+                continue;
+            }
+            if ((entries.getOpaque(2 * i) ^ data) == key) {
+                if (age(data) == age && depth(data) > depth && bound != EXACT) return;
+                if (move == Move.NONE) move = move(data);
+                target = i;
+                break;
+            }
+            int value = depth(data) - AGE_WEIGHT * ((age - age(data)) & AGE_MASK);
+            if (value < lowest) {
+                target = i;
+                lowest = value;
+            }
+        }
+
+        long data = (move & 0xFFF_FFFFL)
+                | (score & 0xFFFFL) << 28
+                | (long) depth << 44
+                | (long) bound << 52
+                | (long) age << 54;
+        entries.setOpaque(2 * target, key ^ data);
+        entries.setOpaque(2 * target + 1, data);
+    }
+
+    /**
+     * Inicia uma nova geração: as entradas gravadas por buscas anteriores continuam válidas, mas
+     * passam a ser substituídas com preferência. Deve ser chamado uma vez no início de cada busca.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & AGE_MASK;
+    }
+
+    /**
+     * Estima a ocupação da tabela pela busca atual, amostrando as primeiras {@link #HASHFULL_SAMPLE}
+     * entradas, no estilo do {@code hashfull} do protocolo UCI.
+     *
+     * @return entradas da geração atual por mil (0 a 1000).
+     */
+    public int hashfull() {
+        int age = generation;
+        int sample = Math.min(HASHFULL_SAMPLE, size());
+        int used = 0;
+        for (int i = 0; i < sample; i++) {
+            long data = entries.getOpaque(2 * i + 1);
+            if (data != 0 && age(data) == age) used++;
+        }
+        return used * 1000 / sample;
+    }
+
+    /**
+     * Limpa todas as entradas e reinicia a geração.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.setPlain(i, 0L);
+        }
+        generation = 0;
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return número de entradas (baldes vezes {@link #BUCKET_SIZE}).
+     */
+    public int size() {
+        return (bucketMask + 1) * BUCKET_SIZE;
+    }
+
+    /**
+     * Extrai o melhor movimento dos dados de uma entrada.
+     *
+     * @param data dados retornados por {@link #probe(long)}.
+     * @return movimento codificado, ou {@link Move#NONE}.
+     */
+    public static int move(long data) {
+        return (int) (data & 0xFFF_FFFFL);
+    }
+
+    /**
+     * Extrai a pontuação dos dados de uma entrada.
+     *
+     * @param data dados retornados por {@link #probe(long)}.
+     * @return pontuação.
+     */
+    public static int score(long data) {
+        return (short) (data >>> 28);
+    }
+
+    /**
+     * Extrai a profundidade dos dados de uma entrada.
+     *
+     * @param data dados retornados por {@link #probe(long)}.
+     * @return profundidade restante da busca que gerou a entrada.
+     */
+    public static int depth(long data) {
+        return (int) (data >>> 44) & 0xFF;
+    }
+
+    /**
+     * Extrai o tipo de limite dos dados de uma entrada.
+     *
+     * @param data dados retornados por {@link #probe(long)}.
+     * @return {@link #EXACT}, {@link #LOWER} ou {@link #UPPER}.
+     */
+    public static int bound(long data) {
+        return (int) (data >>> 52) & 0x3;
+    }
+
+    /**
+     * Extrai a idade dos dados de uma entrada.
+     *
+     * @param data dados retornados por {@link #probe(long)}.
+     * @return geração da busca que gravou a entrada.
+     */
+    public static int age(long data) {
+        return (int) (data >>> 54) & AGE_MASK;
+    }
+
+    /**
+     * Calcula o índice da primeira entrada do balde de uma chave.
+     *
+     * @param key chave de Zobrist.
+     * @return índice da entrada.
+     */
+    private int bucket(long key) {
+        return ((int) key & bucketMask) * BUCKET_SIZE;
+    }
+}
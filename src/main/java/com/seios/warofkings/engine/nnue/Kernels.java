@@ -0,0 +1,72 @@
+package com.seios.warofkings.engine.nnue;
+
+/**
+ * Operações sobre vetores de {@code short} usadas pela {@link NnueEvaluator}: somar ou subtrair uma
+ * coluna de pesos do acumulador e o produto escalar da camada de saída com a ativação CReLU.
+ * <p>
+ * Há uma implementação escalar ({@link ScalarKernels}), que funciona em qualquer JVM, e uma vetorial
+ * ({@link VectorKernels}) com a Vector API ({@code jdk.incubator.vector}), escolhida por
+ * {@link #best()} quando o módulo está presente. As duas devem produzir exatamente os mesmos valores.
+ * </p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+interface Kernels {
+
+    /**
+     * Soma ao acumulador os {@code accumulator.length} pesos a partir de {@code offset}.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    void add(short[] accumulator, short[] weights, int offset);
+
+    /**
+     * Subtrai do acumulador os {@code accumulator.length} pesos a partir de {@code offset}.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    void subtract(short[] accumulator, short[] weights, int offset);
+
+    /**
+     * Aplica a ativação CReLU (limitada a {@code [0, Network.QA]}) ao acumulador e calcula o produto
+     * escalar com os pesos da saída a partir de {@code offset}.
+     *
+     * @param accumulator acumulador de uma perspectiva.
+     * @param weights     pesos da saída.
+     * @param offset      início dos pesos da perspectiva.
+     * @return soma dos produtos.
+     */
+    int dot(short[] accumulator, short[] weights, int offset);
+
+    /**
+     * Retorna o nome da implementação, para os relatórios de desempenho.
+     *
+     * @return nome curto.
+     */
+    String name();
+
+    /**
+     * Indica se a Vector API está disponível (a JVM foi iniciada com
+     * {@code --add-modules jdk.incubator.vector}).
+     *
+     * @return true se {@link VectorKernels} pode ser usada.
+     */
+    static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    /**
+     * Escolhe a implementação vetorial quando disponível e a escalar caso contrário.
+     *
+     * @return implementação mais rápida disponível.
+     */
+    static Kernels best() {
+        return isVectorAvailable() ? new VectorKernels() : new ScalarKernels();
+    }
+}
@@ -0,0 +1,266 @@
+package com.seios.warofkings.engine.nnue;
+
+import com.seios.warofkings.pieces.enums.Type;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Pesos quantizados de uma rede neural de avaliação no estilo NNUE
+ * (<i>efficiently updatable neural network</i>): 768 entradas, uma camada oculta de tamanho
+ * {@link #getHidden()} por perspectiva e uma saída.
+ * <p>
+ * Cada entrada corresponde a uma peça numa casa vista de uma das cores ({@link #feature(int, int, int)}).
+ * A primeira camada é a soma das colunas de pesos das peças presentes mais o viés, e por isso pode ser
+ * atualizada a cada movimento somando e subtraindo só as colunas das peças que mudaram
+ * ({@link NnueEvaluator}). As duas perspectivas, a do lado que tem a vez primeiro, passam por uma
+ * ativação linear limitada a {@code [0, QA]} (CReLU) e chegam à saída por um produto escalar.
+ * </p>
+ *
+ * <p>Formato do arquivo de pesos (little-endian, sem preenchimento):</p>
+ * <pre>
+ *   int     MAGIC ("WKNN")
+ *   int     VERSION
+ *   int     H                       tamanho da camada oculta
+ *   short   [768 * H]               pesos das entradas, H por entrada
+ *   short   [H]                     viés da camada oculta
+ *   short   [2 * H]                 pesos da saída: lado que tem a vez, depois o adversário
+ *   int                             viés da saída
+ * </pre>
+ *
+ * <p>Os pesos da camada oculta estão na escala {@link #QA} e os da saída em {@link #QB}; a saída
+ * vezes {@link #SCALE} / ({@code QA * QB}) dá centipeões. O arquivo é lido por mapeamento em memória,
+ * sem cópias intermediárias além dos vetores finais.</p>
+ *
+ * <p><b>Nota:</b> imutável depois de carregada; a mesma rede pode ser usada por várias buscas.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Network {
+    /** Identificador do formato ("WKNN" em little-endian). */
+    public static final int MAGIC = 0x4E4E4B57;
+
+    /** Versão do formato. */
+    public static final int VERSION = 1;
+
+    /** Quantidade de entradas: 2 cores x 6 tipos x 64 casas. */
+    public static final int INPUTS = 768;
+
+    /** Escala de quantização da camada oculta (limite superior da ativação). */
+    public static final int QA = 255;
+
+    /** Escala de quantização dos pesos da saída. */
+    public static final int QB = 64;
+
+    /** Fator que converte a saída da rede em centipeões. */
+    public static final int SCALE = 400;
+
+    /** Tamanho do cabeçalho em bytes. */
+    private static final int HEADER_BYTES = 12;
+
+    /** Maior tamanho aceito para a camada oculta. */
+    private static final int MAX_HIDDEN = 4096;
+
+    /** Tamanho da camada oculta. */
+    private final int hidden;
+
+    /** Pesos das entradas, {@link #hidden} consecutivos por entrada. */
+    private final short[] featureWeights;
+
+    /** Viés da camada oculta. */
+    private final short[] featureBias;
+
+    /** Pesos da saída: {@link #hidden} do lado que tem a vez e depois {@link #hidden} do adversário. */
+    private final short[] outputWeights;
+
+    /** Viés da saída. */
+    private final int outputBias;
+
+    /**
+     * Cria a rede a partir dos pesos já quantizados.
+     *
+     * @param hidden         tamanho da camada oculta.
+     * @param featureWeights pesos das entradas ({@code 768 * hidden}).
+     * @param featureBias    viés da camada oculta ({@code hidden}).
+     * @param outputWeights  pesos da saída ({@code 2 * hidden}).
+     * @param outputBias     viés da saída.
+     * @throws IllegalArgumentException se os tamanhos não forem coerentes.
+     */
+    public Network(int hidden, short[] featureWeights, short[] featureBias, short[] outputWeights, int outputBias) {
+        if (hidden <= 0 || hidden > MAX_HIDDEN) {
+            throw new IllegalArgumentException("Tamanho da camada oculta inválido: " + hidden);
+        }
+        if (featureWeights.length != INPUTS * hidden || featureBias.length != hidden || outputWeights.length != 2 * hidden) {
+            throw new IllegalArgumentException("Quantidade de pesos incompatível com a camada oculta de " + hidden);
+        }
+        this.hidden = hidden;
+        this.featureWeights = featureWeights;
+        this.featureBias = featureBias;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    /**
+     * Carrega a rede de um arquivo no formato descrito na classe, mapeando-o em memória.
+     *
+     * @param path arquivo de pesos.
+     * @return rede carregada.
+     * @throws IOException se o arquivo não puder ser lido ou não estiver no formato esperado.
+     */
+    public static Network load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Arquivo de rede muito curto: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Arquivo de rede inválido: " + path);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Versão de rede não suportada: " + version);
+            }
+            int hidden = buffer.getInt();
+            if (hidden <= 0 || hidden > MAX_HIDDEN || size != fileSize(hidden)) {
+                throw new IOException("Tamanho do arquivo de rede incompatível com a camada oculta de " + hidden);
+            }
+
+            short[] featureWeights = new short[INPUTS * hidden];
+            short[] featureBias = new short[hidden];
+            short[] outputWeights = new short[2 * hidden];
+            buffer.asShortBuffer().get(featureWeights).get(featureBias).get(outputWeights);
+            buffer.position(buffer.position() + 2 * (featureWeights.length + featureBias.length + outputWeights.length));
+            return new Network(hidden, featureWeights, featureBias, outputWeights, buffer.getInt());
+        }
+    }
+
+    /**
+     * Grava a rede no formato descrito na classe.
+     *
+     * @param path arquivo de destino (substituído se existir).
+     * @throws IOException se o arquivo não puder ser gravado.
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) fileSize(hidden)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(hidden);
+        for (short weight : featureWeights) buffer.putShort(weight);
+        for (short bias : featureBias) buffer.putShort(bias);
+        for (short weight : outputWeights) buffer.putShort(weight);
+        buffer.putInt(outputBias);
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Cria uma rede com pesos pseudoaleatórios pequenos, usada em testes e nas medições de
+     * desempenho quando não há um arquivo de pesos treinado.
+     *
+     * @param seed   semente do gerador.
+     * @param hidden tamanho da camada oculta.
+     * @return rede com os pesos sorteados.
+     */
+    public static Network random(long seed, int hidden) {
+        Random random = new Random(seed);
+        short[] featureWeights = new short[INPUTS * hidden];
+        short[] featureBias = new short[hidden];
+        short[] outputWeights = new short[2 * hidden];
+        // com 32 peças no máximo, a soma de uma perspectiva fica longe do limite de um short
+        for (int i = 0; i < featureWeights.length; i++) featureWeights[i] = (short) (random.nextInt(129) - 64);
+        for (int i = 0; i < featureBias.length; i++) featureBias[i] = (short) random.nextInt(QA + 1);
+        for (int i = 0; i < outputWeights.length; i++) outputWeights[i] = (short) (random.nextInt(2 * QB + 1) - QB);
+        return new Network(hidden, featureWeights, featureBias, outputWeights, random.nextInt(2 * QA * QB + 1) - QA * QB);
+    }
+
+    /**
+     * Calcula o índice da entrada de uma peça numa casa, vista de uma das cores.
+     * <p>
+     * Para as pretas o tabuleiro é espelhado na vertical e as cores são trocadas, de forma que cada
+     * perspectiva vê as próprias peças como "aliadas" avançando para cima; uma posição e a sua
+     * espelhada com as cores trocadas têm a mesma avaliação.
+     * </p>
+     *
+     * @param perspective 0 para as brancas e 1 para as pretas.
+     * @param piece       valor do tipo da peça ({@link Type#getValor()}).
+     * @param square      casa (0 a 63, a8 = 0).
+     * @return índice da entrada (0 a 767).
+     */
+    public static int feature(int perspective, int piece, int square) {
+        int color = piece / 6;
+        if (perspective == 0) {
+            return color * 384 + (piece % 6) * 64 + square;
+        }
+        return (color ^ 1) * 384 + (piece % 6) * 64 + (square ^ 56);
+    }
+
+    /**
+     * Retorna o tamanho da camada oculta.
+     *
+     * @return quantidade de neurônios por perspectiva.
+     */
+    public int getHidden() {
+        return hidden;
+    }
+
+    /**
+     * Retorna os pesos das entradas, {@link #getHidden()} consecutivos por entrada.
+     *
+     * @return vetor interno (não deve ser alterado).
+     */
+    short[] getFeatureWeights() {
+        return featureWeights;
+    }
+
+    /**
+     * Retorna o viés da camada oculta.
+     *
+     * @return vetor interno (não deve ser alterado).
+     */
+    short[] getFeatureBias() {
+        return featureBias;
+    }
+
+    /**
+     * Retorna os pesos da saída: o lado que tem a vez e depois o adversário.
+     *
+     * @return vetor interno (não deve ser alterado).
+     */
+    short[] getOutputWeights() {
+        return outputWeights;
+    }
+
+    /**
+     * Retorna o viés da saída.
+     *
+     * @return viés na escala {@code QA * QB}.
+     */
+    int getOutputBias() {
+        return outputBias;
+    }
+
+    /**
+     * Calcula o tamanho em bytes do arquivo de uma rede.
+     *
+     * @param hidden tamanho da camada oculta.
+     * @return tamanho do arquivo.
+     */
+    private static long fileSize(int hidden) {
+        return HEADER_BYTES + 2L * (INPUTS + 3L) * hidden + 4;
+    }
+}
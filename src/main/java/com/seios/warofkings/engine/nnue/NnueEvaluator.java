@@ -0,0 +1,409 @@
+package com.seios.warofkings.engine.nnue;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.engine.Evaluation;
+import com.seios.warofkings.engine.PawnHashTable;
+import com.seios.warofkings.engine.Search;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
+import com.seios.warofkings.utils.FenUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Avaliação de posições por uma {@link Network} com a primeira camada atualizada de forma incremental.
+ * <p>
+ * O acumulador guarda, para cada perspectiva, a soma das colunas de pesos das peças presentes. Um
+ * movimento muda no máximo quatro entradas (a peça que sai da origem e chega ao destino, a capturada,
+ * a peça promovida e a torre do roque), e {@link #push(int)} copia o acumulador do ply anterior e soma
+ * ou subtrai só essas colunas, em vez de recalcular as 768 entradas. {@link #pop()} volta ao acumulador
+ * anterior sem nenhuma conta, acompanhando o {@link Board#unmakeMove(int)}. As somas e o produto
+ * escalar da saída usam a Vector API quando disponível ({@link Kernels#best()}).
+ * </p>
+ *
+ * <p>Uso na busca: {@link #refresh(Board)} na raiz, {@link #push(int)} antes de cada
+ * {@link Board#makeMove(int)}, {@link #pop()} depois do {@link Board#unmakeMove(int)} correspondente e
+ * {@link #evaluate(Turn)} nas folhas.</p>
+ *
+ * <p>Uso pela linha de comando (medição de avaliações por segundo contra a {@link Evaluation}):</p>
+ * <pre>
+ *   NnueEvaluator [opções] [fen]     percorre a árvore e avalia cada nó
+ *
+ *   --depth N        profundidade do percurso (padrão 4)
+ *   --weights arq    arquivo de pesos ({@link Network}); sem ele, uma rede aleatória
+ *   --hidden N       camada oculta da rede aleatória (padrão 256)
+ *   --scalar         mede só a implementação escalar
+ * </pre>
+ *
+ * <p><b>Nota:</b> não é thread-safe; cada {@link Search} tem a sua, e todas podem compartilhar a mesma
+ * {@link Network}.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class NnueEvaluator {
+    /** Maior pontuação retornada, bem abaixo das pontuações de mate da busca. */
+    public static final int MAX_SCORE = 10_000;
+
+    /** Profundidade padrão do percurso pela linha de comando. */
+    private static final int DEFAULT_DEPTH = 4;
+
+    /** Camada oculta padrão da rede aleatória pela linha de comando. */
+    private static final int DEFAULT_HIDDEN = 256;
+
+    /** Passadas de aquecimento antes das medições pela linha de comando. */
+    private static final int WARMUP_ROUNDS = 3;
+
+    /** Modo do percurso sem avaliação, que mede o custo de gerar e aplicar os movimentos. */
+    private static final int WALK = 0;
+
+    /** Modo do percurso com a avaliação manual. */
+    private static final int HANDCRAFTED = 1;
+
+    /** Modo do percurso com a rede atualizada de forma incremental. */
+    private static final int INCREMENTAL = 2;
+
+    /** Modo do percurso com a rede recalculada do zero em cada nó. */
+    private static final int REFRESH = 3;
+
+    /** Tipos indexados pelo valor, para ler os bitboards de cada peça. */
+    private static final Type[] TYPES = Type.values();
+
+    /** Soma das avaliações do percurso de medição, para que o JIT não as descarte. */
+    private static long sink;
+
+    /** Rede avaliada. */
+    private final Network network;
+
+    /** Implementação das operações vetoriais. */
+    private final Kernels kernels;
+
+    /** Pesos das entradas da rede. */
+    private final short[] weights;
+
+    /** Tamanho da camada oculta. */
+    private final int hidden;
+
+    /** Acumuladores por ply e perspectiva (0 brancas, 1 pretas). */
+    private final short[][][] accumulators;
+
+    /** Ply do acumulador atual. */
+    private int top;
+
+    /**
+     * Cria o avaliador com a implementação mais rápida disponível.
+     *
+     * @param network rede avaliada.
+     */
+    public NnueEvaluator(Network network) {
+        this(network, Kernels.best());
+    }
+
+    /**
+     * Cria o avaliador escolhendo entre a implementação vetorial e a escalar.
+     *
+     * @param network rede avaliada.
+     * @param simd    true para usar a Vector API, se disponível; false para a implementação escalar.
+     */
+    public NnueEvaluator(Network network, boolean simd) {
+        this(network, simd ? Kernels.best() : new ScalarKernels());
+    }
+
+    /**
+     * Cria o avaliador com a implementação informada.
+     *
+     * @param network rede avaliada.
+     * @param kernels implementação das operações vetoriais.
+     */
+    NnueEvaluator(Network network, Kernels kernels) {
+        this.network = network;
+        this.kernels = kernels;
+        this.weights = network.getFeatureWeights();
+        this.hidden = network.getHidden();
+        this.accumulators = new short[Search.MAX_PLY + 1][2][hidden];
+    }
+
+    /**
+     * Indica se a Vector API está disponível nesta JVM.
+     *
+     * @return true se a JVM foi iniciada com {@code --add-modules jdk.incubator.vector}.
+     */
+    public static boolean isSimdAvailable() {
+        return Kernels.isVectorAvailable();
+    }
+
+    /**
+     * Retorna o nome da implementação das operações vetoriais em uso.
+     *
+     * @return por exemplo {@code "escalar"} ou {@code "vetorial (256 bits)"}.
+     */
+    public String getKernelName() {
+        return kernels.name();
+    }
+
+    /**
+     * Retorna a rede avaliada.
+     *
+     * @return rede.
+     */
+    public Network getNetwork() {
+        return network;
+    }
+
+    /**
+     * Recalcula o acumulador do zero a partir das peças do tabuleiro e volta ao primeiro ply.
+     *
+     * @param board tabuleiro atual.
+     */
+    public void refresh(Board board) {
+        top = 0;
+        for (int perspective = 0; perspective < 2; perspective++) {
+            short[] accumulator = accumulators[0][perspective];
+            System.arraycopy(network.getFeatureBias(), 0, accumulator, 0, hidden);
+            for (int piece = 0; piece < TYPES.length; piece++) {
+                long pieces = board.getBitboard(TYPES[piece]);
+                while (pieces != 0) {
+                    kernels.add(accumulator, weights, Network.feature(perspective, piece, BitboardUtils.lsb(pieces)) * hidden);
+                    pieces = BitboardUtils.popLsb(pieces);
+                }
+            }
+        }
+    }
+
+    /**
+     * Avança um ply aplicando ao acumulador as mudanças do movimento. Deve ser chamado com o movimento
+     * que será passado ao {@link Board#makeMove(int)}; as peças envolvidas são lidas da codificação
+     * do movimento, sem consultar o tabuleiro.
+     *
+     * @param move movimento codificado por {@link Move}.
+     */
+    public void push(int move) {
+        short[][] parent = accumulators[top];
+        short[][] child = accumulators[++top];
+        System.arraycopy(parent[0], 0, child[0], 0, hidden);
+        System.arraycopy(parent[1], 0, child[1], 0, hidden);
+
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int piece = Move.piece(move);
+        remove(child, piece, from);
+        if (Move.captured(move) != Move.NO_PIECE) {
+            remove(child, Move.captured(move), Move.isEnPassant(move) ? to ^ 8 : to);
+        }
+        add(child, Move.isPromotion(move) ? Move.promotion(move) : piece, to);
+
+        if (Move.isCastling(move)) {
+            // o rei e a torre da mesma cor estão a quatro valores de distância em Type
+            int rook = piece - 4;
+            remove(child, rook, to > from ? from | 7 : from & ~7);
+            add(child, rook, (from + to) >>> 1);
+        }
+    }
+
+    /**
+     * Avança um ply sem mudar as peças, para um lance nulo (só a vez muda).
+     */
+    public void pushNull() {
+        short[][] parent = accumulators[top];
+        short[][] child = accumulators[++top];
+        System.arraycopy(parent[0], 0, child[0], 0, hidden);
+        System.arraycopy(parent[1], 0, child[1], 0, hidden);
+    }
+
+    /**
+     * Volta ao acumulador do ply anterior, desfazendo o último {@link #push(int)} ou {@link #pushNull()}.
+     */
+    public void pop() {
+        top--;
+    }
+
+    /**
+     * Avalia a posição do acumulador atual.
+     *
+     * @param turn lado que tem a vez.
+     * @return pontuação em centipeões do ponto de vista do lado que tem a vez, limitada a
+     *         {@link #MAX_SCORE}.
+     */
+    public int evaluate(Turn turn) {
+        int us = turn == Turn.WHITE ? 0 : 1;
+        short[][] accumulator = accumulators[top];
+        short[] output = network.getOutputWeights();
+        long sum = (long) kernels.dot(accumulator[us], output, 0)
+                + kernels.dot(accumulator[us ^ 1], output, hidden)
+                + network.getOutputBias();
+        long score = sum * Network.SCALE / (Network.QA * Network.QB);
+        return (int) Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    /**
+     * Retorna uma cópia do acumulador atual de uma perspectiva, para os testes.
+     *
+     * @param perspective 0 para as brancas e 1 para as pretas.
+     * @return cópia do acumulador.
+     */
+    short[] accumulator(int perspective) {
+        return Arrays.copyOf(accumulators[top][perspective], hidden);
+    }
+
+    /**
+     * Ponto de entrada da linha de comando: mede as avaliações por segundo da {@link Evaluation} e da
+     * rede (incremental com cada implementação disponível e recalculada em cada nó) percorrendo a mesma
+     * árvore.
+     *
+     * @param args {@code [opções] [fen]}.
+     * @throws IOException se o arquivo de pesos não puder ser lido.
+     */
+    public static void main(String[] args) throws IOException {
+        int depth = DEFAULT_DEPTH;
+        int hiddenSize = DEFAULT_HIDDEN;
+        Path weightsFile = null;
+        boolean scalarOnly = false;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("--"); i++) {
+            switch (args[i]) {
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--weights" -> weightsFile = Path.of(args[++i]);
+                case "--hidden" -> hiddenSize = Integer.parseInt(args[++i]);
+                case "--scalar" -> scalarOnly = true;
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        String fen = i < args.length ? String.join(" ", Arrays.copyOfRange(args, i, args.length)) : FenUtils.START_POSITION;
+        Network network = weightsFile != null ? Network.load(weightsFile) : Network.random(1, hiddenSize);
+        System.out.printf("Rede: %s (camada oculta de %d)  Vector API: %s%n",
+                weightsFile != null ? weightsFile : "aleatória", network.getHidden(),
+                isSimdAvailable() ? "disponível" : "indisponível");
+
+        NnueEvaluator scalar = new NnueEvaluator(network, new ScalarKernels());
+        NnueEvaluator best = scalarOnly ? scalar : new NnueEvaluator(network);
+        PawnHashTable pawns = new PawnHashTable(PawnHashTable.DEFAULT_ENTRIES);
+        Board board = FenUtils.load(fen);
+
+        // passadas sem medição aquecem o JIT em todos os modos; a Vector API só é compilada para
+        // instruções SIMD depois que o método fica quente
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int mode = WALK; mode <= REFRESH; mode++) {
+                measure(board, depth, mode, best, pawns);
+            }
+            measure(board, depth, INCREMENTAL, scalar, pawns);
+        }
+
+        long[] walk = measure(board, depth, WALK, best, pawns);
+        report("Percurso sem avaliação", walk, 0);
+        report("Avaliação manual", measure(board, depth, HANDCRAFTED, best, pawns), walk[1]);
+        report("NNUE incremental " + scalar.getKernelName(), measure(board, depth, INCREMENTAL, scalar, pawns), walk[1]);
+        if (best != scalar) {
+            report("NNUE incremental " + best.getKernelName(), measure(board, depth, INCREMENTAL, best, pawns), walk[1]);
+        }
+        report("NNUE recalculada " + best.getKernelName(), measure(board, depth, REFRESH, best, pawns), walk[1]);
+    }
+
+    /**
+     * Percorre a árvore num dos modos de medição e mede o tempo.
+     *
+     * @param board tabuleiro da raiz.
+     * @param depth profundidade do percurso.
+     * @param mode  {@link #WALK}, {@link #HANDCRAFTED}, {@link #INCREMENTAL} ou {@link #REFRESH}.
+     * @param nnue  avaliador da rede.
+     * @param pawns cache da estrutura de peões da avaliação manual.
+     * @return nós avaliados e tempo em nanossegundos, nessa ordem.
+     */
+    private static long[] measure(Board board, int depth, int mode, NnueEvaluator nnue, PawnHashTable pawns) {
+        MoveList[] lists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            lists[i] = new MoveList();
+        }
+        nnue.refresh(board);
+        long start = System.nanoTime();
+        long nodes = walk(board, depth, mode, nnue, pawns, lists);
+        return new long[] {nodes, System.nanoTime() - start};
+    }
+
+    /**
+     * Imprime a vazão de um modo de medição.
+     *
+     * @param label    nome do modo.
+     * @param measured nós e tempo em nanossegundos.
+     * @param walk     tempo do percurso sem avaliação, descontado na vazão só da avaliação (0 para omiti-la).
+     */
+    private static void report(String label, long[] measured, long walk) {
+        long nanos = Math.max(measured[1], 1);
+        System.out.printf("%-38s Nós: %d  Tempo: %d ms  Nós/s: %d", label, measured[0], nanos / 1_000_000,
+                measured[0] * 1_000_000_000L / nanos);
+        if (walk > 0 && nanos > walk) {
+            System.out.printf("  Avaliações/s (sem o percurso): %d",
+                    measured[0] * 1_000_000_000L / Math.max(nanos - walk, 1));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Percorre a árvore com make/unmake, avaliando cada nó conforme o modo.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     * @param mode  modo de medição.
+     * @param nnue  avaliador da rede.
+     * @param pawns cache da estrutura de peões.
+     * @param lists listas de movimentos indexadas pela profundidade restante.
+     * @return quantidade de nós visitados.
+     */
+    private static long walk(Board board, int depth, int mode, NnueEvaluator nnue, PawnHashTable pawns, MoveList[] lists) {
+        switch (mode) {
+            case HANDCRAFTED -> sink += Evaluation.evaluate(board, pawns);
+            case INCREMENTAL -> sink += nnue.evaluate(board.getTurn());
+            case REFRESH -> {
+                nnue.refresh(board);
+                sink += nnue.evaluate(board.getTurn());
+            }
+            default -> { }
+        }
+        if (depth == 0) return 1;
+
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.generateLegalMoves(board, moves);
+        long nodes = 1;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (mode == INCREMENTAL) nnue.push(move);
+            board.makeMove(move);
+            nodes += walk(board, depth - 1, mode, nnue, pawns, lists);
+            board.unmakeMove(move);
+            if (mode == INCREMENTAL) nnue.pop();
+        }
+        return nodes;
+    }
+
+    /**
+     * Soma a coluna de pesos de uma peça numa casa aos acumuladores das duas perspectivas.
+     *
+     * @param accumulator acumuladores do ply.
+     * @param piece       valor do tipo da peça.
+     * @param square      casa.
+     */
+    private void add(short[][] accumulator, int piece, int square) {
+        kernels.add(accumulator[0], weights, Network.feature(0, piece, square) * hidden);
+        kernels.add(accumulator[1], weights, Network.feature(1, piece, square) * hidden);
+    }
+
+    /**
+     * Subtrai a coluna de pesos de uma peça numa casa dos acumuladores das duas perspectivas.
+     *
+     * @param accumulator acumuladores do ply.
+     * @param piece       valor do tipo da peça.
+     * @param square      casa.
+     */
+    private void remove(short[][] accumulator, int piece, int square) {
+        kernels.subtract(accumulator[0], weights, Network.feature(0, piece, square) * hidden);
+        kernels.subtract(accumulator[1], weights, Network.feature(1, piece, square) * hidden);
+    }
+}
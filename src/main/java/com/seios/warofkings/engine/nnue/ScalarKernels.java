@@ -0,0 +1,68 @@
+package com.seios.warofkings.engine.nnue;
+
+/**
+ * Implementação escalar das {@link Kernels}, usada quando a Vector API não está disponível e como
+ * referência nos testes da implementação vetorial.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ScalarKernels implements Kernels {
+
+    /**
+     * Soma a coluna de pesos ao acumulador, um elemento por vez.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    @Override
+    public void add(short[] accumulator, short[] weights, int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    /**
+     * Subtrai a coluna de pesos do acumulador, um elemento por vez.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    @Override
+    public void subtract(short[] accumulator, short[] weights, int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    /**
+     * Calcula o produto escalar da ativação com os pesos da saída, um elemento por vez.
+     *
+     * @param accumulator acumulador de uma perspectiva.
+     * @param weights     pesos da saída.
+     * @param offset      início dos pesos da perspectiva.
+     * @return soma dos produtos.
+     */
+    @Override
+    public int dot(short[] accumulator, short[] weights, int offset) {
+        int sum = 0;
+        for (int i = 0; i < accumulator.length; i++) {
+            int activation = Math.min(Math.max(accumulator[i], 0), Network.QA);
+            sum += activation * weights[offset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * Retorna o nome da implementação.
+     *
+     * @return {@code "escalar"}.
+     */
+    @Override
+    public String name() {
+        return "escalar";
+    }
+}
@@ -0,0 +1,112 @@
+package com.seios.warofkings.engine.nnue;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação das {@link Kernels} com a Vector API ({@code jdk.incubator.vector}), que o JIT
+ * compila para instruções SIMD (SSE, AVX2, AVX-512 ou NEON, conforme o processador).
+ * <p>
+ * Cada iteração processa {@code SHORTS.length()} neurônios; o que sobra quando a camada oculta não é
+ * múltipla da largura do vetor é tratado elemento por elemento. No produto escalar, a ativação e os
+ * pesos são convertidos para {@code int} antes da multiplicação, em duas metades, para que os produtos
+ * não transbordem.
+ * </p>
+ *
+ * <p><b>Nota:</b> só pode ser carregada com {@code --add-modules jdk.incubator.vector}; use
+ * {@link Kernels#best()} para escolher a implementação.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class VectorKernels implements Kernels {
+    /** Espécie de vetores de {@code short} com a largura preferida do processador. */
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_PREFERRED;
+
+    /** Espécie de vetores de {@code int} com a mesma largura em bits, metade das posições. */
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    /**
+     * Soma a coluna de pesos ao acumulador, um vetor por vez.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    @Override
+    public void add(short[] accumulator, short[] weights, int offset) {
+        int i = 0;
+        for (int bound = SHORTS.loopBound(accumulator.length); i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, accumulator, i)
+                    .add(ShortVector.fromArray(SHORTS, weights, offset + i))
+                    .intoArray(accumulator, i);
+        }
+        for (; i < accumulator.length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    /**
+     * Subtrai a coluna de pesos do acumulador, um vetor por vez.
+     *
+     * @param accumulator acumulador alterado.
+     * @param weights     pesos das entradas.
+     * @param offset      início da coluna da entrada.
+     */
+    @Override
+    public void subtract(short[] accumulator, short[] weights, int offset) {
+        int i = 0;
+        for (int bound = SHORTS.loopBound(accumulator.length); i < bound; i += SHORTS.length()) {
+            ShortVector.fromArray(SHORTS, accumulator, i)
+                    .sub(ShortVector.fromArray(SHORTS, weights, offset + i))
+                    .intoArray(accumulator, i);
+        }
+        for (; i < accumulator.length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    /**
+     * Calcula o produto escalar da ativação com os pesos da saída, um vetor por vez.
+     *
+     * @param accumulator acumulador de uma perspectiva.
+     * @param weights     pesos da saída.
+     * @param offset      início dos pesos da perspectiva.
+     * @return soma dos produtos.
+     */
+    @Override
+    public int dot(short[] accumulator, short[] weights, int offset) {
+        IntVector sum = IntVector.zero(INTS);
+        int i = 0;
+        for (int bound = SHORTS.loopBound(accumulator.length); i < bound; i += SHORTS.length()) {
+            ShortVector activation = ShortVector.fromArray(SHORTS, accumulator, i)
+                    .max((short) 0)
+                    .min((short) Network.QA);
+            ShortVector weight = ShortVector.fromArray(SHORTS, weights, offset + i);
+            for (int part = 0; part < 2; part++) {
+                IntVector a = (IntVector) activation.convertShape(VectorOperators.S2I, INTS, part);
+                IntVector b = (IntVector) weight.convertShape(VectorOperators.S2I, INTS, part);
+                sum = sum.add(a.mul(b));
+            }
+        }
+
+        int result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < accumulator.length; i++) {
+            result += Math.min(Math.max(accumulator[i], 0), Network.QA) * weights[offset + i];
+        }
+        return result;
+    }
+
+    /**
+     * Retorna o nome da implementação, com a largura dos vetores usada.
+     *
+     * @return por exemplo {@code "vetorial (256 bits)"}.
+     */
+    @Override
+    public String name() {
+        return "vetorial (" + SHORTS.vectorBitSize() + " bits)";
+    }
+}
@@ -0,0 +1,213 @@
+package com.seios.warofkings.perft;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Perft paralelo sobre um {@link ForkJoinPool}.
+ * <p>
+ * As subárvores da raiz e do segundo nível são distribuídas como tarefas independentes, cada uma
+ * com a sua própria cópia do {@link Board}; o roubo de trabalho do pool equilibra subárvores de
+ * tamanhos diferentes. Abaixo do segundo nível a contagem é sequencial, com make/unmake.
+ * </p>
+ *
+ * <p>As contagens das subárvores são guardadas numa {@link PerftTable} compartilhada entre as
+ * threads, indexada por (chave de Zobrist, profundidade), de forma que transposições sejam
+ * contadas uma única vez.</p>
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+public class ParallelPerft implements AutoCloseable {
+    /** Profundidade restante mínima para dividir uma subárvore do segundo nível em tarefas. */
+    private static final int SPLIT_DEPTH = 3;
+
+    /** Profundidade restante mínima para consultar a tabela (abaixo disso contar é mais barato). */
+    private static final int HASH_DEPTH = 2;
+
+    /** Pool de threads com roubo de trabalho. */
+    private final ForkJoinPool pool;
+
+    /** Tabela compartilhada de contagens, ou {@code null} se desativada. */
+    private final PerftTable table;
+
+    /**
+     * Cria o perft paralelo.
+     *
+     * @param threads        quantidade de threads do pool.
+     * @param tableMegabytes tamanho da tabela compartilhada em MB (0 desativa a tabela).
+     */
+    public ParallelPerft(int threads, int tableMegabytes) {
+        this.pool = new ForkJoinPool(threads);
+        this.table = tableMegabytes > 0 ? new PerftTable(tableMegabytes) : null;
+    }
+
+    /**
+     * Executa o perft em paralelo, separando a contagem por movimento da raiz.
+     * <p>O tabuleiro informado não é alterado: cada tarefa trabalha numa cópia.</p>
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade (a partir de 1).
+     * @return resultado com o divide, o total e o tempo gasto.
+     */
+    public PerftResult divide(Board board, int depth) {
+        long start = System.nanoTime();
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+
+        List<SubtreeTask> tasks = new ArrayList<>(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            Board copy = new Board(board);
+            copy.makeMove(moves.get(i));
+            tasks.add(new SubtreeTask(copy, depth - 1, true));
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long total = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            long nodes = tasks.get(i).join();
+            divide.put(Move.toString(moves.get(i)), nodes);
+            total += nodes;
+        }
+
+        return new PerftResult(depth, total, System.nanoTime() - start, divide);
+    }
+
+    /**
+     * Retorna a quantidade de threads do pool.
+     *
+     * @return paralelismo do pool.
+     */
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Retorna a tabela compartilhada.
+     *
+     * @return tabela de contagens, ou {@code null} se desativada.
+     */
+    public PerftTable getTable() {
+        return table;
+    }
+
+    /**
+     * Encerra o pool de threads.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Contagem sequencial com consulta à tabela compartilhada.
+     *
+     * @param board tabuleiro da tarefa.
+     * @param depth profundidade restante.
+     * @param lists listas de movimentos indexadas pela profundidade.
+     * @return quantidade de nós folha.
+     */
+    private long count(Board board, int depth, MoveList[] lists) {
+        if (depth == 0) return 1;
+
+        long key = 0L;
+        if (table != null && depth >= HASH_DEPTH) {
+            key = board.getZobristKey();
+            long cached = table.probe(key, depth);
+            if (cached >= 0) return cached;
+        }
+
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.generateLegalMoves(board, moves);
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            board.makeMove(move);
+            nodes += count(board, depth - 1, lists);
+            board.unmakeMove(move);
+        }
+
+        if (table != null) {
+            table.store(key, depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Tarefa que conta uma subárvore. Quando marcada para divisão (segundo nível) e com profundidade
+     * suficiente, gera uma subtarefa por movimento; caso contrário, conta sequencialmente.
+     * <p>{@link RecursiveTask} é serializável, mas a tarefa nunca é serializada: o tabuleiro é transiente.</p>
+     */
+    private final class SubtreeTask extends RecursiveTask<Long> {
+        /** Versão da serialização herdada de {@link RecursiveTask}. */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** Cópia do tabuleiro exclusiva desta tarefa. */
+        private final transient Board board;
+
+        /** Profundidade restante. */
+        private final int depth;
+
+        /** Indica se a subárvore deve ser dividida em subtarefas. */
+        private final boolean split;
+
+        /**
+         * Cria a tarefa.
+         *
+         * @param board cópia do tabuleiro exclusiva desta tarefa.
+         * @param depth profundidade restante.
+         * @param split true para dividir a subárvore em subtarefas.
+         */
+        SubtreeTask(Board board, int depth, boolean split) {
+            this.board = board;
+            this.depth = depth;
+            this.split = split;
+        }
+
+        @Override
+        protected Long compute() {
+            if (!split || depth < SPLIT_DEPTH) {
+                MoveList[] lists = new MoveList[depth + 1];
+                for (int i = 0; i <= depth; i++) {
+                    lists[i] = new MoveList();
+                }
+                return count(board, depth, lists);
+            }
+
+            MoveList moves = new MoveList();
+            MoveGenerator.generateLegalMoves(board, moves);
+
+            List<SubtreeTask> tasks = new ArrayList<>(moves.size());
+            for (int i = 0; i < moves.size(); i++) {
+                Board copy = new Board(board);
+                copy.makeMove(moves.get(i));
+                tasks.add(new SubtreeTask(copy, depth - 1, false));
+            }
+
+            long nodes = 0;
+            for (SubtreeTask task : ForkJoinTask.invokeAll(tasks)) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.seios.warofkings.perft;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.utils.FenUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Perft (<i>performance test</i>): conta as posições folha alcançáveis com movimentos legais até
+ * uma profundidade fixa.
+ * <p>
+ * Comparar as contagens com valores conhecidos ({@link PerftPosition}) valida o gerador de movimentos e o
+ * {@link Board#makeMove(int)}/{@link Board#unmakeMove(int)}; o divide (nós por movimento da raiz) localiza
+ * rapidamente o movimento com contagem divergente. O tempo medido fornece a vazão em nós por segundo.
+ * </p>
+ *
+ * <p>Uso pela linha de comando:</p>
+ * <pre>
+ *   Perft [opções] &lt;profundidade&gt; [fen]     divide, total, tempo e nós/s
+ *   Perft --suite [profundidade]              confere as posições de referência
+ *
+ *   --threads N    perft paralelo com N threads ({@link ParallelPerft})
+ *   --hash MB      tabela de hash compartilhada com o tamanho informado
+ *   --scaling      mede nós/s e speedup com 1, 2, 4... até N threads
+ * </pre>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public final class Perft {
+    /** Profundidade padrão do modo de conferência das posições de referência. */
+    private static final int DEFAULT_SUITE_DEPTH = 4;
+
+    /** Tamanho padrão da tabela de hash (MB) do perft paralelo. */
+    private static final int DEFAULT_HASH_MB = 64;
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private Perft() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Conta as posições folha alcançáveis a partir do tabuleiro na profundidade informada.
+     * <p>O tabuleiro é percorrido com make/unmake e volta ao estado original ao final.</p>
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade (0 retorna 1).
+     * @return quantidade de nós folha.
+     */
+    public static long perft(Board board, int depth) {
+        if (depth <= 0) return 1;
+        return perft(board, depth, newLists(depth));
+    }
+
+    /**
+     * Executa o perft separando a contagem por movimento da raiz (divide) e medindo o tempo.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade (a partir de 1).
+     * @return resultado com o divide, o total e o tempo gasto.
+     */
+    public static PerftResult divide(Board board, int depth) {
+        MoveList[] lists = newLists(depth);
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long start = System.nanoTime();
+
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.generateLegalMoves(board, moves);
+
+        long total = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            board.makeMove(move);
+            long nodes = depth == 1 ? 1 : perft(board, depth - 1, lists);
+            board.unmakeMove(move);
+
+            divide.put(Move.toString(move), nodes);
+            total += nodes;
+        }
+
+        return new PerftResult(depth, total, System.nanoTime() - start, divide);
+    }
+
+    /**
+     * Ponto de entrada da linha de comando.
+     *
+     * @param args {@code [opções] <profundidade> [fen]} ou {@code --suite [profundidade]}.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Uso: Perft [--threads N] [--hash MB] [--scaling] <profundidade> [fen] | Perft --suite [profundidade]");
+            return;
+        }
+
+        if (args[0].equals("--suite")) {
+            int depth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SUITE_DEPTH;
+            System.exit(runSuite(depth) ? 0 : 1);
+        }
+
+        int threads = 1;
+        int hash = -1;
+        boolean scaling = false;
+        int i = 0;
+        for (; i < args.length && args[i].startsWith("--"); i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--hash" -> hash = Integer.parseInt(args[++i]);
+                case "--scaling" -> scaling = true;
+                default -> throw new IllegalArgumentException("Opção desconhecida: " + args[i]);
+            }
+        }
+
+        int depth = Integer.parseInt(args[i]);
+        String fen = i + 1 < args.length ? String.join(" ", Arrays.copyOfRange(args, i + 1, args.length)) : FenUtils.START_POSITION;
+
+        if (scaling) {
+            runScaling(FenUtils.load(fen), depth,
+                    threads > 1 ? threads : Runtime.getRuntime().availableProcessors(), Math.max(hash, 0));
+            return;
+        }
+
+        PerftResult result;
+        if (threads > 1 || hash > 0) {
+            try (ParallelPerft parallel = new ParallelPerft(threads, hash < 0 ? DEFAULT_HASH_MB : hash)) {
+                result = parallel.divide(FenUtils.load(fen), depth);
+            }
+        } else {
+            result = divide(FenUtils.load(fen), depth);
+        }
+
+        result.getDivide().forEach((move, nodes) -> System.out.println(move + ": " + nodes));
+        System.out.println();
+        System.out.println("Nós: " + result.getNodes());
+        System.out.println("Tempo: " + result.getElapsedNanos() / 1_000_000 + " ms");
+        System.out.println("Nós/s: " + result.getNodesPerSecond());
+    }
+
+    /**
+     * Mede a escalabilidade do perft paralelo: executa a mesma contagem com 1, 2, 4... threads
+     * (e com {@code maxThreads}, se não for potência de dois) e imprime nós/s e o speedup em
+     * relação a uma thread. Cada execução usa uma tabela nova, para que as medições sejam independentes,
+     * e uma execução inicial sem medição aquece o JIT.
+     *
+     * @param board      tabuleiro inicial (não é alterado).
+     * @param depth      profundidade.
+     * @param maxThreads maior quantidade de threads.
+     * @param hashMb     tamanho da tabela em MB (0 desativa).
+     */
+    public static void runScaling(Board board, int depth, int maxThreads, int hashMb) {
+        try (ParallelPerft warmup = new ParallelPerft(1, hashMb)) {
+            warmup.divide(board, depth);
+        }
+
+        double base = 0;
+        for (int threads = 1; threads <= maxThreads; threads = threads < maxThreads && threads * 2 > maxThreads ? maxThreads : threads * 2) {
+            try (ParallelPerft parallel = new ParallelPerft(threads, hashMb)) {
+                PerftResult result = parallel.divide(board, depth);
+                if (threads == 1) base = result.getElapsedNanos();
+
+                System.out.printf("Threads: %2d  Nós: %d  Tempo: %d ms  Nós/s: %d  Speedup: %.2fx%n",
+                        threads, result.getNodes(), result.getElapsedNanos() / 1_000_000,
+                        result.getNodesPerSecond(), base / result.getElapsedNanos());
+            }
+            if (threads == maxThreads) break;
+        }
+    }
+
+    /**
+     * Confere todas as posições de referência até a profundidade informada (limitada às contagens conhecidas).
+     *
+     * @param maxDepth profundidade máxima.
+     * @return true se todas as contagens conferirem.
+     */
+    public static boolean runSuite(int maxDepth) {
+        boolean ok = true;
+        long nodes = 0;
+        long elapsed = 0;
+
+        for (PerftPosition position : PerftPosition.values()) {
+            for (int depth = 1; depth <= Math.min(maxDepth, position.getMaxDepth()); depth++) {
+                PerftResult result = divide(position.toBoard(), depth);
+                boolean match = result.getNodes() == position.getExpected(depth);
+                ok &= match;
+                nodes += result.getNodes();
+                elapsed += result.getElapsedNanos();
+
+                System.out.println((match ? "OK     " : "FALHOU ") + position.name() + " " + result
+                        + (match ? "" : " - esperado " + position.getExpected(depth)));
+            }
+        }
+
+        System.out.println("Total: " + nodes + " nós em " + elapsed / 1_000_000 + " ms ("
+                + (elapsed == 0 ? 0 : (long) (nodes * 1e9 / elapsed)) + " nós/s)");
+        return ok;
+    }
+
+    /**
+     * Contagem recursiva, reaproveitando uma lista de movimentos por profundidade.
+     * No último nível os movimentos são apenas contados (<i>bulk counting</i>).
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante (a partir de 1).
+     * @param lists listas de movimentos indexadas pela profundidade.
+     * @return quantidade de nós folha.
+     */
+    private static long perft(Board board, int depth, MoveList[] lists) {
+        MoveList moves = lists[depth];
+        moves.clear();
+        MoveGenerator.generateLegalMoves(board, moves);
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            board.makeMove(move);
+            nodes += perft(board, depth - 1, lists);
+            board.unmakeMove(move);
+        }
+        return nodes;
+    }
+
+    /**
+     * Cria uma lista de movimentos para cada profundidade.
+     *
+     * @param depth profundidade máxima.
+     * @return listas indexadas de 0 a {@code depth}.
+     */
+    private static MoveList[] newLists(int depth) {
+        MoveList[] lists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            lists[i] = new MoveList();
+        }
+        return lists;
+    }
+}
@@ -0,0 +1,99 @@
+package com.seios.warofkings.perft;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.utils.FenUtils;
+
+/**
+ * Posições de referência para o perft, com as contagens de nós conhecidas por profundidade.
+ * <p>
+ * São as posições clássicas usadas para validar geradores de movimentos: a inicial, a "Kiwipete"
+ * (roques, promoções e cravadas) e as posições 3 a 6 da Chess Programming Wiki.
+ * </p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum PerftPosition {
+    /** Posição inicial. */
+    START(FenUtils.START_POSITION,
+            20L, 400L, 8_902L, 197_281L, 4_865_609L),
+
+    /** "Kiwipete": roques dos dois lados, cravadas, promoções e en passant. */
+    KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            48L, 2_039L, 97_862L, 4_085_603L),
+
+    /** Final de torre e peões com muitos xeques descobertos. */
+    POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            14L, 191L, 2_812L, 43_238L, 674_624L),
+
+    /** Posição com promoções e capturas com promoção para os dois lados. */
+    POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            6L, 264L, 9_467L, 422_333L),
+
+    /** Posição de meio-jogo com promoção em d8. */
+    POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            44L, 1_486L, 62_379L, 2_103_487L),
+
+    /** Posição simétrica de meio-jogo. */
+    POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            46L, 2_079L, 89_890L, 3_894_594L);
+
+    /** Posição em FEN. */
+    private final String fen;
+
+    /** Contagens esperadas: o índice 0 corresponde à profundidade 1. */
+    private final long[] expected;
+
+    /**
+     * Construtor da posição de referência.
+     *
+     * @param fen      posição em FEN.
+     * @param expected contagens de nós a partir da profundidade 1.
+     */
+    PerftPosition(String fen, long... expected) {
+        this.fen = fen;
+        this.expected = expected;
+    }
+
+    /**
+     * Retorna a posição em FEN.
+     *
+     * @return FEN da posição.
+     */
+    public String getFen() {
+        return fen;
+    }
+
+    /**
+     * Retorna a maior profundidade com contagem conhecida.
+     *
+     * @return profundidade máxima.
+     */
+    public int getMaxDepth() {
+        return expected.length;
+    }
+
+    /**
+     * Retorna a contagem de nós esperada para a profundidade informada.
+     *
+     * @param depth profundidade (a partir de 1).
+     * @return quantidade de nós esperada.
+     * @throws IllegalArgumentException se a profundidade não tiver contagem conhecida.
+     */
+    public long getExpected(int depth) {
+        if (depth < 1 || depth > expected.length) {
+            throw new IllegalArgumentException("Profundidade sem contagem conhecida para " + name() + ": " + depth);
+        }
+        return expected[depth - 1];
+    }
+
+    /**
+     * Cria um novo tabuleiro com esta posição.
+     *
+     * @return tabuleiro carregado a partir da FEN.
+     */
+    public Board toBoard() {
+        return FenUtils.load(fen);
+    }
+}
@@ -0,0 +1,97 @@
+package com.seios.warofkings.perft;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Resultado de uma execução do perft: contagem total, contagem por movimento da raiz (divide)
+ * e o tempo gasto, usado para calcular os nós por segundo.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PerftResult {
+    /** Profundidade pesquisada. */
+    private final int depth;
+
+    /** Total de nós folha. */
+    private final long nodes;
+
+    /** Tempo de execução em nanossegundos. */
+    private final long elapsedNanos;
+
+    /** Nós por movimento da raiz, em notação UCI e na ordem de geração. */
+    private final Map<String, Long> divide;
+
+    /**
+     * Construtor completo do resultado.
+     *
+     * @param depth        profundidade pesquisada.
+     * @param nodes        total de nós folha.
+     * @param elapsedNanos tempo de execução em nanossegundos.
+     * @param divide       nós por movimento da raiz.
+     */
+    public PerftResult(int depth, long nodes, long elapsedNanos, Map<String, Long> divide) {
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.divide = Collections.unmodifiableMap(divide);
+    }
+
+    /**
+     * Retorna a profundidade pesquisada.
+     *
+     * @return profundidade.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Retorna o total de nós folha.
+     *
+     * @return quantidade de nós.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Retorna o tempo de execução.
+     *
+     * @return tempo em nanossegundos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Retorna a contagem de nós por movimento da raiz.
+     *
+     * @return mapa imutável de movimento (UCI) para nós.
+     */
+    public Map<String, Long> getDivide() {
+        return divide;
+    }
+
+    /**
+     * Calcula a vazão da geração de movimentos.
+     *
+     * @return nós por segundo (0 se o tempo medido for nulo).
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (long) (nodes * 1e9 / elapsedNanos);
+    }
+
+    /**
+     * Representa o resultado em uma linha com nós, tempo e nós por segundo.
+     *
+     * @return resumo textual.
+     */
+    @Override
+    public String toString() {
+        return "Profundidade " + depth + ": " + nodes + " nós em " + elapsedNanos / 1_000_000 + " ms ("
+                + getNodesPerSecond() + " nós/s)";
+    }
+}
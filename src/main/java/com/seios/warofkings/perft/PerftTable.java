@@ -0,0 +1,110 @@
+package com.seios.warofkings.perft;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tabela de hash compartilhada e sem travas para o perft, mapeando (chave de Zobrist, profundidade)
+ * para a quantidade de nós da subárvore.
+ * <p>
+ * Cada entrada ocupa dois {@code long}: o primeiro guarda {@code chave ^ dados} e o segundo os dados
+ * ({@code nós << 8 | profundidade}). Leituras e escritas são atômicas por elemento, mas não entre os
+ * dois; se duas threads escreverem na mesma entrada ao mesmo tempo, a combinação misturada não passa
+ * na validação por XOR e é tratada como ausência, sem necessidade de travas.
+ * </p>
+ *
+ * <p>A substituição é sempre pela entrada mais recente.</p>
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PerftTable {
+    /** Entradas intercaladas: chave validada em {@code 2i} e dados em {@code 2i + 1}. */
+    private final AtomicLongArray entries;
+
+    /** Máscara para o índice da entrada (quantidade de entradas menos um). */
+    private final int mask;
+
+    /** Consultas realizadas. */
+    private final LongAdder probes = new LongAdder();
+
+    /** Consultas que encontraram a subárvore. */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Cria a tabela com o maior número de entradas (potência de dois) que cabe no tamanho informado.
+     *
+     * @param megabytes tamanho aproximado em MB (mínimo 1).
+     */
+    public PerftTable(int megabytes) {
+        long bytes = Math.max(1, megabytes) * 1024L * 1024L;
+        int count = Integer.highestOneBit((int) Math.min(bytes / 16, 1 << 29));
+        this.entries = new AtomicLongArray(count * 2);
+        this.mask = count - 1;
+    }
+
+    /**
+     * Procura a contagem de uma subárvore.
+     *
+     * @param key   chave de Zobrist da posição.
+     * @param depth profundidade restante.
+     * @return quantidade de nós, ou -1 se a entrada não existir ou for inválida.
+     */
+    public long probe(long key, int depth) {
+        probes.increment();
+        int index = (int) key & mask;
+        long data = entries.getOpaque(2 * index + 1);
+        long check = entries.getOpaque(2 * index);
+
+        if ((check ^ data) == key && (data & 0xFF) == depth) {
+            hits.increment();
+            return data >>> 8;
+        }
+        return -1;
+    }
+
+    /**
+     * Guarda a contagem de uma subárvore, substituindo a entrada anterior.
+     *
+     * @param key   chave de Zobrist da posição.
+     * @param depth profundidade restante (até 255).
+     * @param nodes quantidade de nós da subárvore.
+     */
+    public void store(long key, int depth, long nodes) {
+        int index = (int) key & mask;
+        long data = nodes << 8 | depth;
+        entries.setOpaque(2 * index, key ^ data);
+        entries.setOpaque(2 * index + 1, data);
+    }
+
+    /**
+     * Limpa todas as entradas e as estatísticas.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.setPlain(i, 0L);
+        }
+        probes.reset();
+        hits.reset();
+    }
+
+    /**
+     * Retorna a quantidade de entradas.
+     *
+     * @return número de entradas.
+     */
+    public int size() {
+        return mask + 1;
+    }
+
+    /**
+     * Retorna a taxa de acerto das consultas desde a criação ou a última limpeza.
+     *
+     * @return fração de consultas com sucesso (0 a 1).
+     */
+    public double getHitRate() {
+        long total = probes.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+}
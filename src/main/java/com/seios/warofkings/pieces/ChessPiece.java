@@ -2,7 +2,10 @@ package com.seios.warofkings.pieces;
 
 import com.seios.warofkings.board.Board;
 import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
 import com.seios.warofkings.utils.BoardUtils;
 import com.seios.warofkings.utils.PieceUtils;
 
@@ -21,7 +24,7 @@ import java.util.List;
  * <p><b>Nota:</b> Todas as peças concretas (Peão, Torre, Rei etc.) devem estender esta classe.</p>
  *
  * @author Lucas
- * @version 1.3
+ * @version 1.9
  * @since 2025-05-14
  */
 public abstract class ChessPiece implements Movable, Positionable {
@@ -52,33 +55,133 @@ public abstract class ChessPiece implements Movable, Positionable {
 
     /**
      * Verifica se um movimento deixaria o rei em xeque.
-     * Simula o movimento e avalia se o rei ainda estaria seguro.
+     * Simula o movimento na própria matriz e avalia se o rei ainda estaria seguro;
+     * as casas de origem e destino e a posição da peça são restauradas antes do retorno.
      *
      * @param to         posição de destino simulada.
      * @param piecesMap  matriz de peças do tabuleiro.
      * @return true se o movimento coloca o rei em xeque.
      */
     protected boolean kingCheck(int to, ChessPiece[][] piecesMap) {
-        ChessPiece[][] simulatedBoard = BoardUtils.copyBoard(piecesMap);
-        simulatedBoard[this.getX()][this.getY()] = null;
-        simulatedBoard[PieceUtils.getX(to)][PieceUtils.getY(to)] = this;
+        int from = this.getPosition();
+        ChessPiece origin = piecesMap[this.getX()][this.getY()];
+        ChessPiece captured = piecesMap[PieceUtils.getX(to)][PieceUtils.getY(to)];
 
-        boolean isWhite = this.isWhite();
-        List<ChessPiece> kings = BoardUtils.findPieces(simulatedBoard ,isWhite ? Type.KING_WHITE : Type.KING_BLACK);
-        if (kings.isEmpty()) return false;
-        ChessPiece king = kings.getFirst();
+        piecesMap[this.getX()][this.getY()] = null;
+        piecesMap[PieceUtils.getX(to)][PieceUtils.getY(to)] = this;
+        this.setPosition(to);
 
-        if (PieceUtils.isSamePiece(this, king)) {
-            int from = this.getPosition();
-            this.setPosition(to);
+        try {
+            List<ChessPiece> kings = BoardUtils.findPieces(piecesMap, this.isWhite() ? Type.KING_WHITE : Type.KING_BLACK);
+            if (kings.isEmpty()) return false;
 
-            boolean isUnderAttack = PieceUtils.isPieceUnderAttack(this, simulatedBoard);
+            return PieceUtils.isPieceUnderAttack(kings.getFirst(), piecesMap);
+        } finally {
             this.setPosition(from);
+            piecesMap[PieceUtils.getX(to)][PieceUtils.getY(to)] = captured;
+            piecesMap[PieceUtils.getX(from)][PieceUtils.getY(from)] = origin;
+        }
+    }
+
+    /**
+     * Verifica se um movimento deixaria o rei em xeque, aplicando-o com {@link Board#makeMove(int)},
+     * consultando {@link Board#isInCheck(Turn)} e desfazendo-o com {@link Board#unmakeMove(int)},
+     * sem copiar o tabuleiro.
+     * <p>
+     * Se a peça não estiver registrada no tabuleiro na sua posição atual, a verificação
+     * recai sobre {@link #kingCheck(int, ChessPiece[][])}.
+     * </p>
+     *
+     * @param to    posição de destino simulada.
+     * @param board tabuleiro atual.
+     * @return true se o movimento coloca o rei em xeque.
+     */
+    protected boolean kingCheck(int to, Board board) {
+        return kingCheck(to, toMove(to, board), board);
+    }
+
+    /**
+     * Verifica se um movimento já codificado deixaria o rei em xeque, aplicando-o com
+     * {@link Board#makeMove(int)}; ao contrário de {@link #kingCheck(int, Board)}, respeita as flags do
+     * movimento, de forma que a captura en passant retira o peão capturado durante a verificação.
+     *
+     * @param to    posição de destino simulada.
+     * @param move  movimento codificado (ver {@link Move}) da peça até {@code to}.
+     * @param board tabuleiro atual.
+     * @return true se o movimento coloca o rei em xeque.
+     */
+    protected boolean kingCheck(int to, int move, Board board) {
+        if (board.getPieceAt(this.position) != this) {
+            return kingCheck(to, board.getPieces());
+        }
+
+        board.makeMove(move);
+        try {
+            return board.isInCheck(this.type.getColor());
+        } finally {
+            board.unmakeMove(move);
+        }
+    }
 
-            return isUnderAttack;
+    /**
+     * Adiciona à lista os movimentos para as casas alcançáveis, descartando as casas ocupadas
+     * por peças aliadas e registrando a peça capturada quando houver.
+     *
+     * @param targets   casas alcançáveis (atacadas) pela peça.
+     * @param piecesMap matriz de peças do tabuleiro.
+     * @param moves     lista de destino.
+     */
+    protected void addMoves(long targets, ChessPiece[][] piecesMap, MoveList moves) {
+        int from = BitboardUtils.toSquare(this.position);
+        int piece = this.type.getValor();
+        while (targets != 0) {
+            int square = BitboardUtils.lsb(targets);
+            ChessPiece target = piecesMap[square >>> 3][square & 7];
+            if (target == null) {
+                moves.add(Move.of(from, square, piece, Move.NO_PIECE));
+            } else if (isOpponent(target)) {
+                moves.add(Move.of(from, square, piece, target.getType().getValor()));
+            }
+            targets = BitboardUtils.popLsb(targets);
         }
+    }
 
-        return PieceUtils.isPieceUnderAttack(king, simulatedBoard);
+    /**
+     * Adiciona à lista os movimentos para as casas alcançáveis, usando a ocupação por cor do
+     * tabuleiro para descartar as casas aliadas antes de consultar a matriz.
+     *
+     * @param targets casas alcançáveis (atacadas) pela peça.
+     * @param board   tabuleiro atual.
+     * @param moves   lista de destino.
+     */
+    protected void addMoves(long targets, Board board, MoveList moves) {
+        addMoves(targets & ~board.getOccupancy(this.type.getColor()), board.getPieces(), moves);
+    }
+
+    /**
+     * Retorna os destinos possíveis no formato XY (adaptador sobre {@link #generateMoves(ChessPiece[][], MoveList)}).
+     *
+     * @param board matriz representando o estado atual do tabuleiro.
+     * @return lista de movimentos válidos.
+     */
+    @Override
+    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
+        MoveList moves = new MoveList();
+        generateMoves(board, moves);
+        return moves.toPositions();
+    }
+
+    /**
+     * Retorna os destinos possíveis no formato XY (adaptador sobre {@link #generateMoves(Board, MoveList)}).
+     *
+     * @param board instância atual do tabuleiro.
+     * @return lista de movimentos válidos.
+     */
+    @Override
+    public List<Integer> getPossibleMoves(Board board) {
+        MoveList moves = new MoveList();
+        generateMoves(board, moves);
+        return moves.toPositions();
     }
 
     /**
@@ -169,23 +272,83 @@ public abstract class ChessPiece implements Movable, Positionable {
             return false;
         }
 
-        ChessPiece[][] pieces = board.getPieces();
+        return performMove(position, board);
+    }
+
+    /**
+     * Realiza o movimento da peça para uma nova posição, procurando o destino na lista primitiva.
+     * <p>Após mover a peça, {@link Board#completeMove(int, long)} retira o peão capturado en passant,
+     * atualiza o estado irreversível do tabuleiro e registra a posição anterior para as repetições.</p>
+     *
+     * @param position nova posição de destino (formato XY).
+     * @param moves    movimentos gerados para a peça.
+     * @param board    estado atual do tabuleiro.
+     * @return true se o movimento foi realizado com sucesso.
+     */
+    @Override
+    public boolean moveTo(int position, MoveList moves, Board board) {
+        if (position == getPosition()) return false;
+
+        int move = moves.findByDestination(BitboardUtils.toSquare(position));
+        if (move == Move.NONE) {
+            return false;
+        }
+
+        long previousKey = board.getZobristKey();
+        if (!performMove(position, move, board)) {
+            return false;
+        }
+        board.completeMove(move, previousKey); // en passant, relógio de meio-lances e histórico de repetição
+        return true;
+    }
+
+    /**
+     * Executa um movimento já validado contra a lista de movimentos da peça,
+     * recusando-o se deixar o próprio rei em xeque.
+     *
+     * @param position nova posição de destino.
+     * @param board    estado atual do tabuleiro.
+     * @return true se o movimento foi realizado com sucesso.
+     */
+    protected boolean performMove(int position, Board board) {
+        return performMove(position, toMove(position, board), board);
+    }
 
-        if (kingCheck(position, pieces)) {
+    /**
+     * Executa um movimento já validado e codificado, recusando-o se deixar o próprio rei em xeque.
+     * A verificação usa o próprio movimento, com as suas flags (en passant, roque).
+     *
+     * @param position nova posição de destino.
+     * @param move     movimento codificado (ver {@link Move}) da peça até {@code position}.
+     * @param board    estado atual do tabuleiro.
+     * @return true se o movimento foi realizado com sucesso.
+     */
+    protected boolean performMove(int position, int move, Board board) {
+        if (kingCheck(position, move, board)) {
             System.out.println("Movimento deixaria o rei em xeque!");
             return false;
         }
 
-        pieces[getX()][getY()] = null; // onde estava a peça
-        pieces[PieceUtils.getX(position)][PieceUtils.getY(position)] = this; // onde a peça foi
-        board.setPieces(pieces); // altera de fato o movimento
+        board.removePiece(getPosition()); // onde estava a peça
+        board.placePiece(position, this); // onde a peça foi (atualiza também os bitboards)
 
-        setPosition(position);
         this.n_moves++;
 
         return true;
     }
 
+    /**
+     * Codifica o movimento simples da peça até uma posição, sem flags, com a peça capturada no destino.
+     *
+     * @param to    posição de destino (formato XY).
+     * @param board tabuleiro atual.
+     * @return movimento codificado.
+     */
+    private int toMove(int to, Board board) {
+        int target = BitboardUtils.toSquare(to);
+        return Move.of(BitboardUtils.toSquare(this.position), target, this.type.getValor(), board.getPieceCode(target));
+    }
+
     /**
      * Retorna o tipo da peça.
      *
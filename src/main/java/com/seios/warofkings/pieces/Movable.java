@@ -1,6 +1,8 @@
 package com.seios.warofkings.pieces;
 
 import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveList;
 
 import java.util.List;
 
@@ -15,7 +17,7 @@ import java.util.List;
  * <p>Deve ser usada em conjunto com {@link Positionable} e {@link ChessPiece}.</p>
  *
  * @author Lucas
- * @version 1.0
+ * @version 1.2
  * @since 2025-05-14
  */
 public interface Movable {
@@ -30,12 +32,56 @@ public interface Movable {
      */
     boolean moveTo(int place, List<Integer> listMoves, Board board);
 
+    /**
+     * Realiza o movimento da peça para a posição especificada, procurando o destino em uma
+     * {@link MoveList} primitiva (sem boxing de inteiros).
+     *
+     * @param place  posição de destino (formato XY).
+     * @param moves  movimentos previamente gerados para a peça.
+     * @param board  instância atual do tabuleiro.
+     * @return true se o movimento foi realizado com sucesso, false caso contrário.
+     */
+    boolean moveTo(int place, MoveList moves, Board board);
+
     /**
      * Retorna uma lista de posições inteiras para onde a peça pode se mover
      * de acordo com as regras do tipo de peça e o estado atual do tabuleiro.
+     * <p>Adaptador da API antiga sobre {@link #generateMoves(ChessPiece[][], MoveList)}.</p>
      *
      * @param board matriz representando o estado atual do tabuleiro.
      * @return lista de movimentos válidos.
      */
     List<Integer> getPossibleMoves(ChessPiece[][] board);
+
+    /**
+     * Retorna os movimentos possíveis usando o estado completo do tabuleiro.
+     * <p>Adaptador da API antiga sobre {@link #generateMoves(Board, MoveList)}.</p>
+     *
+     * @param board instância atual do tabuleiro.
+     * @return lista de movimentos válidos.
+     */
+    List<Integer> getPossibleMoves(Board board);
+
+    /**
+     * Escreve os movimentos pseudo-legais da peça na lista informada, codificados por {@link Move},
+     * sem criar objetos.
+     *
+     * @param board matriz representando o estado atual do tabuleiro.
+     * @param moves lista de destino (os movimentos são adicionados ao final).
+     */
+    void generateMoves(ChessPiece[][] board, MoveList moves);
+
+    /**
+     * Escreve os movimentos pseudo-legais da peça usando o estado completo do tabuleiro.
+     * <p>
+     * Peças que se beneficiam dos bitboards mantidos por {@link Board} (como as peças deslizantes)
+     * sobrescrevem este método; por padrão, delega para {@link #generateMoves(ChessPiece[][], MoveList)}.
+     * </p>
+     *
+     * @param board instância atual do tabuleiro.
+     * @param moves lista de destino (os movimentos são adicionados ao final).
+     */
+    default void generateMoves(Board board, MoveList moves) {
+        generateMoves(board.getPieces(), moves);
+    }
 }
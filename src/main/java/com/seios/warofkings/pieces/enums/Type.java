@@ -7,53 +7,58 @@ import com.seios.warofkings.board.enums.Turn;
  * distinguindo-as por cor (branca ou preta).
  * <p>
  * Cada tipo é associado a um valor inteiro único que pode ser utilizado para identificação,
- * persistência ou lógica de exibição.
+ * persistência ou lógica de exibição, e ao seu valor material em centipeões.
  * </p>
  *
  * <p>Exemplos de uso incluem identificação do tipo da peça, renderização em interface gráfica
  * e lógica de movimentação e captura.</p>
  *
  * @author Lucas
- * @version 1.0
+ * @version 1.1
  * @since 2025-05-14
  */
 public enum Type {
     /** Peão Branco. */
-    PAWN_WHITE(0),
+    PAWN_WHITE(0, 100),
     /** Torre Branco. */
-    ROOK_WHITE(1),
+    ROOK_WHITE(1, 500),
     /** Cavalo Branco. */
-    KNIGHT_WHITE(2),
+    KNIGHT_WHITE(2, 320),
     /** Bispo Branco. */
-    BISHOP_WHITE(3),
+    BISHOP_WHITE(3, 330),
     /** Rainha Branco. */
-    QUEEN_WHITE(4),
+    QUEEN_WHITE(4, 900),
     /** Rei Branco. */
-    KING_WHITE(5),
+    KING_WHITE(5, 0),
 
     /** Peão Preto. */
-    PAWN_BLACK(6),
+    PAWN_BLACK(6, 100),
     /** Torre Preto. */
-    ROOK_BLACK(7),
+    ROOK_BLACK(7, 500),
     /** Cavalo Preto. */
-    KNIGHT_BLACK(8),
+    KNIGHT_BLACK(8, 320),
     /** Bispo Preto. */
-    BISHOP_BLACK(9),
+    BISHOP_BLACK(9, 330),
     /** Rainha Preto. */
-    QUEEN_BLACK(10),
+    QUEEN_BLACK(10, 900),
     /** Rei Preto. */
-    KING_BLACK(11);
+    KING_BLACK(11, 0);
 
     /** Valor numérico associado ao tipo da peça. */
     private final int VALOR;
 
+    /** Valor material da peça em centipeões (o rei não tem valor material). */
+    private final int MATERIAL;
+
     /**
      * Construtor da enumeração {@code Type}.
      *
-     * @param valor valor numérico único representando o tipo da peça.
+     * @param valor    valor numérico único representando o tipo da peça.
+     * @param material valor material em centipeões.
      */
-    Type(int valor) {
+    Type(int valor, int material) {
         this.VALOR = valor;
+        this.MATERIAL = material;
     }
 
     /**
@@ -65,6 +70,15 @@ public enum Type {
         return this.VALOR;
     }
 
+    /**
+     * Retorna o valor material da peça, igual para as duas cores.
+     *
+     * @return centipeões (100 para o peão e 0 para o rei).
+     */
+    public int getMaterial() {
+        return this.MATERIAL;
+    }
+
     /**
      * Retorna a cor da peça associada ao tipo.
      *
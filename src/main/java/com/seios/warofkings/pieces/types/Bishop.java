@@ -1,12 +1,11 @@
 package com.seios.warofkings.pieces.types;
 
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-import com.seios.warofkings.utils.BoardUtils;
-import com.seios.warofkings.utils.PieceUtils;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.seios.warofkings.utils.BitboardUtils;
 
 /**
  * Representa a peça Bispo no xadrez, incluindo sua lógica de movimentação.
@@ -19,7 +18,7 @@ import java.util.List;
  * (branco ou preto) sejam instanciados corretamente.</p>
  *
  * @author Allan
- * @version 1.3
+ * @version 1.4
  * @since 2025-05-24
  */
 public class Bishop extends ChessPiece {
@@ -68,61 +67,32 @@ public class Bishop extends ChessPiece {
     }
 
     /**
-     * Calcula as possíveis posições para as quais o bispo pode se mover no tabuleiro.
+     * Gera os movimentos possíveis do bispo no tabuleiro.
      * O movimento é feito nas diagonais, até que encontre uma peça ou o limite do tabuleiro.
      * <p>
-     * Se encontrar uma peça adversária, ela pode ser capturada.
+     * Se encontrar uma peça adversária, ela pode ser capturada. Os raios são resolvidos por
+     * {@link SlidingAttacks#bishopAttacks(int, long)}, consultando apenas as casas relevantes da matriz.
      * </p>
      *
      * @param board matriz representando o estado atual do tabuleiro.
-     * @return lista de inteiros representando posições válidas de destino.
+     * @param moves lista de destino dos movimentos codificados.
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-        List<Integer> possibleMoves = new ArrayList<>();
-        int pos = this.position;
-
-        int northwest = -11;
-        int southwest = 9;
-        int northeast = -9;
-        int southeast = 11;
-
-        int northwestPos = northwest + pos;
-        while(BoardUtils.isWithinBounds(northwestPos) && board[PieceUtils.getX(northwestPos)][PieceUtils.getY(northwestPos)] == null){
-            possibleMoves.add(northwestPos);
-            northwestPos += northwest;
-        }
-        if(BoardUtils.isWithinBounds(northwestPos) && isOpponent(board[PieceUtils.getX(northwestPos)][PieceUtils.getY(northwestPos)]) ){
-            possibleMoves.add(northwestPos);
-        }
-
-        int southwestPos = southwest + pos;
-        while(BoardUtils.isWithinBounds(southwestPos) && board[PieceUtils.getX(southwestPos)][PieceUtils.getY(southwestPos)] == null){
-            possibleMoves.add(southwestPos);
-            southwestPos += southwest;
-        }
-        if(BoardUtils.isWithinBounds(southwestPos) && isOpponent(board[PieceUtils.getX(southwestPos)][PieceUtils.getY(southwestPos)]) ){
-            possibleMoves.add(southwestPos);
-        }
-
-        int northeastPos = northeast + pos;
-        while(BoardUtils.isWithinBounds(northeastPos) && board[PieceUtils.getX(northeastPos)][PieceUtils.getY(northeastPos)] == null){
-            possibleMoves.add(northeastPos);
-            northeastPos += northeast;
-        }
-        if(BoardUtils.isWithinBounds(northeastPos) && isOpponent(board[PieceUtils.getX(northeastPos)][PieceUtils.getY(northeastPos)]) ){
-            possibleMoves.add(northeastPos);
-        }
-
-        int southeastPos = southeast + pos;
-        while(BoardUtils.isWithinBounds(southeastPos) && board[PieceUtils.getX(southeastPos)][PieceUtils.getY(southeastPos)] == null){
-            possibleMoves.add(southeastPos);
-            southeastPos += southeast;
-        }
-        if(BoardUtils.isWithinBounds(southeastPos) && isOpponent(board[PieceUtils.getX(southeastPos)][PieceUtils.getY(southeastPos)]) ){
-            possibleMoves.add(southeastPos);
-        }
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
+        int square = BitboardUtils.toSquare(this.position);
+        long occupancy = BitboardUtils.occupancy(board, SlidingAttacks.bishopMask(square));
+        addMoves(SlidingAttacks.bishopAttacks(square, occupancy), board, moves);
+    }
 
-        return possibleMoves;
+    /**
+     * Gera os movimentos do bispo diretamente a partir da ocupação mantida pelo tabuleiro,
+     * com uma única consulta à tabela de magic bitboards.
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino dos movimentos codificados.
+     */
+    @Override
+    public void generateMoves(Board board, MoveList moves) {
+        addMoves(SlidingAttacks.bishopAttacks(BitboardUtils.toSquare(this.position), board.getOccupancy()), board, moves);
     }
 }
@@ -1,12 +1,18 @@
 package com.seios.warofkings.pieces.types;
 
 import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.enums.GameStatus;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.BitboardUtils;
 import com.seios.warofkings.utils.BoardUtils;
 import com.seios.warofkings.utils.PieceUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -18,7 +24,7 @@ import java.util.List;
  * </p>
  *
  * @author Bia
- * @version 2.5
+ * @version 3.2
  * @since 2025-06-09
  */
 public class King extends ChessPiece {
@@ -90,17 +96,17 @@ public class King extends ChessPiece {
     }
 
     /**
-     * Calcula e retorna a lista de posições possíveis para o movimento do rei.
+     * Gera os movimentos possíveis do rei.
      * <p>
      * Este método considera:
      * <ul>
-     *   <li>Os 8 movimentos padrão do rei (horizontal, vertical e diagonais);</li>
-     *   <li>As casas de destino devem estar dentro dos limites do tabuleiro e não podem conter uma peça aliada;</li>
+     *   <li>Os 8 movimentos padrão do rei (horizontal, vertical e diagonais), obtidos de {@link LeaperAttacks#kingAttacks(int)};</li>
+     *   <li>As casas de destino não podem conter uma peça aliada;</li>
      *   <li>Se o rei ainda não se moveu, verifica a possibilidade de realizar o roque com uma torre da mesma cor.</li>
      * </ul>
      *
      * @param board Matriz de peças que representa o estado atual do tabuleiro.
-     * @return Uma lista de posições inteiras (no formato XY, ex: 43 para linha 4, coluna 3) indicando os movimentos válidos para o rei.
+     * @param moves lista de destino dos movimentos codificados.
      *
      * Nota de implementação: A verificação de roque considera:
      * <ul>
@@ -108,39 +114,19 @@ public class King extends ChessPiece {
      *   <li>Se não há peças entre eles;</li>
      *   <li>Se o movimento não colocará o rei em xeque (essa verificação completa geralmente é feita na execução);</li>
      * </ul>
-     * Os movimentos de roque, se válidos, são adicionados à lista como destino: duas casas à esquerda ou direita do rei.
+     * Os movimentos de roque, se válidos, são adicionados com a flag {@link Move#CASTLING} e destino
+     * duas casas à esquerda ou direita do rei.
      *
-     * @see BoardUtils#isWithinBounds(int)
+     * @see LeaperAttacks#kingAttacks(int)
      * @see BoardUtils#findPieces(ChessPiece[][], Type)
      * @see #isOpponent(ChessPiece)
      * @see #isValidCastling(ChessPiece, ChessPiece[][])
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-        List<Integer> possibleMoves = new ArrayList<Integer>();
-
-        int forward = -10;
-        int backward = 10;
-        int right = 1;
-        int left = -1;
-        int northwest = -11;
-        int southwest = 9;
-        int northeast = -9;
-        int southeast = 11;
-
-        // movimentos normais do rei
-        int[] directions = {forward, backward, left, right, northwest, northeast, southwest, southeast};
-
-        for (int dir : directions) {
-            int target = this.position + dir;
-
-            if (BoardUtils.isWithinBounds(target)) {
-                ChessPiece targetPiece = board[PieceUtils.getX(target)][PieceUtils.getY(target)];
-                if (targetPiece == null || isOpponent(targetPiece)) {
-                    possibleMoves.add(target);
-                }
-            }
-        }
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
+        // movimentos normais do rei (tabela pré-calculada, sem verificação de limites)
+        int from = BitboardUtils.toSquare(this.position);
+        addMoves(LeaperAttacks.kingAttacks(from), board, moves);
 
         // verificação de roque
         if (this.getN_moves() == 0) {
@@ -157,151 +143,89 @@ public class King extends ChessPiece {
                     int direction = (kingPos > rookPos) ? -1 : 1;
 
                     int castlingTarget = kingPos + 2 * direction;
-                    possibleMoves.add(castlingTarget);
+                    moves.add(Move.of(from, BitboardUtils.toSquare(castlingTarget), this.type.getValor(),
+                            Move.NO_PIECE, Move.NO_PIECE, Move.CASTLING));
                 }
             }
         }
-
-        return possibleMoves; // possibleMoves = {..., positionRoqueLeft, positionRoqueRight}
     }
 
     /**
-     * Move o rei para uma nova posição, incluindo a possibilidade de realizar o movimento especial de roque.
+     * Executa o movimento do rei para uma nova posição, incluindo a possibilidade de realizar o movimento especial de roque.
      * <p>
      * Este método estende a lógica padrão de movimentação para incluir:
      * <ul>
-     *   <li>Verificação se o movimento solicitado é válido com base na lista de movimentos possíveis ({@code listMoves});</li>
      *   <li>Tratamento do roque, se o rei ainda não se moveu e há uma torre elegível na mesma linha;</li>
      *   <li>Validação se o roque deixaria o rei em xeque, impedindo o movimento se necessário;</li>
      *   <li>Movimentação da torre correspondente ao lado do roque (curto ou longo);</li>
      *   <li>Execução do movimento normal do rei, caso não seja roque.</li>
      * </ul>
      *
-     * @param position   A nova posição destino no formato XY (ex: 63 representa linha 6, coluna 3).
-     * @param listMoves  Lista de posições válidas para o movimento do rei.
+     * @param position   A nova posição destino no formato XY (ex: 63 representa linha 6, coluna 3),
+     *                   já validada contra a lista de movimentos possíveis.
+     * @param move       O movimento codificado correspondente (com a flag de roque, quando gerado como tal).
      * @param board      O tabuleiro atual de jogo contendo as peças e seu estado.
      * @return {@code true} se o movimento foi realizado com sucesso, {@code false} caso contrário.
      *
-     * Nota de implementação: Este método manipula diretamente a matriz de peças do tabuleiro para simular o roque.
+     * Nota de implementação: Este método atualiza o tabuleiro (matriz e bitboards) para mover a torre no roque,
+     * reconhecido pelo salto de duas casas na linha do rei; a validade do roque é responsabilidade de quem gerou
+     * a lista de movimentos (o próprio rei ou o {@link com.seios.warofkings.board.moves.MoveGenerator}).
      * Caso o movimento não seja de roque, a lógica padrão definida na superclasse é utilizada.
      *
      * @see PieceUtils#getX(int)
      * @see PieceUtils#getY(int)
-     * @see BoardUtils#findPieces(ChessPiece[][], Type)
-     * @see #isValidCastling(ChessPiece, ChessPiece[][])
-     * @see #kingCheck(int, ChessPiece[][])
+     * @see #kingCheck(int, int, Board)
      */
     @Override
-    public boolean moveTo(int position, List<Integer> listMoves, Board board) {
-        if (!listMoves.contains(position)) return false;
-
+    protected boolean performMove(int position, int move, Board board) {
         int kingPos = this.getPosition();
 
-        if (this.getN_moves() == 0) {
-            List<ChessPiece> rooks = BoardUtils.findPieces(board.getPieces(), this.isWhite() ? Type.ROOK_WHITE : Type.ROOK_BLACK);
+        // o roque já foi validado pela lista de movimentos: basta reconhecer o salto de duas casas
+        if (this.getN_moves() == 0 && PieceUtils.getX(position) == this.getX() && Math.abs(position - kingPos) == 2) {
+            int direction = (position > kingPos) ? 1 : -1;
+            ChessPiece rook = null;
 
-            for (ChessPiece rook : rooks) {
-                if (isValidCastling(rook, board.getPieces())) {
-                    int rookPos = rook.getPosition();
-                    int direction = (rookPos > kingPos) ? 1 : -1;
-                    int castlingTarget = kingPos + 2 * direction;
-
-                    if (position == castlingTarget) {
+            // a torre é a primeira peça além do rei na direção do roque
+            for (int col = this.getY() + direction; col >= 0 && col < 8 && rook == null; col += direction) {
+                rook = board.getPieces()[this.getX()][col];
+            }
 
-                        // Valida se roque colocaria rei em xeque
-                        if (this.kingCheck(position, board.getPieces())) {
-                            System.out.println("Movimento de roque deixaria o rei em xeque!");
-                            return false;
-                        }
+            if (rook != null && rook.getType() == (this.isWhite() ? Type.ROOK_WHITE : Type.ROOK_BLACK)) {
 
-                        // Move a torre
-                        int rookTargetPos = kingPos + (direction > 0 ? 1 : -1);
-                        ChessPiece[][] pieces = board.getPieces();
+                // Valida se roque colocaria rei em xeque
+                if (this.kingCheck(position, move, board)) {
+                    System.out.println("Movimento de roque deixaria o rei em xeque!");
+                    return false;
+                }
 
-                        pieces[PieceUtils.getX(rookPos)][PieceUtils.getY(rookPos)] = null;
-                        pieces[PieceUtils.getX(rookTargetPos)][PieceUtils.getY(rookTargetPos)] = rook;
-                        rook.setPosition(rookTargetPos);
-                        rook.setN_moves(rook.getN_moves() + 1);
+                // Move a torre
+                board.removePiece(rook.getPosition());
+                board.placePiece(kingPos + direction, rook);
+                rook.setN_moves(rook.getN_moves() + 1);
 
-                        board.setPieces(pieces);
-                        break;
-                    }
-                }
+                // a torre já foi movida: resta verificar e executar o movimento simples do rei
+                move = Move.of(BitboardUtils.toSquare(kingPos), BitboardUtils.toSquare(position), this.type.getValor(),
+                        Move.NO_PIECE);
             }
         }
 
         // Executa movimento do rei normalmente
-        return super.moveTo(position, listMoves, board);
+        return super.performMove(position, move, board);
     }
 
     /**
      * Verifica se o rei atual está em situação de xeque-mate.
      * <p>
-     * O método segue os seguintes passos para determinar o xeque-mate:
-     * <ol>
-     *   <li>Verifica se o rei está sob ataque (em xeque);</li>
-     *   <li>Se estiver, verifica se o rei tem algum movimento possível que o tire do xeque;</li>
-     *   <li>Se o rei não pode escapar, verifica se alguma peça aliada pode bloquear ou capturar a ameaça ao rei;</li>
-     *   <li>Se nenhuma dessas opções for possível, retorna {@code true}, indicando xeque-mate.</li>
-     * </ol>
+     * Delega para {@link MoveGenerator#getGameStatus(Board, Turn)}, que usa os atacantes e as cravadas
+     * da posição para examinar apenas as evasões possíveis e para no primeiro movimento legal encontrado.
+     * </p>
      *
      * @param board Instância do tabuleiro atual do jogo, contendo todas as peças em suas posições.
      * @return {@code true} se o rei estiver em xeque-mate, ou {@code false} caso contrário.
      *
-     * Nota de implementação: Este método realiza simulações de movimentos para testar se o rei ou peças aliadas
-     * conseguiriam impedir o xeque. A integridade das posições é restaurada após cada simulação.
+     * @see GameStatus
      */
     public boolean xequeMate(Board board) {
-        ChessPiece[][] pieces = board.getPieces();
-
-
-        // verifica se o rei está em xeque
-        if (!PieceUtils.isPieceUnderAttack(this, pieces)) {
-            return false;
-        }
-
-        // verifica se o rei pode escapar
-        List<Integer> kingMoves = this.getPossibleMoves(pieces);
-        for (Integer move : kingMoves) {
-            ChessPiece[][] simulation = BoardUtils.copyBoard(pieces);
-            int from = this.getPosition();
-            this.setPosition(move);
-
-            simulation[PieceUtils.getX(from)][PieceUtils.getY(from)] = null;
-            simulation[PieceUtils.getX(move)][PieceUtils.getY(move)] = this;
-
-            boolean aindaEmXeque = PieceUtils.isPieceUnderAttack(this, simulation);
-            this.setPosition(from);
-
-            if (!aindaEmXeque) {
-                return false; // Rei conseguiu escapar
-            }
-        }
-
-        // verifica se alguma peça aliada pode ajudar
-        List<ChessPiece> aliadas = BoardUtils.getAliadas(this, pieces);
-
-        for (ChessPiece aliada : aliadas) {
-            List<Integer> movimentos = aliada.getPossibleMoves(pieces);
-            int from = aliada.getPosition();
-
-            for (Integer destino : movimentos) {
-                ChessPiece[][] simulation = BoardUtils.copyBoard(pieces);
-
-                simulation[PieceUtils.getX(from)][PieceUtils.getY(from)] = null;
-                simulation[PieceUtils.getX(destino)][PieceUtils.getY(destino)] = aliada;
-
-                aliada.setPosition(destino);
-                boolean reiAindaEmXeque = PieceUtils.isPieceUnderAttack(this, simulation);
-                aliada.setPosition(from);
-
-                if (!reiAindaEmXeque) {
-                    return false; // Alguma peça consegue salvar o rei
-                }
-            }
-        }
-
-        // nenhum escape foi possível
-        return true;
+        return MoveGenerator.getGameStatus(board, this.type.getColor()) == GameStatus.CHECKMATE;
     }
 }
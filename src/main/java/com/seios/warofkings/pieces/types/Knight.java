@@ -1,14 +1,11 @@
 package com.seios.warofkings.pieces.types;
 
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-import com.seios.warofkings.utils.BoardUtils;
-import com.seios.warofkings.utils.PieceUtils;
-
-import java.util.List;
-import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
+import com.seios.warofkings.utils.BitboardUtils;
 
 /**
  * Representa a peça Cavalo no xadrez, com implementação completa de seus movimentos em "L".
@@ -21,7 +18,7 @@ import java.util.HashMap;
  * (branco ou preto) sejam instanciados corretamente.</p>
  *
  * @author Lucas
- * @version 1.0
+ * @version 1.1
  * @since 2025-06-01
  */
 public class Knight extends ChessPiece  {
@@ -70,39 +67,27 @@ public class Knight extends ChessPiece  {
     }
 
     /**
-     * Retorna as posições possíveis para as quais o cavalo pode se mover.
+     * Gera os movimentos possíveis do cavalo.
      * O cavalo se move em forma de "L" — duas casas em uma direção e uma casa em perpendicular.
      * Pode capturar peças adversárias e ignorar obstáculos no caminho.
+     * Os destinos vêm da tabela pré-calculada {@link LeaperAttacks#knightAttacks(int)}.
      *
      * @param board matriz representando o estado atual do tabuleiro.
-     * @return lista de posições válidas como inteiros.
+     * @param moves lista de destino dos movimentos codificados.
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-        List<Integer> possibleMoves = new ArrayList<Integer>();
-        int pos = this.position;
-
-        Map<String, Integer> moves = new HashMap<String, Integer>() {{
-            put("northNortheast", -19); // NNE
-            put("eastNortheast", -8); // ENE
-            put("EastSoutheast", 12); // ESE
-            put("southSoutheast", 21); // SSE
-            put("southSouthwest", 19); // SSW
-            put("westSouthwest", 8); // WSW
-            put("westNorthwest", -12); // WNW
-            put("northNorthwest", -21); // NNW
-        }};
-
-        for (Integer offset : moves.values()) {
-            int newPos = pos + offset;
-            if (BoardUtils.isWithinBounds(newPos)) {
-                ChessPiece target = board[PieceUtils.getX(newPos)][PieceUtils.getY(newPos)];
-                if (target == null || isOpponent(target)) {
-                    possibleMoves.add(newPos);
-                }
-            }
-        }
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
+        addMoves(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(this.position)), board, moves);
+    }
 
-        return possibleMoves;
+    /**
+     * Gera os movimentos do cavalo usando a ocupação por cor mantida pelo tabuleiro.
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino dos movimentos codificados.
+     */
+    @Override
+    public void generateMoves(Board board, MoveList moves) {
+        addMoves(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(this.position)), board, moves);
     }
 }
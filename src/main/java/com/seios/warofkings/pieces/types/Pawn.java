@@ -1,12 +1,12 @@
 package com.seios.warofkings.pieces.types;
 
-import java.util.ArrayList;
-import java.util.List;
-
+import com.seios.warofkings.board.Mailbox;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-import com.seios.warofkings.utils.BoardUtils;
-import com.seios.warofkings.utils.PieceUtils;
+import com.seios.warofkings.utils.BitboardUtils;
 
 /**
  * Representa a peça Peão no xadrez, incluindo suas regras de movimentação e promoção.
@@ -19,7 +19,7 @@ import com.seios.warofkings.utils.PieceUtils;
  * (branco ou preto) sejam instanciados corretamente.</p>
  *
  * @author Lucas
- * @version 1.5
+ * @version 1.8
  * @since 2025-05-14
  */
 public class Pawn extends ChessPiece {
@@ -68,56 +68,76 @@ public class Pawn extends ChessPiece {
     }
 
     /**
-     * Retorna as posições possíveis para onde o peão pode se mover.
+     * Gera os movimentos possíveis do peão.
      * Considera:
      * <ul>
      *   <li>Avanço de uma casa para frente</li>
      *   <li>Avanço de duas casas se ainda não moveu</li>
-     *   <li>Captura em diagonais</li>
+     *   <li>Captura em diagonais (via {@link LeaperAttacks#pawnAttacks(int, int)})</li>
+     *   <li>Promoção ao alcançar a última linha: um movimento para cada peça possível
+     *       (rainha, torre, bispo e cavalo)</li>
      * </ul>
      *
      * @param board matriz representando o estado atual do tabuleiro.
-     * @return lista de posições válidas.
+     * @param moves lista de destino dos movimentos codificados.
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-        List<Integer> possibleMoves = new ArrayList<Integer>();
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
         int pos = this.position;
 
         boolean isWhite = (this.type == Type.PAWN_WHITE);
         int forward = isWhite ? -10 : 10;
         int doubleForward = isWhite ? -20 : 20;
-        int diagLeft = isWhite ? -11 : 9;
-        int diagRight = isWhite ? -9 : 11;
 
-        int fwdPos = pos + forward;
-        if (BoardUtils.isWithinBounds(fwdPos) && board[PieceUtils.getX(fwdPos)][PieceUtils.getY(fwdPos)] == null) {
-            possibleMoves.add(fwdPos);
+        int from = BitboardUtils.toSquare(pos);
+        int piece = this.type.getValor();
+
+        // casas fora do tabuleiro caem nas sentinelas do mailbox
+        int fwd = Mailbox.toSquare(pos + forward);
+        if (fwd != Mailbox.OFFBOARD && board[fwd >>> 3][fwd & 7] == null) {
+            addPawnMove(from, fwd, Move.NO_PIECE, moves);
 
             // Duplo avanço inicial
-            int dblFwdPos = pos + doubleForward;
-            if (n_moves == 0 && BoardUtils.isWithinBounds(dblFwdPos) && board[PieceUtils.getX(dblFwdPos)][PieceUtils.getY(dblFwdPos)] == null) {
-                possibleMoves.add(dblFwdPos);
+            int dblFwd = Mailbox.toSquare(pos + doubleForward);
+            if (n_moves == 0 && dblFwd != Mailbox.OFFBOARD && board[dblFwd >>> 3][dblFwd & 7] == null) {
+                moves.add(Move.of(from, dblFwd, piece, Move.NO_PIECE, Move.NO_PIECE, Move.DOUBLE_PUSH));
             }
         }
 
-        // Diagonal esquerda
-        int diagLPos = pos + diagLeft;
-        if (BoardUtils.isWithinBounds(diagLPos)) {
-            if (isOpponent(board[PieceUtils.getX(diagLPos)][PieceUtils.getY(diagLPos)])) {
-                possibleMoves.add(diagLPos);
+        // Diagonais de captura (tabela pré-calculada por cor)
+        long attacks = LeaperAttacks.pawnAttacks(isWhite ? LeaperAttacks.WHITE : LeaperAttacks.BLACK, from);
+        while (attacks != 0) {
+            int square = BitboardUtils.lsb(attacks);
+            ChessPiece target = board[square >>> 3][square & 7];
+            if (isOpponent(target)) {
+                addPawnMove(from, square, target.getType().getValor(), moves);
             }
+            attacks = BitboardUtils.popLsb(attacks);
         }
+    }
 
-        // Diagonal direita
-        int diagRPos = pos + diagRight;
-        if (BoardUtils.isWithinBounds(diagRPos)) {
-            if (isOpponent(board[PieceUtils.getX(diagRPos)][PieceUtils.getY(diagRPos)])) {
-                possibleMoves.add(diagRPos);
-            }
-        }
+    /**
+     * Adiciona um movimento de peão, expandindo-o nas quatro promoções possíveis
+     * quando o destino está na última linha.
+     *
+     * @param from     casa de origem.
+     * @param to       casa de destino.
+     * @param captured peça capturada ou {@link Move#NO_PIECE}.
+     * @param moves    lista de destino.
+     */
+    private void addPawnMove(int from, int to, int captured, MoveList moves) {
+        int piece = this.type.getValor();
+        int row = to >>> 3;
 
-        return possibleMoves;
+        if (row == 0 || row == 7) {
+            int offset = piece - Type.PAWN_WHITE.getValor(); // 0 para brancas, 6 para pretas
+            moves.add(Move.of(from, to, piece, captured, Type.QUEEN_WHITE.getValor() + offset, 0));
+            moves.add(Move.of(from, to, piece, captured, Type.ROOK_WHITE.getValor() + offset, 0));
+            moves.add(Move.of(from, to, piece, captured, Type.BISHOP_WHITE.getValor() + offset, 0));
+            moves.add(Move.of(from, to, piece, captured, Type.KNIGHT_WHITE.getValor() + offset, 0));
+        } else {
+            moves.add(Move.of(from, to, piece, captured));
+        }
     }
 
     /**
@@ -1,12 +1,11 @@
 package com.seios.warofkings.pieces.types;
 
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-import com.seios.warofkings.utils.BoardUtils;
-import com.seios.warofkings.utils.PieceUtils;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.seios.warofkings.utils.BitboardUtils;
 
 
 /**
@@ -20,7 +19,7 @@ import java.util.List;
  * (branca ou preta) sejam instanciadas corretamente.</p>
  *
  * @author Allan
- * @version 1.3
+ * @version 1.4
  * @since 2025-05-24
  */
 public class Queen extends ChessPiece {
@@ -69,104 +68,36 @@ public class Queen extends ChessPiece {
     }
 
     /**
-     * Retorna as posições válidas para onde a rainha pode se mover, considerando:
+     * Gera os movimentos válidos da rainha, considerando:
      * <ul>
      *     <li>Movimentação vertical (cima e baixo)</li>
      *     <li>Movimentação horizontal (esquerda e direita)</li>
      *     <li>Movimentação diagonal (noroeste, nordeste, sudoeste, sudeste)</li>
      * </ul>
      *
-     * A rainha pode capturar peças adversárias que estiverem no caminho.
+     * A rainha pode capturar peças adversárias que estiverem no caminho. Os oito raios são
+     * resolvidos por {@link SlidingAttacks#queenAttacks(int, long)}.
      *
      * @param board matriz representando o estado atual do tabuleiro.
-     * @return lista de posições válidas como inteiros.
+     * @param moves lista de destino dos movimentos codificados.
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-        List<Integer> possibleMoves = new ArrayList<>();
-        int pos = this.position;
-
-        int forward = -10;
-        int backward = 10;
-        int right = 1;
-        int left = -1;
-        int northwest = -11;
-        int southwest = 9;
-        int northeast = -9;
-        int southeast = 11;
-
-        int forwardPos = forward + pos;
-        while(BoardUtils.isWithinBounds(forwardPos) && board[PieceUtils.getX(forwardPos)][PieceUtils.getY(forwardPos)] == null){
-            possibleMoves.add(forwardPos);
-            forwardPos += forward;
-        }
-        if(BoardUtils.isWithinBounds(forwardPos) && isOpponent(board[PieceUtils.getX(forwardPos)][PieceUtils.getY(forwardPos)]) ){
-            possibleMoves.add(forwardPos);
-        }
-
-        int backwardPos = backward + pos;
-        while(BoardUtils.isWithinBounds(backwardPos) && board[PieceUtils.getX(backwardPos)][PieceUtils.getY(backwardPos)] == null){
-            possibleMoves.add(backwardPos);
-            backwardPos += backward;
-        }
-        if(BoardUtils.isWithinBounds(backwardPos) && isOpponent(board[PieceUtils.getX(backwardPos)][PieceUtils.getY(backwardPos)]) ){
-            possibleMoves.add(backwardPos);
-        }
-
-        int rightPos = right + pos;
-        while(BoardUtils.isWithinBounds(rightPos) && board[PieceUtils.getX(rightPos)][PieceUtils.getY(rightPos)] == null){
-            possibleMoves.add(rightPos);
-            rightPos += right;
-        }
-        if(BoardUtils.isWithinBounds(rightPos) && isOpponent(board[PieceUtils.getX(rightPos)][PieceUtils.getY(rightPos)]) ){
-            possibleMoves.add(rightPos);
-        }
-
-        int leftPos = left + pos;
-        while(BoardUtils.isWithinBounds(leftPos) && board[PieceUtils.getX(leftPos)][PieceUtils.getY(leftPos)] == null){
-            possibleMoves.add(leftPos);
-            leftPos += left;
-        }
-        if(BoardUtils.isWithinBounds(leftPos) && isOpponent(board[PieceUtils.getX(leftPos)][PieceUtils.getY(leftPos)]) ){
-            possibleMoves.add(leftPos);
-        }
-
-        int northwestPos = northwest + pos;
-        while(BoardUtils.isWithinBounds(northwestPos) && board[PieceUtils.getX(northwestPos)][PieceUtils.getY(northwestPos)] == null){
-            possibleMoves.add(northwestPos);
-            northwestPos += northwest;
-        }
-        if(BoardUtils.isWithinBounds(northwestPos) && isOpponent(board[PieceUtils.getX(northwestPos)][PieceUtils.getY(northwestPos)]) ){
-            possibleMoves.add(northwestPos);
-        }
-
-        int southwestPos = southwest + pos;
-        while(BoardUtils.isWithinBounds(southwestPos) && board[PieceUtils.getX(southwestPos)][PieceUtils.getY(southwestPos)] == null){
-            possibleMoves.add(southwestPos);
-            southwestPos += southwest;
-        }
-        if(BoardUtils.isWithinBounds(southwestPos) && isOpponent(board[PieceUtils.getX(southwestPos)][PieceUtils.getY(southwestPos)]) ){
-            possibleMoves.add(southwestPos);
-        }
-
-        int northeastPos = northeast + pos;
-        while(BoardUtils.isWithinBounds(northeastPos) && board[PieceUtils.getX(northeastPos)][PieceUtils.getY(northeastPos)] == null){
-            possibleMoves.add(northeastPos);
-            northeastPos += northeast;
-        }
-        if(BoardUtils.isWithinBounds(northeastPos) && isOpponent(board[PieceUtils.getX(northeastPos)][PieceUtils.getY(northeastPos)]) ){
-            possibleMoves.add(northeastPos);
-        }
-
-        int southeastPos = southeast + pos;
-        while(BoardUtils.isWithinBounds(southeastPos) && board[PieceUtils.getX(southeastPos)][PieceUtils.getY(southeastPos)] == null){
-            possibleMoves.add(southeastPos);
-            southeastPos += southeast;
-        }
-        if(BoardUtils.isWithinBounds(southeastPos) && isOpponent(board[PieceUtils.getX(southeastPos)][PieceUtils.getY(southeastPos)]) ){
-            possibleMoves.add(southeastPos);
-        }
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
+        int square = BitboardUtils.toSquare(this.position);
+        long mask = SlidingAttacks.rookMask(square) | SlidingAttacks.bishopMask(square);
+        long occupancy = BitboardUtils.occupancy(board, mask);
+        addMoves(SlidingAttacks.queenAttacks(square, occupancy), board, moves);
+    }
 
-        return possibleMoves;
+    /**
+     * Gera os movimentos da rainha diretamente a partir da ocupação mantida pelo tabuleiro,
+     * com duas consultas às tabelas de magic bitboards.
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino dos movimentos codificados.
+     */
+    @Override
+    public void generateMoves(Board board, MoveList moves) {
+        addMoves(SlidingAttacks.queenAttacks(BitboardUtils.toSquare(this.position), board.getOccupancy()), board, moves);
     }
 }
@@ -1,11 +1,10 @@
 package com.seios.warofkings.pieces.types;
-import java.util.ArrayList;
-import java.util.List;
-
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-import com.seios.warofkings.utils.BoardUtils;
-import com.seios.warofkings.utils.PieceUtils;
+import com.seios.warofkings.utils.BitboardUtils;
 
 /**
  * Representa a peça Torre no xadrez, com movimentação ortogonal.
@@ -18,7 +17,7 @@ import com.seios.warofkings.utils.PieceUtils;
  * (branca ou preta) sejam instanciadas corretamente.</p>
  *
  * @author Beatriz
- * @version 1.0
+ * @version 1.1
  * @since 2024-05-28
  */
 public class Rook extends ChessPiece {
@@ -67,64 +66,35 @@ public class Rook extends ChessPiece {
     }
 
     /**
-     * Retorna todas as posições possíveis para onde a torre pode se mover,
+     * Gera todos os movimentos possíveis da torre,
      * considerando:
      * <ul>
      *   <li>Movimentações verticais: para cima e para baixo</li>
      *   <li>Movimentações horizontais: para esquerda e para direita</li>
      *   <li>Interrupção ao encontrar uma peça aliada ou adversária</li>
      * </ul>
+     * Os raios são resolvidos por {@link SlidingAttacks#rookAttacks(int, long)}, consultando
+     * apenas as casas relevantes da matriz.
      *
      * @param board matriz representando o estado atual do tabuleiro.
-     * @return lista de posições válidas (como inteiros) para o movimento da torre.
+     * @param moves lista de destino dos movimentos codificados.
      */
     @Override
-    public List<Integer> getPossibleMoves(ChessPiece[][] board) {
-            List<Integer> possibleMoves = new ArrayList<>();
-            int pos = this.position;
-
-            int forward = -10;
-            int backward = 10;
-            int right = 1;
-            int left = -1;
-
-            int forwardPos = forward + pos;
-            while(BoardUtils.isWithinBounds(forwardPos) && board[PieceUtils.getX(forwardPos)][PieceUtils.getY(forwardPos)] == null){
-                possibleMoves.add(forwardPos);
-                forwardPos += forward;
-            }
-            if(BoardUtils.isWithinBounds(forwardPos) && isOpponent(board[PieceUtils.getX(forwardPos)][PieceUtils.getY(forwardPos)]) ){
-                possibleMoves.add(forwardPos);
-            }
-
-            int backwardPos = backward + pos;
-            while(BoardUtils.isWithinBounds(backwardPos) && board[PieceUtils.getX(backwardPos)][PieceUtils.getY(backwardPos)] == null){
-                possibleMoves.add(backwardPos);
-                backwardPos += backward;
-            }
-            if(BoardUtils.isWithinBounds(backwardPos) && isOpponent(board[PieceUtils.getX(backwardPos)][PieceUtils.getY(backwardPos)]) ){
-                possibleMoves.add(backwardPos);
-            }
-
-            int rightPos = right + pos;
-            while(BoardUtils.isWithinBounds(rightPos) && board[PieceUtils.getX(rightPos)][PieceUtils.getY(rightPos)] == null){
-                possibleMoves.add(rightPos);
-                rightPos += right ;
-            }
-            if(BoardUtils.isWithinBounds(rightPos) && isOpponent(board[PieceUtils.getX(rightPos)][PieceUtils.getY(rightPos)]) ){
-                possibleMoves.add(rightPos);
-            }
-
-            int leftPos = left + pos;
-            while(BoardUtils.isWithinBounds(leftPos) && board[PieceUtils.getX(leftPos)][PieceUtils.getY(leftPos)] == null){
-                possibleMoves.add(leftPos);
-                leftPos += left;
-            }
-            if(BoardUtils.isWithinBounds(leftPos) && isOpponent(board[PieceUtils.getX(leftPos)][PieceUtils.getY(leftPos)]) ){
-                possibleMoves.add(leftPos);
-            }
-
-        return possibleMoves;
+    public void generateMoves(ChessPiece[][] board, MoveList moves) {
+        int square = BitboardUtils.toSquare(this.position);
+        long occupancy = BitboardUtils.occupancy(board, SlidingAttacks.rookMask(square));
+        addMoves(SlidingAttacks.rookAttacks(square, occupancy), board, moves);
     }
 
-}
\ No newline at end of file
+    /**
+     * Gera os movimentos da torre diretamente a partir da ocupação mantida pelo tabuleiro,
+     * com uma única consulta à tabela de magic bitboards.
+     *
+     * @param board tabuleiro atual.
+     * @param moves lista de destino dos movimentos codificados.
+     */
+    @Override
+    public void generateMoves(Board board, MoveList moves) {
+        addMoves(SlidingAttacks.rookAttacks(BitboardUtils.toSquare(this.position), board.getOccupancy()), board, moves);
+    }
+}
@@ -17,7 +17,7 @@ import java.io.IOException;
  * <p>Utiliza o arquivo FXML localizado em {@code /com/seios/warofkings/layouts/hello-view.fxml}.</p>
  *
  * @author Lívia
- * @version 1.0
+ * @version 1.2
  * @since 2025-06-09
  */
 public class MainApplication extends Application {
@@ -31,11 +31,11 @@ public class MainApplication extends Application {
     @Override
     public void start(Stage stage) throws IOException {
         FXMLLoader fxmlLoader = new FXMLLoader(MainApplication.class.getResource("/com/seios/warofkings/layouts/hello-view.fxml"));
-        Scene scene = new Scene(fxmlLoader.load(), 340, 350);
+        Scene scene = new Scene(fxmlLoader.load(), 340, 415);
         stage.setTitle("War of Kings");
         stage.setScene(scene);
         stage.setMinWidth(320);
-        stage.setMinHeight(370);
+        stage.setMinHeight(435);
         stage.setResizable(false);
         stage.centerOnScreen();
         stage.setAlwaysOnTop(true);
@@ -4,7 +4,6 @@ import com.seios.warofkings.pieces.enums.Type;
 import com.seios.warofkings.pieces.types.*;
 import com.seios.warofkings.utils.BoardUtils;
 import com.seios.warofkings.utils.ImageFactoryUtils;
-import com.seios.warofkings.utils.PieceUtils;
 import javafx.fxml.FXML;
 
 import javafx.scene.Cursor;
@@ -17,8 +16,19 @@ import javafx.scene.layout.Region;
 import java.util.ArrayList;
 import java.util.List;
 import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.GameStatus;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.engine.ComputerPlayer;
+import com.seios.warofkings.engine.SearchInfo;
+import com.seios.warofkings.engine.SearchLimits;
+import com.seios.warofkings.utils.PieceUtils;
+import javafx.application.Platform;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.Label;
 
 
 /**
@@ -28,21 +38,57 @@ import com.seios.warofkings.board.enums.Turn;
  * e movimentação das peças no tabuleiro. Também mantém o controle do turno atual.
  * </p>
  *
+ * <p>Após cada lance, uma busca curta analisa a posição e a variação principal encontrada é
+ * mostrada abaixo do tabuleiro, com o primeiro lance destacado nas casas criadas por
+ * {@link #creatingBoard()}.</p>
+ *
+ * <p>Com a opção {@code computerOpponent} marcada, o computador joga com as pretas. As buscas, tanto a
+ * análise quanto o lance do computador, rodam num {@link ComputerPlayer}, fora da thread da aplicação
+ * JavaFX, e os resultados voltam por {@link Platform#runLater(Runnable)}; o tabuleiro continua
+ * respondendo enquanto o computador pensa, e cada lance ou mudança de modo cancela a busca anterior.</p>
+ *
+ * <p>Depois de jogar, o computador pondera a resposta prevista pela sua variação principal enquanto o
+ * jogador pensa. Se o jogador fizer essa resposta, a busca já em andamento vira a do próximo lance; caso
+ * contrário, ela recomeça aproveitando a tabela de transposição aquecida.</p>
+ *
  * <p>Associado ao arquivo FXML principal carregado por {@link MainApplication}.</p>
  *
  * @author Lívia
- * @version 1.0
+ * @version 1.6
  * @since 2025-06-09
  */
 public class MainController {
+    /** Profundidade da análise feita após cada lance. */
+    private static final int ANALYSIS_DEPTH = 6;
+
+    /** Tipos indexados pelo valor, evitando a cópia feita por {@link Type#values()} a cada promoção. */
+    private static final Type[] TYPES = Type.values();
+
+    /** Tempo de busca do lance do computador (ms). */
+    private static final long COMPUTER_TIME_MILLIS = 3000;
+
+    /** Cor com que o computador joga. */
+    private static final Turn COMPUTER_COLOR = Turn.BLACK;
+
+    /** Tamanho da tabela de transposição do computador (MB). */
+    private static final int HASH_MB = 16;
+
     private ChessPiece selectedPiece;
     private ImageView selectedImage;
-    private List<Integer> possibleMoves;
+    private final MoveList possibleMoves = new MoveList();
 
     private final Board BOARD = new Board();
     private final Region[][] BOARD_SQUARES = new Region[8][8];
     private Turn turn = Turn.WHITE;
     private boolean blockPromotion = false;//essa vai ser a flag usada
+    private final ComputerPlayer computer = new ComputerPlayer(HASH_MB, Platform::runLater);
+    private int predictedReply = Move.NONE;
+
+    @FXML
+    private CheckBox computerOpponent;
+
+    @FXML
+    private Label principalVariation;
 
     @FXML
     private GridPane pecas;
@@ -126,6 +172,10 @@ public class MainController {
                         System.out.println("Jogo encerrado. Nenhum movimento permitido.");
                         return;
                     }
+                    if (isComputerTurn()) {
+                        System.out.println("Aguarde o lance do computador.");
+                        return;
+                    }
 
                     Integer colY = GridPane.getColumnIndex(imageView);
                     Integer rowX = GridPane.getRowIndex(imageView);
@@ -141,17 +191,18 @@ public class MainController {
                     if (piece != null && piece.getType().getColor() == turn) {
                         selectedPiece = piece;
                         selectedImage = imageView;
-                        possibleMoves = piece.getPossibleMoves(BOARD.getPieces());
+                        possibleMoves.clear();
+                        MoveGenerator.generateLegalMoves(BOARD, piece, possibleMoves);
 
                         System.out.println("Peca selecionada: " + piece);
                         System.out.println("Movimentos possiveis: " + possibleMoves);
 
                         toMark(possibleMoves);
 
-                        ChessPiece myKing = BoardUtils.findPieces(BOARD.getPieces(),
+                        ChessPiece myKing = BoardUtils.findPieces(BOARD,
                                 turn == Turn.WHITE ? Type.KING_WHITE : Type.KING_BLACK).getFirst();
 
-                        if (myKing != null && PieceUtils.isPieceUnderAttack(myKing, BOARD.getPieces())) {
+                        if (myKing != null && BOARD.isInCheck(turn)) {
                             int x = myKing.getX();
                             int y = myKing.getY();
                             BOARD_SQUARES[x][y].setStyle("-fx-background-color: #f9e79f;");
@@ -176,39 +227,22 @@ public class MainController {
                             boolean isPawn = selectedPiece.getType().name().startsWith("PAWN");
                             int rowFinal = GridPane.getRowIndex(selectedImage);
 
-                            toMark(List.of());
-
-                            // Verifica se o rei inimigo está em xeque ou xeque-mate
-                            ChessPiece enemyPiece = BoardUtils.findPieces(BOARD.getPieces(), turn.next() == Turn.WHITE ? Type.KING_WHITE : Type.KING_BLACK).getFirst();
-                            King enemyKing = (King) enemyPiece;
-                            if (enemyKing != null) {
-                                boolean isCheckmate = enemyKing.xequeMate(BOARD);
-                                int x = enemyKing.getX();
-                                int y = enemyKing.getY();
-
-                                if (isCheckmate) {
-                                    turn = turn.endGame();
-                                    System.out.println("Xeque-mate! Jogo encerrado.");
-                                    BOARD_SQUARES[x][y].setStyle("-fx-background-color: #61131d;");
-
-                                    // Limpa seleção atual para impedir novo movimento
-                                    selectedPiece = null;
-                                    selectedImage = null;
-                                    possibleMoves = null;
-                                    creatingPieces(); // garantir estado visual correto
-                                    movingPieces(); // reatribuir eventos já com turn = END
-                                    return;
-                                } else if (PieceUtils.isPieceUnderAttack(enemyKing, BOARD.getPieces())) {
-                                    BOARD_SQUARES[x][y].setStyle("-fx-background-color: #f9e79f;");
-                                }
-                            }
+                            possibleMoves.clear();
+                            toMark(possibleMoves);
 
-                            // verifica promoção de peão
+                            // verifica promoção de peão; a situação do adversário só é verificada depois
+                            // da escolha da peça, pois o peão ainda sem promover pode afogar um rei que a
+                            // peça promovida daria mate
                             if (isPawn && (rowFinal == 0 || rowFinal == 7)) {
                                 blockPromotion = true; //essa porra aqui vai travar
                                 turnPawn(selectedPiece);
                             } else {
+                                if (checkOpponentStatus()) {
+                                    return;
+                                }
                                 turn = turn.next();
+                                BOARD.setTurn(turn);
+                                startThinking();
                             }
 
                             System.out.println("Peça movida!");
@@ -216,7 +250,7 @@ public class MainController {
 
                             selectedPiece = null;
                             selectedImage = null;
-                            possibleMoves = null;
+                            possibleMoves.clear();
                             creatingPieces();
                             movingPieces();
                         } else {
@@ -239,9 +273,9 @@ public class MainController {
      *   <li>Aplica uma cor de destaque nas casas cujas posições estão listadas como possíveis movimentos.</li>
      * </ol>
      *
-     * @param moves Lista de posições inteiras representando as casas onde uma peça pode se mover.
-     *              Cada posição está no formato XY, onde X representa a linha (0 a 7) e Y a coluna (0 a 7).
-     *              Por exemplo, a posição 43 indica linha 4, coluna 3.
+     * @param moves Lista de movimentos codificados (ver {@link Move}) cujas casas de destino serão destacadas.
+     *              O destino de cada movimento é convertido para o formato XY, onde X representa a linha (0 a 7)
+     *              e Y a coluna (0 a 7). Por exemplo, a posição 43 indica linha 4, coluna 3.
      *
      * @implNote As cores originais utilizadas são:
      * <ul>
@@ -254,7 +288,7 @@ public class MainController {
      *   <li>Destaque em casa escura: {@code #989885}</li>
      * </ul>
      */
-    private void toMark(List<Integer> moves) {
+    private void toMark(MoveList moves) {
         //Resetar tabuleiro que nem o original (branco e verde)
         for (int i = 0; i < 8; i++) {
             for (int j = 0; j < 8; j++) {
@@ -264,7 +298,8 @@ public class MainController {
         }
 
         //Aplicar destaque nas casas (region) de acordo com a tonalidade
-        for (int pos : moves) {
+        for (int i = 0; i < moves.size(); i++) {
+            int pos = Move.toPosition(moves.get(i));
             int x = pos / 10;
             int y = pos % 10;
 
@@ -274,6 +309,165 @@ public class MainController {
         }
     }
 
+    /**
+     * Verifica a situação do adversário de quem acabou de jogar: destaca o rei em xeque e, no
+     * xeque-mate ou no afogamento, encerra o jogo e cancela a busca em andamento. Numa promoção, só pode
+     * ser chamado depois de a peça promovida ocupar o lugar do peão.
+     *
+     * @return true se o jogo terminou.
+     */
+    private boolean checkOpponentStatus() {
+        ChessPiece enemyKing = BoardUtils.findPieces(BOARD, turn.next() == Turn.WHITE ? Type.KING_WHITE : Type.KING_BLACK).getFirst();
+        if (enemyKing == null) {
+            return false;
+        }
+        GameStatus status = MoveGenerator.getGameStatus(BOARD, turn.next());
+        int x = enemyKing.getX();
+        int y = enemyKing.getY();
+
+        if (status.isGameOver()) {
+            computer.cancel();
+            turn = turn.endGame();
+            BOARD.setTurn(turn);
+            if (status == GameStatus.CHECKMATE) {
+                System.out.println("Xeque-mate! Jogo encerrado.");
+                BOARD_SQUARES[x][y].setStyle("-fx-background-color: #61131d;");
+            } else {
+                System.out.println("Afogamento! Jogo empatado.");
+            }
+
+            // Limpa seleção atual para impedir novo movimento
+            selectedPiece = null;
+            selectedImage = null;
+            possibleMoves.clear();
+            creatingPieces(); // garantir estado visual correto
+            movingPieces(); // reatribuir eventos já com turn = END
+            return true;
+        } else if (status == GameStatus.CHECK) {
+            BOARD_SQUARES[x][y].setStyle("-fx-background-color: #f9e79f;");
+        }
+        return false;
+    }
+
+    /**
+     * Indica se é a vez do computador.
+     *
+     * @return true se o modo contra o computador estiver ligado e for a vez da cor dele.
+     */
+    private boolean isComputerTurn() {
+        return computerOpponent.isSelected() && turn == COMPUTER_COLOR;
+    }
+
+    /**
+     * Chamado ao marcar ou desmarcar a opção de jogar contra o computador; recomeça a busca da
+     * posição atual no novo modo.
+     */
+    @FXML
+    public void toggleComputerOpponent() {
+        if (blockPromotion) return;
+        startThinking();
+    }
+
+    /**
+     * Começa a busca da posição atual em segundo plano, cancelando a anterior: o lance do computador,
+     * se for a vez dele (continuando a ponderação no acerto), a ponderação da resposta prevista logo
+     * depois do lance do computador, ou a análise até {@link #ANALYSIS_DEPTH}. A variação principal é
+     * mostrada a cada iteração completa.
+     */
+    private void startThinking() {
+        int predicted = predictedReply;
+        predictedReply = Move.NONE;
+        if (turn == Turn.END) {
+            computer.cancel();
+        } else if (isComputerTurn()) {
+            principalVariation.setText("Computador pensando...");
+            if (computer.ponderHit(BOARD)) {
+                System.out.println("Acerto da ponderação.");
+            } else {
+                computer.think(BOARD, SearchLimits.time(COMPUTER_TIME_MILLIS), this::showPrincipalVariation,
+                        this::playComputerMove);
+            }
+        } else if (computerOpponent.isSelected() && predicted != Move.NONE) {
+            computer.ponder(BOARD, predicted, SearchLimits.time(COMPUTER_TIME_MILLIS), this::showPrincipalVariation,
+                    this::playComputerMove);
+        } else {
+            computer.think(BOARD, SearchLimits.depth(ANALYSIS_DEPTH), this::showPrincipalVariation, info -> {});
+        }
+    }
+
+    /**
+     * Joga o lance escolhido pelo computador pelo mesmo caminho dos lances do jogador
+     * ({@link ChessPiece#moveTo}), promovendo o peão para a peça escolhida pela busca, e passa a vez,
+     * guardando o segundo lance da variação principal como a resposta a ponderar.
+     * Roda na thread da aplicação JavaFX.
+     *
+     * @param info resultado da busca do computador.
+     */
+    private void playComputerMove(SearchInfo info) {
+        int move = info.getBestMove();
+        if (move == Move.NONE) return;
+
+        int from = Move.fromPosition(move);
+        int to = Move.toPosition(move);
+        ChessPiece piece = BOARD.getPieces()[from / 10][from % 10];
+        possibleMoves.clear();
+        MoveGenerator.generateLegalMoves(BOARD, piece, possibleMoves);
+        if (!piece.moveTo(to, possibleMoves, BOARD)) {
+            System.out.println("Lance inválido do computador: " + Move.toString(move));
+            return;
+        }
+        if (Move.isPromotion(move)) {
+            BOARD.placePiece(to, PieceUtils.createPiece(TYPES[Move.promotion(move)], to, piece.getN_moves()));
+        }
+        System.out.println("Computador jogou: " + Move.toString(move));
+
+        possibleMoves.clear();
+        toMark(possibleMoves);
+        creatingPieces();
+        movingPieces();
+        if (checkOpponentStatus()) return;
+
+        turn = turn.next();
+        BOARD.setTurn(turn);
+        System.out.println("Turno atual: " + turn);
+        int[] pv = info.getPv();
+        predictedReply = pv.length > 1 ? pv[1] : Move.NONE;
+        startThinking();
+    }
+
+    /**
+     * Mostra a variação principal de uma análise: a linha completa, com a pontuação do ponto de vista
+     * das brancas (ou {@code +M3}/{@code -M3} para mates), no rótulo abaixo do tabuleiro, e as casas de origem e destino do primeiro lance
+     * destacadas no tabuleiro.
+     *
+     * @param info relatório da análise.
+     *
+     * @implNote Os destaques do primeiro lance usam {@code #f6f669} (casa clara) e {@code #baca2b}
+     * (casa escura), e são desfeitos por {@link #toMark(MoveList)} ao selecionar uma peça.
+     */
+    private void showPrincipalVariation(SearchInfo info) {
+        int[] pv = info.getPv();
+        int sign = turn == Turn.WHITE ? 1 : -1;
+        int mate = sign * info.getMateIn();
+        StringBuilder line = new StringBuilder(info.isMate()
+                ? (mate > 0 ? "+M" : "-M") + Math.abs(mate)
+                : String.format("%+.2f", sign * info.getScore() / 100.0));
+        line.append(" (profundidade ").append(info.getDepth()).append("):");
+        for (int move : pv) {
+            line.append(' ').append(Move.toString(move));
+        }
+        principalVariation.setText(line.toString());
+
+        if (pv.length > 0) {
+            for (int pos : new int[] {Move.fromPosition(pv[0]), Move.toPosition(pv[0])}) {
+                int x = pos / 10;
+                int y = pos % 10;
+                String color = (x + y) % 2 == 0 ? "#f6f669" : "#baca2b";
+                BOARD_SQUARES[x][y].setStyle("-fx-background-color: " + color + ";");
+            }
+        }
+    }
+
     @FXML FlowPane piecesTurn;
 
     /**
@@ -318,7 +512,7 @@ public class MainController {
                 imgView.setCursor(Cursor.HAND);
 
                 imgView.setOnMouseClicked(event -> {
-                    BOARD.getPieces()[row][col] = newPiece;
+                    BOARD.placePiece(row * 10 + col, newPiece);
 
                     creatingPieces();
                     movingPieces();
@@ -326,14 +520,20 @@ public class MainController {
 
                     this.selectedPiece = null;
                     this.selectedImage = null;
-                    this.possibleMoves = null;
+                    this.possibleMoves.clear();
 
                     System.out.println("Peão promovido para: " + newPiece.getType());
 
+                    blockPromotion = false; //esssa outra aqui é pra destravar
+                    if (checkOpponentStatus()) {
+                        return;
+                    }
+
                     turn = turn.next();
+                    BOARD.setTurn(turn);
                     System.out.println("Turno atual: " + turn);
 
-                    blockPromotion = false; //esssa outra aqui é pra destravar
+                    startThinking();
                 });
                 piecesTurn.getChildren().add(imgView);
             }
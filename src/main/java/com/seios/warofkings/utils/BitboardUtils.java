@@ -0,0 +1,145 @@
+package com.seios.warofkings.utils;
+
+import com.seios.warofkings.board.Mailbox;
+import com.seios.warofkings.pieces.ChessPiece;
+
+/**
+ * Classe utilitária para operações com bitboards (máscaras de 64 bits).
+ * <p>
+ * Cada bit representa uma casa do tabuleiro no formato {@code casa = 8 * linha + coluna},
+ * ou seja, o bit 0 é a casa (0, 0) — canto superior esquerdo, lado das pretas — e o bit 63
+ * é a casa (7, 7). Os métodos de conversão fazem a ponte com o formato posicional XY
+ * ({@code 10 * linha + coluna}) usado pelas peças e pela interface.
+ * </p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+public class BitboardUtils {
+    /** Bitboard vazio. */
+    public static final long EMPTY = 0L;
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private BitboardUtils() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Converte uma posição no formato XY para o índice de casa (0 a 63) do bitboard,
+     * por consulta ao {@link Mailbox} em vez de divisão e resto.
+     *
+     * @param position posição no formato XY (ex: 52).
+     * @return índice da casa correspondente (ex: 42), ou {@link Mailbox#OFFBOARD} fora do tabuleiro.
+     */
+    public static int toSquare(int position) {
+        return Mailbox.toSquare(position);
+    }
+
+    /**
+     * Converte um índice de casa (0 a 63) para o formato posicional XY.
+     *
+     * @param square índice da casa no bitboard.
+     * @return posição no formato XY.
+     */
+    public static int toPosition(int square) {
+        return (square >>> 3) * 10 + (square & 7);
+    }
+
+    /**
+     * Retorna a máscara com apenas o bit da casa informada ligado.
+     *
+     * @param square índice da casa (0 a 63).
+     * @return bitboard com um único bit.
+     */
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    /**
+     * Verifica se a casa informada está ligada no bitboard.
+     *
+     * @param bitboard máscara a ser consultada.
+     * @param square   índice da casa (0 a 63).
+     * @return true se o bit estiver ligado.
+     */
+    public static boolean isSet(long bitboard, int square) {
+        return (bitboard & (1L << square)) != 0;
+    }
+
+    /**
+     * Conta quantas casas estão ligadas no bitboard (population count).
+     *
+     * @param bitboard máscara a ser contada.
+     * @return quantidade de bits ligados.
+     */
+    public static int popCount(long bitboard) {
+        return Long.bitCount(bitboard);
+    }
+
+    /**
+     * Retorna o índice do bit menos significativo ligado (bitscan forward).
+     *
+     * @param bitboard máscara não vazia.
+     * @return índice da primeira casa ocupada, ou 64 se o bitboard estiver vazio.
+     */
+    public static int lsb(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    /**
+     * Remove o bit menos significativo ligado.
+     *
+     * @param bitboard máscara original.
+     * @return máscara sem o primeiro bit ligado.
+     */
+    public static long popLsb(long bitboard) {
+        return bitboard & (bitboard - 1);
+    }
+
+    /**
+     * Calcula a ocupação de uma matriz de peças restrita às casas de uma máscara.
+     * <p>
+     * Permite que métodos que recebem apenas a matriz consultem as tabelas de ataque sem
+     * percorrer as 64 casas: apenas as casas da máscara (no máximo 12 para uma torre) são lidas.
+     * </p>
+     *
+     * @param board matriz 8x8 de peças.
+     * @param mask  casas que devem ser consultadas.
+     * @return bitboard com as casas da máscara que estão ocupadas.
+     */
+    public static long occupancy(ChessPiece[][] board, long mask) {
+        long occupancy = EMPTY;
+        while (mask != 0) {
+            int square = lsb(mask);
+            if (board[square >>> 3][square & 7] != null) {
+                occupancy |= 1L << square;
+            }
+            mask = popLsb(mask);
+        }
+        return occupancy;
+    }
+
+    /**
+     * Gera uma representação textual do bitboard em formato de grade 8x8, útil para depuração.
+     *
+     * @param bitboard máscara a ser representada.
+     * @return texto com {@code 1} nas casas ligadas e {@code .} nas vazias.
+     */
+    public static String toString(long bitboard) {
+        StringBuilder sb = new StringBuilder();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                sb.append(isSet(bitboard, x * 8 + y) ? '1' : '.');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
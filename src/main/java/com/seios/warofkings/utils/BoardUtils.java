@@ -1,5 +1,7 @@
 package com.seios.warofkings.utils;
 
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.Mailbox;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
 
@@ -19,7 +21,7 @@ import static com.seios.warofkings.utils.PieceUtils.isSamePiece;
  * <p>Usada amplamente por peças, controladores e lógica de regras do jogo.</p>
  *
  * @author Raffael
- * @version 1.1
+ * @version 1.3
  * @since 2025-05-14
  */
 public class BoardUtils {
@@ -43,6 +45,18 @@ public class BoardUtils {
         return positions;
     }
 
+    /**
+     * Retorna uma lista de todas as peças do tipo especificado, usando os bitboards do tabuleiro.
+     * <p>Diferente de {@link #findPieces(ChessPiece[][], Type)}, visita apenas as casas ocupadas pelo tipo.</p>
+     *
+     * @param board tabuleiro atual.
+     * @param type  tipo da peça a buscar.
+     * @return lista de peças encontradas.
+     */
+    public static List<ChessPiece> findPieces(Board board, Type type) {
+        return board.findPieces(type);
+    }
+
     /**
      * Retorna uma lista de peças aliadas à peça de referência no tabuleiro.
      * <p>
@@ -73,6 +87,21 @@ public class BoardUtils {
         return aliadas;
     }
 
+    /**
+     * Retorna uma lista de peças aliadas à peça de referência, usando a ocupação por cor do tabuleiro.
+     *
+     * @param referencia A peça de referência para comparar a cor.
+     * @param board tabuleiro atual.
+     * @return Uma lista contendo todas as peças aliadas à peça de referência.
+     *
+     * @see Board#getPiecesOf(com.seios.warofkings.board.enums.Turn)
+     */
+    public static List<ChessPiece> getAliadas(ChessPiece referencia, Board board) {
+        List<ChessPiece> aliadas = board.getPiecesOf(referencia.getType().getColor());
+        aliadas.remove(referencia);
+        return aliadas;
+    }
+
     /**
      * Verifica se a posição está ocupada por uma peça no tabuleiro.
      *
@@ -81,9 +110,7 @@ public class BoardUtils {
      * @return {@code true} se houver peça na posição, {@code false} caso contrário.
      */
     public static boolean isPositionOccupied(ChessPiece[][] pieces, int position) {
-        int x = position / 10;
-        int y = position % 10;
-        return BoardUtils.isWithinBounds(position) && pieces[x][y] != null;
+        return getPieceAt(pieces, position) != null;
     }
 
     /**
@@ -94,20 +121,20 @@ public class BoardUtils {
      * @return a peça na posição ou {@code null} se vazia/inválida.
      */
     public static ChessPiece getPieceAt(ChessPiece[][] pieces, int position) {
-        int x = position / 10;
-        int y = position % 10;
-        if (!BoardUtils.isWithinBounds(position)) return null;
-        return pieces[x][y];
+        int square = Mailbox.toSquare(position);
+        if (square == Mailbox.OFFBOARD) return null;
+        return pieces[square >>> 3][square & 7];
     }
 
     /**
      * Verifica se a posição está dentro dos limites do tabuleiro.
+     * <p>Uma única consulta ao {@link Mailbox}: posições fora do tabuleiro caem em casas sentinela.</p>
      *
      * @param position valor no formato XY (ex: 74, 03...).
      * @return {@code true} se estiver entre 00 e 77, {@code false} caso contrário.
      */
     public static boolean isWithinBounds(int position) {
-        return PieceUtils.getX(position) >= 0 && PieceUtils.getX(position) < 8 && PieceUtils.getY(position) >= 0 && PieceUtils.getY(position) < 8;
+        return Mailbox.isOnBoard(position);
     }
 
     /**
@@ -0,0 +1,168 @@
+package com.seios.warofkings.utils;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+
+/**
+ * Classe utilitária para leitura e escrita de posições na notação FEN (Forsyth–Edwards Notation).
+ * <p>
+ * A primeira linha da FEN (oitava fileira) corresponde à linha 0 da matriz, lado das pretas,
+ * mantendo o formato posicional XY usado pelo {@link Board}.
+ * </p>
+ *
+ * <p>Os direitos de roque são representados pelo contador de movimentos das peças: o rei e as
+ * torres de canto com direito de roque ficam com zero movimentos, as demais peças com um
+ * (exceto peões na linha inicial).</p>
+ *
+ * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
+ *
+ * @author Lucas
+ * @version 1.3
+ * @since 2026-10-18
+ */
+public class FenUtils {
+    /** FEN da posição inicial do xadrez clássico. */
+    public static final String START_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /** Letras das peças na ordem dos valores de {@link Type} (brancas em maiúsculas). */
+    private static final String PIECE_LETTERS = "PRNBQKprnbqk";
+
+    /** Tipos indexados pelo valor, evitando a cópia feita por {@link Type#values()} a cada peça. */
+    private static final Type[] TYPES = Type.values();
+
+    /**
+     * Construtor privado para prevenir instanciamento.
+     *
+     * @throws UnsupportedOperationException sempre.
+     */
+    private FenUtils() throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("Classe utilitária - não deve ser instanciada.");
+    }
+
+    /**
+     * Cria um tabuleiro a partir de uma posição em FEN.
+     *
+     * @param fen posição em FEN; os campos de en passant e contadores são opcionais.
+     * @return novo tabuleiro com as peças, o turno, os direitos de roque, a casa de en passant e o
+     *         relógio de meio-lances da posição.
+     * @throws IllegalArgumentException se a FEN for inválida.
+     */
+    public static Board load(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        String[] rows = fields[0].split("/");
+        if (rows.length != 8) {
+            throw new IllegalArgumentException("FEN inválida: esperadas 8 linhas em '" + fen + "'.");
+        }
+
+        String castling = fields.length > 2 ? fields[2] : "-";
+        ChessPiece[][] pieces = new ChessPiece[8][8];
+
+        for (int x = 0; x < 8; x++) {
+            int y = 0;
+            for (char c : rows[x].toCharArray()) {
+                if (Character.isDigit(c)) {
+                    y += c - '0';
+                    continue;
+                }
+
+                int valor = PIECE_LETTERS.indexOf(c);
+                if (valor < 0 || y > 7) {
+                    throw new IllegalArgumentException("FEN inválida: caractere '" + c + "' na linha " + (x + 1) + ".");
+                }
+
+                Type type = TYPES[valor];
+                int position = x * 10 + y;
+                pieces[x][y] = PieceUtils.createPiece(type, position, initialMoves(type, position, castling));
+                y++;
+            }
+            if (y != 8) {
+                throw new IllegalArgumentException("FEN inválida: a linha " + (x + 1) + " não possui 8 colunas.");
+            }
+        }
+
+        Board board = new Board();
+        board.setPieces(pieces);
+        board.setTurn(fields.length > 1 && fields[1].equals("b") ? Turn.BLACK : Turn.WHITE);
+        if (fields.length > 3 && !fields[3].equals("-")) {
+            board.setEnPassantSquare(Move.parseSquare(fields[3]));
+        }
+        if (fields.length > 4) {
+            board.setHalfmoveClock(Integer.parseInt(fields[4]));
+        }
+        return board;
+    }
+
+    /**
+     * Gera a FEN da posição atual do tabuleiro.
+     * <p>O número do lance completo não é acompanhado pelo tabuleiro e é sempre escrito como 1.</p>
+     *
+     * @param board tabuleiro atual.
+     * @return posição em FEN.
+     */
+    public static String toFen(Board board) {
+        StringBuilder sb = new StringBuilder();
+        ChessPiece[][] pieces = board.getPieces();
+
+        for (int x = 0; x < 8; x++) {
+            int empty = 0;
+            for (int y = 0; y < 8; y++) {
+                ChessPiece piece = pieces[x][y];
+                if (piece == null) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    sb.append(empty);
+                    empty = 0;
+                }
+                sb.append(PIECE_LETTERS.charAt(piece.getType().getValor()));
+            }
+            if (empty > 0) sb.append(empty);
+            if (x < 7) sb.append('/');
+        }
+
+        sb.append(board.getTurn() == Turn.BLACK ? " b " : " w ");
+
+        int rights = board.getCastlingRights();
+        String castling = ((rights & Board.WHITE_KINGSIDE) != 0 ? "K" : "")
+                + ((rights & Board.WHITE_QUEENSIDE) != 0 ? "Q" : "")
+                + ((rights & Board.BLACK_KINGSIDE) != 0 ? "k" : "")
+                + ((rights & Board.BLACK_QUEENSIDE) != 0 ? "q" : "");
+        sb.append(castling.isEmpty() ? "-" : castling);
+
+        int enPassant = board.getEnPassantSquare();
+        sb.append(' ').append(enPassant == Board.NO_SQUARE ? "-" : Move.squareName(enPassant));
+
+        return sb.append(' ').append(board.getHalfmoveClock()).append(" 1").toString();
+    }
+
+    /**
+     * Define o contador de movimentos inicial de uma peça lida da FEN.
+     *
+     * @param type     tipo da peça.
+     * @param position posição no formato XY.
+     * @param castling campo de roque da FEN.
+     * @return 0 para peões na linha inicial e para rei e torres com direito de roque; 1 caso contrário.
+     */
+    private static int initialMoves(Type type, int position, String castling) {
+        switch (type) {
+            case PAWN_WHITE:
+                return position / 10 == 6 ? 0 : 1;
+            case PAWN_BLACK:
+                return position / 10 == 1 ? 0 : 1;
+            case KING_WHITE:
+                return position == 74 && (castling.contains("K") || castling.contains("Q")) ? 0 : 1;
+            case KING_BLACK:
+                return position == 4 && (castling.contains("k") || castling.contains("q")) ? 0 : 1;
+            case ROOK_WHITE:
+                return (position == 77 && castling.contains("K")) || (position == 70 && castling.contains("Q")) ? 0 : 1;
+            case ROOK_BLACK:
+                return (position == 7 && castling.contains("k")) || (position == 0 && castling.contains("q")) ? 0 : 1;
+            default:
+                return 1;
+        }
+    }
+}
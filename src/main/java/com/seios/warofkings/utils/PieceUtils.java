@@ -1,9 +1,11 @@
 package com.seios.warofkings.utils;
 
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.attacks.SlidingAttacks;
+import com.seios.warofkings.board.enums.Turn;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
-
-import java.util.List;
+import com.seios.warofkings.pieces.types.*;
 
 /**
  * Classe utilitária para operações envolvendo peças de xadrez.
@@ -15,7 +17,7 @@ import java.util.List;
  * <p><b>Nota:</b> Esta classe não deve ser instanciada.</p>
  *
  * @author Lucas
- * @version 1.0
+ * @version 1.2
  * @since 2025-06-01
  */
 public class PieceUtils {
@@ -112,8 +114,8 @@ public class PieceUtils {
 
     /**
      * Verifica se a peça informada está sob ataque no tabuleiro atual.
-     * Percorre todas as peças adversárias e analisa se alguma delas possui
-     * a posição da peça em sua lista de movimentos válidos.
+     * A verificação é delegada a {@link #isSquareAttacked(int, Turn, ChessPiece[][])}, olhando
+     * a partir da posição da peça pelas peças da cor adversária.
      *
      * @param piece peça a ser analisada.
      * @param board matriz 8x8 representando o tabuleiro.
@@ -122,15 +124,55 @@ public class PieceUtils {
     public static boolean isPieceUnderAttack(ChessPiece piece, ChessPiece[][] board) {
         if (piece == null) return false;
 
-        for (ChessPiece[] row : board) {
-            for (ChessPiece other : row) {
-                 if (other != null && !PieceUtils.isSameColor(other, piece)) {
-                    List<Integer> moves = other.getPossibleMoves(board);
-                    if (moves.contains(piece.getPosition())) {
-                        return true; // peça está sendo ameaçada
-                    }
-                }
+        return isSquareAttacked(piece.getPosition(), piece.isWhite() ? Turn.BLACK : Turn.WHITE, board);
+    }
+
+    /**
+     * Verifica se uma posição é atacada por alguma peça da cor informada, olhando para fora
+     * a partir da própria casa: saltos de cavalo e de rei, diagonais de captura de peão e
+     * raios de torre e bispo. Apenas as casas dessas máscaras são lidas da matriz, sem gerar
+     * listas de movimentos nem acionar a lógica de roque.
+     * <p>Quando houver um {@link com.seios.warofkings.board.Board}, prefira
+     * {@link com.seios.warofkings.board.Board#isSquareAttacked(int, Turn)}, que usa os bitboards mantidos por ele.</p>
+     *
+     * @param position posição no formato XY.
+     * @param byColor  cor das peças atacantes.
+     * @param board    matriz 8x8 representando o tabuleiro.
+     * @return true se alguma peça da cor informada ataca a posição.
+     */
+    public static boolean isSquareAttacked(int position, Turn byColor, ChessPiece[][] board) {
+        int square = BitboardUtils.toSquare(position);
+        int color = byColor == Turn.WHITE ? LeaperAttacks.WHITE : LeaperAttacks.BLACK;
+        int offset = color * 6;
+
+        if (containsType(board, LeaperAttacks.pawnAttacks(color ^ 1, square), offset, offset)) return true;
+        if (containsType(board, LeaperAttacks.knightAttacks(square), offset + 2, offset + 2)) return true;
+        if (containsType(board, LeaperAttacks.kingAttacks(square), offset + 5, offset + 5)) return true;
+
+        long diagonals = SlidingAttacks.bishopAttacks(square, BitboardUtils.occupancy(board, SlidingAttacks.bishopMask(square)));
+        if (containsType(board, diagonals, offset + 3, offset + 4)) return true;
+
+        long lines = SlidingAttacks.rookAttacks(square, BitboardUtils.occupancy(board, SlidingAttacks.rookMask(square)));
+        return containsType(board, lines, offset + 1, offset + 4);
+    }
+
+    /**
+     * Verifica se alguma casa da máscara contém uma peça de um dos dois tipos informados.
+     *
+     * @param board  matriz 8x8 representando o tabuleiro.
+     * @param mask   casas a serem consultadas.
+     * @param first  valor do primeiro tipo aceito.
+     * @param second valor do segundo tipo aceito.
+     * @return true se encontrar alguma peça compatível.
+     */
+    private static boolean containsType(ChessPiece[][] board, long mask, int first, int second) {
+        while (mask != 0) {
+            int square = BitboardUtils.lsb(mask);
+            ChessPiece piece = board[square >>> 3][square & 7];
+            if (piece != null && (piece.getType().getValor() == first || piece.getType().getValor() == second)) {
+                return true;
             }
+            mask = BitboardUtils.popLsb(mask);
         }
         return false;
     }
@@ -138,7 +180,8 @@ public class PieceUtils {
     /**
      * Verifica se o caminho do rei entre sua posição atual e a posição de destino
      * é seguro (não será atacado em nenhuma das casas durante o trajeto).
-     * <p>Usado para validar o roque.</p>
+     * <p>Usado para validar o roque. A simulação é feita na própria matriz, sem cópia:
+     * cada casa alterada tem seu ocupante original restaurado antes do retorno.</p>
      *
      * @param to    posição final desejada.
      * @param king  instância da peça rei.
@@ -147,21 +190,46 @@ public class PieceUtils {
      */
     public static boolean pathSafeForKing(int to, ChessPiece king, ChessPiece[][] board) {
         int from = king.getPosition(); // posição do rei
+        ChessPiece origin = board[getX(from)][getY(from)];
+        board[getX(from)][getY(from)] = null;
 
-        ChessPiece[][] boardCopy = BoardUtils.copyBoard(board);
-        boardCopy[getX(from)][getY(from)] = null;
-
-        int step = (from > to) ? -1 : 1;
-        for (int i = from + step; i != to + step; i += step) {
-            boardCopy[getX(i)][getY(i)] = king;
-            king.setPosition(i);
-            if (isPieceUnderAttack(king, boardCopy)) {
-                king.setPosition(from);
-                return false;
+        try {
+            int step = (from > to) ? -1 : 1;
+            for (int i = from + step; i != to + step; i += step) {
+                ChessPiece occupant = board[getX(i)][getY(i)];
+                board[getX(i)][getY(i)] = king;
+                king.setPosition(i);
+                boolean attacked = isPieceUnderAttack(king, board);
+                board[getX(i)][getY(i)] = occupant;
+                if (attacked) {
+                    return false;
+                }
             }
-            boardCopy[getX(i)][getY(i)] = null;
+            return true;
+        } finally {
+            king.setPosition(from);
+            board[getX(from)][getY(from)] = origin;
         }
-        king.setPosition(from);
-        return true;
+    }
+
+    /**
+     * Cria uma peça do tipo informado, escolhendo a classe concreta a partir do valor do tipo.
+     * <p>Usado na promoção de peões e em qualquer ponto que precise reconstruir peças
+     * a partir de um {@link Type} (como o desfazer de jogadas do {@link com.seios.warofkings.board.Board}).</p>
+     *
+     * @param type     tipo da peça, incluindo a cor.
+     * @param position posição no formato XY.
+     * @param n_moves  número de movimentos já realizados pela peça.
+     * @return nova instância da peça.
+     */
+    public static ChessPiece createPiece(Type type, int position, int n_moves) {
+        return switch (type.getValor() % 6) {
+            case 0 -> new Pawn(position, type, n_moves);
+            case 1 -> new Rook(position, type, n_moves);
+            case 2 -> new Knight(position, type, n_moves);
+            case 3 -> new Bishop(position, type, n_moves);
+            case 4 -> new Queen(position, type, n_moves);
+            default -> new King(position, type, n_moves);
+        };
     }
 }
@@ -0,0 +1,352 @@
+package com.seios.warofkings.board;
+
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.pieces.types.*;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.utils.BitboardUtils;
+import com.seios.warofkings.utils.FenUtils;
+import com.seios.warofkings.utils.PieceUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a aplicação e reversão de movimentos em {@link Board},
+ * por meio de {@link Board#makeMove(int)} e {@link Board#unmakeMove(int)}, e para a
+ * detecção de casas atacadas.
+ *
+ * @author Lucas
+ * @version 1.4
+ * @since 2026-10-18
+ */
+class BoardTest {
+
+    /**
+     * Aplica e desfaz todos os movimentos de ambos os lados até a profundidade 2 a partir da
+     * posição inicial, garantindo que o tabuleiro volte exatamente ao estado original.
+     */
+    @Test
+    void testMakeUnmakeRestoresInitialPosition() {
+        Board board = new Board();
+        String before = snapshot(board);
+
+        MoveList moves = generate(board, Turn.WHITE);
+        assertEquals(20, moves.size());
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            board.makeMove(move);
+            assertEquals(Turn.BLACK, board.getTurn());
+
+            MoveList replies = generate(board, Turn.BLACK);
+            for (int j = 0; j < replies.size(); j++) {
+                board.makeMove(replies.get(j));
+                board.unmakeMove(replies.get(j));
+            }
+
+            board.unmakeMove(move);
+        }
+
+        assertEquals(before, snapshot(board));
+        assertEquals(0, board.getPly());
+        assertEquals(Turn.WHITE, board.getTurn());
+    }
+
+    /**
+     * Verifica se a captura remove a peça adversária e se o desfazer a devolve à casa original.
+     */
+    @Test
+    void testMakeUnmakeCapture() {
+        Board board = new Board();
+        board.setPieces(new ChessPiece[8][8]);
+        ChessPiece rook = Rook.createRook(70, Type.ROOK_WHITE);
+        ChessPiece knight = Knight.createKnight(10, Type.KNIGHT_BLACK);
+        board.placePiece(70, rook);
+        board.placePiece(10, knight);
+        String before = snapshot(board);
+
+        int move = Move.of(BitboardUtils.toSquare(70), BitboardUtils.toSquare(10), Type.ROOK_WHITE.getValor(), Type.KNIGHT_BLACK.getValor());
+        board.makeMove(move);
+
+        assertSame(rook, board.getPieceAt(10));
+        assertEquals(0, board.countPieces(Type.KNIGHT_BLACK));
+        assertEquals(1, rook.getN_moves());
+
+        board.unmakeMove(move);
+
+        assertSame(knight, board.getPieceAt(10));
+        assertEquals(10, knight.getPosition());
+        assertEquals(before, snapshot(board));
+    }
+
+    /**
+     * Verifica se a promoção substitui o peão pela peça escolhida e se o desfazer restaura o peão.
+     */
+    @Test
+    void testMakeUnmakePromotion() {
+        Board board = new Board();
+        board.setPieces(new ChessPiece[8][8]);
+        ChessPiece pawn = new Pawn(13, Type.PAWN_WHITE, 5);
+        board.placePiece(13, pawn);
+        String before = snapshot(board);
+
+        int move = Move.of(BitboardUtils.toSquare(13), BitboardUtils.toSquare(3), Type.PAWN_WHITE.getValor(),
+                Move.NO_PIECE, Type.QUEEN_WHITE.getValor(), Move.NONE);
+        board.makeMove(move);
+
+        ChessPiece queen = board.getPieceAt(3);
+        assertInstanceOf(Queen.class, queen);
+        assertEquals(Type.QUEEN_WHITE, queen.getType());
+        assertEquals(0, board.countPieces(Type.PAWN_WHITE));
+
+        board.unmakeMove(move);
+
+        assertSame(pawn, board.getPieceAt(13));
+        assertEquals(5, pawn.getN_moves());
+        assertEquals(0, board.countPieces(Type.QUEEN_WHITE));
+        assertEquals(before, snapshot(board));
+    }
+
+    /**
+     * Verifica se o roque leva a torre junto com o rei e se o desfazer devolve ambos às casas originais.
+     */
+    @Test
+    void testMakeUnmakeCastling() {
+        Board board = new Board();
+        board.setPieces(new ChessPiece[8][8]);
+        ChessPiece king = King.createKing(74, Type.KING_WHITE);
+        ChessPiece rook = Rook.createRook(77, Type.ROOK_WHITE);
+        board.placePiece(74, king);
+        board.placePiece(77, rook);
+        board.placePiece(4, King.createKing(4, Type.KING_BLACK));
+        String before = snapshot(board);
+
+        MoveList moves = new MoveList();
+        king.generateMoves(board, moves);
+        int castling = moves.findByDestination(BitboardUtils.toSquare(76));
+        assertTrue(Move.isCastling(castling));
+
+        board.makeMove(castling);
+        assertSame(king, board.getPieceAt(76));
+        assertSame(rook, board.getPieceAt(75));
+        assertEquals(1, rook.getN_moves());
+
+        board.unmakeMove(castling);
+        assertSame(rook, board.getPieceAt(77));
+        assertEquals(0, rook.getN_moves());
+        assertEquals(before, snapshot(board));
+    }
+
+    /**
+     * Verifica se o lance duplo registra a casa de en passant, se a captura en passant remove o peão
+     * da casa ao lado e se o desfazer restaura a posição, a casa de en passant e a chave de Zobrist.
+     */
+    @Test
+    void testMakeUnmakeEnPassant() {
+        Board board = FenUtils.load("4k3/8/8/8/3p4/8/4P3/4K3 w - - 3 1");
+        String start = FenUtils.toFen(board);
+
+        int push = MoveGenerator.findLegalMove(board, "e2e4");
+        board.makeMove(push);
+        assertEquals(Move.parseSquare("e3"), board.getEnPassantSquare());
+        assertEquals(0, board.getHalfmoveClock());
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+        String afterPush = FenUtils.toFen(board);
+        long keyAfterPush = board.getZobristKey();
+
+        int capture = MoveGenerator.findLegalMove(board, "d4e3");
+        assertTrue(Move.isEnPassant(capture));
+        board.makeMove(capture);
+        assertEquals(0, board.countPieces(Type.PAWN_WHITE));
+        assertNull(board.getPieceAt(BitboardUtils.toPosition(Move.parseSquare("e4"))));
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+
+        board.unmakeMove(capture);
+        assertEquals(afterPush, FenUtils.toFen(board));
+        assertEquals(keyAfterPush, board.getZobristKey());
+
+        board.unmakeMove(push);
+        assertEquals(start, FenUtils.toFen(board));
+        assertEquals(3, board.getHalfmoveClock());
+    }
+
+    /**
+     * Verifica se o lance nulo passa a vez, descarta a casa de en passant com a chave de Zobrist
+     * correspondente e é desfeito por completo.
+     */
+    @Test
+    void testMakeUnmakeNullMove() {
+        Board board = FenUtils.load("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 2");
+        String start = FenUtils.toFen(board);
+        long key = board.getZobristKey();
+
+        board.makeNullMove();
+        assertEquals(Turn.BLACK, board.getTurn());
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+        assertEquals(1, board.getPly());
+        assertFalse(board.isRepetition());
+
+        board.unmakeNullMove();
+        assertEquals(start, FenUtils.toFen(board));
+        assertEquals(key, board.getZobristKey());
+        assertEquals(0, board.getPly());
+    }
+
+    /**
+     * Verifica se o construtor de cópia herda as chaves desde o último movimento irreversível, de forma
+     * que a cópia reconhece a repetição de uma posição jogada antes dela.
+     */
+    @Test
+    void testCopyKeepsRepetitionHistory() {
+        Board board = FenUtils.load("4k3/8/8/8/8/8/8/4K1N1 w - - 0 1");
+        for (String notation : new String[] {"g1f3", "e8d8", "f3g1"}) {
+            board.makeMove(MoveGenerator.findLegalMove(board, notation));
+        }
+
+        Board copy = new Board(board);
+        assertEquals(3, copy.getPly());
+        assertEquals(board.getZobristKey(), copy.getZobristKey());
+        assertFalse(copy.isRepetition());
+
+        int move = MoveGenerator.findLegalMove(copy, "d8e8");
+        copy.makeMove(move);
+        assertTrue(copy.isRepetition());
+        copy.unmakeMove(move);
+        assertEquals(3, copy.getPly());
+
+        board.makeMove(MoveGenerator.findLegalMove(board, "d8e7"));
+        assertEquals(4, new Board(board).getPly());
+
+        // um peão movido zera o relógio, e a cópia não herda nada de antes dele
+        Board pawn = FenUtils.load("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        pawn.makeMove(MoveGenerator.findLegalMove(pawn, "e2e3"));
+        assertEquals(0, new Board(pawn).getPly());
+    }
+
+    /**
+     * Verifica se os direitos de roque são perdidos ao mover o rei ou a torre, ou ao ter a torre
+     * capturada, e se o desfazer os devolve junto com o relógio de meio-lances.
+     */
+    @Test
+    void testCastlingRightsAndHalfmoveClock() {
+        Board board = FenUtils.load("r3k2r/8/8/8/8/8/6b1/R3K2R b KQkq - 7 1");
+        String start = FenUtils.toFen(board);
+        assertEquals(0b1111, board.getCastlingRights());
+
+        int capture = MoveGenerator.findLegalMove(board, "g2h1");
+        board.makeMove(capture);
+        assertEquals(0b1110, board.getCastlingRights());
+        assertEquals(0, board.getHalfmoveClock());
+
+        int kingMove = MoveGenerator.findLegalMove(board, "e1d1");
+        board.makeMove(kingMove);
+        assertEquals(0b1100, board.getCastlingRights());
+        assertEquals(1, board.getHalfmoveClock());
+
+        int rookMove = MoveGenerator.findLegalMove(board, "a8b8");
+        board.makeMove(rookMove);
+        assertEquals(0b0100, board.getCastlingRights());
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+
+        board.unmakeMove(rookMove);
+        board.unmakeMove(kingMove);
+        board.unmakeMove(capture);
+        assertEquals(start, FenUtils.toFen(board));
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+    }
+
+    /**
+     * Verifica {@link Board#isSquareAttacked(int, Turn)} para cada tipo de atacante,
+     * incluindo raios bloqueados e a direção das capturas de peão.
+     */
+    @Test
+    void testIsSquareAttacked() {
+        Board board = new Board();
+        board.setPieces(new ChessPiece[8][8]);
+        board.placePiece(33, Queen.createQueen(33, Type.QUEEN_BLACK));
+        board.placePiece(35, Pawn.createPawn(35, Type.PAWN_WHITE));
+        board.placePiece(60, Knight.createKnight(60, Type.KNIGHT_WHITE));
+        board.placePiece(14, Pawn.createPawn(14, Type.PAWN_BLACK));
+
+        assertTrue(board.isSquareAttacked(BitboardUtils.toSquare(34), Turn.BLACK));  // torre/dama na linha
+        assertFalse(board.isSquareAttacked(BitboardUtils.toSquare(36), Turn.BLACK)); // bloqueado pelo peão
+        assertTrue(board.isSquareAttacked(BitboardUtils.toSquare(77), Turn.BLACK));  // diagonal livre
+        assertTrue(board.isSquareAttacked(BitboardUtils.toSquare(24), Turn.WHITE));  // peão branco ataca para cima
+        assertFalse(board.isSquareAttacked(BitboardUtils.toSquare(44), Turn.WHITE)); // e não para baixo
+        assertTrue(board.isSquareAttacked(BitboardUtils.toSquare(25), Turn.BLACK));  // peão preto ataca para baixo
+        assertTrue(board.isSquareAttacked(BitboardUtils.toSquare(41), Turn.WHITE));  // cavalo
+        assertFalse(board.isSquareAttacked(BitboardUtils.toSquare(41), Turn.BLACK));
+    }
+
+    /**
+     * Compara a consulta por bitboards com a versão sobre a matriz em todas as casas e
+     * para ambas as cores, partindo de posições alcançadas a partir da inicial.
+     */
+    @Test
+    void testIsSquareAttackedMatchesArrayQuery() {
+        Board board = new Board();
+        MoveList moves = generate(board, Turn.WHITE);
+
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            MoveList replies = generate(board, Turn.BLACK);
+            for (int j = 0; j < replies.size(); j++) {
+                board.makeMove(replies.get(j));
+                for (int square = 0; square < 64; square++) {
+                    for (Turn color : new Turn[]{Turn.WHITE, Turn.BLACK}) {
+                        assertEquals(PieceUtils.isSquareAttacked(BitboardUtils.toPosition(square), color, board.getPieces()),
+                                board.isSquareAttacked(square, color));
+                    }
+                }
+                board.unmakeMove(replies.get(j));
+            }
+            board.unmakeMove(moves.get(i));
+        }
+
+        assertFalse(board.isInCheck(Turn.WHITE));
+        assertFalse(board.isInCheck(Turn.BLACK));
+    }
+
+    /**
+     * Gera os movimentos de todas as peças de uma cor.
+     *
+     * @param board tabuleiro atual.
+     * @param color cor das peças.
+     * @return lista com os movimentos gerados.
+     */
+    private static MoveList generate(Board board, Turn color) {
+        MoveList moves = new MoveList();
+        for (ChessPiece piece : board.getPiecesOf(color)) {
+            piece.generateMoves(board, moves);
+        }
+        return moves;
+    }
+
+    /**
+     * Representa textualmente a matriz, as posições, os contadores de movimento e os bitboards.
+     *
+     * @param board tabuleiro a ser representado.
+     * @return texto que identifica o estado completo do tabuleiro.
+     */
+    private static String snapshot(Board board) {
+        StringBuilder sb = new StringBuilder();
+        ChessPiece[][] pieces = board.getPieces();
+        for (int x = 0; x < 8; x++) {
+            for (int y = 0; y < 8; y++) {
+                ChessPiece piece = pieces[x][y];
+                sb.append(piece == null ? "." : piece.getType() + "@" + piece.getPosition() + "#" + piece.getN_moves());
+                sb.append(board.getPieceCode(x * 8 + y)).append(' ');
+            }
+        }
+        for (Type type : Type.values()) {
+            sb.append(board.getBitboard(type)).append(' ');
+        }
+        return sb.append(board.getOccupancy()).toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.seios.warofkings.board;
+
+import com.seios.warofkings.utils.BitboardUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o {@link Mailbox}, conferindo a conversão das 64 casas e as sentinelas.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MailboxTest {
+
+    /**
+     * Verifica se todas as posições válidas são convertidas para a casa correta.
+     */
+    @Test
+    void testSquaresOnBoard() {
+        for (int square = 0; square < 64; square++) {
+            int position = BitboardUtils.toPosition(square);
+            assertEquals(square, Mailbox.toSquare(position));
+            assertTrue(Mailbox.isOnBoard(position));
+        }
+    }
+
+    /**
+     * Verifica se os passos de rei e cavalo que saem do tabuleiro caem em sentinelas.
+     */
+    @Test
+    void testStepsOffBoardHitSentinels() {
+        int[] steps = {-11, -10, -9, -1, 1, 9, 10, 11, -21, -19, -12, -8, 8, 12, 19, 21};
+
+        for (int square = 0; square < 64; square++) {
+            int position = BitboardUtils.toPosition(square);
+            int x = position / 10;
+            int y = position % 10;
+
+            for (int step : steps) {
+                int dx = Math.round(step / 10f);
+                int dy = step - dx * 10;
+                boolean inside = x + dx >= 0 && x + dx < 8 && y + dy >= 0 && y + dy < 8;
+
+                assertEquals(inside, Mailbox.isOnBoard(position + step), "posição " + position + " passo " + step);
+            }
+        }
+    }
+
+    /**
+     * Verifica posições muito fora do vetor de 120 casas.
+     */
+    @Test
+    void testFarOutsidePositions() {
+        assertEquals(Mailbox.OFFBOARD, Mailbox.toSquare(-100));
+        assertEquals(Mailbox.OFFBOARD, Mailbox.toSquare(99));
+        assertEquals(Mailbox.OFFBOARD, Mailbox.toSquare(500));
+    }
+}
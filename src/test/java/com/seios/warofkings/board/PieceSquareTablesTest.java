@@ -0,0 +1,128 @@
+package com.seios.warofkings.board;
+
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para as {@link PieceSquareTables} e as somas incrementais do
+ * {@link Board}: simetria entre as cores, fase da partida, interpolação e make/unmake.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PieceSquareTablesTest {
+
+    /**
+     * Verifica se a posição inicial é equilibrada e tem a fase máxima.
+     */
+    @Test
+    void testStartPosition() {
+        Board board = new Board();
+        assertEquals(0, board.getMidgameScore());
+        assertEquals(0, board.getEndgameScore());
+        assertEquals(PieceSquareTables.MAX_PHASE, board.getPhase());
+        assertArrayEquals(new int[] {0, 0, PieceSquareTables.MAX_PHASE}, PieceSquareTables.compute(board));
+    }
+
+    /**
+     * Verifica se a mesma peça na casa espelhada da outra cor tem o valor oposto.
+     */
+    @Test
+    void testColorSymmetry() {
+        for (int piece = 0; piece < 6; piece++) {
+            for (int square = 0; square < 64; square++) {
+                assertEquals(-PieceSquareTables.midgame(piece, square), PieceSquareTables.midgame(piece + 6, square ^ 56));
+                assertEquals(-PieceSquareTables.endgame(piece, square), PieceSquareTables.endgame(piece + 6, square ^ 56));
+                assertEquals(PieceSquareTables.phase(piece), PieceSquareTables.phase(piece + 6));
+            }
+        }
+
+        Board white = FenUtils.load("4k3/8/8/8/3N4/8/1P6/4K3 w - - 0 1");
+        Board black = FenUtils.load("4k3/1p6/8/3n4/8/8/8/4K3 w - - 0 1");
+        assertEquals(white.getMidgameScore(), -black.getMidgameScore());
+        assertEquals(white.getEndgameScore(), -black.getEndgameScore());
+    }
+
+    /**
+     * Verifica os pesos da fase e a interpolação entre meio-jogo e final.
+     */
+    @Test
+    void testPhaseAndBlend() {
+        assertEquals(0, FenUtils.load("4k3/pppppppp/8/8/8/8/PPPPPPPP/4K3 w - - 0 1").getPhase());
+        assertEquals(4 + 2 + 1 + 1, FenUtils.load("4k3/8/8/8/8/8/8/RNBQK3 w - - 0 1").getPhase());
+
+        assertEquals(100, PieceSquareTables.blend(100, -100, PieceSquareTables.MAX_PHASE));
+        assertEquals(-100, PieceSquareTables.blend(100, -100, 0));
+        assertEquals(0, PieceSquareTables.blend(100, -100, PieceSquareTables.MAX_PHASE / 2));
+        assertEquals(100, PieceSquareTables.blend(100, -100, PieceSquareTables.MAX_PHASE + 8));
+
+        // o peão avançado vale mais no final e o rei centralizado só é bom no final
+        assertTrue(PieceSquareTables.endgame(Type.PAWN_WHITE.getValor(), Move.parseSquare("e7"))
+                > PieceSquareTables.midgame(Type.PAWN_WHITE.getValor(), Move.parseSquare("e7")));
+        assertTrue(PieceSquareTables.endgame(Type.KING_WHITE.getValor(), Move.parseSquare("e4"))
+                > PieceSquareTables.endgame(Type.KING_WHITE.getValor(), Move.parseSquare("g1")));
+        assertTrue(PieceSquareTables.midgame(Type.KING_WHITE.getValor(), Move.parseSquare("g1"))
+                > PieceSquareTables.midgame(Type.KING_WHITE.getValor(), Move.parseSquare("e4")));
+    }
+
+    /**
+     * Percorre todas as posições até a profundidade 3 (roques, promoções, en passant e capturas)
+     * conferindo as somas incrementais com o recálculo completo, antes e depois de cada make/unmake.
+     */
+    @Test
+    void testIncrementalSumsMatchRecompute() {
+        for (String fen : new String[]{
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"}) {
+            Board board = FenUtils.load(fen);
+            int[] start = sums(board);
+
+            assertArrayEquals(PieceSquareTables.compute(board), start);
+            assertSums(board, 3);
+            assertArrayEquals(start, sums(board));
+            assertArrayEquals(start, sums(new Board(board)));
+        }
+    }
+
+    /**
+     * Confere recursivamente as somas incrementais de todas as posições até a profundidade informada.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     */
+    private static void assertSums(Board board, int depth) {
+        if (depth == 0) return;
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            int[] before = sums(board);
+
+            board.makeMove(move);
+            assertArrayEquals(PieceSquareTables.compute(board), sums(board), Move.toString(move));
+            assertSums(board, depth - 1);
+            board.unmakeMove(move);
+
+            assertArrayEquals(before, sums(board), Move.toString(move));
+        }
+    }
+
+    /**
+     * Lê as somas incrementais do tabuleiro.
+     *
+     * @param board tabuleiro atual.
+     * @return soma de meio-jogo, soma de final e fase.
+     */
+    private static int[] sums(Board board) {
+        return new int[] {board.getMidgameScore(), board.getEndgameScore(), board.getPhase()};
+    }
+}
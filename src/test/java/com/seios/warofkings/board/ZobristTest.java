@@ -0,0 +1,172 @@
+package com.seios.warofkings.board;
+
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import com.seios.warofkings.utils.PieceUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para as chaves de {@link Zobrist}, as chaves incrementais do {@link Board}
+ * (completa e só dos peões) e o construtor de cópia.
+ *
+ * @author Lucas
+ * @version 1.3
+ * @since 2026-10-18
+ */
+class ZobristTest {
+
+    /**
+     * Verifica se ordens de lances diferentes que levam à mesma posição geram a mesma chave.
+     */
+    @Test
+    void testTranspositionsHaveSameKey() {
+        Board first = new Board();
+        play(first, "g1f3", "g8f6", "b1c3");
+
+        Board second = new Board();
+        play(second, "b1c3", "g8f6", "g1f3");
+
+        assertEquals(Zobrist.compute(first), Zobrist.compute(second));
+        assertNotEquals(Zobrist.compute(new Board()), Zobrist.compute(first));
+    }
+
+    /**
+     * Verifica se o lado a jogar e os direitos de roque alteram a chave.
+     */
+    @Test
+    void testSideAndCastlingChangeKey() {
+        long white = Zobrist.compute(FenUtils.load("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1"));
+        long black = Zobrist.compute(FenUtils.load("r3k2r/8/8/8/8/8/8/R3K2R b KQkq - 0 1"));
+        long noCastling = Zobrist.compute(FenUtils.load("r3k2r/8/8/8/8/8/8/R3K2R w - - 0 1"));
+
+        assertEquals(Zobrist.side(), white ^ black);
+        assertEquals(Zobrist.castling(15) ^ Zobrist.castling(0), white ^ noCastling);
+    }
+
+    /**
+     * Percorre todas as posições até a profundidade 3 (roques, promoções e capturas) conferindo a chave
+     * incremental com o recálculo completo, antes e depois de cada make/unmake.
+     */
+    @Test
+    void testIncrementalKeyMatchesRecompute() {
+        for (String fen : new String[]{
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"}) {
+            Board board = FenUtils.load(fen);
+            long key = board.getZobristKey();
+
+            assertEquals(Zobrist.compute(board), key);
+            assertKeys(board, 3);
+            assertEquals(key, board.getZobristKey());
+        }
+    }
+
+    /**
+     * Verifica se a chave dos peões só muda quando um peão se move, é capturado ou promovido.
+     */
+    @Test
+    void testPawnKey() {
+        Board board = new Board();
+        long start = board.getPawnKey();
+        assertEquals(Zobrist.computePawnKey(board), start);
+        assertEquals(0L, FenUtils.load("4k3/8/8/8/8/8/8/R3K3 w - - 0 1").getPawnKey());
+
+        play(board, "g1f3", "b8c6");
+        assertEquals(start, board.getPawnKey());
+        play(board, "e2e4");
+        assertNotEquals(start, board.getPawnKey());
+        assertEquals(Zobrist.computePawnKey(board), board.getPawnKey());
+
+        Board promotion = FenUtils.load("r3k3/1P6/8/8/8/8/8/4K3 w - - 0 1");
+        long before = promotion.getPawnKey();
+        play(promotion, "b7a8q");
+        assertEquals(0L, promotion.getPawnKey());
+        assertEquals(before, Zobrist.piece(Type.PAWN_WHITE.getValor(), Move.parseSquare("b7")));
+    }
+
+    /**
+     * Verifica se a chave acompanha os lances aplicados peça a peça pela interface, incluindo a perda
+     * do direito de roque e a troca de turno por {@link Board#setTurn(com.seios.warofkings.board.enums.Turn)}.
+     */
+    @Test
+    void testKeyFollowsPlacePieceAndSetTurn() {
+        Board board = FenUtils.load("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1");
+        ChessPiece rook = board.getPieceAt(77);
+
+        board.removePiece(77);
+        board.placePiece(67, rook);
+        rook.setN_moves(1);
+        board.setTurn(Turn.BLACK);
+
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+        assertEquals(Zobrist.compute(FenUtils.load("r3k2r/8/8/8/8/8/7R/R3K3 b Qkq - 0 1")), board.getZobristKey());
+
+        board.placePiece(17, PieceUtils.createPiece(Type.QUEEN_WHITE, 17, 1));
+        board.setTurn(Turn.WHITE);
+        assertEquals(Zobrist.compute(board), board.getZobristKey());
+    }
+
+    /**
+     * Verifica se a cópia do tabuleiro é independente da original.
+     */
+    @Test
+    void testCopyIsIndependent() {
+        Board board = FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        Board copy = new Board(board);
+        String before = FenUtils.toFen(board);
+
+        assertEquals(before, FenUtils.toFen(copy));
+        assertEquals(Zobrist.compute(board), Zobrist.compute(copy));
+
+        play(copy, "e1g1");
+        assertEquals(before, FenUtils.toFen(board));
+        assertNotEquals(before, FenUtils.toFen(copy));
+        assertNotSame(board.getPieceAt(74), copy.getPieceAt(74));
+    }
+
+    /**
+     * Confere recursivamente a chave incremental de todas as posições até a profundidade informada.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     */
+    private static void assertKeys(Board board, int depth) {
+        if (depth == 0) return;
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            long before = board.getZobristKey();
+
+            board.makeMove(move);
+            assertEquals(Zobrist.compute(board), board.getZobristKey(), Move.toString(move));
+            assertEquals(Zobrist.computePawnKey(board), board.getPawnKey(), Move.toString(move));
+            assertKeys(board, depth - 1);
+            board.unmakeMove(move);
+
+            assertEquals(before, board.getZobristKey(), Move.toString(move));
+        }
+    }
+
+    /**
+     * Aplica uma sequência de movimentos em notação UCI.
+     *
+     * @param board tabuleiro atual.
+     * @param moves movimentos em notação UCI.
+     */
+    private static void play(Board board, String... moves) {
+        for (String uci : moves) {
+            int move = MoveGenerator.findLegalMove(board, uci);
+            assertNotEquals(Move.NONE, move, "Movimento ilegal: " + uci);
+            board.makeMove(move);
+        }
+    }
+}
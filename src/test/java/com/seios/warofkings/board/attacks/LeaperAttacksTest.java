@@ -0,0 +1,50 @@
+package com.seios.warofkings.board.attacks;
+
+import com.seios.warofkings.utils.BitboardUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para as tabelas de {@link LeaperAttacks}.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class LeaperAttacksTest {
+
+    /**
+     * Verifica a quantidade de ataques do cavalo no canto, na borda e no centro.
+     */
+    @Test
+    void testKnightAttacksCount() {
+        assertEquals(2, BitboardUtils.popCount(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(0))));
+        assertEquals(4, BitboardUtils.popCount(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(30))));
+        assertEquals(8, BitboardUtils.popCount(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(33))));
+        assertTrue(BitboardUtils.isSet(LeaperAttacks.knightAttacks(BitboardUtils.toSquare(71)), BitboardUtils.toSquare(52)));
+    }
+
+    /**
+     * Verifica a quantidade de ataques do rei no canto e no centro.
+     */
+    @Test
+    void testKingAttacksCount() {
+        assertEquals(3, BitboardUtils.popCount(LeaperAttacks.kingAttacks(BitboardUtils.toSquare(77))));
+        assertEquals(8, BitboardUtils.popCount(LeaperAttacks.kingAttacks(BitboardUtils.toSquare(44))));
+    }
+
+    /**
+     * Verifica as diagonais de captura dos peões de cada cor, sem atravessar as bordas.
+     */
+    @Test
+    void testPawnAttacks() {
+        long white = LeaperAttacks.pawnAttacks(LeaperAttacks.WHITE, BitboardUtils.toSquare(64));
+        assertTrue(BitboardUtils.isSet(white, BitboardUtils.toSquare(53)));
+        assertTrue(BitboardUtils.isSet(white, BitboardUtils.toSquare(55)));
+
+        long blackEdge = LeaperAttacks.pawnAttacks(LeaperAttacks.BLACK, BitboardUtils.toSquare(17));
+        assertEquals(1, BitboardUtils.popCount(blackEdge));
+        assertTrue(BitboardUtils.isSet(blackEdge, BitboardUtils.toSquare(26)));
+    }
+}
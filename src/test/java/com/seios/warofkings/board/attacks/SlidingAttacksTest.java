@@ -0,0 +1,59 @@
+package com.seios.warofkings.board.attacks;
+
+import com.seios.warofkings.utils.BitboardUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para {@link SlidingAttacks}, comparando as tabelas de magic bitboards
+ * com a geração casa a casa dos raios.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class SlidingAttacksTest {
+    private static final int[][] ROOK = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+    private static final int[][] BISHOP = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+
+    /**
+     * Verifica, para todas as casas e milhares de ocupações aleatórias, que as consultas mágicas
+     * retornam exatamente os mesmos ataques que a caminhada pelos raios.
+     */
+    @Test
+    void testMagicLookupsMatchRayWalk() {
+        Random random = new Random(42);
+        for (int square = 0; square < 64; square++) {
+            for (int i = 0; i < 500; i++) {
+                long occupancy = random.nextLong() & random.nextLong();
+                assertEquals(SlidingAttacks.slowAttacks(square, occupancy, ROOK), SlidingAttacks.rookAttacks(square, occupancy));
+                assertEquals(SlidingAttacks.slowAttacks(square, occupancy, BISHOP), SlidingAttacks.bishopAttacks(square, occupancy));
+            }
+        }
+    }
+
+    /**
+     * Verifica os ataques de uma torre em um tabuleiro vazio e bloqueada por uma peça.
+     */
+    @Test
+    void testRookAttacksWithBlocker() {
+        int square = BitboardUtils.toSquare(33);
+        assertEquals(14, BitboardUtils.popCount(SlidingAttacks.rookAttacks(square, 0L)));
+
+        long blocker = BitboardUtils.bit(BitboardUtils.toSquare(35));
+        long attacks = SlidingAttacks.rookAttacks(square, blocker);
+        assertTrue(BitboardUtils.isSet(attacks, BitboardUtils.toSquare(35)));
+        assertFalse(BitboardUtils.isSet(attacks, BitboardUtils.toSquare(36)));
+    }
+
+    /**
+     * Verifica os ataques de uma rainha no centro de um tabuleiro vazio.
+     */
+    @Test
+    void testQueenAttacksEmptyBoard() {
+        assertEquals(27, BitboardUtils.popCount(SlidingAttacks.queenAttacks(BitboardUtils.toSquare(33), 0L)));
+    }
+}
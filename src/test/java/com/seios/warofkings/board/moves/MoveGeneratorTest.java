@@ -0,0 +1,388 @@
+package com.seios.warofkings.board.moves;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.GameStatus;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.pieces.types.*;
+import com.seios.warofkings.utils.BitboardUtils;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o gerador de movimentos legais {@link MoveGenerator},
+ * cobrindo contagens a partir da posição inicial, peças cravadas, xeque simples e duplo, roque,
+ * en passant, a geração só de capturas e a situação da partida ({@link GameStatus}).
+ *
+ * @author Lucas
+ * @version 1.6
+ * @since 2026-10-18
+ */
+class MoveGeneratorTest {
+
+    /**
+     * Verifica a quantidade de posições alcançáveis a partir da posição inicial nas
+     * profundidades 1 a 3 (20, 400 e 8902).
+     */
+    @Test
+    void testStartPositionCounts() {
+        Board board = new Board();
+
+        assertEquals(20, count(board, 1));
+        assertEquals(400, count(board, 2));
+        assertEquals(8902, count(board, 3));
+    }
+
+    /**
+     * Verifica se uma peça cravada só se move sobre a linha do cravamento e se um cavalo cravado não se move.
+     */
+    @Test
+    void testPinnedPieces() {
+        Board board = empty();
+        board.placePiece(74, King.createKing(74, Type.KING_WHITE));
+        board.placePiece(54, Rook.createRook(54, Type.ROOK_WHITE));
+        board.placePiece(63, Knight.createKnight(63, Type.KNIGHT_WHITE));
+        board.placePiece(14, Rook.createRook(14, Type.ROOK_BLACK));
+        board.placePiece(41, Bishop.createBishop(41, Type.BISHOP_BLACK));
+
+        MoveList rookMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, board.getPieceAt(54), rookMoves);
+        assertEquals(5, rookMoves.size());
+        for (int i = 0; i < rookMoves.size(); i++) {
+            assertEquals(4, Move.to(rookMoves.get(i)) & 7);
+        }
+
+        MoveList knightMoves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, board.getPieceAt(63), knightMoves);
+        assertTrue(knightMoves.isEmpty());
+
+        assertEquals(9, count(board, 1));
+    }
+
+    /**
+     * Verifica se, em xeque simples, apenas capturas do atacante, bloqueios e fugas do rei são gerados.
+     */
+    @Test
+    void testCheckEvasions() {
+        Board board = empty();
+        board.placePiece(74, King.createKing(74, Type.KING_WHITE));
+        board.placePiece(52, Bishop.createBishop(52, Type.BISHOP_WHITE));
+        board.placePiece(36, Knight.createKnight(36, Type.KNIGHT_WHITE));
+        board.placePiece(14, Rook.createRook(14, Type.ROOK_BLACK));
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+
+        assertEquals(7, moves.size());
+        assertTrue(moves.contains(Move.of(BitboardUtils.toSquare(52), BitboardUtils.toSquare(34), Type.BISHOP_WHITE.getValor(), Move.NO_PIECE)));
+        assertFalse(moves.contains(Move.of(BitboardUtils.toSquare(74), BitboardUtils.toSquare(64), Type.KING_WHITE.getValor(), Move.NO_PIECE)));
+    }
+
+    /**
+     * Verifica se, em xeque duplo, somente o rei pode se mover, mesmo que outra peça capture um dos atacantes.
+     */
+    @Test
+    void testDoubleCheckOnlyKingMoves() {
+        Board board = empty();
+        board.placePiece(74, King.createKing(74, Type.KING_WHITE));
+        board.placePiece(50, Queen.createQueen(50, Type.QUEEN_WHITE));
+        board.placePiece(70, Rook.createRook(70, Type.ROOK_BLACK));
+        board.placePiece(53, Knight.createKnight(53, Type.KNIGHT_BLACK));
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+
+        assertEquals(2, moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(Type.KING_WHITE.getValor(), Move.piece(moves.get(i)));
+        }
+    }
+
+    /**
+     * Verifica se o roque não atravessa casas atacadas e se o roque do outro lado continua permitido.
+     */
+    @Test
+    void testCastlingThroughAttackedSquare() {
+        Board board = empty();
+        board.placePiece(74, King.createKing(74, Type.KING_WHITE));
+        board.placePiece(70, Rook.createRook(70, Type.ROOK_WHITE));
+        board.placePiece(77, Rook.createRook(77, Type.ROOK_WHITE));
+        board.placePiece(4, King.createKing(4, Type.KING_BLACK));
+        board.placePiece(15, Rook.createRook(15, Type.ROOK_BLACK));
+        board.refreshBitboards(); // deduz os direitos de roque do rei e das torres sem movimentos
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, board.getPieceAt(74), moves);
+
+        assertTrue(Move.isCastling(moves.findByDestination(BitboardUtils.toSquare(72))));
+        assertEquals(Move.NONE, moves.findByDestination(BitboardUtils.toSquare(76)));
+    }
+
+    /**
+     * Verifica se a captura en passant é gerada e se é descartada quando tirar os dois peões da
+     * linha deixaria o rei em xeque descoberto.
+     */
+    @Test
+    void testEnPassant() {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(FenUtils.load("4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1"), moves);
+        int capture = moves.findByDestination(Move.parseSquare("e6"));
+        assertTrue(Move.isEnPassant(capture));
+        assertEquals(Type.PAWN_BLACK.getValor(), Move.captured(capture));
+
+        moves.clear();
+        MoveGenerator.generateLegalMoves(FenUtils.load("8/8/8/KPp4r/8/8/8/7k w - c6 0 1"), moves);
+        assertEquals(Move.NONE, moves.findByDestination(Move.parseSquare("c6")));
+    }
+
+    /**
+     * Verifica se a geração de capturas produz exatamente as capturas e promoções legais, inclusive
+     * en passant e com o rei em xeque.
+     */
+    @Test
+    void testGenerateLegalCaptures() {
+        String[] fens = {
+                FenUtils.START_POSITION,
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                "4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1",
+                "4k3/8/8/8/8/8/3q4/4K3 w - - 0 1"
+        };
+        for (String fen : fens) {
+            Board board = FenUtils.load(fen);
+            MoveList all = new MoveList();
+            MoveGenerator.generateLegalMoves(board, all);
+            MoveList expected = new MoveList();
+            for (int i = 0; i < all.size(); i++) {
+                if (Move.isCapture(all.get(i)) || Move.isPromotion(all.get(i))) expected.add(all.get(i));
+            }
+
+            MoveList captures = new MoveList();
+            MoveGenerator.generateLegalCaptures(board, captures);
+            assertEquals(expected.size(), captures.size(), fen);
+            for (int i = 0; i < captures.size(); i++) {
+                assertTrue(expected.contains(captures.get(i)), fen + " " + Move.toString(captures.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Verifica se a geração de movimentos tranquilos produz exatamente o complemento das capturas,
+     * inclusive roques e com o rei em xeque.
+     */
+    @Test
+    void testGenerateLegalQuiets() {
+        String[] fens = {
+                FenUtils.START_POSITION,
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+                "4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1",
+                "4k3/8/8/8/8/8/3q4/4K3 w - - 0 1"
+        };
+        for (String fen : fens) {
+            Board board = FenUtils.load(fen);
+            MoveList all = new MoveList();
+            MoveGenerator.generateLegalMoves(board, all);
+
+            MoveList split = new MoveList();
+            MoveGenerator.generateLegalCaptures(board, split);
+            int captures = split.size();
+            MoveGenerator.generateLegalQuiets(board, split);
+            assertEquals(all.size(), split.size(), fen);
+            for (int i = 0; i < split.size(); i++) {
+                int move = split.get(i);
+                assertTrue(all.contains(move), fen + " " + Move.toString(move));
+                assertEquals(i < captures, Move.isCapture(move) || Move.isPromotion(move), fen + " " + Move.toString(move));
+            }
+        }
+    }
+
+    /**
+     * Verifica se o lado gerado acompanha o turno do tabuleiro.
+     */
+    @Test
+    void testGeneratesForSideToMove() {
+        Board board = new Board();
+        board.setTurn(Turn.BLACK);
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+
+        assertEquals(20, moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            assertTrue(Move.piece(moves.get(i)) >= Type.PAWN_BLACK.getValor());
+        }
+    }
+
+    /**
+     * Verifica as quatro situações de partida: normal, xeque, xeque-mate e afogamento.
+     */
+    @Test
+    void testGameStatus() {
+        assertEquals(GameStatus.NORMAL, MoveGenerator.getGameStatus(new Board()));
+
+        // mate do pastor
+        Board mate = FenUtils.load("r1bqkb1r/pppp1Qpp/2n2n2/4p3/2B1P3/8/PPPP1PPP/RNB1K1NR b KQkq - 0 4");
+        assertEquals(GameStatus.CHECKMATE, MoveGenerator.getGameStatus(mate));
+        assertEquals(GameStatus.NORMAL, MoveGenerator.getGameStatus(mate, Turn.WHITE));
+
+        // rei preto sem casas e sem outras peças, fora de xeque
+        Board stalemate = FenUtils.load("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertEquals(GameStatus.STALEMATE, MoveGenerator.getGameStatus(stalemate));
+        assertTrue(GameStatus.STALEMATE.isGameOver());
+
+        // torre dá xeque na primeira linha; o bispo pode bloquear
+        Board check = FenUtils.load("4k3/8/8/8/8/8/3B4/r3K3 w - - 0 1");
+        assertEquals(GameStatus.CHECK, MoveGenerator.getGameStatus(check));
+        assertFalse(GameStatus.CHECK.isGameOver());
+    }
+
+    /**
+     * Verifica se {@link MoveGenerator#hasLegalMove(Board, Turn)} concorda com a lista completa de
+     * movimentos em todas as posições até a profundidade 3 de posições com xeques, cravadas e promoções.
+     */
+    @Test
+    void testHasLegalMoveMatchesGenerator() {
+        assertHasLegalMove(FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 2);
+        assertHasLegalMove(FenUtils.load("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"), 3);
+        assertHasLegalMove(FenUtils.load("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 2);
+    }
+
+    /**
+     * Verifica a busca de um movimento legal pela notação de coordenadas, inclusive promoções e
+     * movimentos ilegais ou inexistentes.
+     */
+    @Test
+    void testFindLegalMove() {
+        Board board = FenUtils.load("4k3/1P6/8/8/8/8/8/R3K3 w Q - 0 1");
+        int castling = MoveGenerator.findLegalMove(board, "e1c1");
+        assertTrue(Move.isCastling(castling));
+        assertEquals("b7b8n", Move.toString(MoveGenerator.findLegalMove(board, "b7b8n")));
+        assertEquals(Move.NONE, MoveGenerator.findLegalMove(board, "b7b8"));
+        assertEquals(Move.NONE, MoveGenerator.findLegalMove(board, "e8e7"));
+        assertEquals(Move.NONE, MoveGenerator.findLegalMove(board, "xyz"));
+    }
+
+    /**
+     * Verifica se {@link MoveGenerator#isLegal(Board, int)} aceita exatamente os movimentos gerados, testando
+     * em cada posição da árvore os movimentos de todas as posições visitadas (como killers e movimentos da
+     * tabela de transposição vindos de outros nós).
+     */
+    @Test
+    void testIsLegalMatchesGenerator() {
+        String[] fens = {
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "4k3/8/8/3pP3/4K3/8/8/8 w - d6 0 1"
+        };
+        for (String fen : fens) {
+            Set<Integer> pool = new HashSet<>();
+            collectMoves(FenUtils.load(fen), 2, pool);
+            assertIsLegal(FenUtils.load(fen), 1, pool);
+        }
+        assertFalse(MoveGenerator.isLegal(new Board(), Move.NONE));
+    }
+
+    /**
+     * Acumula os movimentos legais de todas as posições até a profundidade informada.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     * @param pool  lista de destino.
+     */
+    private static void collectMoves(Board board, int depth, Set<Integer> pool) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            pool.add(moves.get(i));
+            if (depth > 0) {
+                board.makeMove(moves.get(i));
+                collectMoves(board, depth - 1, pool);
+                board.unmakeMove(moves.get(i));
+            }
+        }
+    }
+
+    /**
+     * Compara recursivamente a validação de cada movimento do conjunto com a lista gerada.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     * @param pool  movimentos a validar.
+     */
+    private static void assertIsLegal(Board board, int depth, Set<Integer> pool) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int move : pool) {
+            assertEquals(moves.contains(move), MoveGenerator.isLegal(board, move), FenUtils.toFen(board) + " " + Move.toString(move));
+        }
+        if (depth == 0) return;
+
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            assertIsLegal(board, depth - 1, pool);
+            board.unmakeMove(moves.get(i));
+        }
+    }
+
+    /**
+     * Compara recursivamente a existência de movimento legal com a geração completa.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     */
+    private static void assertHasLegalMove(Board board, int depth) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        assertEquals(moves.size() > 0, MoveGenerator.hasLegalMove(board, board.getTurn()), FenUtils.toFen(board));
+        if (depth == 0) return;
+
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            assertHasLegalMove(board, depth - 1);
+            board.unmakeMove(moves.get(i));
+        }
+    }
+
+    /**
+     * Cria um tabuleiro vazio com as brancas na vez.
+     *
+     * @return tabuleiro sem peças.
+     */
+    private static Board empty() {
+        Board board = new Board();
+        board.setPieces(new ChessPiece[8][8]);
+        return board;
+    }
+
+    /**
+     * Conta as posições alcançáveis com movimentos legais até a profundidade informada.
+     *
+     * @param board tabuleiro atual.
+     * @param depth profundidade restante.
+     * @return quantidade de posições folha.
+     */
+    private static long count(Board board, int depth) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            nodes += count(board, depth - 1);
+            board.unmakeMove(moves.get(i));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.seios.warofkings.board.moves;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.pieces.types.Pawn;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a codificação de {@link Move} e para a lista primitiva {@link MoveList}.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MoveListTest {
+
+    /**
+     * Verifica se todos os campos do movimento sobrevivem à codificação.
+     */
+    @Test
+    void testMoveEncodingRoundTrip() {
+        int move = Move.of(12, 4, Type.PAWN_WHITE.getValor(), Type.ROOK_BLACK.getValor(), Type.QUEEN_WHITE.getValor(), 0);
+
+        assertEquals(12, Move.from(move));
+        assertEquals(4, Move.to(move));
+        assertEquals(Type.PAWN_WHITE.getValor(), Move.piece(move));
+        assertEquals(Type.ROOK_BLACK.getValor(), Move.captured(move));
+        assertEquals(Type.QUEEN_WHITE.getValor(), Move.promotion(move));
+        assertTrue(Move.isCapture(move));
+        assertTrue(Move.isPromotion(move));
+        assertFalse(Move.isCastling(move));
+        assertEquals("e7e8q", Move.toString(move));
+        assertEquals(4, Move.toPosition(move));
+    }
+
+    /**
+     * Verifica a conversão entre nomes algébricos e índices de casa.
+     */
+    @Test
+    void testSquareNames() {
+        assertEquals("a8", Move.squareName(0));
+        assertEquals("h1", Move.squareName(63));
+        assertEquals(52, Move.parseSquare("e2"));
+        assertThrows(IllegalArgumentException.class, () -> Move.parseSquare("z9"));
+    }
+
+    /**
+     * Verifica se a lista é reutilizável e se o adaptador para posições XY funciona.
+     */
+    @Test
+    void testGenerateMovesWithoutBoxing() {
+        Board board = new Board();
+        MoveList moves = new MoveList();
+
+        board.getPieceAt(64).generateMoves(board, moves);
+        assertEquals(2, moves.size());
+        assertTrue(Move.isDoublePush(moves.get(1)));
+        assertEquals(List.of(54, 44), moves.toPositions());
+
+        moves.clear();
+        board.getPieceAt(71).generateMoves(board, moves);
+        assertEquals(2, moves.size());
+        assertNotEquals(Move.NONE, moves.findByDestination(Move.parseSquare("c3")));
+    }
+
+    /**
+     * Verifica se um peão na penúltima linha gera as quatro promoções e se o adaptador
+     * antigo as reduz a um único destino.
+     */
+    @Test
+    void testPromotionExpandsToFourMoves() {
+        ChessPiece[][] pieces = new ChessPiece[8][8];
+        Pawn pawn = Pawn.createPawn(13, Type.PAWN_WHITE);
+        pieces[1][3] = pawn;
+
+        MoveList moves = new MoveList();
+        pawn.generateMoves(pieces, moves);
+
+        assertEquals(4, moves.size());
+        assertEquals(List.of(3), moves.toPositions());
+        assertEquals(List.of(3), pawn.getPossibleMoves(pieces));
+    }
+}
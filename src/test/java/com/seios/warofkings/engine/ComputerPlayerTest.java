@@ -0,0 +1,203 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o adversário controlado pelo computador ({@link ComputerPlayer}):
+ * busca fora da thread de quem pede, entrega pelo executor de retorno, cancelamento e ponderação.
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+class ComputerPlayerTest {
+
+    /**
+     * Verifica se o lance é buscado numa cópia, fora da thread que pediu, e entregue pelo executor de
+     * retorno depois das iterações.
+     */
+    @Test
+    void testThinksInBackground() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        try (ComputerPlayer computer = new ComputerPlayer(1, callbacks::add)) {
+            Board board = FenUtils.load("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+            String before = FenUtils.toFen(board);
+            List<SearchInfo> iterations = new CopyOnWriteArrayList<>();
+            SearchInfo[] result = new SearchInfo[1];
+
+            computer.think(board, SearchLimits.depth(4), iterations::add, info -> result[0] = info);
+            assertTrue(computer.isThinking());
+            // o tabuleiro de origem pode mudar enquanto o computador pensa
+            MoveList moves = new MoveList();
+            MoveGenerator.generateLegalMoves(board, moves);
+            board.makeMove(moves.get(0));
+
+            while (result[0] == null) {
+                Runnable callback = callbacks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(callback);
+                callback.run();
+            }
+            assertFalse(computer.isThinking());
+            assertEquals("d2d5", Move.toString(result[0].getBestMove()));
+            assertEquals(4, iterations.size());
+            assertEquals(iterations.get(3).getBestMove(), result[0].getBestMove());
+            assertNotEquals(before, FenUtils.toFen(board));
+        }
+    }
+
+    /**
+     * Verifica se um novo pedido interrompe a busca sem limites em andamento e se os relatórios dela
+     * que ainda estavam na fila são descartados.
+     */
+    @Test
+    void testNewRequestCancelsPrevious() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        try (ComputerPlayer computer = new ComputerPlayer(1, callbacks::add)) {
+            List<SearchInfo> stale = new CopyOnWriteArrayList<>();
+            computer.think(new Board(), SearchLimits.infinite(), stale::add, stale::add);
+            Runnable first = callbacks.poll(10, TimeUnit.SECONDS); // a primeira iteração já saiu
+            assertNotNull(first);
+
+            SearchInfo[] result = new SearchInfo[1];
+            computer.think(FenUtils.load("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), SearchLimits.depth(4),
+                    info -> {}, info -> result[0] = info);
+            first.run();
+            long start = System.nanoTime();
+            while (result[0] == null) {
+                Runnable callback = callbacks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(callback);
+                callback.run();
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+            assertEquals("a1a8", Move.toString(result[0].getBestMove()));
+            assertTrue(stale.isEmpty());
+        }
+    }
+
+    /**
+     * Verifica se um pedido cancelado não entrega o resultado.
+     */
+    @Test
+    void testCancel() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        try (ComputerPlayer computer = new ComputerPlayer(1, callbacks::add)) {
+            List<SearchInfo> delivered = new CopyOnWriteArrayList<>();
+            computer.think(new Board(), SearchLimits.infinite(), delivered::add, delivered::add);
+            computer.cancel();
+            assertFalse(computer.isThinking());
+
+            // a busca interrompida ainda enfileira o resultado, que é descartado ao ser executado
+            Runnable callback;
+            while ((callback = callbacks.poll(1, TimeUnit.SECONDS)) != null) {
+                callback.run();
+            }
+            assertTrue(delivered.isEmpty());
+        }
+    }
+
+    /**
+     * Verifica se a ponderação não entrega nada antes do acerto e se, no acerto, a mesma busca continua
+     * e entrega o lance dentro do limite de tempo.
+     */
+    @Test
+    void testPonderHit() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        try (ComputerPlayer computer = new ComputerPlayer(1, callbacks::add)) {
+            Board board = FenUtils.load("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1");
+            int predicted = MoveGenerator.findLegalMove(board, "e7e5");
+            List<SearchInfo> delivered = new CopyOnWriteArrayList<>();
+            SearchInfo[] result = new SearchInfo[1];
+            computer.ponder(board, predicted, SearchLimits.time(300), delivered::add, info -> result[0] = info);
+            assertTrue(computer.isPondering());
+            assertFalse(computer.isThinking());
+
+            // as iterações da ponderação ficam retidas
+            Runnable callback;
+            while ((callback = callbacks.poll(200, TimeUnit.MILLISECONDS)) != null) {
+                callback.run();
+            }
+            assertTrue(delivered.isEmpty());
+
+            // outro lance não é acerto
+            Board other = new Board(board);
+            other.makeMove(MoveGenerator.findLegalMove(board, "d7d5"));
+            assertFalse(computer.ponderHit(other));
+            assertTrue(computer.isPondering());
+
+            board.makeMove(predicted);
+            long start = System.nanoTime();
+            assertTrue(computer.ponderHit(board));
+            assertFalse(computer.isPondering());
+            assertTrue(computer.isThinking());
+            while (result[0] == null) {
+                callback = callbacks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(callback);
+                callback.run();
+            }
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+            assertFalse(delivered.isEmpty()); // a última iteração retida é entregue no acerto
+            assertNotEquals(Move.NONE, MoveGenerator.findLegalMove(board, Move.toString(result[0].getBestMove())));
+            // a busca continuou das iterações feitas durante a ponderação
+            assertTrue(result[0].getDepth() >= delivered.getFirst().getDepth());
+        }
+    }
+
+    /**
+     * Verifica se o resultado de uma ponderação que terminou antes do acerto é entregue no acerto, e se
+     * um erro seguido de um novo pedido busca a outra posição.
+     */
+    @Test
+    void testPonderFinishedAndMiss() throws InterruptedException {
+        BlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        try (ComputerPlayer computer = new ComputerPlayer(1, callbacks::add)) {
+            Board board = FenUtils.load("6k1/5ppp/8/8/8/8/8/R5K1 b - - 0 1");
+            int predicted = MoveGenerator.findLegalMove(board, "g8h8");
+            SearchInfo[] result = new SearchInfo[1];
+            computer.ponder(board, predicted, SearchLimits.depth(3), info -> {}, info -> result[0] = info);
+
+            Runnable callback;
+            while ((callback = callbacks.poll(500, TimeUnit.MILLISECONDS)) != null) {
+                callback.run();
+            }
+            assertNull(result[0]);
+
+            Board hit = new Board(board);
+            hit.makeMove(predicted);
+            assertTrue(computer.ponderHit(hit));
+            while (result[0] == null) {
+                callback = callbacks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(callback);
+                callback.run();
+            }
+            assertEquals("a1a8", Move.toString(result[0].getBestMove()));
+
+            // erro: a posição de h7h6 é outra e o lance é pedido de novo
+            computer.ponder(board, predicted, SearchLimits.depth(3), info -> {}, info -> result[0] = info);
+            Board miss = new Board(board);
+            miss.makeMove(MoveGenerator.findLegalMove(board, "h7h6"));
+            assertFalse(computer.ponderHit(miss));
+            result[0] = null;
+            computer.think(miss, SearchLimits.depth(3), info -> {}, info -> result[0] = info);
+            while (result[0] == null) {
+                callback = callbacks.poll(10, TimeUnit.SECONDS);
+                assertNotNull(callback);
+                callback.run();
+            }
+            assertNotEquals(Move.NONE, MoveGenerator.findLegalMove(miss, Move.toString(result[0].getBestMove())));
+            assertFalse(computer.isPondering());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a avaliação estática ({@link Evaluation}): ponto de vista do lado
+ * a jogar, material e termos posicionais de meio-jogo e de final.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class EvaluationTest {
+
+    /**
+     * Verifica se a posição inicial vale zero e se o sinal acompanha o lado a jogar.
+     */
+    @Test
+    void testSideToMove() {
+        assertEquals(0, Evaluation.evaluate(new Board()));
+
+        int white = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/8/3QK3 w - - 0 1"));
+        int black = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/8/3QK3 b - - 0 1"));
+        assertTrue(white > 800);
+        assertEquals(-white, black);
+    }
+
+    /**
+     * Verifica a ordem do material e os valores de {@link Type#getMaterial()}.
+     */
+    @Test
+    void testMaterial() {
+        int queen = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/8/3QK3 w - - 0 1"));
+        int rook = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/8/3RK3 w - - 0 1"));
+        int knight = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/8/3NK3 w - - 0 1"));
+        int pawn = Evaluation.evaluate(FenUtils.load("4k3/8/8/8/8/8/3P4/4K3 w - - 0 1"));
+        assertTrue(queen > rook && rook > knight && knight > pawn && pawn > 0);
+
+        assertEquals(100, Evaluation.materialValue(Type.PAWN_BLACK.getValor()));
+        assertEquals(900, Evaluation.materialValue(Type.QUEEN_WHITE.getValor()));
+        assertEquals(0, Evaluation.materialValue(Type.KING_WHITE.getValor()));
+    }
+
+    /**
+     * Verifica termos posicionais: cavalo centralizado no meio-jogo e rei ativo no final.
+     */
+    @Test
+    void testPositionalTerms() {
+        assertTrue(Evaluation.evaluate(FenUtils.load("rnbqkbnr/pppppppp/8/8/8/5N2/PPPPPPPP/RNBQKB1R b KQkq - 1 1"))
+                < Evaluation.evaluate(FenUtils.load("rnbqkbnr/pppppppp/8/8/8/7N/PPPPPPPP/RNBQKB1R b KQkq - 1 1")));
+
+        assertTrue(Evaluation.evaluate(FenUtils.load("8/4k3/8/8/3K4/8/4P3/8 w - - 0 1"))
+                > Evaluation.evaluate(FenUtils.load("8/4k3/8/8/8/8/4P3/7K w - - 0 1")));
+    }
+}
@@ -0,0 +1,87 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.pieces.enums.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para as heurísticas de ordenação ({@link MoveHistory}): killers,
+ * refutações e limites do histórico.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class MoveHistoryTest {
+    private static final int KNIGHT = quiet("g1", "f3", Type.KNIGHT_WHITE);
+    private static final int BISHOP = quiet("f1", "c4", Type.BISHOP_WHITE);
+    private static final int QUEEN = quiet("d1", "h5", Type.QUEEN_WHITE);
+    private static final int REPLY = quiet("b8", "c6", Type.KNIGHT_BLACK);
+
+    /**
+     * Verifica se os killers guardam os dois cortes mais recentes e distintos do ply.
+     */
+    @Test
+    void testKillers() {
+        MoveHistory history = new MoveHistory();
+        history.update(3, Move.NONE, KNIGHT, 2, new int[0], 0);
+        history.update(3, Move.NONE, KNIGHT, 2, new int[0], 0);
+        assertEquals(KNIGHT, history.killer(3, 0));
+        assertEquals(Move.NONE, history.killer(3, 1));
+
+        history.update(3, Move.NONE, BISHOP, 2, new int[0], 0);
+        assertEquals(BISHOP, history.killer(3, 0));
+        assertEquals(KNIGHT, history.killer(3, 1));
+        assertEquals(Move.NONE, history.killer(2, 0));
+
+        history.clear();
+        assertEquals(Move.NONE, history.killer(3, 0));
+    }
+
+    /**
+     * Verifica se a refutação é registrada pela peça e pelo destino do movimento anterior.
+     */
+    @Test
+    void testCounterMove() {
+        MoveHistory history = new MoveHistory();
+        assertEquals(Move.NONE, history.counterMove(Move.NONE));
+        history.update(1, REPLY, QUEEN, 2, new int[0], 0);
+        assertEquals(QUEEN, history.counterMove(REPLY));
+        assertEquals(QUEEN, history.counterMove(quiet("d4", "c6", Type.KNIGHT_BLACK)));
+        assertEquals(Move.NONE, history.counterMove(quiet("b8", "a6", Type.KNIGHT_BLACK)));
+    }
+
+    /**
+     * Verifica o bônus do movimento que cortou, a penalidade dos tentados antes dele e o limite
+     * das pontuações.
+     */
+    @Test
+    void testHistoryScores() {
+        MoveHistory history = new MoveHistory();
+        history.update(0, Move.NONE, KNIGHT, 4, new int[] {BISHOP, QUEEN}, 1);
+        assertTrue(history.score(KNIGHT) > 0);
+        assertTrue(history.score(BISHOP) < 0);
+        assertEquals(0, history.score(QUEEN));
+
+        for (int i = 0; i < 1000; i++) {
+            history.update(0, Move.NONE, KNIGHT, 30, new int[] {BISHOP}, 1);
+        }
+        assertTrue(history.score(KNIGHT) <= MoveHistory.MAX_HISTORY);
+        assertTrue(history.score(BISHOP) >= -MoveHistory.MAX_HISTORY);
+        assertTrue(history.score(KNIGHT) > MoveHistory.MAX_HISTORY * 9 / 10);
+    }
+
+    /**
+     * Codifica um movimento tranquilo.
+     *
+     * @param from  casa de origem.
+     * @param to    casa de destino.
+     * @param piece peça movida.
+     * @return movimento codificado.
+     */
+    private static int quiet(String from, String to, Type piece) {
+        return Move.of(Move.parseSquare(from), Move.parseSquare(to), piece.getValor(), Move.NO_PIECE);
+    }
+}
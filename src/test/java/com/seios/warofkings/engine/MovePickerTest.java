@@ -0,0 +1,122 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o seletor de movimentos em etapas ({@link MovePicker}): ordem das
+ * etapas, validação dos movimentos vindos de outras posições e entrega de todos os movimentos legais.
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+class MovePickerTest {
+
+    /**
+     * Verifica a ordem das etapas: movimento da tabela, capturas vencedoras, killer, refutação,
+     * tranquilos pelo histórico e, por último, a captura perdedora.
+     */
+    @Test
+    void testStageOrder() {
+        String fen = "4k3/8/2p5/3p4/r7/8/8/3QK1N1 w - - 0 1";
+        Board board = FenUtils.load(fen);
+        int previous = Move.of(Move.parseSquare("d8"), Move.parseSquare("e8"), Type.KING_BLACK.getValor(), Move.NO_PIECE);
+
+        MoveHistory history = new MoveHistory();
+        history.update(0, Move.NONE, MoveGenerator.findLegalMove(board, "d1d3"), 4, new int[0], 0);
+        history.update(1, previous, MoveGenerator.findLegalMove(board, "e1f2"), 4, new int[0], 0);
+        history.update(2, Move.NONE, MoveGenerator.findLegalMove(board, "d1e2"), 8, new int[0], 0);
+
+        MovePicker picker = new MovePicker();
+        picker.init(board, history, MoveGenerator.findLegalMove(board, "g1f3"), 0, previous);
+
+        assertEquals("g1f3", Move.toString(picker.next()));
+        assertEquals("d1a4", Move.toString(picker.next()));
+        assertEquals("d1d3", Move.toString(picker.next()));
+        assertEquals("e1f2", Move.toString(picker.next()));
+        assertEquals("d1e2", Move.toString(picker.next()));
+
+        int last = Move.NONE;
+        int count = 5;
+        for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+            last = move;
+            count++;
+        }
+        assertEquals("d1d5", Move.toString(last));
+        assertEquals(legalMoves(board).size(), count);
+        assertEquals(Move.NONE, picker.next());
+    }
+
+    /**
+     * Verifica se cada movimento legal é entregue exatamente uma vez, com movimento da tabela e
+     * killers ilegais na posição, e se os ilegais são descartados.
+     */
+    @Test
+    void testYieldsEveryLegalMoveOnce() {
+        String[] fens = {
+                FenUtils.START_POSITION,
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1",
+                "4k3/8/8/8/8/8/3q4/4K3 w - - 0 1"
+        };
+        // movimentos de outra posição, que não existem nas de teste
+        Board other = FenUtils.load("rnbqkbnr/pppppppp/8/8/8/5N2/PPPPPPPP/RNBQKB1R w KQkq - 0 1");
+        int foreign = MoveGenerator.findLegalMove(other, "f3g5");
+        MoveHistory history = new MoveHistory();
+        history.update(0, Move.NONE, foreign, 2, new int[0], 0);
+        history.update(0, Move.NONE, MoveGenerator.findLegalMove(other, "f3h4"), 2, new int[0], 0);
+
+        MovePicker picker = new MovePicker();
+        for (String fen : fens) {
+            Board board = FenUtils.load(fen);
+            MoveList expected = legalMoves(board);
+            for (int ttMove : new int[] {Move.NONE, foreign, expected.get(expected.size() - 1)}) {
+                picker.init(board, history, ttMove, 0, Move.NONE);
+                MoveList yielded = new MoveList();
+                for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+                    assertTrue(expected.contains(move), fen + " " + Move.toString(move));
+                    assertFalse(yielded.contains(move), fen + " repetido " + Move.toString(move));
+                    yielded.add(move);
+                }
+                assertEquals(expected.size(), yielded.size(), fen);
+                if (ttMove != Move.NONE && expected.contains(ttMove)) {
+                    assertEquals(ttMove, yielded.get(0));
+                }
+            }
+            assertEquals(fen, FenUtils.toFen(board));
+        }
+    }
+
+    /**
+     * Verifica se uma posição sem movimentos legais não entrega nenhum.
+     */
+    @Test
+    void testNoLegalMoves() {
+        Board board = FenUtils.load("k7/1Q6/1K6/8/8/8/8/8 b - - 0 1");
+        MovePicker picker = new MovePicker();
+        picker.init(board, new MoveHistory(), Move.NONE, 0, Move.NONE);
+        assertEquals(Move.NONE, picker.next());
+    }
+
+    /**
+     * Gera os movimentos legais de uma posição.
+     *
+     * @param board posição.
+     * @return lista de movimentos.
+     */
+    private static MoveList legalMoves(Board board) {
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        return moves;
+    }
+}
@@ -0,0 +1,95 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o cache da estrutura de peões ({@link PawnHashTable}): acertos,
+ * consistência com o cálculo direto e estatísticas.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PawnHashTableTest {
+
+    /**
+     * Verifica se a segunda consulta da mesma estrutura é um acerto com o mesmo resultado do cálculo direto.
+     */
+    @Test
+    void testProbeCachesStructure() {
+        Board board = FenUtils.load("4k3/8/1p6/P7/8/3P4/3P2p1/4K3 w - - 0 1");
+        long white = board.getBitboard(Type.PAWN_WHITE);
+        long black = board.getBitboard(Type.PAWN_BLACK);
+        PawnHashTable table = new PawnHashTable(1024);
+
+        int first = table.probe(board.getPawnKey(), white, black);
+        assertEquals(0, table.getHits());
+        int second = table.probe(board.getPawnKey(), white, black);
+        assertEquals(first, second);
+        assertEquals(2, table.getProbes());
+        assertEquals(1, table.getHits());
+        assertEquals(0.5, table.getHitRate());
+
+        assertEquals(PawnStructure.evaluate(white, black), table.score(second));
+        assertEquals(PawnStructure.passedPawns(white, black, LeaperAttacks.WHITE), table.passed(second, LeaperAttacks.WHITE));
+        assertEquals(PawnStructure.passedPawns(black, white, LeaperAttacks.BLACK), table.passed(second, LeaperAttacks.BLACK));
+
+        table.resetStatistics();
+        assertEquals(0, table.getProbes());
+        assertEquals(0.0, table.getHitRate());
+        table.clear();
+        table.probe(board.getPawnKey(), white, black);
+        assertEquals(0, table.getHits());
+    }
+
+    /**
+     * Verifica se movimentos de peças que não são peões mantêm a chave dos peões e acertam o cache,
+     * e se a avaliação com cache é igual à sem cache em todas as posições visitadas.
+     */
+    @Test
+    void testHitsAcrossPieceMoves() {
+        Board board = FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        PawnHashTable table = new PawnHashTable(PawnHashTable.DEFAULT_ENTRIES);
+        walk(board, table, 3);
+
+        assertTrue(table.getProbes() > 1000);
+        assertTrue(table.getHitRate() > 0.9, String.valueOf(table.getHitRate()));
+    }
+
+    /**
+     * Verifica se a tabela arredonda a quantidade de entradas para uma potência de dois.
+     */
+    @Test
+    void testSize() {
+        assertEquals(1024, new PawnHashTable(1500).size());
+        assertEquals(1, new PawnHashTable(0).size());
+    }
+
+    /**
+     * Percorre a árvore comparando a avaliação com e sem cache.
+     *
+     * @param board tabuleiro atual.
+     * @param table cache da estrutura de peões.
+     * @param depth profundidade restante.
+     */
+    private static void walk(Board board, PawnHashTable table, int depth) {
+        assertEquals(Evaluation.evaluate(board), Evaluation.evaluate(board, table));
+        if (depth == 0) return;
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            walk(board, table, depth - 1);
+            board.unmakeMove(moves.get(i));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.attacks.LeaperAttacks;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.pieces.enums.Type;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para os termos da estrutura de peões ({@link PawnStructure}): passados,
+ * dobrados, isolados, atrasados, escudo do rei e pontuações compactadas.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class PawnStructureTest {
+
+    /**
+     * Verifica a compactação de pontuações de meio-jogo e de final, inclusive negativas e somadas.
+     */
+    @Test
+    void testPacking() {
+        int a = PawnStructure.pack(-10, 25);
+        int b = PawnStructure.pack(40, -70);
+        assertEquals(-10, PawnStructure.midgame(a));
+        assertEquals(25, PawnStructure.endgame(a));
+        assertEquals(30, PawnStructure.midgame(a + b));
+        assertEquals(-45, PawnStructure.endgame(a + b));
+        assertEquals(-50, PawnStructure.midgame(a - b));
+        assertEquals(95, PawnStructure.endgame(a - b));
+    }
+
+    /**
+     * Verifica a detecção de peões passados, inclusive o de trás de dois dobrados.
+     */
+    @Test
+    void testPassedPawns() {
+        Board board = FenUtils.load("4k3/8/1p6/P7/8/3P4/3P2p1/4K3 w - - 0 1");
+        long white = board.getBitboard(Type.PAWN_WHITE);
+        long black = board.getBitboard(Type.PAWN_BLACK);
+
+        assertEquals(squares("d3"), PawnStructure.passedPawns(white, black, LeaperAttacks.WHITE));
+        assertEquals(squares("g2"), PawnStructure.passedPawns(black, white, LeaperAttacks.BLACK));
+    }
+
+    /**
+     * Verifica as penalidades de peões dobrados, isolados e atrasados comparando estruturas que só
+     * diferem no termo testado.
+     */
+    @Test
+    void testWeaknesses() {
+        int healthy = score("4k3/pp6/8/8/8/8/PP6/4K3 w - - 0 1");
+        int doubled = score("4k3/pp6/8/8/8/1P6/1P6/4K3 w - - 0 1");
+        int isolated = score("4k3/pp6/8/8/8/8/P1P5/4K3 w - - 0 1");
+        assertEquals(0, PawnStructure.midgame(healthy));
+        assertEquals(0, PawnStructure.endgame(healthy));
+        assertTrue(PawnStructure.endgame(doubled) < 0);
+        assertTrue(PawnStructure.midgame(isolated) < 0);
+
+        // o peão de c2 não pode ser apoiado e c3 é vigiado pelo peão de d4
+        int backward = score("4k3/8/8/8/3p4/1P6/2P5/4K3 w - - 0 1");
+        int supported = score("4k3/8/8/8/3p4/2P5/1P6/4K3 w - - 0 1");
+        assertTrue(PawnStructure.midgame(backward) < PawnStructure.midgame(supported));
+    }
+
+    /**
+     * Verifica se o bônus do passado cresce com o avanço e se as cores são simétricas.
+     */
+    @Test
+    void testPassedBonusAndSymmetry() {
+        assertTrue(PawnStructure.endgame(score("4k3/4P3/8/8/8/8/8/4K3 w - - 0 1"))
+                > PawnStructure.endgame(score("4k3/8/8/8/4P3/8/8/4K3 w - - 0 1")));
+        assertEquals(score("4k3/8/8/8/4P3/8/8/4K3 w - - 0 1"), -score("4k3/8/8/4p3/8/8/8/4K3 w - - 0 1"));
+        assertEquals(score("4k3/pp6/8/8/8/1P6/1P6/4K3 w - - 0 1"), -score("4k3/1p6/1p6/8/8/8/PP6/4K3 w - - 0 1"));
+    }
+
+    /**
+     * Verifica o escudo de peões do rei roqueado e o bônus do passado com caminho livre.
+     */
+    @Test
+    void testShieldAndFreePassers() {
+        Board castled = FenUtils.load("6k1/5ppp/8/8/8/8/5PPP/6K1 w - - 0 1");
+        Board broken = FenUtils.load("6k1/5ppp/8/8/8/6P1/5P1P/6K1 w - - 0 1");
+        int king = Move.parseSquare("g1");
+        int full = PawnStructure.shield(castled.getBitboard(Type.PAWN_WHITE), king, LeaperAttacks.WHITE);
+        int partial = PawnStructure.shield(broken.getBitboard(Type.PAWN_WHITE), king, LeaperAttacks.WHITE);
+        assertTrue(full > partial && partial > 0);
+        assertEquals(full, PawnStructure.shield(castled.getBitboard(Type.PAWN_BLACK), Move.parseSquare("g8"),
+                LeaperAttacks.BLACK));
+
+        long passer = squares("e6");
+        assertTrue(PawnStructure.freePassers(passer, passer, LeaperAttacks.WHITE) > 0);
+        assertEquals(0, PawnStructure.freePassers(passer, passer | squares("e7"), LeaperAttacks.WHITE));
+    }
+
+    /**
+     * Avalia a estrutura de peões de uma posição.
+     *
+     * @param fen posição.
+     * @return pontuação compactada do ponto de vista das brancas.
+     */
+    private static int score(String fen) {
+        Board board = FenUtils.load(fen);
+        return PawnStructure.evaluate(board.getBitboard(Type.PAWN_WHITE), board.getBitboard(Type.PAWN_BLACK));
+    }
+
+    /**
+     * Monta um bitboard a partir de nomes de casas.
+     *
+     * @param names nomes das casas, como {@code "e4"}.
+     * @return bitboard com as casas.
+     */
+    private static long squares(String... names) {
+        long mask = 0L;
+        for (String name : names) {
+            mask |= 1L << Move.parseSquare(name);
+        }
+        return mask;
+    }
+}
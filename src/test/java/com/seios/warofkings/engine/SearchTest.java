@@ -0,0 +1,290 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.engine.nnue.Network;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a busca alfa-beta com aprofundamento iterativo ({@link Search}):
+ * mates, material, quiescência, empates, limites de profundidade, nós e tempo, restauração do
+ * tabuleiro e a busca paralela ({@link ParallelSearch}).
+ *
+ * @author Lucas
+ * @version 1.8
+ * @since 2026-10-18
+ */
+class SearchTest {
+
+    /**
+     * Verifica se o mate em um lance é encontrado e reportado como mate.
+     */
+    @Test
+    void testFindsMateInOne() {
+        SearchInfo info = new Search().search(FenUtils.load("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1"), SearchLimits.depth(4));
+
+        assertEquals("a1a8", Move.toString(info.getBestMove()));
+        assertTrue(info.isMate());
+        assertEquals(1, info.getMateIn());
+    }
+
+    /**
+     * Verifica se o mate em dois lances é encontrado com a variação principal completa.
+     */
+    @Test
+    void testFindsMateInTwo() {
+        SearchInfo info = new Search().search(FenUtils.load("k7/8/2K5/8/8/8/8/1R6 w - - 0 1"), SearchLimits.depth(5));
+
+        assertEquals(2, info.getMateIn());
+        assertEquals(3, info.getPv().length);
+    }
+
+    /**
+     * Verifica se a busca captura uma dama desprotegida e se o tabuleiro volta ao estado original.
+     */
+    @Test
+    void testWinsMaterialAndRestoresBoard() {
+        Board board = FenUtils.load("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+        String before = FenUtils.toFen(board);
+        long key = board.getZobristKey();
+
+        SearchInfo info = new Search().search(board, SearchLimits.depth(3));
+
+        assertEquals("d2d5", Move.toString(info.getBestMove()));
+        assertTrue(info.getScore() > 400);
+        assertEquals(before, FenUtils.toFen(board));
+        assertEquals(key, board.getZobristKey());
+        assertEquals(0, board.getPly());
+    }
+
+    /**
+     * Verifica se a quiescência evita o efeito horizonte: na profundidade 1 a dama não toma um peão
+     * defendido, e uma captura que inicia uma troca vencedora é vista até o fim.
+     */
+    @Test
+    void testQuiescenceResolvesCaptures() {
+        SearchInfo defended = new Search().search(FenUtils.load("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1"), SearchLimits.depth(1));
+        assertNotEquals("d1d5", Move.toString(defended.getBestMove()));
+        assertTrue(defended.getScore() > 600, defended.toString());
+
+        SearchInfo exchange = new Search().search(FenUtils.load("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1"), SearchLimits.depth(1));
+        assertEquals("d2d5", Move.toString(exchange.getBestMove()));
+        assertTrue(exchange.getScore() > 300, exchange.toString());
+    }
+
+    /**
+     * Verifica as medidas da ordenação: a maioria dos cortes vem do primeiro movimento, e o fator de
+     * ramificação efetivo fica bem abaixo da quantidade de movimentos legais.
+     */
+    @Test
+    void testOrderingStatistics() {
+        List<SearchInfo> iterations = new ArrayList<>();
+        new Search().search(FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"),
+                SearchLimits.depth(5), iterations::add);
+
+        assertEquals(0.0, iterations.get(0).getBranchingFactor());
+        for (int i = 1; i < iterations.size(); i++) {
+            SearchInfo info = iterations.get(i);
+            assertEquals((double) info.getNodes() / iterations.get(i - 1).getNodes(), info.getBranchingFactor(), 1e-9);
+            assertTrue(info.getBranchingFactor() > 1, info.toString());
+            assertTrue(info.getBranchingFactor() < 20, info.toString());
+        }
+        SearchInfo last = iterations.get(iterations.size() - 1);
+        assertTrue(last.getFirstMoveCutoffRate() > 0.8, String.valueOf(last.getFirstMoveCutoffRate()));
+        assertTrue(last.getFirstMoveCutoffRate() <= 1.0);
+    }
+
+    /**
+     * Verifica as pontuações sem movimentos legais: mate contra o lado a jogar e afogamento.
+     */
+    @Test
+    void testNoLegalMoves() {
+        SearchInfo mated = new Search().search(FenUtils.load("R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1"), SearchLimits.depth(3));
+        assertEquals(Move.NONE, mated.getBestMove());
+        assertEquals(-Search.MATE, mated.getScore());
+
+        SearchInfo stalemate = new Search().search(FenUtils.load("k7/2Q5/1K6/8/8/8/8/8 b - - 0 1"), SearchLimits.depth(3));
+        assertEquals(Move.NONE, stalemate.getBestMove());
+        assertEquals(Search.DRAW, stalemate.getScore());
+    }
+
+    /**
+     * Verifica se cada iteração é informada em ordem e se os limites de profundidade e de nós são respeitados.
+     */
+    @Test
+    void testLimits() {
+        List<SearchInfo> iterations = new ArrayList<>();
+        SearchInfo info = new Search().search(new Board(), SearchLimits.depth(4), iterations::add);
+
+        assertEquals(4, iterations.size());
+        for (int i = 0; i < iterations.size(); i++) {
+            assertEquals(i + 1, iterations.get(i).getDepth());
+        }
+        assertSame(iterations.get(3), info);
+        assertTrue(info.getPv().length >= 1);
+
+        SearchInfo limited = new Search().search(new Board(), SearchLimits.nodes(5_000));
+        assertTrue(limited.getNodes() <= 5_000 + 1024);
+        assertNotEquals(Move.NONE, limited.getBestMove());
+    }
+
+    /**
+     * Verifica se a busca por tempo termina perto do prazo e se {@link Search#stop()}, chamado de
+     * outra thread, interrompe uma busca sem limites.
+     */
+    @Test
+    void testTimeLimitAndStop() throws InterruptedException {
+        long start = System.nanoTime();
+        SearchInfo timed = new Search().search(new Board(), SearchLimits.time(200));
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsed < 1_000, "busca de 200 ms levou " + elapsed + " ms");
+        assertNotEquals(Move.NONE, timed.getBestMove());
+
+        Search search = new Search();
+        Thread stopper = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            search.stop();
+        });
+        stopper.start();
+        SearchInfo stopped = search.search(new Board(), SearchLimits.infinite());
+        stopper.join();
+        assertNotEquals(Move.NONE, stopped.getBestMove());
+        assertTrue(stopped.getDepth() < SearchLimits.MAX_DEPTH);
+    }
+
+    /**
+     * Verifica se a variação principal chega completa até a profundidade da iteração, se é uma
+     * sequência de movimentos legais e se as novas buscas da PVS e da aspiração são contadas.
+     */
+    @Test
+    void testPrincipalVariationSearch() {
+        Board board = FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        List<SearchInfo> iterations = new ArrayList<>();
+        SearchInfo info = new Search().search(board, SearchLimits.depth(8), iterations::add);
+
+        assertTrue(info.getPv().length >= 8, "variação principal de " + info.getPv().length + " plies");
+        assertTrue(info.getZeroWindowResearches() > 0);
+        for (int i = 1; i < iterations.size(); i++) {
+            assertTrue(iterations.get(i).getAspirationResearches() >= iterations.get(i - 1).getAspirationResearches());
+        }
+
+        for (int move : info.getPv()) {
+            MoveList legal = new MoveList();
+            MoveGenerator.generateLegalMoves(board, legal);
+            assertTrue(legal.contains(move), Move.toString(move));
+            board.makeMove(move);
+        }
+    }
+
+    /**
+     * Verifica se cada técnica seletiva pode ser desligada, se todas juntas visitam menos nós que a
+     * busca sem poda seletiva e se os mates e o ganho de material continuam sendo encontrados.
+     */
+    @Test
+    void testSelectiveSearch() {
+        String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+        Search plain = new Search();
+        plain.setOptions(SearchOptions.none());
+        Search selective = new Search();
+        assertTrue(selective.getOptions().isNullMove() && selective.getOptions().isLateMoveReductions()
+                && selective.getOptions().isFutility() && selective.getOptions().isRazoring());
+
+        long plainNodes = plain.search(FenUtils.load(fen), SearchLimits.depth(6)).getNodes();
+        long selectiveNodes = selective.search(FenUtils.load(fen), SearchLimits.depth(6)).getNodes();
+        assertTrue(selectiveNodes < plainNodes / 2, selectiveNodes + " >= " + plainNodes + " / 2");
+
+        assertEquals(2, selective.search(FenUtils.load("k7/8/2K5/8/8/8/8/1R6 w - - 0 1"), SearchLimits.depth(5)).getMateIn());
+        SearchInfo material = selective.search(FenUtils.load("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1"), SearchLimits.depth(5));
+        assertEquals("d2d5", Move.toString(material.getBestMove()));
+        assertFalse(SearchOptions.all().withRazoring(false).isRazoring());
+    }
+
+    /**
+     * Verifica a proteção contra zugzwang: só com peões e reis o lance nulo nunca é tentado, e a busca
+     * visita os mesmos nós com ou sem ele.
+     */
+    @Test
+    void testNullMoveZugzwangGuard() {
+        String fen = "8/8/p1k5/1p6/1P6/P1K5/8/8 w - - 0 1";
+        Search withNull = new Search();
+        withNull.setOptions(SearchOptions.none().withNullMove(true));
+        Search withoutNull = new Search();
+        withoutNull.setOptions(SearchOptions.none());
+
+        SearchInfo a = withNull.search(FenUtils.load(fen), SearchLimits.depth(8));
+        SearchInfo b = withoutNull.search(FenUtils.load(fen), SearchLimits.depth(8));
+        assertEquals(b.getNodes(), a.getNodes());
+        assertEquals(b.getScore(), a.getScore());
+    }
+
+    /**
+     * Verifica se a busca avaliando as folhas com uma rede encontra o mate, que não depende da
+     * avaliação, e mantém o tabuleiro e o acumulador sincronizados até o fim.
+     */
+    @Test
+    void testSearchWithNetwork() {
+        Search search = new Search();
+        search.setNetwork(Network.random(5, 32));
+        Board board = FenUtils.load("k7/8/2K5/8/8/8/8/1R6 w - - 0 1");
+        String before = FenUtils.toFen(board);
+
+        SearchInfo info = search.search(board, SearchLimits.depth(5));
+        assertEquals(2, info.getMateIn());
+        assertEquals(before, FenUtils.toFen(board));
+
+        assertNotEquals(Move.NONE, search.search(new Board(), SearchLimits.depth(4)).getBestMove());
+        search.setNetwork(null);
+        assertEquals(2, search.search(board, SearchLimits.depth(5)).getMateIn());
+    }
+
+    /**
+     * Verifica se a busca paralela, com threads de plataforma e virtuais, encontra o mesmo mate e o
+     * mesmo ganho de material da busca sequencial, sem alterar o tabuleiro de origem.
+     */
+    @Test
+    void testParallelSearch() {
+        for (boolean virtual : new boolean[] {false, true}) {
+            try (ParallelSearch search = new ParallelSearch(3, 1, virtual)) {
+                assertEquals(3, search.getThreads());
+
+                SearchInfo mate = search.search(FenUtils.load("k7/8/2K5/8/8/8/8/1R6 w - - 0 1"), SearchLimits.depth(5));
+                assertEquals(2, mate.getMateIn());
+
+                Board board = FenUtils.load("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+                String before = FenUtils.toFen(board);
+                SearchInfo info = search.search(board, SearchLimits.depth(4));
+                assertEquals("d2d5", Move.toString(info.getBestMove()));
+                assertTrue(info.getDepth() >= 4);
+                assertEquals(search.getNodes(), info.getNodes());
+                assertEquals(before, FenUtils.toFen(board));
+            }
+        }
+    }
+
+    /**
+     * Verifica se o limite de tempo da busca principal encerra também as threads auxiliares.
+     */
+    @Test
+    void testParallelSearchStops() {
+        try (ParallelSearch search = new ParallelSearch(2, 1)) {
+            long start = System.nanoTime();
+            SearchInfo info = search.search(new Board(), SearchLimits.time(150));
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            assertTrue(elapsed < 1_500, "busca de 150 ms levou " + elapsed + " ms");
+            assertNotEquals(Move.NONE, info.getBestMove());
+        }
+    }
+}
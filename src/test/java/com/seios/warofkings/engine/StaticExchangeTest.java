@@ -0,0 +1,91 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a troca estática ({@link StaticExchange}): capturas livres e
+ * defendidas, raios X, en passant e promoção.
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+class StaticExchangeTest {
+
+    /**
+     * Verifica capturas de peões livres e defendidos.
+     */
+    @Test
+    void testSimpleExchanges() {
+        assertSee(100, "1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", "e1e5");
+        assertSee(0, "4k3/8/2p5/3p4/4P3/8/8/4K3 w - - 0 1", "e4d5");
+        assertSee(-800, "4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1", "d1d5");
+        assertTrue(StaticExchange.isLosing(FenUtils.load("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1"),
+                MoveGenerator.findLegalMove(FenUtils.load("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1"), "d1d5")));
+    }
+
+    /**
+     * Verifica uma sequência longa em que cavalo, torre, bispo e damas participam, com o lado que
+     * captura parando quando continuar perderia material.
+     */
+    @Test
+    void testLongExchange() {
+        assertSee(-225, "1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", "d3e5");
+    }
+
+    /**
+     * Verifica se a torre atrás da que captura entra na troca (raio X).
+     */
+    @Test
+    void testXRay() {
+        assertSee(100, "3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1", "d2d5");
+        assertSee(-400, "3rk3/8/8/3p4/8/8/3R4/4K3 w - - 0 1", "d2d5");
+    }
+
+    /**
+     * Verifica o en passant, a promoção e um movimento tranquilo para casa atacada.
+     */
+    @Test
+    void testSpecialMoves() {
+        assertSee(100, "4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1", "d5e6");
+        assertSee(800, "4k3/1P6/8/8/8/8/8/4K3 w - - 0 1", "b7b8q");
+        assertSee(0, "4k3/8/8/8/8/8/3P4/4K3 w - - 0 1", "d2d3");
+        assertSee(-325, "4k3/8/4p3/8/8/4N3/8/4K3 w - - 0 1", "e3d5");
+        assertTrue(StaticExchange.isAtLeast(FenUtils.load("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1"),
+                MoveGenerator.findLegalMove(FenUtils.load("4k3/1P6/8/8/8/8/8/4K3 w - - 0 1"), "b7b8q"), 800));
+    }
+
+    /**
+     * Verifica se o vetor de ganhos reaproveitado entre avaliações dá o mesmo saldo que um vetor novo.
+     */
+    @Test
+    void testReusedGainBuffer() {
+        int[] gain = new int[StaticExchange.MAX_EXCHANGES];
+        Board first = FenUtils.load("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1");
+        assertEquals(-225, StaticExchange.evaluate(first, MoveGenerator.findLegalMove(first, "d3e5"), gain));
+        Board second = FenUtils.load("4k3/8/2p5/3p4/4P3/8/8/4K3 w - - 0 1");
+        assertEquals(0, StaticExchange.evaluate(second, MoveGenerator.findLegalMove(second, "e4d5"), gain));
+        Board third = FenUtils.load("4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1");
+        assertTrue(StaticExchange.isLosing(third, MoveGenerator.findLegalMove(third, "d1d5"), gain));
+    }
+
+    /**
+     * Confere o saldo da troca iniciada por um movimento e se o tabuleiro não é alterado.
+     *
+     * @param expected saldo esperado em centipeões.
+     * @param fen      posição.
+     * @param notation movimento na notação de coordenadas.
+     */
+    private static void assertSee(int expected, String fen, String notation) {
+        Board board = FenUtils.load(fen);
+        long key = board.getZobristKey();
+        assertEquals(expected, StaticExchange.evaluate(board, MoveGenerator.findLegalMove(board, notation)), fen + " " + notation);
+        assertEquals(key, board.getZobristKey());
+        assertEquals(fen, FenUtils.toFen(board));
+    }
+}
@@ -0,0 +1,176 @@
+package com.seios.warofkings.engine;
+
+import com.seios.warofkings.board.moves.Move;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a {@link TranspositionTable}: compactação dos campos, validação
+ * da chave, substituição por profundidade e idade nos baldes, ocupação e acesso concorrente.
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+class TranspositionTableTest {
+
+    /**
+     * Verifica se os campos guardados são lidos de volta, inclusive pontuações negativas, e se a
+     * atualização sem movimento mantém o melhor movimento anterior.
+     */
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        assertEquals(1 << 16, table.size());
+
+        long key = 0x1234_5678_9ABC_DEF0L;
+        int move = Move.of(52, 36, 0, Move.NO_PIECE, 0, Move.DOUBLE_PUSH);
+        assertEquals(0L, table.probe(key));
+
+        table.store(key, move, -Search.MATE + 3, 12, TranspositionTable.UPPER);
+        long data = table.probe(key);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(-Search.MATE + 3, TranspositionTable.score(data));
+        assertEquals(12, TranspositionTable.depth(data));
+        assertEquals(TranspositionTable.UPPER, TranspositionTable.bound(data));
+
+        table.store(key, Move.NONE, 250, 0, TranspositionTable.EXACT);
+        data = table.probe(key);
+        assertEquals(move, TranspositionTable.move(data));
+        assertEquals(250, TranspositionTable.score(data));
+        assertEquals(0, TranspositionTable.depth(data));
+    }
+
+    /**
+     * Verifica se uma chave diferente no mesmo índice não é confundida e se a limpeza remove as entradas.
+     */
+    @Test
+    void testKeyValidationAndClear() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x0F0F_0F0F_0000_0001L;
+        table.store(key, Move.NONE, 10, 3, TranspositionTable.LOWER);
+
+        assertEquals(0L, table.probe(key + table.size() / TranspositionTable.BUCKET_SIZE));
+        assertNotEquals(0L, table.probe(key));
+
+        table.clear();
+        assertEquals(0L, table.probe(key));
+    }
+
+    /**
+     * Verifica se um balde guarda {@link TranspositionTable#BUCKET_SIZE} posições e se a próxima
+     * substitui a de menor profundidade.
+     */
+    @Test
+    void testBucketReplacesShallowest() {
+        TranspositionTable table = new TranspositionTable(1);
+        long stride = table.size() / TranspositionTable.BUCKET_SIZE;
+        int[] depths = {5, 2, 9, 7};
+        for (int i = 0; i < depths.length; i++) {
+            table.store(1 + i * stride, Move.NONE, i, depths[i], TranspositionTable.EXACT);
+        }
+        for (int i = 0; i < depths.length; i++) {
+            assertEquals(depths[i], TranspositionTable.depth(table.probe(1 + i * stride)));
+        }
+
+        table.store(1 + 4 * stride, Move.NONE, 0, 3, TranspositionTable.EXACT);
+        assertEquals(0L, table.probe(1 + stride));
+        assertNotEquals(0L, table.probe(1 + 4 * stride));
+        assertNotEquals(0L, table.probe(1));
+    }
+
+    /**
+     * Verifica se entradas de buscas antigas são substituídas antes das da busca atual, mesmo mais
+     * profundas, e se uma entrada mais profunda da busca atual não é sobrescrita por uma mais rasa.
+     */
+    @Test
+    void testAgeAndDepthPreference() {
+        TranspositionTable table = new TranspositionTable(1);
+        long stride = table.size() / TranspositionTable.BUCKET_SIZE;
+        int move = Move.of(12, 28, 6, Move.NO_PIECE);
+
+        table.store(1, move, 0, 10, TranspositionTable.LOWER);
+        table.newSearch();
+        table.newSearch();
+        for (int i = 1; i <= 3; i++) {
+            table.store(1 + i * stride, Move.NONE, 0, 1, TranspositionTable.EXACT);
+        }
+        assertEquals(0, TranspositionTable.age(table.probe(1)));
+
+        table.store(1 + 4 * stride, Move.NONE, 0, 1, TranspositionTable.EXACT);
+        assertEquals(0L, table.probe(1));
+
+        long key = 1 + 3 * stride;
+        table.store(key, move, 40, 6, TranspositionTable.LOWER);
+        table.store(key, Move.NONE, 10, 2, TranspositionTable.UPPER);
+        long data = table.probe(key);
+        assertEquals(6, TranspositionTable.depth(data));
+        assertEquals(40, TranspositionTable.score(data));
+
+        table.store(key, Move.NONE, 15, 2, TranspositionTable.EXACT);
+        data = table.probe(key);
+        assertEquals(2, TranspositionTable.depth(data));
+        assertEquals(move, TranspositionTable.move(data));
+    }
+
+    /**
+     * Verifica a ocupação amostrada: só contam as entradas da busca atual.
+     */
+    @Test
+    void testHashfull() {
+        TranspositionTable table = new TranspositionTable(1);
+        assertEquals(0, table.hashfull());
+
+        for (long key = 0; key < table.size(); key++) {
+            table.store(key * 0x9E37_79B9_7F4A_7C15L, Move.NONE, 0, 1, TranspositionTable.EXACT);
+        }
+        assertTrue(table.hashfull() > 600, "hashfull " + table.hashfull());
+
+        table.newSearch();
+        assertEquals(0, table.hashfull());
+    }
+
+    /**
+     * Grava e consulta a mesma região da tabela a partir de várias threads, com a pontuação derivada
+     * da chave: toda entrada encontrada deve ter a pontuação da sua própria chave, ou seja, nenhuma
+     * combinação misturada de escritas simultâneas passa na validação.
+     */
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(1);
+        AtomicInteger corrupted = new AtomicInteger();
+        AtomicInteger hits = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    long key = ((i * 31L + seed) % 4096) * 0x9E37_79B9_7F4A_7C15L + 1;
+                    int score = (int) (key & 0x3FFF);
+                    if ((i & 1) == 0) {
+                        table.store(key, Move.NONE, score, seed + 1, TranspositionTable.EXACT);
+                    } else {
+                        long data = table.probe(key);
+                        if (data != 0) {
+                            hits.incrementAndGet();
+                            if (TranspositionTable.score(data) != score) corrupted.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(hits.get() > 0);
+        assertEquals(0, corrupted.get());
+    }
+}
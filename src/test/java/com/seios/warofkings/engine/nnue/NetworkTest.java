@@ -0,0 +1,85 @@
+package com.seios.warofkings.engine.nnue;
+
+import com.seios.warofkings.pieces.enums.Type;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a {@link Network}: gravação e leitura do arquivo de pesos,
+ * rejeição de arquivos inválidos e índices das entradas.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class NetworkTest {
+
+    /**
+     * Verifica se uma rede gravada e lida por mapeamento em memória tem os mesmos pesos.
+     */
+    @Test
+    void testSaveAndLoad() throws IOException {
+        Network network = Network.random(7, 48);
+        Path file = Files.createTempFile("rede", ".nnue");
+        try {
+            network.save(file);
+            assertEquals(12 + 2L * 771 * 48 + 4, Files.size(file));
+
+            Network loaded = Network.load(file);
+            assertEquals(48, loaded.getHidden());
+            assertArrayEquals(network.getFeatureWeights(), loaded.getFeatureWeights());
+            assertArrayEquals(network.getFeatureBias(), loaded.getFeatureBias());
+            assertArrayEquals(network.getOutputWeights(), loaded.getOutputWeights());
+            assertEquals(network.getOutputBias(), loaded.getOutputBias());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Verifica se arquivos com identificador errado ou truncados são rejeitados.
+     */
+    @Test
+    void testRejectsInvalidFiles() throws IOException {
+        Path file = Files.createTempFile("rede", ".nnue");
+        try {
+            Files.write(file, new byte[] {1, 2, 3, 4, 1, 0, 0, 0, 16, 0, 0, 0});
+            assertThrows(IOException.class, () -> Network.load(file));
+
+            Network.random(7, 16).save(file);
+            byte[] bytes = Files.readAllBytes(file);
+            Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+            assertThrows(IOException.class, () -> Network.load(file));
+        } finally {
+            Files.delete(file);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new Network(16, new short[3], new short[16], new short[32], 0));
+    }
+
+    /**
+     * Verifica se as entradas são distintas numa perspectiva e espelhadas entre as duas.
+     */
+    @Test
+    void testFeatureIndex() {
+        boolean[] seen = new boolean[Network.INPUTS];
+        for (int piece = 0; piece < 12; piece++) {
+            for (int square = 0; square < 64; square++) {
+                int feature = Network.feature(0, piece, square);
+                assertFalse(seen[feature]);
+                seen[feature] = true;
+
+                // a peça branca vista pelas brancas equivale à preta espelhada vista pelas pretas
+                int mirrored = piece < 6 ? piece + 6 : piece - 6;
+                assertEquals(feature, Network.feature(1, mirrored, square ^ 56));
+            }
+        }
+        assertEquals(0, Network.feature(0, Type.PAWN_WHITE.getValor(), 0));
+        assertEquals(Network.INPUTS - 1, Network.feature(0, Type.KING_BLACK.getValor(), 63));
+    }
+}
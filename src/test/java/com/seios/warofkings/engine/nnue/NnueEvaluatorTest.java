@@ -0,0 +1,125 @@
+package com.seios.warofkings.engine.nnue;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.moves.Move;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a {@link NnueEvaluator}: atualização incremental contra o
+ * recálculo completo, equivalência entre as implementações escalar e vetorial e simetria das cores.
+ *
+ * @author Lucas
+ * @version 1.0
+ * @since 2026-10-18
+ */
+class NnueEvaluatorTest {
+    /** Rede dos testes; a camada oculta não é múltipla da largura dos vetores, para cobrir o resto. */
+    private static final Network NETWORK = Network.random(3, 72);
+
+    /**
+     * Percorre roques, promoções, en passant e capturas conferindo o acumulador incremental com o
+     * recalculado em cada nó, antes e depois de cada push/pop.
+     */
+    @Test
+    void testIncrementalMatchesRefresh() {
+        for (String fen : new String[]{
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"}) {
+            Board board = FenUtils.load(fen);
+            NnueEvaluator incremental = new NnueEvaluator(NETWORK, new ScalarKernels());
+            NnueEvaluator reference = new NnueEvaluator(NETWORK, new ScalarKernels());
+            incremental.refresh(board);
+            assertIncremental(board, incremental, reference, 3);
+        }
+    }
+
+    /**
+     * Verifica se a implementação vetorial, quando disponível, produz os mesmos valores da escalar.
+     */
+    @Test
+    void testVectorMatchesScalar() {
+        Kernels scalar = new ScalarKernels();
+        Kernels best = Kernels.best();
+        short[] weights = NETWORK.getFeatureWeights();
+        short[] a = NETWORK.getFeatureBias().clone();
+        short[] b = NETWORK.getFeatureBias().clone();
+        for (int feature = 0; feature < 40; feature++) {
+            scalar.add(a, weights, feature * 17 * NETWORK.getHidden());
+            best.add(b, weights, feature * 17 * NETWORK.getHidden());
+            if (feature % 3 == 0) {
+                scalar.subtract(a, weights, feature * 5 * NETWORK.getHidden());
+                best.subtract(b, weights, feature * 5 * NETWORK.getHidden());
+            }
+            assertArrayEquals(a, b);
+            assertEquals(scalar.dot(a, NETWORK.getOutputWeights(), 0), best.dot(b, NETWORK.getOutputWeights(), 0));
+            assertEquals(scalar.dot(a, NETWORK.getOutputWeights(), NETWORK.getHidden()),
+                    best.dot(b, NETWORK.getOutputWeights(), NETWORK.getHidden()));
+        }
+
+        Board board = FenUtils.load("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        NnueEvaluator vector = new NnueEvaluator(NETWORK);
+        NnueEvaluator plain = new NnueEvaluator(NETWORK, false);
+        vector.refresh(board);
+        plain.refresh(board);
+        assertEquals(plain.evaluate(board.getTurn()), vector.evaluate(board.getTurn()));
+    }
+
+    /**
+     * Verifica se uma posição e a sua espelhada com as cores trocadas têm a mesma avaliação, e se o
+     * lance nulo só troca a perspectiva.
+     */
+    @Test
+    void testColorSymmetryAndNullMove() {
+        Board white = FenUtils.load("r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3");
+        Board black = FenUtils.load("rnbqkb1r/pppp1ppp/5n2/4p3/4P3/2N5/PPPP1PPP/R1BQKBNR b KQkq - 2 3");
+        NnueEvaluator evaluator = new NnueEvaluator(NETWORK);
+        evaluator.refresh(white);
+        int score = evaluator.evaluate(white.getTurn());
+        evaluator.refresh(black);
+        assertEquals(score, evaluator.evaluate(black.getTurn()));
+
+        int other = evaluator.evaluate(black.getTurn().next());
+        evaluator.pushNull();
+        assertEquals(other, evaluator.evaluate(black.getTurn().next()));
+        evaluator.pop();
+        assertEquals(score, evaluator.evaluate(black.getTurn()));
+        assertTrue(Math.abs(score) <= NnueEvaluator.MAX_SCORE);
+    }
+
+    /**
+     * Confere recursivamente o acumulador incremental com o recalculado.
+     *
+     * @param board       tabuleiro atual.
+     * @param incremental avaliador atualizado por push/pop.
+     * @param reference   avaliador recalculado em cada nó.
+     * @param depth       profundidade restante.
+     */
+    private static void assertIncremental(Board board, NnueEvaluator incremental, NnueEvaluator reference, int depth) {
+        reference.refresh(board);
+        assertArrayEquals(reference.accumulator(0), incremental.accumulator(0));
+        assertArrayEquals(reference.accumulator(1), incremental.accumulator(1));
+        assertEquals(reference.evaluate(board.getTurn()), incremental.evaluate(board.getTurn()));
+        if (depth == 0) return;
+
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            short[] before = incremental.accumulator(0);
+
+            incremental.push(move);
+            board.makeMove(move);
+            assertIncremental(board, incremental, reference, depth - 1);
+            board.unmakeMove(move);
+            incremental.pop();
+
+            assertArrayEquals(before, incremental.accumulator(0), Move.toString(move));
+        }
+    }
+}
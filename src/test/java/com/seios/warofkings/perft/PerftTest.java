@@ -0,0 +1,106 @@
+package com.seios.warofkings.perft;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o {@link Perft}, conferindo as contagens das posições de referência
+ * em {@link PerftPosition}, a consistência do divide e o perft paralelo ({@link ParallelPerft}).
+ *
+ * @author Lucas
+ * @version 1.2
+ * @since 2026-10-18
+ */
+class PerftTest {
+
+    /**
+     * Confere as posições de referência nas profundidades rápidas o bastante para a suíte de testes.
+     */
+    @Test
+    void testReferencePositions() {
+        assertPerft(PerftPosition.START, 4);
+        assertPerft(PerftPosition.KIWIPETE, 3);
+        assertPerft(PerftPosition.POSITION_3, 4);
+        assertPerft(PerftPosition.POSITION_4, 3);
+        assertPerft(PerftPosition.POSITION_5, 3);
+        assertPerft(PerftPosition.POSITION_6, 3);
+    }
+
+    /**
+     * Verifica se a soma do divide é igual ao total e se o tabuleiro volta ao estado original.
+     */
+    @Test
+    void testDivideSumsToTotal() {
+        Board board = PerftPosition.POSITION_5.toBoard();
+        String before = FenUtils.toFen(board);
+
+        PerftResult result = Perft.divide(board, 2);
+
+        assertEquals(44, result.getDivide().size());
+        assertEquals(result.getNodes(), result.getDivide().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(PerftPosition.POSITION_5.getExpected(2), result.getNodes());
+        assertEquals(before, FenUtils.toFen(board));
+        assertEquals(0, board.getPly());
+    }
+
+    /**
+     * Verifica se o perft paralelo, com e sem a tabela compartilhada, conta o mesmo que o sequencial
+     * e não altera o tabuleiro de origem.
+     */
+    @Test
+    void testParallelMatchesSequential() {
+        Board board = PerftPosition.START.toBoard();
+        String before = FenUtils.toFen(board);
+
+        try (ParallelPerft parallel = new ParallelPerft(2, 1)) {
+            assertEquals(PerftPosition.START.getExpected(4), parallel.divide(board, 4).getNodes());
+            assertEquals(PerftPosition.POSITION_5.getExpected(3), parallel.divide(PerftPosition.POSITION_5.toBoard(), 3).getNodes());
+            assertEquals(PerftPosition.POSITION_3.getExpected(4), parallel.divide(PerftPosition.POSITION_3.toBoard(), 4).getNodes());
+        }
+
+        try (ParallelPerft parallel = new ParallelPerft(3, 0)) {
+            PerftResult result = parallel.divide(board, 3);
+            assertEquals(PerftPosition.START.getExpected(3), result.getNodes());
+            assertEquals(Perft.divide(board, 3).getDivide(), result.getDivide());
+        }
+
+        assertEquals(before, FenUtils.toFen(board));
+    }
+
+    /**
+     * Verifica se a tabela compartilhada só encontra a entrada com a mesma chave e profundidade.
+     */
+    @Test
+    void testTableProbeAndStore() {
+        PerftTable table = new PerftTable(1);
+        assertEquals(1 << 16, table.size());
+
+        long key = 0x1234_5678_9ABC_DEF0L;
+        assertEquals(-1, table.probe(key, 3));
+
+        table.store(key, 3, 8_902L);
+        assertEquals(8_902L, table.probe(key, 3));
+        assertEquals(-1, table.probe(key, 4));
+        assertEquals(-1, table.probe(key + table.size(), 3));
+        assertEquals(0.25, table.getHitRate());
+
+        table.clear();
+        assertEquals(-1, table.probe(key, 3));
+    }
+
+    /**
+     * Confere uma posição de referência da profundidade 1 até a profundidade informada.
+     *
+     * @param position posição de referência.
+     * @param maxDepth profundidade máxima.
+     */
+    private static void assertPerft(PerftPosition position, int maxDepth) {
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            assertEquals(position.getExpected(depth), Perft.perft(position.toBoard(), depth),
+                    position.name() + " na profundidade " + depth);
+        }
+    }
+}
@@ -8,8 +8,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.board.moves.MoveGenerator;
+import com.seios.warofkings.board.moves.MoveList;
 import com.seios.warofkings.pieces.enums.Type;
 import com.seios.warofkings.pieces.types.*;
+import com.seios.warofkings.utils.FenUtils;
 
 /**
  * Classe de testes unitários para os comportamentos comuns das peças de xadrez
@@ -24,7 +28,7 @@ import com.seios.warofkings.pieces.types.*;
  * </ul>
  *
  * @author Allan
- * @version 1.0
+ * @version 1.2
  * @since 2025-06-16
  */
 class ChessPieceTest {
@@ -149,4 +153,43 @@ class ChessPieceTest {
 
         assertFalse(king.kingCheck(32, pieces));
     }
+
+    /**
+     * Verifica se a captura en passant que tira o rei do xeque é aceita por
+     * {@link ChessPiece#moveTo(int, MoveList, Board)}: a verificação de xeque deve retirar o peão
+     * capturado, como faz o gerador que a listou.
+     */
+    @Test
+    void testMoveToEnPassantEvasion() {
+        Board board = FenUtils.load("4k3/8/8/3pP3/4K3/8/8/8 w - d6 0 1");
+        ChessPiece pawn = board.getPieces()[3][4];
+        MoveList moves = new MoveList();
+        MoveGenerator.generateLegalMoves(board, pawn, moves);
+
+        assertTrue(pawn.moveTo(23, moves, board));
+        assertEquals(23, pawn.getPosition());
+        assertNull(board.getPieces()[3][3]);
+        assertFalse(board.isInCheck(Turn.WHITE));
+    }
+
+    /**
+     * Verifica se os lances feitos pela interface com
+     * {@link ChessPiece#moveTo(int, MoveList, Board)} ficam no histórico de repetição do tabuleiro.
+     */
+    @Test
+    void testMoveToRecordsRepetitionHistory() {
+        Board board = FenUtils.load("4k3/8/8/8/8/8/8/4K1N1 w - - 0 1");
+        int[][] path = {{76, 55}, {4, 3}, {55, 76}, {3, 4}};
+        for (int[] step : path) {
+            ChessPiece piece = board.getPieceAt(step[0]);
+            MoveList moves = new MoveList();
+            MoveGenerator.generateLegalMoves(board, piece, moves);
+            assertTrue(piece.moveTo(step[1], moves, board));
+            board.setTurn(board.getTurn().next());
+        }
+
+        assertEquals(4, board.getPly());
+        assertTrue(board.isRepetition());
+        assertTrue(new Board(board).isRepetition());
+    }
 }
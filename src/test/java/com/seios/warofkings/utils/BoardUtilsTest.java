@@ -1,5 +1,7 @@
 package com.seios.warofkings.utils;
 
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
 import com.seios.warofkings.pieces.ChessPiece;
 import com.seios.warofkings.pieces.enums.Type;
 import com.seios.warofkings.pieces.types.*;
@@ -193,5 +195,55 @@ class BoardUtilsTest {
         assertFalse(aliadas.contains(blackPawn));
     }
 
+    /**
+     * Testa {@link BoardUtils#findPieces(Board, Type)} no tabuleiro inicial, garantindo
+     * que os bitboards encontrem exatamente as peças do tipo buscado.
+     */
+    @Test
+    void testFindPieces_withBoardBitboards() {
+        Board board = new Board();
+
+        List<ChessPiece> pawns = BoardUtils.findPieces(board, Type.PAWN_BLACK);
+        assertEquals(8, pawns.size());
+        assertTrue(pawns.stream().allMatch(p -> p.getType() == Type.PAWN_BLACK));
+
+        List<ChessPiece> kings = BoardUtils.findPieces(board, Type.KING_WHITE);
+        assertEquals(1, kings.size());
+        assertEquals(74, kings.getFirst().getPosition());
+    }
+
+    /**
+     * Verifica se os bitboards acompanham uma jogada feita por {@link ChessPiece#moveTo(int, List, Board)},
+     * incluindo a captura da peça no destino.
+     */
+    @Test
+    void testBitboardsFollowMoveAndCapture() {
+        Board board = new Board();
+        ChessPiece knight = board.getPieceAt(71);
+
+        assertTrue(knight.moveTo(52, knight.getPossibleMoves(board.getPieces()), board));
+        assertTrue(BitboardUtils.isSet(board.getBitboard(Type.KNIGHT_WHITE), BitboardUtils.toSquare(52)));
+        assertFalse(BitboardUtils.isSet(board.getOccupancy(), BitboardUtils.toSquare(71)));
+
+        board.placePiece(52, Pawn.createPawn(52, Type.PAWN_BLACK));
+        assertEquals(1, board.countPieces(Type.KNIGHT_WHITE));
+        assertEquals(9, board.countPieces(Type.PAWN_BLACK));
+        assertEquals(15, BitboardUtils.popCount(board.getOccupancy(Turn.WHITE)));
+        assertEquals(17, BitboardUtils.popCount(board.getOccupancy(Turn.BLACK)));
+    }
 
+    /**
+     * Testa {@link BoardUtils#getAliadas(ChessPiece, Board)} no tabuleiro inicial.
+     */
+    @Test
+    void testGetAliadas_withBoard() {
+        Board board = new Board();
+        ChessPiece king = board.getPieceAt(74);
+
+        List<ChessPiece> aliadas = BoardUtils.getAliadas(king, board);
+
+        assertEquals(15, aliadas.size());
+        assertFalse(aliadas.contains(king));
+        assertTrue(aliadas.stream().allMatch(ChessPiece::isWhite));
+    }
 }
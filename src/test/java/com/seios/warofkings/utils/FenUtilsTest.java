@@ -0,0 +1,87 @@
+package com.seios.warofkings.utils;
+
+import com.seios.warofkings.board.Board;
+import com.seios.warofkings.board.enums.Turn;
+import com.seios.warofkings.pieces.ChessPiece;
+import com.seios.warofkings.pieces.enums.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a leitura e escrita de posições em FEN por {@link FenUtils}.
+ *
+ * @author Lucas
+ * @version 1.1
+ * @since 2026-10-18
+ */
+class FenUtilsTest {
+
+    /**
+     * Verifica se a posição inicial lida da FEN equivale ao tabuleiro criado pelo construtor padrão.
+     */
+    @Test
+    void testLoadStartPosition() {
+        Board board = FenUtils.load(FenUtils.START_POSITION);
+        Board initial = new Board();
+
+        for (Type type : Type.values()) {
+            assertEquals(initial.getBitboard(type), board.getBitboard(type), type.name());
+        }
+        assertEquals(Turn.WHITE, board.getTurn());
+        assertEquals(FenUtils.START_POSITION, FenUtils.toFen(initial));
+    }
+
+    /**
+     * Verifica se o turno e os direitos de roque sobrevivem à ida e volta pela FEN.
+     */
+    @Test
+    void testRoundTripWithCastlingRights() {
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R b Kq - 0 1";
+        Board board = FenUtils.load(fen);
+
+        assertEquals(Turn.BLACK, board.getTurn());
+        assertEquals(0, board.getPieceAt(77).getN_moves());
+        assertEquals(1, board.getPieceAt(70).getN_moves());
+        assertEquals(fen, FenUtils.toFen(board));
+    }
+
+    /**
+     * Verifica se a casa de en passant e o relógio de meio-lances sobrevivem à ida e volta pela FEN.
+     */
+    @Test
+    void testRoundTripWithEnPassantAndHalfmoveClock() {
+        String fen = "4k3/8/8/3Pp3/8/8/8/4K3 w - e6 0 1";
+        Board board = FenUtils.load(fen);
+        assertEquals(20, board.getEnPassantSquare());
+        assertEquals(fen, FenUtils.toFen(board));
+
+        fen = "4k3/8/8/8/8/8/8/4K2R b K - 12 1";
+        board = FenUtils.load(fen);
+        assertEquals(Board.NO_SQUARE, board.getEnPassantSquare());
+        assertEquals(12, board.getHalfmoveClock());
+        assertEquals(fen, FenUtils.toFen(board));
+    }
+
+    /**
+     * Verifica se as peças criadas ficam com a posição correspondente à casa da matriz.
+     */
+    @Test
+    void testPiecePositions() {
+        Board board = FenUtils.load("8/8/8/3n4/8/8/8/4K3 w - - 0 1");
+        ChessPiece knight = board.getPieceAt(33);
+
+        assertNotNull(knight);
+        assertEquals(Type.KNIGHT_BLACK, knight.getType());
+        assertEquals(33, knight.getPosition());
+    }
+
+    /**
+     * Verifica se uma FEN com linhas incompletas é rejeitada.
+     */
+    @Test
+    void testInvalidFen() {
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.load("8/8/8/7/8/8/8/8 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.load("8/8/8 w - - 0 1"));
+    }
+}